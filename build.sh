@@ -1,16 +1,29 @@
 #!/bin/bash
 echo "Building ForgeGrid..."
 
-# Create bin directory if it doesn't exist
-mkdir -p bin
+# Prefer Maven: compiles every module, runs the test phase and produces the shaded jar
+if command -v mvn >/dev/null 2>&1; then
+    mvn -B -q package
+    if [ $? -eq 0 ]; then
+        echo "Build successful!"
+        echo ""
+        echo "Run the desktop app with:"
+        echo "  java -jar forgegrid-ui/target/ForgeGrid.jar"
+    else
+        echo "Build failed!"
+    fi
+    exit
+fi
 
-# Compile Java source files with Java 17 compatibility
-javac -cp "lib/*" -d bin --release 17 src/main/java/com/forgegrid/app/*.java src/main/java/com/forgegrid/auth/*.java src/main/java/com/forgegrid/config/*.java src/main/java/com/forgegrid/db/*.java src/main/java/com/forgegrid/model/*.java src/main/java/com/forgegrid/ui/*.java src/main/java/com/forgegrid/ui/components/*.java
+# Fallback without Maven: plain javac into bin/
+mkdir -p bin
 
-# Copy resources to bin directory
-cp -r src/main/resources/* bin/
+javac -cp "lib/*" -d bin --release 17 $(find forgegrid-core/src/main/java forgegrid-ui/src/main/java -name '*.java')
 
 if [ $? -eq 0 ]; then
+    # Copy resources to bin directory
+    cp -r forgegrid-core/src/main/resources/* bin/
+    cp -r forgegrid-ui/src/main/resources/* bin/
     echo "Build successful!"
     echo ""
     echo "You can now run the application from your IDE:"
@@ -0,0 +1,41 @@
+package com.forgegrid.bench;
+
+import com.forgegrid.service.LevelService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the XP/level math that runs on every header refresh and XP change.
+ * Pure CPU work, so it needs no database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+
+    @Param({"50", "5000", "500000"})
+    public int totalXP;
+
+    @Benchmark
+    public int calculateLevelFromXP() {
+        return LevelService.calculateLevelFromXP(totalXP);
+    }
+
+    @Benchmark
+    public int getCurrentLevelXP() {
+        return LevelService.getCurrentLevelXP(totalXP);
+    }
+}
@@ -0,0 +1,71 @@
+package com.forgegrid.bench;
+
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.service.TaskCatalog;
+import com.forgegrid.service.TaskScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the next-task ordering strategies on the largest catalog track
+ * with a varying share of tasks already recorded. Strategies only see an
+ * in-memory context, so no database is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSchedulerBenchmark {
+
+    @Param({"catalog", "priority"})
+    public String strategy;
+
+    @Param({"0", "50", "90"})
+    public int recordedPercent;
+
+    @Param({"5"})
+    public int limit;
+
+    private TaskScheduler.Strategy ordering;
+    private TaskScheduler.Context context;
+
+    @Setup
+    public void setUp() {
+        ordering = TaskScheduler.strategyFor(strategy);
+        TaskCatalog.Track largest = TaskCatalog.getInstance().getTracks().get(0);
+        for (TaskCatalog.Track t : TaskCatalog.getInstance().getTracks()) {
+            if (t.size() > largest.size()) {
+                largest = t;
+            }
+        }
+        Random random = new Random(42);
+        BitSet recorded = new BitSet();
+        for (int i = 0; i < largest.size(); i++) {
+            if (random.nextInt(100) < recordedPercent) {
+                recorded.set(i);
+            }
+        }
+        context = new TaskScheduler.Context(largest, recorded, 4, 0.2, 20);
+    }
+
+    @Benchmark
+    public List<HardcodedTask> rank() {
+        return ordering.rank(context, limit);
+    }
+}
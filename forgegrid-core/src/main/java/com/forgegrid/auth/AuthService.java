@@ -2,6 +2,7 @@ package com.forgegrid.auth;
 
 import com.forgegrid.db.DatabaseHelper;
 import com.forgegrid.model.PlayerProfile;
+import com.forgegrid.log.Log;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -74,8 +75,7 @@ public class AuthService {
                 }
                 return false;
             }
-            System.err.println("Error registering user: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("AuthService.register", username, "Error registering user", e);
             return false;
         }
     }
@@ -134,8 +134,7 @@ public class AuthService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error during login: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("AuthService.login", usernameOrEmail, "Error during login", e);
         }
         
         return null;
@@ -166,8 +165,7 @@ public class AuthService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error checking username existence: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("AuthService.usernameExists", username, "Error checking username existence", e);
         }
         
         return false;
@@ -201,8 +199,7 @@ public class AuthService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error checking username/email existence: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("AuthService.usernameOrEmailExists", null, "Error checking username/email existence", e);
         }
         
         return false;
@@ -232,8 +229,7 @@ public class AuthService {
             return hexString.toString();
             
         } catch (NoSuchAlgorithmException e) {
-            System.err.println("SHA-256 algorithm not available: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("AuthService.hashPassword", null, "SHA-256 algorithm not available", e);
             return null;
         }
     }
@@ -287,8 +283,7 @@ public class AuthService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error resetting password: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("AuthService.resetPassword", username, "Error resetting password", e);
             return false;
         }
     }
@@ -15,12 +15,12 @@ public class EnvironmentConfig {
     
     private static final String ENV_FILE = ".env";
     private static Map<String, String> envVars = new HashMap<>();
-    private static boolean envLoaded = false;
+    private static volatile boolean envLoaded = false;
     
     /**
      * Load environment variables from .env file and system environment
      */
-    private static void loadEnvironment() {
+    private static synchronized void loadEnvironment() {
         if (envLoaded) return;
         
         // Load from .env file first
@@ -65,7 +65,16 @@ public class EnvironmentConfig {
     private static void loadFromSystemEnv() {
         String[] railwayKeys = {
             "RAILWAY_MYSQL_HOST", "RAILWAY_MYSQL_PORT", "RAILWAY_MYSQL_DATABASE",
-            "RAILWAY_MYSQL_USERNAME", "RAILWAY_MYSQL_PASSWORD", "RAILWAY_MYSQL_URL"
+            "RAILWAY_MYSQL_USERNAME", "RAILWAY_MYSQL_PASSWORD", "RAILWAY_MYSQL_URL",
+            "FORGEGRID_DB_POOL_SIZE", "FORGEGRID_DB_POOL_TIMEOUT_MS",
+            "FORGEGRID_SERVER_PORT", "FORGEGRID_SESSION_TTL_MINUTES",
+            "FORGEGRID_METRICS_LOG_SECONDS", "FORGEGRID_LOG_LEVEL", "FORGEGRID_LOG_FILE",
+            "FORGEGRID_SQL_TRACE", "FORGEGRID_SLOW_QUERY_MS", "FORGEGRID_SQL_REPEAT_WARN",
+            "FORGEGRID_TASK_STRATEGY", "FORGEGRID_TASK_PREFETCH", "FORGEGRID_DEADLINE_REMINDERS",
+            "FORGEGRID_MAINTENANCE", "FORGEGRID_JOB_EXPIRY_MINUTES", "FORGEGRID_JOB_STATS_MINUTES",
+            "FORGEGRID_JOB_WARM_MINUTES", "FORGEGRID_JOB_ARCHIVE_MINUTES", "FORGEGRID_ARCHIVE_DAYS",
+            "FORGEGRID_LOGIN_TIMEOUT_MS", "FORGEGRID_WARMUP", "FORGEGRID_WARMUP_CONNECTIONS",
+            "FORGEGRID_DAILY_GOAL"
         };
         
         for (String key : railwayKeys) {
@@ -99,6 +108,23 @@ public class EnvironmentConfig {
         return envVars.get(key);
     }
     
+    /**
+     * Get environment variable as an integer
+     * 
+     * @param key Environment variable key
+     * @param defaultValue Default value if missing or not a number
+     * @return Parsed value or default
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null || value.isEmpty()) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
     /**
      * Check if environment variable exists
      * 
@@ -145,6 +171,147 @@ public class EnvironmentConfig {
         return get("RAILWAY_MYSQL_PASSWORD", "");
     }
     
+    /**
+     * Get maximum number of pooled database connections
+     */
+    public static int getDbPoolSize() {
+        return getInt("FORGEGRID_DB_POOL_SIZE", 10);
+    }
+    
+    /**
+     * Get how long a caller waits for a free pooled connection
+     */
+    public static long getDbPoolTimeoutMillis() {
+        return getInt("FORGEGRID_DB_POOL_TIMEOUT_MS", 10_000);
+    }
+    
+    /**
+     * Get HTTP port for the headless server
+     */
+    public static int getServerPort() {
+        return getInt("FORGEGRID_SERVER_PORT", 8080);
+    }
+    
+    /**
+     * Get idle lifetime of headless server sessions
+     */
+    public static int getSessionTtlMinutes() {
+        return getInt("FORGEGRID_SESSION_TTL_MINUTES", 30);
+    }
+    
+    /**
+     * Get interval of the periodic metrics log report (0 = off)
+     */
+    public static int getMetricsLogSeconds() {
+        return getInt("FORGEGRID_METRICS_LOG_SECONDS", 0);
+    }
+    
+    /**
+     * Whether JDBC statements are traced from startup (default off; the debug panel can turn it on)
+     */
+    public static boolean isSqlTraceEnabled() {
+        return "true".equalsIgnoreCase(get("FORGEGRID_SQL_TRACE", "false"));
+    }
+    
+    /**
+     * Get the execution time above which a statement is flagged as slow
+     */
+    public static int getSlowQueryMillis() {
+        return getInt("FORGEGRID_SLOW_QUERY_MS", 200);
+    }
+    
+    /**
+     * Get how often one statement may repeat within a single action before it is flagged as N+1
+     */
+    public static int getSqlRepeatWarnThreshold() {
+        return getInt("FORGEGRID_SQL_REPEAT_WARN", 10);
+    }
+    
+    /**
+     * Get the next-task ordering strategy ("priority" or "catalog")
+     */
+    public static String getTaskStrategy() {
+        return get("FORGEGRID_TASK_STRATEGY", "priority");
+    }
+    
+    /**
+     * Get how many upcoming tasks the scheduler keeps ready per user
+     */
+    public static int getTaskPrefetchDepth() {
+        return getInt("FORGEGRID_TASK_PREFETCH", 5);
+    }
+    
+    /**
+     * Get how many minutes before a goated task deadline reminders fire (comma-separated)
+     */
+    public static int[] getDeadlineReminderMinutes() {
+        String value = get("FORGEGRID_DEADLINE_REMINDERS", "1440,60");
+        return java.util.Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(s -> s.matches("\\d+"))
+            .mapToInt(Integer::parseInt)
+            .filter(m -> m > 0)
+            .toArray();
+    }
+    
+    /**
+     * Whether the background maintenance jobs run in this process
+     *
+     * @param defaultValue Used when FORGEGRID_MAINTENANCE is unset (server: on, desktop: off)
+     */
+    public static boolean isMaintenanceEnabled(boolean defaultValue) {
+        String value = get("FORGEGRID_MAINTENANCE");
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        return "true".equalsIgnoreCase(value);
+    }
+    
+    /**
+     * Get the interval of a maintenance job from FORGEGRID_JOB_{NAME}_MINUTES (0 = off)
+     *
+     * @param job Job name, e.g. "expiry"
+     * @param defaultMinutes Interval when the key is unset
+     */
+    public static int getJobIntervalMinutes(String job, int defaultMinutes) {
+        return getInt("FORGEGRID_JOB_" + job.toUpperCase() + "_MINUTES", defaultMinutes);
+    }
+    
+    /**
+     * Get how long the desktop login may take before it is abandoned
+     */
+    public static long getLoginTimeoutMillis() {
+        return getInt("FORGEGRID_LOGIN_TIMEOUT_MS", 15_000);
+    }
+    
+    /**
+     * Whether the desktop app warms up the database and catalog at launch (FORGEGRID_WARMUP, default on)
+     */
+    public static boolean isWarmupEnabled() {
+        return !"false".equalsIgnoreCase(get("FORGEGRID_WARMUP", "true"));
+    }
+    
+    /**
+     * Get how many pooled connections the launch warm-up opens
+     */
+    public static int getWarmupConnections() {
+        return getInt("FORGEGRID_WARMUP_CONNECTIONS", 3);
+    }
+    
+    /**
+     * Get how many completed tasks a day the Daily Goal widget aims for
+     */
+    public static int getDailyGoal() {
+        return getInt("FORGEGRID_DAILY_GOAL", 3);
+    }
+    
+    /**
+     * Get the age in days after which finished tasks move to the history archive
+     */
+    public static int getArchiveHorizonDays() {
+        return getInt("FORGEGRID_ARCHIVE_DAYS", 180);
+    }
+    
     /**
      * Get Railway MySQL connection URL
      */
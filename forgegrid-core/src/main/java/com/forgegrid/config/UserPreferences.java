@@ -1,5 +1,7 @@
 package com.forgegrid.config;
 
+import com.forgegrid.log.Log;
+
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -123,7 +125,7 @@ public class UserPreferences {
                 try {
                     return new String(java.util.Base64.getDecoder().decode(encoded));
                 } catch (Exception e) {
-                    System.err.println("Error decoding password: " + e.getMessage());
+                    Log.error("UserPreferences.getSavedPassword", null, "Error decoding password", e);
                     return null;
                 }
             }
@@ -0,0 +1,82 @@
+package com.forgegrid.controller;
+
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.model.TaskHistoryEntry;
+import com.forgegrid.service.AchievementService;
+import com.forgegrid.service.ActivityCalendar;
+import com.forgegrid.service.DeadlineScheduler;
+import com.forgegrid.service.HardcodedTaskService;
+import com.forgegrid.service.LeaderboardService;
+import com.forgegrid.service.LevelService;
+import com.forgegrid.service.ProgressBackupService;
+import com.forgegrid.service.ProgressIndex;
+import com.forgegrid.service.SpacedRepetitionService;
+import com.forgegrid.service.TaskCatalog;
+import com.forgegrid.service.TaskScheduler;
+import com.forgegrid.service.TaskFacets;
+import com.forgegrid.service.TaskSearchIndex;
+import com.forgegrid.service.XpRollupService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+public class DashboardController {
+
+    private final HardcodedTaskService taskService;
+    private final LevelService levelService;
+    private final ProgressBackupService backupService = new ProgressBackupService();
+
+    public DashboardController(HardcodedTaskService taskService, LevelService levelService) {
+        this.taskService = taskService;
+        this.levelService = levelService;
+    }
+
+    public LevelService.LevelInfo getLevelInfo(String username) { return levelService.getLevelInfo(username); }
+    public List<TaskHistoryEntry> getTaskHistory(String username, int limit) { return taskService.getTaskHistory(username, limit); }
+    public List<TaskHistoryEntry> getTaskHistory(String username, String before, int limit) { return taskService.getTaskHistory(username, before, limit); }
+    public List<HardcodedTask> getTasksFor(String language, String level) { return taskService.getTasksForUser(language, level); }
+    public int getSkippedTaskCount(String username) { return taskService.getSkippedTaskCount(username); }
+    public int getNetXP(String username) { return taskService.getNetXP(username); }
+    public com.forgegrid.model.UserStats getUserStats(String username) { return taskService.getUserStats(username); }
+    public Set<String> getRecordedTaskNames(String username) { return taskService.getRecordedTaskNames(username); }
+    public ProgressIndex.TrackProgress getProgress(String username, String language, String level) { return taskService.getProgress(username, language, level); }
+    public HardcodedTask nextTask(String username, String language, String level) { return TaskScheduler.getInstance().next(username, language, level); }
+    public void prefetchNextTasks(String username, String language, String level) { TaskScheduler.getInstance().prefetch(username, language, level); }
+    public void trackDeadlines(String username) { DeadlineScheduler.getInstance().track(username); }
+    public DeadlineScheduler.Entry getNextDeadline(String username) { return DeadlineScheduler.getInstance().next(username); }
+    public List<DeadlineScheduler.Entry> getUpcomingDeadlines(String username, java.time.Duration within) { return DeadlineScheduler.getInstance().upcoming(username, within); }
+    public List<DeadlineScheduler.Reminder> getRecentReminders(String username) { return DeadlineScheduler.getInstance().recent(username); }
+    public void snoozeReminder(DeadlineScheduler.Reminder reminder, java.time.Duration delay) { DeadlineScheduler.getInstance().snooze(reminder, delay); }
+    public List<HardcodedTask> searchTasks(String text, TaskSearchIndex.Filter filter, int limit) { return TaskCatalog.getInstance().search(text, filter, limit); }
+    public TaskFacets.Result browseTasks(TaskFacets.Query query) { return TaskCatalog.getInstance().getFacets().query(query); }
+    public List<String> getFacetValues(String facet) { return TaskCatalog.getInstance().getFacets().getValues(facet); }
+    public ProgressBackupService.Summary exportProgress(String username, Path file) throws IOException, SQLException { return backupService.exportTo(username, file); }
+    public ProgressBackupService.Summary importProgress(String username, Path file) throws IOException, SQLException { return backupService.importFrom(username, file); }
+    public ActivityCalendar.Days getActivity(String username) { return taskService.getActivity(username); }
+    public XpRollupService.Series getXpSeries(String username, XpRollupService.Grain grain, int buckets) { return taskService.getXpSeries(username, grain, buckets); }
+    public List<AchievementService.Progress> getAchievements(String username) { return AchievementService.getInstance().getAchievements(username); }
+    public List<LeaderboardService.Standing> getLeaderboard(LeaderboardService.Board board, String track, int limit) { return LeaderboardService.getInstance().top(board, track, limit); }
+    public LeaderboardService.Standing getLeaderboardRank(LeaderboardService.Board board, String track, String username) { return LeaderboardService.getInstance().rankOf(board, track, username); }
+    public int getLeaderboardSize(LeaderboardService.Board board, String track) { return LeaderboardService.getInstance().count(board, track); }
+    public List<SpacedRepetitionService.Review> getDueReviews(String username, int limit) { return SpacedRepetitionService.getInstance().getDueReviews(username, limit); }
+    public void recordAssignedTask(String username, String taskName) { taskService.recordAssignedTask(username, taskName); }
+    public void recordAssignedTask(String username, HardcodedTask task) { taskService.recordAssignedTask(username, task); }
+    public void autoSkipExpired(String username, String language, String level) { taskService.autoSkipExpiredAssignedTasks(username, language, level); }
+    public java.util.List<com.forgegrid.model.GoatedTask> listGoatedTasks(String username) { return taskService.listGoatedTasks(username); }
+    public boolean markGoatedTaskComplete(String username, int taskId) { return taskService.markGoatedTaskComplete(username, taskId); }
+    public boolean createGoatedTask(String username, String title, String desc, java.time.LocalDateTime deadline, int xp) { return taskService.createGoatedTask(username, title, desc, deadline, xp); }
+    public boolean saveCompletedTask(String username, String taskName, int timeTaken, int xpEarned) { return taskService.saveCompletedTask(username, taskName, timeTaken, xpEarned); }
+    public boolean saveCompletedTask(String username, HardcodedTask task, int timeTaken, int xpEarned) { return taskService.saveCompletedTask(username, task, timeTaken, xpEarned); }
+    public int getCompletedTaskCount(String username) { return taskService.getCompletedTaskCount(username); }
+    public boolean saveSkippedTask(String username, String taskName, int timeTaken, int xpLost) { return taskService.saveSkippedTask(username, taskName, timeTaken, xpLost); }
+    public boolean saveSkippedTask(String username, HardcodedTask task, int timeTaken, int xpLost) { return taskService.saveSkippedTask(username, task, timeTaken, xpLost); }
+    public boolean updateGoatedTask(String username, int taskId, String title, String desc, java.time.LocalDateTime deadline, Integer xp) { return taskService.updateGoatedTask(username, taskId, title, desc, deadline, xp); }
+    public boolean deleteGoatedTask(String username, int taskId) { return taskService.deleteGoatedTask(username, taskId); }
+    public HardcodedTask findTask(String language, String level, String taskName) { return taskService.findTask(language, level, taskName); }
+    public LevelService.LevelUpResult addXP(String username, int xp) { return levelService.addXP(username, xp); }
+}
+
+
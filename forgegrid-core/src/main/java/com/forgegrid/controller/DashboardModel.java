@@ -0,0 +1,110 @@
+package com.forgegrid.controller;
+
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.model.PlayerProfile;
+import com.forgegrid.model.TaskHistoryEntry;
+import com.forgegrid.model.UserStats;
+import com.forgegrid.service.ActivityCalendar;
+import com.forgegrid.service.HardcodedTaskService;
+import com.forgegrid.service.LevelService;
+import com.forgegrid.service.ProgressIndex;
+
+import java.util.List;
+
+/**
+ * Everything the dashboard needs before it can draw its first screen.
+ *
+ * Loading runs the database queries and touches no Swing, so it belongs on a
+ * background thread; the view is then built on the EDT from the snapshot.
+ * {@link #reload()} refreshes the snapshot (again off the EDT) after the user
+ * completes or skips tasks.
+ */
+public class DashboardModel {
+
+    /** History entries loaded for the home view's stats card. */
+    private static final int HOME_HISTORY = 100;
+
+    private final PlayerProfile profile;
+    private final DashboardController controller;
+    private final String language;
+    private final String skill;
+
+    private List<HardcodedTask> tasks;
+    private ProgressIndex.TrackProgress progress;
+    private LevelService.LevelInfo levelInfo;
+    private UserStats stats;
+    private List<TaskHistoryEntry> recentHistory;
+    private ActivityCalendar.Days activity;
+
+    private DashboardModel(PlayerProfile profile, DashboardController controller) {
+        this.profile = profile;
+        this.controller = controller;
+        this.language = profile != null && profile.getOnboardingLanguage() != null
+            ? profile.getOnboardingLanguage() : "Java";
+        this.skill = profile != null && profile.getOnboardingSkill() != null
+            ? profile.getOnboardingSkill() : "Beginner";
+    }
+
+    /**
+     * Load the dashboard for a signed-in user (call off the EDT)
+     *
+     * @param profile Signed-in user, or null for a guest dashboard
+     */
+    public static DashboardModel load(PlayerProfile profile) {
+        DashboardModel model = new DashboardModel(profile,
+            new DashboardController(new HardcodedTaskService(), new LevelService()));
+        if (profile != null) {
+            model.controller.prefetchNextTasks(profile.getUsername(), model.language, model.skill);
+            model.controller.trackDeadlines(profile.getUsername());
+        }
+        model.reload();
+        return model;
+    }
+
+    /**
+     * Re-read tasks, progress, level, stats and activity (call off the EDT)
+     */
+    public void reload() {
+        String username = getUsername();
+        try (LatencyHistogram.Sample ignored = MetricsRegistry.getInstance().time("dashboard.load")) {
+            List<HardcodedTask> loadedTasks = controller.getTasksFor(language, skill);
+            ProgressIndex.TrackProgress loadedProgress = controller.getProgress(username, language, skill);
+            LevelService.LevelInfo loadedLevel = controller.getLevelInfo(username);
+            UserStats loadedStats = controller.getUserStats(username);
+            List<TaskHistoryEntry> loadedHistory = controller.getTaskHistory(username, HOME_HISTORY);
+            ActivityCalendar.Days loadedActivity = controller.getActivity(username);
+            synchronized (this) {
+                tasks = loadedTasks;
+                progress = loadedProgress;
+                levelInfo = loadedLevel;
+                stats = loadedStats;
+                recentHistory = loadedHistory;
+                activity = loadedActivity;
+            }
+        }
+    }
+
+    public PlayerProfile getProfile() { return profile; }
+    public DashboardController getController() { return controller; }
+    /** The user's username, or "" for a guest. */
+    public String getUsername() { return profile != null && profile.getUsername() != null ? profile.getUsername() : ""; }
+    /** Onboarding language, defaulting to Java. */
+    public String getLanguage() { return language; }
+    /** Onboarding skill level, defaulting to Beginner. */
+    public String getSkill() { return skill; }
+
+    public synchronized List<HardcodedTask> getTasks() { return tasks; }
+    public synchronized ProgressIndex.TrackProgress getProgress() { return progress; }
+    public synchronized LevelService.LevelInfo getLevelInfo() { return levelInfo; }
+    public synchronized UserStats getStats() { return stats; }
+    /** Completed tasks, from the stats row. */
+    public synchronized int getCompletedCount() { return stats != null ? stats.getCompletedCount() : 0; }
+    /** Newest first, up to 100 entries. */
+    public synchronized List<TaskHistoryEntry> getRecentHistory() { return recentHistory; }
+    /** Daily activity calendar (streaks, tasks per day). */
+    public synchronized ActivityCalendar.Days getActivity() { return activity; }
+    /** Whether the user has a level record (the dashboard's notion of onboarded). */
+    public synchronized boolean isOnboardingCompleted() { return profile != null && levelInfo != null; }
+}
@@ -0,0 +1,228 @@
+package com.forgegrid.controller;
+
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.model.PlayerProfile;
+import com.forgegrid.service.DeadlineScheduler;
+import com.forgegrid.service.LevelService;
+import com.forgegrid.service.SpacedRepetitionService;
+import com.forgegrid.service.TaskScheduler;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Signs a user in off the UI thread.
+ *
+ * Authentication and the read-only onboarding and level lookups start together
+ * on background workers, keyed by the name that was typed, so the wait is the
+ * slowest of them rather than their sum. If the user signed in with their email
+ * the lookups are repeated for the real username once authentication returns.
+ *
+ * Nothing is revealed or warmed for a failed login: results are only assembled,
+ * and the per-user caches (goated deadlines, review queue, next-task plan) only
+ * loaded, after authentication succeeds. Each attempt can be cancelled and fails with a
+ * {@link java.util.concurrent.TimeoutException} after the configured timeout; lookups
+ * already running still finish on their own threads.
+ */
+public class LoginPipeline {
+
+    /**
+     * Steps reported to the {@link Listener}, in no fixed order except READY last
+     */
+    public enum Stage {
+        AUTHENTICATED("Signed in"),
+        ONBOARDING("Checked your setup"),
+        PROFILE("Loaded your profile"),
+        READY("Opening ForgeGrid...");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Receives progress on worker threads; UI listeners must hop to the EDT
+     */
+    public interface Listener {
+        /**
+         * @param stage Step that just finished
+         * @param done Steps finished so far, including this one
+         * @param total Steps in the pipeline
+         */
+        void onStage(Stage stage, int done, int total);
+    }
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    // Not fixed-size: a timed-out or cancelled attempt leaves its JDBC calls
+    // blocked on their threads, and a retry must not queue behind them
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "forgegrid-login-" + THREADS.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AuthController authController;
+    private final OnboardingController onboardingController;
+    private final LevelService levelService;
+    private final long timeoutMillis;
+
+    public LoginPipeline(AuthController authController, OnboardingController onboardingController,
+                         LevelService levelService, long timeoutMillis) {
+        this.authController = authController;
+        this.onboardingController = onboardingController;
+        this.levelService = levelService;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Start signing in
+     *
+     * @param usernameOrEmail As typed
+     * @param password As typed
+     * @param listener Progress callback, may be null
+     * @return Attempt to wait on or cancel; its result has a null profile if the credentials were wrong
+     */
+    public Attempt start(String usernameOrEmail, String password, Listener listener) {
+        String typed = usernameOrEmail.trim();
+        AtomicInteger done = new AtomicInteger();
+        int total = Stage.values().length;
+        Listener progress = (stage, d, t) -> {
+            if (listener != null) {
+                listener.onStage(stage, d, t);
+            }
+        };
+        LatencyHistogram.Sample sample = MetricsRegistry.getInstance().time("login.pipeline");
+
+        CompletableFuture<PlayerProfile> auth = CompletableFuture.supplyAsync(
+            () -> authController.login(typed, password), WORKERS);
+        CompletableFuture<Onboarding> onboarding = CompletableFuture.supplyAsync(() -> onboarding(typed), WORKERS);
+        CompletableFuture<LevelService.LevelInfo> level = CompletableFuture.supplyAsync(
+            () -> levelService.getLevelInfo(typed), WORKERS);
+
+        auth.thenRun(() -> progress.onStage(Stage.AUTHENTICATED, done.incrementAndGet(), total));
+        onboarding.thenRun(() -> progress.onStage(Stage.ONBOARDING, done.incrementAndGet(), total));
+        level.thenRun(() -> progress.onStage(Stage.PROFILE, done.incrementAndGet(), total));
+
+        CompletableFuture<Result> result = auth.thenCompose(profile -> {
+            if (profile == null) {
+                return CompletableFuture.completedFuture(new Result(null, false, null));
+            }
+            String username = profile.getUsername();
+            if (username.equals(typed)) {
+                return onboarding.thenCombine(level, (o, l) -> assemble(profile, o, l));
+            }
+            // Signed in with the email address: the speculative lookups used the wrong key
+            return CompletableFuture.supplyAsync(
+                () -> assemble(profile, onboarding(username), levelService.getLevelInfo(username)), WORKERS);
+        }).thenApply(r -> {
+            if (r.profile != null) {
+                WORKERS.execute(() -> warm(r.profile.getUsername(), r.onboardingData));
+                progress.onStage(Stage.READY, total, total);
+            }
+            return r;
+        }).orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        result.whenComplete((r, error) -> {
+            sample.close();
+            if (error != null && !(error instanceof CancellationException)) {
+                Log.warn("LoginPipeline.start", typed, "Login did not complete", error);
+            }
+        });
+        return new Attempt(result);
+    }
+
+    private Onboarding onboarding(String username) {
+        boolean completed = onboardingController.hasCompletedOnboarding(username);
+        String[] data = onboardingController.getOnboardingData(username);
+        return new Onboarding(completed, data);
+    }
+
+    /**
+     * Load the signed-in user's caches while the dashboard opens; the first
+     * task plan is prefetched once the onboarding track is known
+     */
+    private static void warm(String username, String[] onboardingData) {
+        if (onboardingData != null && onboardingData[1] != null) {
+            TaskScheduler.getInstance().prefetch(username, onboardingData[1],
+                onboardingData[2] != null ? onboardingData[2] : "Beginner");
+        }
+        DeadlineScheduler.getInstance().track(username);
+        SpacedRepetitionService.getInstance().warm(username);
+    }
+
+    private static Result assemble(PlayerProfile profile, Onboarding onboarding, LevelService.LevelInfo level) {
+        if (level != null) {
+            profile.setLevel(level.level);
+            profile.setScore(level.totalXP);
+        }
+        return new Result(profile, onboarding.completed, onboarding.data);
+    }
+
+    private static final class Onboarding {
+        final boolean completed;
+        final String[] data;
+
+        Onboarding(boolean completed, String[] data) {
+            this.completed = completed;
+            this.data = data;
+        }
+    }
+
+    /**
+     * One sign-in in progress
+     */
+    public static final class Attempt {
+        private final CompletableFuture<Result> result;
+
+        Attempt(CompletableFuture<Result> result) {
+            this.result = result;
+        }
+
+        /** Completes with the result, or exceptionally on timeout or error. */
+        public CompletableFuture<Result> getResult() {
+            return result;
+        }
+
+        /** Abandon the attempt; lookups already running finish but their results are dropped. */
+        public void cancel() {
+            result.cancel(false);
+        }
+
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+    }
+
+    /**
+     * Everything the login screen needs to route the user
+     */
+    public static final class Result {
+        private final PlayerProfile profile;
+        private final boolean onboardingCompleted;
+        private final String[] onboardingData;
+
+        Result(PlayerProfile profile, boolean onboardingCompleted, String[] onboardingData) {
+            this.profile = profile;
+            this.onboardingCompleted = onboardingCompleted;
+            this.onboardingData = onboardingData;
+        }
+
+        /** Signed-in user with level and score filled in, or null if the credentials were wrong. */
+        public PlayerProfile getProfile() { return profile; }
+        public boolean isOnboardingCompleted() { return onboardingCompleted; }
+        /** [goal, language, skill], or null if not found. */
+        public String[] getOnboardingData() { return onboardingData; }
+    }
+}
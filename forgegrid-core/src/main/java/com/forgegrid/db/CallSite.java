@@ -0,0 +1,37 @@
+package com.forgegrid.db;
+
+import java.util.Optional;
+
+/**
+ * Finds which service method is using the database, so pooled connections and
+ * statements can be attributed without touching the service code.
+ */
+public final class CallSite {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final String DB_PACKAGE = "com.forgegrid.db.";
+    private static final String APP_PREFIX = "com.forgegrid.";
+
+    private CallSite() {}
+
+    /**
+     * Name of the nearest ForgeGrid caller outside the db package
+     *
+     * @return "SimpleClassName.method", or "unknown" if none is on the stack
+     */
+    public static String caller() {
+        Optional<String> name = WALKER.walk(frames -> frames
+            .filter(f -> {
+                String cn = f.getClassName();
+                return cn.startsWith(APP_PREFIX) && !cn.startsWith(DB_PACKAGE) && !cn.contains("$$Lambda");
+            })
+            .findFirst()
+            .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName()));
+        return name.orElse("unknown");
+    }
+
+    private static String simpleName(String className) {
+        int dot = className.lastIndexOf('.');
+        return dot >= 0 ? className.substring(dot + 1) : className;
+    }
+}
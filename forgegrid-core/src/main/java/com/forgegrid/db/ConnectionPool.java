@@ -0,0 +1,298 @@
+package com.forgegrid.db;
+
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small fixed-size JDBC connection pool.
+ * Borrowed connections are proxies: calling close() hands the physical
+ * connection back to the pool instead of closing it, so existing
+ * try-with-resources code keeps working unchanged.
+ *
+ * Each borrow is measured twice: the wait for a free connection
+ * ("pool.borrow") and how long the calling service method held it
+ * ("service.&lt;Class.method&gt;"), which gives per-operation latency for
+ * every service without instrumenting them one by one.
+ */
+public class ConnectionPool {
+
+    /** Idle connections older than this are re-validated before reuse. */
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 30_000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<IdleConnection> idle = new LinkedBlockingDeque<>();
+    private volatile boolean closed = false;
+
+    public ConnectionPool(String url, String username, String password, int maxSize, long borrowTimeoutMillis) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.permits = new Semaphore(this.maxSize, true);
+    }
+
+    /**
+     * Open connections up front so the first requests do not pay the connect cost.
+     * Connections are opened in parallel, so this takes about one TLS handshake
+     * however many are requested.
+     *
+     * @param count Number of connections to open (capped at the pool size)
+     * @throws SQLException if any connection failed; the others are kept
+     */
+    public void prestart(int count) throws SQLException {
+        int n = Math.min(count, maxSize) - idle.size();
+        if (n <= 0) {
+            return;
+        }
+        List<CompletableFuture<Connection>> opening = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            CompletableFuture<Connection> f = new CompletableFuture<>();
+            Thread t = new Thread(() -> {
+                try {
+                    f.complete(openPhysical());
+                } catch (Throwable e) {
+                    f.completeExceptionally(e);
+                }
+            }, "forgegrid-pool-connect-" + (i + 1));
+            t.setDaemon(true);
+            t.start();
+            opening.add(f);
+        }
+        SQLException failure = null;
+        for (CompletableFuture<Connection> f : opening) {
+            try {
+                idle.offerFirst(new IdleConnection(f.join()));
+                MetricsRegistry.getInstance().counter("pool.connects").increment();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof SQLException
+                        ? (SQLException) e.getCause() : new SQLException("Could not open connection", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Borrow a connection, waiting up to the configured timeout if all are in use.
+     *
+     * @return Pooled connection; close() returns it to the pool
+     * @throws SQLException if the pool is closed, exhausted, or connecting fails
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        String operation = CallSite.caller();
+        long startNanos = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                metrics.counter("pool.timeouts").increment();
+                throw new SQLException("Timed out after " + borrowTimeoutMillis + " ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            Connection physical = takeIdle();
+            if (physical == null) {
+                physical = openPhysical();
+                metrics.counter("pool.connects").increment();
+            }
+            metrics.histogram("pool.borrow").recordNanos(System.nanoTime() - startNanos);
+            SqlTracer tracer = SqlTracer.getInstance();
+            SqlTracer.Action action = tracer.isEnabled() ? tracer.beginAction(operation) : null;
+            return wrap(physical, metrics.histogram("service." + operation), operation, action);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            metrics.counter("pool.errors").increment();
+            throw e;
+        }
+    }
+
+    /** Number of connections currently handed out. */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /** Number of open connections waiting in the pool. */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Close all idle connections and refuse further borrows.
+     * Connections still in use are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        IdleConnection ic;
+        while ((ic = idle.pollFirst()) != null) {
+            closeQuietly(ic.connection);
+        }
+    }
+
+    private Connection takeIdle() {
+        IdleConnection ic;
+        while ((ic = idle.pollFirst()) != null) {
+            try {
+                if (ic.connection.isClosed()) {
+                    continue;
+                }
+                if (System.currentTimeMillis() - ic.returnedAt > VALIDATE_AFTER_IDLE_MILLIS
+                        && !ic.connection.isValid(2)) {
+                    closeQuietly(ic.connection);
+                    continue;
+                }
+                return ic.connection;
+            } catch (SQLException e) {
+                closeQuietly(ic.connection);
+            }
+        }
+        return null;
+    }
+
+    private Connection openPhysical() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    private void release(Connection physical) {
+        try {
+            if (closed || physical.isClosed()) {
+                closeQuietly(physical);
+                return;
+            }
+            // Never hand out a connection with a half-finished transaction
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            idle.offerFirst(new IdleConnection(physical));
+        } catch (SQLException e) {
+            closeQuietly(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Connection wrap(Connection physical, LatencyHistogram usage, String operation, SqlTracer.Action action) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new PooledHandler(physical, usage, operation, action)
+        );
+    }
+
+    private static void closeQuietly(Connection c) {
+        try {
+            c.close();
+        } catch (SQLException e) {
+            // Silently fail - connection is being discarded anyway
+        }
+    }
+
+    private static final class IdleConnection {
+        final Connection connection;
+        final long returnedAt;
+
+        IdleConnection(Connection connection) {
+            this.connection = connection;
+            this.returnedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Forwards every call to the physical connection except close()/isClosed(),
+     * which are tracked per borrow. When SQL tracing was on at borrow time,
+     * statements it creates are wrapped for {@link SqlTracer}.
+     */
+    private final class PooledHandler implements InvocationHandler {
+        private final Connection physical;
+        private final LatencyHistogram usage;
+        private final String operation;
+        private final SqlTracer.Action action;
+        private final long borrowedAt = System.nanoTime();
+        private boolean returned = false;
+
+        PooledHandler(Connection physical, LatencyHistogram usage, String operation, SqlTracer.Action action) {
+            this.physical = physical;
+            this.usage = usage;
+            this.operation = operation;
+            this.action = action;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        usage.recordNanos(System.nanoTime() - borrowedAt);
+                        if (action != null) {
+                            action.close();
+                        }
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                case "unwrap":
+                    return physical.unwrap((Class<?>) args[0]);
+                case "isWrapperFor":
+                    return physical.isWrapperFor((Class<?>) args[0]);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + "]";
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (action != null && result instanceof Statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                        return TracingStatementHandler.wrap(method.getReturnType(), (Statement) result, sql, operation, action);
+                    }
+                    return result;
+            }
+        }
+    }
+}
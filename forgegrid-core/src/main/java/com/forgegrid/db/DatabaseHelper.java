@@ -1,8 +1,9 @@
 package com.forgegrid.db;
 
 import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.log.Log;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -10,12 +11,18 @@ import java.sql.Statement;
 /**
  * Database helper class for managing MySQL database connections and initialization.
  * Creates and manages the forgegrid database with users table.
+ * Connections come from a shared {@link ConnectionPool}; closing one returns it to the pool.
+ *
+ * Creating the helper only reads configuration. The driver, the first
+ * connection and the table setup happen on first use ({@link #initialize()},
+ * or the first connection borrowed), so services can be constructed on the
+ * UI thread while the app warms the database up in the background.
  */
 public class DatabaseHelper {
     
     private String dbUrl;
     private static DatabaseHelper instance;
-    private Connection connection;
+    private volatile ConnectionPool pool;
     
     // Railway MySQL connection parameters (loaded from environment)
     private String dbHost;
@@ -30,7 +37,6 @@ public class DatabaseHelper {
     private DatabaseHelper() {
         loadRailwayConfiguration();
         this.dbUrl = buildRailwayMySQLUrl();
-        initializeDatabase();
     }
     
     /**
@@ -95,16 +101,51 @@ public class DatabaseHelper {
     }
     
     /**
-     * Get database connection
+     * Get database connection from the pool.
+     * Callers must close it (try-with-resources) to return it to the pool.
      * 
      * @return Connection to Railway MySQL database
-     * @throws SQLException if connection fails
+     * @throws SQLException if connection fails or the pool is exhausted
      */
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(dbUrl, dbUsername, dbPassword);
+        ConnectionPool p = pool;
+        if (p == null) {
+            try {
+                p = initialize();
+            } catch (RuntimeException e) {
+                throw new SQLException(e.getMessage(), e.getCause());
+            }
         }
-        return connection;
+        return p.borrow();
+    }
+    
+    /**
+     * Load the driver, open the pool and create the core tables, once.
+     * A failed attempt is retried on the next call.
+     * 
+     * @return The initialized pool
+     * @throws RuntimeException if the database cannot be reached
+     */
+    public ConnectionPool initialize() {
+        ConnectionPool p = pool;
+        if (p != null) {
+            return p;
+        }
+        synchronized (this) {
+            if (pool == null) {
+                initializeDatabase();
+            }
+            return pool;
+        }
+    }
+    
+    /**
+     * Get the underlying connection pool (for sizing and diagnostics)
+     * 
+     * @return ConnectionPool instance
+     */
+    public ConnectionPool getPool() {
+        return initialize();
     }
     
     /**
@@ -113,9 +154,21 @@ public class DatabaseHelper {
     private void initializeDatabase() {
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
-            connection = DriverManager.getConnection(dbUrl, dbUsername, dbPassword);
-            createUsersTable();
-            createUserPreferencesTable();
+            ConnectionPool created = new ConnectionPool(dbUrl, dbUsername, dbPassword,
+                                      EnvironmentConfig.getDbPoolSize(),
+                                      EnvironmentConfig.getDbPoolTimeoutMillis());
+            try (Connection connection = created.borrow()) {
+                createUsersTable(connection);
+                createUserPreferencesTable(connection);
+            } catch (SQLException e) {
+                created.close();
+                throw e;
+            }
+            MetricsRegistry metrics = MetricsRegistry.getInstance();
+            metrics.gauge("pool.active", created::getActiveCount);
+            metrics.gauge("pool.idle", created::getIdleCount);
+            metrics.gauge("pool.max", created::getMaxSize);
+            pool = created;
         } catch (ClassNotFoundException | SQLException e) {
             throw new RuntimeException("Database initialization failed", e);
         }
@@ -127,9 +180,8 @@ public class DatabaseHelper {
      * @return true if database is accessible, false otherwise
      */
     public boolean testConnection() {
-        try {
-            Connection testConn = getConnection();
-            return testConn != null && !testConn.isClosed();
+        try (Connection testConn = getConnection()) {
+            return testConn != null && testConn.isValid(5);
         } catch (SQLException e) {
             return false;
         }
@@ -138,7 +190,7 @@ public class DatabaseHelper {
     /**
      * Create the users table with required columns including onboarding fields
      */
-    private void createUsersTable() throws SQLException {
+    private void createUsersTable(Connection connection) throws SQLException {
         String createTableSQL = """
             CREATE TABLE IF NOT EXISTS users (
                 id INT AUTO_INCREMENT PRIMARY KEY,
@@ -158,15 +210,15 @@ public class DatabaseHelper {
         
         try (Statement statement = connection.createStatement()) {
             statement.execute(createTableSQL);
-            migrateUsersTableForXP();
-            createIndexes();
+            migrateUsersTableForXP(connection);
+            createIndexes(connection);
         }
     }
     
     /**
      * Migrate users table to add total_xp and level columns if they don't exist
      */
-    private void migrateUsersTableForXP() {
+    private void migrateUsersTableForXP(Connection connection) {
         try (Statement statement = connection.createStatement()) {
             try {
                 statement.execute("ALTER TABLE users ADD COLUMN total_xp INT DEFAULT 0");
@@ -182,14 +234,14 @@ public class DatabaseHelper {
                 // Column already exists
             }
         } catch (SQLException e) {
-            System.err.println("Error migrating users table: " + e.getMessage());
+            Log.error("DatabaseHelper.migrateUsersTableForXP", null, "Error migrating users table", e);
         }
     }
     
     /**
      * Create the user_preferences table for post-dashboard customization data
      */
-    private void createUserPreferencesTable() throws SQLException {
+    private void createUserPreferencesTable(Connection connection) throws SQLException {
         String createTableSQL = """
             CREATE TABLE IF NOT EXISTS user_preferences (
                 id INT AUTO_INCREMENT PRIMARY KEY,
@@ -213,22 +265,23 @@ public class DatabaseHelper {
     /**
      * Create indexes for better performance
      */
-    private void createIndexes() {
+    private void createIndexes(Connection connection) {
         try (Statement statement = connection.createStatement()) {
             try { statement.execute("CREATE INDEX idx_users_username ON users(username)"); } catch (SQLException e) {}
             try { statement.execute("CREATE INDEX idx_users_email ON users(email)"); } catch (SQLException e) {}
             try { statement.execute("CREATE INDEX idx_users_onboarding_completed ON users(onboarding_completed)"); } catch (SQLException e) {}
+            try { statement.execute("CREATE INDEX idx_users_updated_at ON users(updated_at)"); } catch (SQLException e) {}
             try { statement.execute("CREATE INDEX idx_user_preferences_username ON user_preferences(username)"); } catch (SQLException e) {}
         } catch (SQLException e) {
             // Silently fail - indexes not critical
         }
-        migrateUserPreferencesTable();
+        migrateUserPreferencesTable(connection);
     }
     
     /**
      * Migrate user_preferences table to add customize_completed column if it doesn't exist
      */
-    private void migrateUserPreferencesTable() {
+    private void migrateUserPreferencesTable(Connection connection) {
         try (Statement statement = connection.createStatement()) {
             // Check if customize_completed column exists
             try {
@@ -247,15 +300,11 @@ public class DatabaseHelper {
     }
     
     /**
-     * Close Railway MySQL database connection
+     * Close all pooled Railway MySQL database connections
      */
     public void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            // Silently fail
+        if (pool != null) {
+            pool.close();
         }
     }
     
@@ -0,0 +1,57 @@
+package com.forgegrid.db;
+
+/**
+ * Query counts aggregated per action, used to spot N+1 patterns
+ * (many statements, or the same statement repeated, for one user action).
+ */
+public class SqlActionStats {
+    private final String action;
+    private long calls;
+    private long statements;
+    private int maxStatements;
+    private long totalNanos;
+    private long slowStatements;
+    private int worstRepeat;
+    private String worstRepeatSql;
+
+    SqlActionStats(String action) {
+        this.action = action;
+    }
+
+    synchronized void record(int statementCount, long nanos, int slowCount, int repeat, String repeatSql) {
+        calls++;
+        statements += statementCount;
+        maxStatements = Math.max(maxStatements, statementCount);
+        totalNanos += nanos;
+        slowStatements += slowCount;
+        if (repeat > worstRepeat) {
+            worstRepeat = repeat;
+            worstRepeatSql = repeatSql;
+        }
+    }
+
+    public String getAction() { return action; }
+
+    /** Number of times the action ran. */
+    public synchronized long getCalls() { return calls; }
+
+    /** Total statements issued across all runs. */
+    public synchronized long getStatements() { return statements; }
+
+    /** Most statements issued by a single run. */
+    public synchronized int getMaxStatements() { return maxStatements; }
+
+    public synchronized double getAverageStatements() {
+        return calls == 0 ? 0 : (double) statements / calls;
+    }
+
+    /** Total time spent executing statements, in milliseconds. */
+    public synchronized double getTotalMillis() { return totalNanos / 1_000_000.0; }
+
+    public synchronized long getSlowStatements() { return slowStatements; }
+
+    /** Highest number of times one statement text ran within a single run. */
+    public synchronized int getWorstRepeat() { return worstRepeat; }
+
+    public synchronized String getWorstRepeatSql() { return worstRepeatSql; }
+}
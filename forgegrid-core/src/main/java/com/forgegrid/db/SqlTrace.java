@@ -0,0 +1,59 @@
+package com.forgegrid.db;
+
+/**
+ * One executed JDBC statement as seen by {@link SqlTracer}.
+ */
+public class SqlTrace {
+    private final long timestamp;
+    private final String action;
+    private final String caller;
+    private final String sql;
+    private final int bindCount;
+    private final long nanos;
+    private final boolean slow;
+    private final String thread;
+    private volatile int rows;
+
+    SqlTrace(long timestamp, String action, String caller, String sql, int bindCount,
+             long nanos, boolean slow, int rows) {
+        this.timestamp = timestamp;
+        this.action = action;
+        this.caller = caller;
+        this.sql = sql;
+        this.bindCount = bindCount;
+        this.nanos = nanos;
+        this.slow = slow;
+        this.rows = rows;
+        this.thread = Thread.currentThread().getName();
+    }
+
+    /** Wall-clock time the statement finished, epoch millis. */
+    public long getTimestamp() { return timestamp; }
+
+    /** UI or API action the statement ran under; the service method if none was set. */
+    public String getAction() { return action; }
+
+    /** Service method that issued the statement, e.g. "HardcodedTaskService.getNetXP". */
+    public String getCaller() { return caller; }
+
+    public String getSql() { return sql; }
+
+    /** Number of distinct parameters bound at execution time. */
+    public int getBindCount() { return bindCount; }
+
+    public long getNanos() { return nanos; }
+
+    public double getMillis() { return nanos / 1_000_000.0; }
+
+    /** Whether execution took longer than the slow-query threshold. */
+    public boolean isSlow() { return slow; }
+
+    /** Rows read so far for queries, or the update count for DML; -1 if unknown. */
+    public int getRows() { return rows; }
+
+    public String getThread() { return thread; }
+
+    void addRow() {
+        rows++;
+    }
+}
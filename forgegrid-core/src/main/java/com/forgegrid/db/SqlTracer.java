@@ -0,0 +1,267 @@
+package com.forgegrid.db;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.util.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records every statement run through pooled connections: SQL text, bind
+ * count, execution time, rows and the service method that issued it.
+ *
+ * Statements are grouped into actions. An action is either named explicitly
+ * (e.g. an API route via {@link #beginAction(String)}) or, by default, the
+ * outermost service call that borrowed a connection. Per-action statement
+ * counts and repeats expose N+1 loops; statements over the slow threshold are
+ * flagged and logged. The most recent statements are kept in a ring buffer
+ * for the debug panel and {@link #dump(Path)}.
+ *
+ * Configured by FORGEGRID_SQL_TRACE, FORGEGRID_SLOW_QUERY_MS and FORGEGRID_SQL_REPEAT_WARN.
+ */
+public final class SqlTracer {
+
+    private static final int RECENT_CAPACITY = 1000;
+    private static final SqlTracer INSTANCE = new SqlTracer();
+
+    private final SqlTrace[] recent = new SqlTrace[RECENT_CAPACITY];
+    private final AtomicLong recorded = new AtomicLong();
+    private final Map<String, SqlActionStats> stats = new ConcurrentHashMap<>();
+    private final ThreadLocal<Action> current = new ThreadLocal<>();
+    private volatile boolean enabled;
+    private volatile long slowNanos;
+    private volatile int repeatWarn;
+
+    private SqlTracer() {
+        enabled = EnvironmentConfig.isSqlTraceEnabled();
+        slowNanos = TimeUnit.MILLISECONDS.toNanos(EnvironmentConfig.getSlowQueryMillis());
+        repeatWarn = Math.max(2, EnvironmentConfig.getSqlRepeatWarnThreshold());
+    }
+
+    public static SqlTracer getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn tracing on or off; connections borrowed while off are not wrapped
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSlowQueryMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowNanos);
+    }
+
+    public void setSlowQueryMillis(long millis) {
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    /**
+     * Group every statement run on this thread until close() under one name.
+     * Nested calls join the outer action.
+     *
+     * Example: try (SqlTracer.Action a = SqlTracer.getInstance().beginAction("POST /api/tasks/complete")) { ... }
+     *
+     * @param name Action name shown in the per-action statistics
+     * @return Handle to close when the action ends
+     */
+    public Action beginAction(String name) {
+        Action a = current.get();
+        if (a != null) {
+            synchronized (a) {
+                a.depth++;
+            }
+            return a;
+        }
+        a = new Action(name);
+        current.set(a);
+        return a;
+    }
+
+    /**
+     * Statements recorded most recently, oldest first
+     */
+    public List<SqlTrace> getRecent() {
+        long end = recorded.get();
+        long start = Math.max(0, end - RECENT_CAPACITY);
+        List<SqlTrace> list = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            SqlTrace t = recent[(int) (i % RECENT_CAPACITY)];
+            if (t != null) {
+                list.add(t);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Per-action statistics, most statements per run first
+     */
+    public List<SqlActionStats> getActionStats() {
+        List<SqlActionStats> list = new ArrayList<>(stats.values());
+        list.sort(Comparator.comparingInt(SqlActionStats::getMaxStatements).reversed()
+            .thenComparing(SqlActionStats::getAction));
+        return list;
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            Arrays.fill(recent, null);
+            recorded.set(0);
+        }
+        stats.clear();
+    }
+
+    /**
+     * Write the per-action statistics and recent statements as JSON lines
+     *
+     * @param file Destination; overwritten if it exists
+     */
+    public void dump(Path file) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (SqlActionStats s : getActionStats()) {
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("type", "action");
+                m.put("action", s.getAction());
+                m.put("calls", s.getCalls());
+                m.put("statements", s.getStatements());
+                m.put("avgStatements", s.getAverageStatements());
+                m.put("maxStatements", s.getMaxStatements());
+                m.put("totalMs", s.getTotalMillis());
+                m.put("slow", s.getSlowStatements());
+                m.put("worstRepeat", s.getWorstRepeat());
+                m.put("worstRepeatSql", s.getWorstRepeatSql());
+                w.write(Json.write(m));
+                w.newLine();
+            }
+            for (SqlTrace t : getRecent()) {
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("type", "statement");
+                m.put("ts", Instant.ofEpochMilli(t.getTimestamp()).toString());
+                m.put("action", t.getAction());
+                m.put("caller", t.getCaller());
+                m.put("ms", t.getMillis());
+                m.put("rows", t.getRows());
+                m.put("binds", t.getBindCount());
+                m.put("slow", t.isSlow());
+                m.put("thread", t.getThread());
+                m.put("sql", t.getSql());
+                w.write(Json.write(m));
+                w.newLine();
+            }
+        }
+    }
+
+    SqlTrace record(Action action, String caller, String sql, int binds, long nanos, int rows) {
+        boolean slow = nanos >= slowNanos;
+        SqlTrace t = new SqlTrace(System.currentTimeMillis(), action.name, caller,
+                                  normalize(sql), binds, nanos, slow, rows);
+        synchronized (recent) {
+            long i = recorded.getAndIncrement();
+            recent[(int) (i % RECENT_CAPACITY)] = t;
+        }
+        action.onStatement(t);
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.counter("sql.statements").increment();
+        metrics.histogram("sql.execute").recordNanos(nanos);
+        if (slow) {
+            metrics.counter("sql.slow").increment();
+            Log.timed(Log.Level.WARN, caller, null,
+                "Slow query (" + binds + " binds): " + t.getSql(), nanos);
+        }
+        return t;
+    }
+
+    private void finish(Action a) {
+        if (current.get() == a) {
+            current.remove();
+        }
+        String repeatSql = null;
+        int repeat = 0;
+        synchronized (a) {
+            if (a.statements == 0) {
+                return;
+            }
+            for (Map.Entry<String, Integer> e : a.repeats.entrySet()) {
+                if (e.getValue() > repeat) {
+                    repeat = e.getValue();
+                    repeatSql = e.getKey();
+                }
+            }
+            stats.computeIfAbsent(a.name, SqlActionStats::new)
+                 .record(a.statements, a.nanos, a.slow, repeat, repeatSql);
+        }
+        if (repeat >= repeatWarn) {
+            MetricsRegistry.getInstance().counter("sql.repeats").increment();
+            Log.warn(a.name, null, "Possible N+1: statement ran " + repeat
+                + " times in one action (" + a.statements + " statements total): " + repeatSql);
+        }
+    }
+
+    /** Collapse whitespace so text blocks and one-liners compare equal. */
+    private static String normalize(String sql) {
+        return sql == null ? "" : sql.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Statements grouped under one name until closed
+     */
+    public final class Action implements AutoCloseable {
+        private final String name;
+        private final Map<String, Integer> repeats = new HashMap<>();
+        private int depth = 1;
+        private int statements;
+        private int slow;
+        private long nanos;
+
+        private Action(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        synchronized void onStatement(SqlTrace t) {
+            statements++;
+            nanos += t.getNanos();
+            if (t.isSlow()) {
+                slow++;
+            }
+            repeats.merge(t.getSql(), 1, Integer::sum);
+        }
+
+        @Override
+        public void close() {
+            boolean done;
+            synchronized (this) {
+                done = --depth == 0;
+            }
+            if (done) {
+                finish(this);
+            }
+        }
+    }
+}
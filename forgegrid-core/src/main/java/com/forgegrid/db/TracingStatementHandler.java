@@ -0,0 +1,146 @@
+package com.forgegrid.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.BitSet;
+
+/**
+ * Proxy around a Statement/PreparedStatement that times each execute call,
+ * counts bound parameters and rows, and reports to {@link SqlTracer}.
+ */
+final class TracingStatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final String preparedSql;
+    private final String caller;
+    private final SqlTracer.Action action;
+    private final BitSet bound = new BitSet();
+    private int batched;
+
+    private TracingStatementHandler(Statement target, String preparedSql, String caller, SqlTracer.Action action) {
+        this.target = target;
+        this.preparedSql = preparedSql;
+        this.caller = caller;
+        this.action = action;
+    }
+
+    /**
+     * Wrap a statement returned by a pooled connection
+     *
+     * @param type Interface the connection method declared (Statement, PreparedStatement or CallableStatement)
+     * @param preparedSql SQL given to prepareStatement/prepareCall, or null for plain statements
+     */
+    static Statement wrap(Class<?> type, Statement target, String preparedSql, String caller, SqlTracer.Action action) {
+        return (Statement) Proxy.newProxyInstance(
+            Statement.class.getClassLoader(),
+            new Class<?>[] { type },
+            new TracingStatementHandler(target, preparedSql, caller, action)
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.startsWith("execute")) {
+            return traceExecute(method, args);
+        }
+        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            bound.set((Integer) args[0]);
+        } else if (name.equals("clearParameters")) {
+            bound.clear();
+        } else if (name.equals("addBatch")) {
+            batched++;
+        } else if (name.equals("clearBatch")) {
+            batched = 0;
+        } else if (name.equals("equals")) {
+            return proxy == args[0];
+        } else if (name.equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        }
+        return forward(method, args);
+    }
+
+    private Object traceExecute(Method method, Object[] args) throws Throwable {
+        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+        int binds = bound.cardinality();
+        long start = System.nanoTime();
+        Object result = forward(method, args);
+        long nanos = System.nanoTime() - start;
+
+        int rows = -1;
+        if (result instanceof Integer) {
+            rows = (Integer) result;
+        } else if (result instanceof Long) {
+            rows = (int) Math.min(Integer.MAX_VALUE, (Long) result);
+        } else if (result instanceof int[]) {
+            rows = 0;
+            for (int n : (int[]) result) {
+                rows += Math.max(0, n);
+            }
+            sql = sql + " [batch x" + batched + "]";
+            batched = 0;
+        } else if (result instanceof ResultSet) {
+            rows = 0;
+        }
+
+        SqlTrace trace = SqlTracer.getInstance().record(action, caller, sql, binds, nanos, rows);
+        if (result instanceof ResultSet) {
+            return RowCounter.wrap((ResultSet) result, trace);
+        }
+        return result;
+    }
+
+    private Object forward(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Counts next() calls that return true so queries report the rows actually read
+     */
+    private static final class RowCounter implements InvocationHandler {
+        private final ResultSet target;
+        private final SqlTrace trace;
+
+        private RowCounter(ResultSet target, SqlTrace trace) {
+            this.target = target;
+            this.trace = trace;
+        }
+
+        static ResultSet wrap(ResultSet target, SqlTrace trace) {
+            return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class },
+                new RowCounter(target, trace)
+            );
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                        trace.addRow();
+                    }
+                    return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.forgegrid.log;
+
+import com.forgegrid.util.Json;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background JSON-lines writer.
+ *
+ * Callers only do a level check, a rate-limit check and a non-blocking offer
+ * into a bounded ring buffer; formatting and I/O happen on one daemon thread.
+ * When the buffer is full records are dropped and counted rather than making
+ * the caller (often the EDT) wait. WARN and above are limited to a few per
+ * operation and level per window, and only the first in each window carries a
+ * stack trace. The key never includes the message, which often carries
+ * variable text (SQL, counts), so the window map stays bounded.
+ */
+public class AsyncLogger {
+
+    private static final int CAPACITY = 8192;
+    private static final long RATE_WINDOW_MILLIS = 60_000;
+    private static final int MAX_PER_WINDOW = 5;
+    private static final int MAX_STACK_CHARS = 4000;
+
+    private final Log.Level threshold;
+    private final Writer out;
+    private final ArrayBlockingQueue<Object> ring = new ArrayBlockingQueue<>(CAPACITY);
+    private final Map<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    AsyncLogger(Log.Level threshold, Writer out) {
+        this.threshold = threshold;
+        this.out = out;
+        Thread writer = new Thread(this::drain, "forgegrid-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "forgegrid-log-flush"));
+    }
+
+    /**
+     * Build a logger writing to the given file, or to stderr when no file is set
+     */
+    static AsyncLogger fromConfig(Log.Level threshold, String file) {
+        Writer w = null;
+        if (file != null && !file.isBlank()) {
+            try {
+                w = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // Fall back to stderr below
+            }
+        }
+        if (w == null) {
+            w = new BufferedWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8));
+        }
+        return new AsyncLogger(threshold, w);
+    }
+
+    boolean isEnabled(Log.Level level) {
+        return level.ordinal() >= threshold.ordinal();
+    }
+
+    void log(Log.Level level, String operation, String user, String message, long latencyNanos, Throwable error) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        boolean withStack = true;
+        int suppressed = 0;
+        if (level.ordinal() >= Log.Level.WARN.ordinal()) {
+            String key = operation + '|' + level;
+            RateWindow w = rateWindows.computeIfAbsent(key, k -> new RateWindow());
+            synchronized (w) {
+                long now = System.currentTimeMillis();
+                if (now - w.start > RATE_WINDOW_MILLIS) {
+                    suppressed = w.suppressed;
+                    w.start = now;
+                    w.count = 0;
+                    w.suppressed = 0;
+                }
+                if (++w.count > MAX_PER_WINDOW) {
+                    w.suppressed++;
+                    return;
+                }
+                withStack = w.count == 1;
+            }
+        }
+        Record r = new Record(System.currentTimeMillis(), level, operation, user, message,
+                              latencyNanos, error, withStack, suppressed, Thread.currentThread().getName());
+        if (!ring.offer(r)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Block (briefly) until everything queued before this call is written
+     */
+    void flush() {
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            if (ring.offer(latch, 1, TimeUnit.SECONDS)) {
+                latch.await(2, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        StringBuilder sb = new StringBuilder(512);
+        while (true) {
+            try {
+                Object item = ring.take();
+                do {
+                    if (item instanceof CountDownLatch) {
+                        writeDropped(sb);
+                        out.flush();
+                        ((CountDownLatch) item).countDown();
+                    } else {
+                        sb.setLength(0);
+                        format(sb, (Record) item);
+                        out.write(sb.toString());
+                    }
+                    item = ring.poll();
+                } while (item != null);
+                writeDropped(sb);
+                out.flush();
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                // Nowhere left to report a logging failure; keep draining
+            }
+        }
+    }
+
+    private void writeDropped(StringBuilder sb) throws IOException {
+        long n = dropped.getAndSet(0);
+        if (n > 0) {
+            sb.setLength(0);
+            format(sb, new Record(System.currentTimeMillis(), Log.Level.WARN, "log", null,
+                "Log buffer full; dropped " + n + " records", -1, null, false, 0, "forgegrid-log-writer"));
+            out.write(sb.toString());
+        }
+    }
+
+    private static void format(StringBuilder sb, Record r) {
+        sb.append("{\"ts\":");
+        Json.writeString(sb, Instant.ofEpochMilli(r.timestamp).toString());
+        sb.append(",\"level\":\"").append(r.level).append('"');
+        if (r.operation != null) {
+            sb.append(",\"op\":");
+            Json.writeString(sb, r.operation);
+        }
+        if (r.user != null) {
+            sb.append(",\"user\":");
+            Json.writeString(sb, r.user);
+        }
+        if (r.latencyNanos >= 0) {
+            sb.append(",\"latencyMs\":").append(Math.round(r.latencyNanos / 1000.0) / 1000.0);
+        }
+        if (r.message != null) {
+            sb.append(",\"msg\":");
+            Json.writeString(sb, r.message);
+        }
+        sb.append(",\"thread\":");
+        Json.writeString(sb, r.thread);
+        if (r.error != null) {
+            sb.append(",\"error\":");
+            Json.writeString(sb, r.error.getClass().getName() + ": " + r.error.getMessage());
+            if (r.withStack) {
+                StringWriter sw = new StringWriter();
+                r.error.printStackTrace(new PrintWriter(sw));
+                String stack = sw.toString();
+                if (stack.length() > MAX_STACK_CHARS) {
+                    stack = stack.substring(0, MAX_STACK_CHARS) + "...";
+                }
+                sb.append(",\"stack\":");
+                Json.writeString(sb, stack);
+            }
+        }
+        if (r.suppressed > 0) {
+            sb.append(",\"suppressedSinceLast\":").append(r.suppressed);
+        }
+        sb.append("}\n");
+    }
+
+    private static final class RateWindow {
+        long start = System.currentTimeMillis();
+        int count;
+        int suppressed;
+    }
+
+    private static final class Record {
+        final long timestamp;
+        final Log.Level level;
+        final String operation;
+        final String user;
+        final String message;
+        final long latencyNanos;
+        final Throwable error;
+        final boolean withStack;
+        final int suppressed;
+        final String thread;
+
+        Record(long timestamp, Log.Level level, String operation, String user, String message,
+               long latencyNanos, Throwable error, boolean withStack, int suppressed, String thread) {
+            this.timestamp = timestamp;
+            this.level = level;
+            this.operation = operation;
+            this.user = user;
+            this.message = message;
+            this.latencyNanos = latencyNanos;
+            this.error = error;
+            this.withStack = withStack;
+            this.suppressed = suppressed;
+            this.thread = thread;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.forgegrid.log;
+
+import com.forgegrid.config.EnvironmentConfig;
+
+/**
+ * Static entry point for structured logging.
+ * Calls never block on I/O: records are handed to {@link AsyncLogger}, which
+ * writes one JSON object per line from a background thread.
+ *
+ * Example: Log.error("LevelService.addXP", username, "Error adding XP", e);
+ */
+public final class Log {
+
+    private static volatile AsyncLogger logger;
+
+    private Log() {}
+
+    public static void debug(String operation, String user, String message) {
+        get().log(Level.DEBUG, operation, user, message, -1, null);
+    }
+
+    public static void info(String operation, String user, String message) {
+        get().log(Level.INFO, operation, user, message, -1, null);
+    }
+
+    public static void warn(String operation, String user, String message) {
+        get().log(Level.WARN, operation, user, message, -1, null);
+    }
+
+    public static void warn(String operation, String user, String message, Throwable error) {
+        get().log(Level.WARN, operation, user, message, -1, error);
+    }
+
+    public static void error(String operation, String user, String message, Throwable error) {
+        get().log(Level.ERROR, operation, user, message, -1, error);
+    }
+
+    /**
+     * Log an operation together with how long it took
+     *
+     * @param latencyNanos Elapsed time in nanoseconds
+     */
+    public static void timed(Level level, String operation, String user, String message, long latencyNanos) {
+        get().log(level, operation, user, message, latencyNanos, null);
+    }
+
+    public static boolean isEnabled(Level level) {
+        return get().isEnabled(level);
+    }
+
+    /** Write out everything queued so far; used on shutdown. */
+    public static void flush() {
+        get().flush();
+    }
+
+    private static AsyncLogger get() {
+        AsyncLogger l = logger;
+        if (l == null) {
+            synchronized (Log.class) {
+                l = logger;
+                if (l == null) {
+                    l = AsyncLogger.fromConfig(
+                        Level.parse(EnvironmentConfig.get("FORGEGRID_LOG_LEVEL", "INFO")),
+                        EnvironmentConfig.get("FORGEGRID_LOG_FILE"));
+                    logger = l;
+                }
+            }
+        }
+        return l;
+    }
+
+    /**
+     * Severity, lowest to highest
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR;
+
+        static Level parse(String s) {
+            try {
+                return valueOf(s.trim().toUpperCase());
+            } catch (RuntimeException e) {
+                return INFO;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.forgegrid.maintenance;
+
+import com.forgegrid.service.DeadlineScheduler;
+import com.forgegrid.service.SpacedRepetitionService;
+import com.forgegrid.service.TaskScheduler;
+import com.forgegrid.service.UserService;
+
+import java.util.List;
+
+/**
+ * Loads the per-user caches of recently active users (goated deadlines, review
+ * queue, next-task plan) so their first request after a restart or eviction
+ * does not pay for it. Plans are built on the maintenance thread so the
+ * scheduler's prefetch pool stays free for interactive users.
+ */
+public class CacheWarmJob implements MaintenanceJob {
+
+    private static final int ACTIVE_HOURS = 24;
+    private static final int MAX_USERS = 500;
+
+    private final UserService userService;
+
+    public CacheWarmJob(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public String getName() {
+        return "warm";
+    }
+
+    @Override
+    public int run() {
+        List<String[]> users = userService.getRecentlyActiveUsers(ACTIVE_HOURS, MAX_USERS);
+        DeadlineScheduler deadlines = DeadlineScheduler.getInstance();
+        SpacedRepetitionService reviews = SpacedRepetitionService.getInstance();
+        TaskScheduler scheduler = TaskScheduler.getInstance();
+        for (String[] user : users) {
+            String username = user[0];
+            deadlines.track(username);
+            reviews.warm(username);
+            scheduler.warm(username,
+                user[1] != null ? user[1] : "Java",
+                user[2] != null ? user[2] : "Beginner");
+        }
+        return users.size();
+    }
+}
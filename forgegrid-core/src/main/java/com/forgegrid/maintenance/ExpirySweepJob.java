@@ -0,0 +1,41 @@
+package com.forgegrid.maintenance;
+
+import com.forgegrid.service.HardcodedTaskService;
+
+/**
+ * Converts assignments older than 24 hours into skips (with the XP penalty) for
+ * every user, in batches of {@value #BATCH} rows per transaction so row locks
+ * stay short. Replaces the per-user check that used to run on each task popup.
+ */
+public class ExpirySweepJob implements MaintenanceJob {
+
+    static final int BATCH = 500;
+    private static final int MAX_BATCHES = 20;
+
+    private final HardcodedTaskService taskService;
+
+    public ExpirySweepJob(HardcodedTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @Override
+    public String getName() {
+        return "expiry";
+    }
+
+    @Override
+    public int run() {
+        int total = 0;
+        for (int i = 0; i < MAX_BATCHES; i++) {
+            int skipped = taskService.sweepExpiredAssignedTasks(BATCH);
+            if (skipped < 0) {
+                throw new IllegalStateException("Expiry sweep failed; see log");
+            }
+            total += skipped;
+            if (skipped < BATCH) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,48 @@
+package com.forgegrid.maintenance;
+
+import com.forgegrid.service.HistoryArchiveService;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves finished tasks older than the horizon from user_tasks into the
+ * history archive, {@value #BATCH} rows per transaction.
+ */
+public class HistoryArchiveJob implements MaintenanceJob {
+
+    static final int BATCH = 1000;
+    private static final int MAX_BATCHES = 50;
+
+    private final HistoryArchiveService archive;
+    private final int horizonDays;
+
+    public HistoryArchiveJob(HistoryArchiveService archive, int horizonDays) {
+        this.archive = archive;
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    public String getName() {
+        return "archive";
+    }
+
+    @Override
+    public int run() {
+        if (horizonDays <= 0) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(horizonDays);
+        int total = 0;
+        for (int i = 0; i < MAX_BATCHES; i++) {
+            int moved = archive.archiveBefore(cutoff, BATCH);
+            if (moved < 0) {
+                throw new IllegalStateException("History archiving failed; see log");
+            }
+            total += moved;
+            if (moved < BATCH) {
+                break;
+            }
+        }
+        return total;
+    }
+}
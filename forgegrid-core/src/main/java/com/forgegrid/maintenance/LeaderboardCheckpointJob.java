@@ -0,0 +1,27 @@
+package com.forgegrid.maintenance;
+
+import com.forgegrid.service.LeaderboardService;
+
+/**
+ * Writes the users whose leaderboard standing changed since the last run to
+ * leaderboard_checkpoint, so the next process start loads the boards from
+ * there instead of ranking every user.
+ */
+public class LeaderboardCheckpointJob implements MaintenanceJob {
+
+    private final LeaderboardService leaderboards;
+
+    public LeaderboardCheckpointJob(LeaderboardService leaderboards) {
+        this.leaderboards = leaderboards;
+    }
+
+    @Override
+    public String getName() {
+        return "leaderboard";
+    }
+
+    @Override
+    public int run() throws Exception {
+        return leaderboards.checkpoint();
+    }
+}
@@ -0,0 +1,21 @@
+package com.forgegrid.maintenance;
+
+/**
+ * A periodic background task run by {@link MaintenanceScheduler}.
+ *
+ * Jobs never run twice at once, neither in this process nor across processes
+ * sharing the database, so implementations do not need their own locking.
+ */
+public interface MaintenanceJob {
+
+    /** Short name used in config keys, metrics and logs, e.g. "expiry". */
+    String getName();
+
+    /**
+     * Do one round of work
+     *
+     * @return Number of items processed (for the log)
+     * @throws Exception on failure; the next run is then backed off
+     */
+    int run() throws Exception;
+}
@@ -0,0 +1,364 @@
+package com.forgegrid.maintenance;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.db.SqlTracer;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.service.HardcodedTaskService;
+import com.forgegrid.service.HistoryArchiveService;
+import com.forgegrid.service.LeaderboardService;
+import com.forgegrid.service.UserService;
+import com.forgegrid.service.UserStatsService;
+import com.forgegrid.service.XpRollupService;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link MaintenanceJob}s periodically on a small pool of daemon threads.
+ *
+ * - Jitter: every delay is spread by +/-10% so jobs of several servers (or
+ *   several jobs started together) do not hit the database in lockstep.
+ * - Backoff: after a failure the job is retried after 1 minute, doubling with
+ *   each further failure up to four intervals; the first success resets it.
+ * - Single-flight: a job never overlaps itself. Within the process an
+ *   in-flight flag guards it; across processes a MySQL named lock
+ *   (GET_LOCK "forgegrid.job.{name}") does, and a run that cannot take the
+ *   lock is skipped rather than queued.
+ *
+ * Intervals come from FORGEGRID_JOB_{NAME}_MINUTES (0 = job off), see
+ * {@link #startFromConfig(boolean)}.
+ */
+public class MaintenanceScheduler {
+
+    private static final double JITTER = 0.10;
+    private static final long RETRY_BASE_MILLIS = 60_000;
+    private static final String LOCK_PREFIX = "forgegrid.job.";
+    private static MaintenanceScheduler instance;
+
+    private final Map<String, Slot> jobs = new LinkedHashMap<>();
+    private final ScheduledExecutorService executor;
+
+    public MaintenanceScheduler(int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "forgegrid-maintenance-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Start the built-in jobs unless FORGEGRID_MAINTENANCE is false; safe to call more than once
+     *
+     * expiry (15 min): auto-skip assignments older than 24 hours for all users.
+     * stats (daily): rebuild user_stats from user_tasks to correct any drift.
+     * warm (30 min, server only): load deadlines, reviews and next-task plans of recently active users.
+     * archive (daily): move finished tasks older than FORGEGRID_ARCHIVE_DAYS to the history archive.
+     * leaderboard (10 min): checkpoint changed leaderboard standings for a fast cold start.
+     * rollups (hourly): backfill XP buckets of users without them and prune old hourly buckets.
+     *
+     * @param server true in the headless server (jobs on by default), false on the desktop (off by default)
+     * @return The running scheduler, or null if maintenance is off
+     */
+    public static synchronized MaintenanceScheduler startFromConfig(boolean server) {
+        if (instance != null || !EnvironmentConfig.isMaintenanceEnabled(server)) {
+            return instance;
+        }
+        MaintenanceScheduler scheduler = new MaintenanceScheduler(2);
+        scheduler.scheduleFromConfig(new ExpirySweepJob(new HardcodedTaskService()), 15, 1);
+        scheduler.scheduleFromConfig(new StatsRollupJob(new UserStatsService()), 24 * 60, 24 * 60);
+        scheduler.scheduleFromConfig(new HistoryArchiveJob(new HistoryArchiveService(),
+            EnvironmentConfig.getArchiveHorizonDays()), 24 * 60, 5);
+        scheduler.scheduleFromConfig(new LeaderboardCheckpointJob(LeaderboardService.getInstance()), 10, 10);
+        scheduler.scheduleFromConfig(new XpRollupJob(new XpRollupService()), 60, 3);
+        if (server) {
+            scheduler.scheduleFromConfig(new CacheWarmJob(new UserService()), 30, 1);
+        }
+        instance = scheduler;
+        return instance;
+    }
+
+    /**
+     * The scheduler started by {@link #startFromConfig(boolean)}, or null
+     */
+    public static synchronized MaintenanceScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Whether the shared scheduler runs the named job (callers skip inline work it covers)
+     */
+    public static synchronized boolean isScheduled(String name) {
+        return instance != null && instance.has(name);
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    /**
+     * Run a job every interval (with jitter) after an initial delay
+     *
+     * @throws IllegalArgumentException if a job with the same name is already scheduled
+     */
+    public synchronized void schedule(MaintenanceJob job, Duration interval, Duration initialDelay) {
+        if (jobs.containsKey(job.getName())) {
+            throw new IllegalArgumentException("Job already scheduled: " + job.getName());
+        }
+        Slot slot = new Slot(job, interval.toMillis());
+        jobs.put(job.getName(), slot);
+        scheduleAfter(slot, jitter(initialDelay.toMillis()));
+        Log.info("MaintenanceScheduler.schedule", null,
+            "Job " + job.getName() + " every " + interval.toMinutes() + " min");
+    }
+
+    public synchronized boolean has(String name) {
+        return jobs.containsKey(name);
+    }
+
+    /**
+     * Run a job now, outside its schedule; ignored if it is already running
+     *
+     * @return false if no such job is scheduled
+     */
+    public boolean runNow(String name) {
+        Slot slot;
+        synchronized (this) {
+            slot = jobs.get(name);
+        }
+        if (slot == null) {
+            return false;
+        }
+        executor.execute(() -> runOnce(slot));
+        return true;
+    }
+
+    /**
+     * Snapshot of every job, in the order scheduled
+     */
+    public synchronized List<JobStatus> getStatus() {
+        List<JobStatus> out = new ArrayList<>(jobs.size());
+        for (Slot slot : jobs.values()) {
+            out.add(slot.snapshot());
+        }
+        return out;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleFromConfig(MaintenanceJob job, int defaultMinutes, int initialMinutes) {
+        int minutes = EnvironmentConfig.getJobIntervalMinutes(job.getName(), defaultMinutes);
+        if (minutes > 0) {
+            schedule(job, Duration.ofMinutes(minutes), Duration.ofMinutes(Math.min(initialMinutes, minutes)));
+        }
+    }
+
+    private void scheduleAfter(Slot slot, long delayMillis) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        slot.scheduled(LocalDateTime.now().plus(Duration.ofMillis(delayMillis)));
+        executor.schedule(() -> {
+            try {
+                runOnce(slot);
+            } finally {
+                scheduleAfter(slot, jitter(slot.nextDelayMillis()));
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void runOnce(Slot slot) {
+        String name = slot.job.getName();
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        if (!slot.inFlight.compareAndSet(false, true)) {
+            slot.skipped();
+            metrics.counter("job." + name + ".skipped").increment();
+            return;
+        }
+        long start = System.nanoTime();
+        try (Connection lockConn = DatabaseHelper.getInstance().getConnection()) {
+            if (!acquire(lockConn, name)) {
+                slot.skipped();
+                metrics.counter("job." + name + ".skipped").increment();
+                Log.debug("MaintenanceScheduler.run", null, "Job " + name + " is running elsewhere; skipped");
+                return;
+            }
+            try (LatencyHistogram.Sample sample = metrics.time("job." + name);
+                 SqlTracer.Action sql = SqlTracer.getInstance().beginAction("job." + name)) {
+                int items = slot.job.run();
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                slot.succeeded(items, millis);
+                Log.info("MaintenanceScheduler.run", null, "Job " + name + " processed " + items + " in " + millis + " ms");
+            } finally {
+                release(lockConn, name);
+            }
+        } catch (Exception e) {
+            int failures = slot.failed(e, (System.nanoTime() - start) / 1_000_000);
+            metrics.counter("job." + name + ".failed").increment();
+            Log.error("MaintenanceScheduler.run", null, "Job " + name + " failed (" + failures + " in a row)", e);
+        } finally {
+            slot.inFlight.set(false);
+        }
+    }
+
+    private static boolean acquire(Connection conn, String name) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_PREFIX + name);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    /**
+     * Release the job's named lock. Named locks belong to the database session, so
+     * if the release fails the physical connection is closed rather than returned
+     * to the pool still holding the lock.
+     */
+    private static void release(Connection conn, String name) {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_PREFIX + name);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            Log.warn("MaintenanceScheduler.release", null, "Could not release lock for job " + name + "; dropping its connection", e);
+            try {
+                conn.unwrap(Connection.class).close();
+            } catch (SQLException ignored) {
+                // Already broken; the pool discards closed connections
+            }
+        }
+    }
+
+    /** Spread a delay by +/-JITTER, at least one second. */
+    static long jitter(long millis) {
+        double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Math.max(1000, Math.round(millis * factor));
+    }
+
+    /**
+     * Point-in-time state of one job
+     */
+    public static final class JobStatus {
+        private final String name;
+        private final long intervalMinutes;
+        private final int runs;
+        private final int consecutiveFailures;
+        private final int skipped;
+        private final LocalDateTime lastRun;
+        private final long lastMillis;
+        private final int lastItems;
+        private final String lastError;
+        private final LocalDateTime nextRun;
+
+        JobStatus(String name, long intervalMinutes, int runs, int consecutiveFailures, int skipped,
+                  LocalDateTime lastRun, long lastMillis, int lastItems, String lastError, LocalDateTime nextRun) {
+            this.name = name;
+            this.intervalMinutes = intervalMinutes;
+            this.runs = runs;
+            this.consecutiveFailures = consecutiveFailures;
+            this.skipped = skipped;
+            this.lastRun = lastRun;
+            this.lastMillis = lastMillis;
+            this.lastItems = lastItems;
+            this.lastError = lastError;
+            this.nextRun = nextRun;
+        }
+
+        public String getName() { return name; }
+        public long getIntervalMinutes() { return intervalMinutes; }
+        public int getRuns() { return runs; }
+        public int getConsecutiveFailures() { return consecutiveFailures; }
+        public int getSkipped() { return skipped; }
+        /** Start of the last completed run, or null if it has not run yet. */
+        public LocalDateTime getLastRun() { return lastRun; }
+        public long getLastMillis() { return lastMillis; }
+        public int getLastItems() { return lastItems; }
+        /** Message of the last failure, or null if the last run succeeded. */
+        public String getLastError() { return lastError; }
+        public LocalDateTime getNextRun() { return nextRun; }
+    }
+
+    /**
+     * A scheduled job and its run history
+     */
+    private static final class Slot {
+        private final MaintenanceJob job;
+        private final long intervalMillis;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private int runs;
+        private int failures;
+        private int skipped;
+        private LocalDateTime lastRun;
+        private long lastMillis;
+        private int lastItems;
+        private String lastError;
+        private LocalDateTime nextRun;
+
+        Slot(MaintenanceJob job, long intervalMillis) {
+            this.job = job;
+            this.intervalMillis = intervalMillis;
+        }
+
+        synchronized void scheduled(LocalDateTime at) {
+            nextRun = at;
+        }
+
+        synchronized void skipped() {
+            skipped++;
+        }
+
+        synchronized void succeeded(int items, long millis) {
+            runs++;
+            failures = 0;
+            lastRun = LocalDateTime.now().minus(Duration.ofMillis(millis));
+            lastMillis = millis;
+            lastItems = items;
+            lastError = null;
+        }
+
+        synchronized int failed(Exception e, long millis) {
+            runs++;
+            lastRun = LocalDateTime.now().minus(Duration.ofMillis(millis));
+            lastMillis = millis;
+            lastItems = 0;
+            lastError = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return ++failures;
+        }
+
+        /** Interval after a success; 1 min, 2 min, 4 min ... up to four intervals after failures. */
+        synchronized long nextDelayMillis() {
+            if (failures == 0) {
+                return intervalMillis;
+            }
+            long backoff = RETRY_BASE_MILLIS << Math.min(20, failures - 1);
+            return Math.min(backoff, intervalMillis * 4);
+        }
+
+        synchronized JobStatus snapshot() {
+            return new JobStatus(job.getName(), intervalMillis / 60_000, runs, failures, skipped,
+                lastRun, lastMillis, lastItems, lastError, nextRun);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.forgegrid.maintenance;
+
+import com.forgegrid.service.XpRollupService;
+
+/**
+ * Backfills the hourly/daily/weekly XP buckets of users who have history but
+ * no buckets yet (a batch per run), and prunes expired hourly buckets.
+ */
+public class XpRollupJob implements MaintenanceJob {
+
+    private static final int BATCH_USERS = 200;
+
+    private final XpRollupService rollups;
+
+    public XpRollupJob(XpRollupService rollups) {
+        this.rollups = rollups;
+    }
+
+    @Override
+    public String getName() {
+        return "rollups";
+    }
+
+    @Override
+    public int run() throws Exception {
+        int built = rollups.backfill(BATCH_USERS);
+        rollups.pruneHourly();
+        return built;
+    }
+}
@@ -0,0 +1,24 @@
+package com.forgegrid.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter, cheap under contention.
+ */
+public class Counter implements CounterMXBean {
+
+    private final LongAdder count = new LongAdder();
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long n) {
+        count.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+}
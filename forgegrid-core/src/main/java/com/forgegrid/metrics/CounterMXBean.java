@@ -0,0 +1,8 @@
+package com.forgegrid.metrics;
+
+/**
+ * JMX view of a counter.
+ */
+public interface CounterMXBean {
+    long getCount();
+}
@@ -0,0 +1,24 @@
+package com.forgegrid.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Point-in-time value read on demand (pool sizes, queue depths).
+ */
+public class Gauge implements GaugeMXBean {
+
+    private final LongSupplier supplier;
+
+    public Gauge(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public long getValue() {
+        try {
+            return supplier.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
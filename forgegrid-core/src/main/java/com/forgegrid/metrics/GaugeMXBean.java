@@ -0,0 +1,8 @@
+package com.forgegrid.metrics;
+
+/**
+ * JMX view of a gauge.
+ */
+public interface GaugeMXBean {
+    long getValue();
+}
@@ -0,0 +1,143 @@
+package com.forgegrid.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram (HDR-style).
+ * Each power of two is split into 32 sub-buckets, so any recorded value is
+ * reported within about 3% of its true value while the whole histogram is a
+ * fixed array of ~1,900 counters regardless of how many samples it holds.
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2;
+    private static final int BUCKETS = LINEAR_LIMIT + (63 - SUB_BITS - 1) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record one latency sample
+     *
+     * @param nanos Duration in nanoseconds (negative values count as zero)
+     */
+    public void recordNanos(long nanos) {
+        long v = Math.max(0, nanos);
+        counts.incrementAndGet(indexFor(v));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(v);
+        maxNanos.accumulateAndGet(v, Math::max);
+    }
+
+    @Override
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long n = totalCount.get();
+        return n == 0 ? 0 : (double) totalNanos.get() / n;
+    }
+
+    /**
+     * Value at the given percentile
+     *
+     * @param percentile 0..100, e.g. 99.9
+     * @return Upper bound of the bucket holding that percentile, in nanoseconds
+     */
+    public long getPercentileNanos(double percentile) {
+        long n = totalCount.get();
+        if (n == 0) return 0;
+        long rank = (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * n);
+        rank = Math.max(1, rank);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Time a block of work and record its duration
+     *
+     * @return Handle whose close() records the elapsed time
+     */
+    public Sample start() {
+        return new Sample(this, System.nanoTime());
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return getMeanNanos() / 1e6;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return getPercentileNanos(50) / 1e6;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return getPercentileNanos(99) / 1e6;
+    }
+
+    @Override
+    public double getP999Millis() {
+        return getPercentileNanos(99.9) / 1e6;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return getMaxNanos() / 1e6;
+    }
+
+    static int indexFor(long v) {
+        if (v < LINEAR_LIMIT) {
+            return (int) v;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(v);
+        int shift = magnitude - SUB_BITS;
+        int sub = (int) (v >>> shift) - SUB_COUNT;
+        return LINEAR_LIMIT + (magnitude - SUB_BITS - 1) * SUB_COUNT + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int rel = index - LINEAR_LIMIT;
+        int shift = rel / SUB_COUNT + 1;
+        long sub = rel % SUB_COUNT + SUB_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * In-flight measurement; use with try-with-resources
+     */
+    public static final class Sample implements AutoCloseable {
+        private final LatencyHistogram histogram;
+        private final long startNanos;
+
+        Sample(LatencyHistogram histogram, long startNanos) {
+            this.histogram = histogram;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            histogram.recordNanos(System.nanoTime() - startNanos);
+        }
+    }
+}
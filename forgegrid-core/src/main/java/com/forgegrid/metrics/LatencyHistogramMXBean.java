@@ -0,0 +1,13 @@
+package com.forgegrid.metrics;
+
+/**
+ * JMX view of a latency histogram (all times in milliseconds).
+ */
+public interface LatencyHistogramMXBean {
+    long getCount();
+    double getMeanMillis();
+    double getP50Millis();
+    double getP99Millis();
+    double getP999Millis();
+    double getMaxMillis();
+}
@@ -0,0 +1,123 @@
+package com.forgegrid.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide registry of named counters, gauges and latency histograms.
+ * Every metric is also registered with the platform MBean server under
+ * com.forgegrid:type=&lt;Latency|Counter|Gauge&gt;,name=&lt;metric name&gt;
+ * so it can be inspected live with jconsole/VisualVM.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {}
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get or create a latency histogram
+     *
+     * @param name Metric name, e.g. "service.LevelService.addXP"
+     */
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram h = histograms.get(name);
+        if (h != null) return h;
+        return histograms.computeIfAbsent(name, n -> register("Latency", n, new LatencyHistogram()));
+    }
+
+    /**
+     * Get or create a counter
+     */
+    public Counter counter(String name) {
+        Counter c = counters.get(name);
+        if (c != null) return c;
+        return counters.computeIfAbsent(name, n -> register("Counter", n, new Counter()));
+    }
+
+    /**
+     * Register (or replace) a gauge read from the given supplier
+     */
+    public Gauge gauge(String name, LongSupplier supplier) {
+        Gauge g = new Gauge(supplier);
+        gauges.put(name, g);
+        return register("Gauge", name, g);
+    }
+
+    /**
+     * Start timing under the given histogram name; close the result to record
+     */
+    public LatencyHistogram.Sample time(String name) {
+        return histogram(name).start();
+    }
+
+    /**
+     * Copy of all current values, sorted by name.
+     * Histograms become maps of count/mean/p50/p99/p999/max in milliseconds.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (Map.Entry<String, Counter> e : new TreeMap<>(counters).entrySet()) {
+            out.put(e.getKey(), e.getValue().getCount());
+        }
+        for (Map.Entry<String, Gauge> e : new TreeMap<>(gauges).entrySet()) {
+            out.put(e.getKey(), e.getValue().getValue());
+        }
+        for (Map.Entry<String, LatencyHistogram> e : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram h = e.getValue();
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", h.getCount());
+            m.put("meanMs", round(h.getMeanMillis()));
+            m.put("p50Ms", round(h.getP50Millis()));
+            m.put("p99Ms", round(h.getP99Millis()));
+            m.put("p999Ms", round(h.getP999Millis()));
+            m.put("maxMs", round(h.getMaxMillis()));
+            out.put(e.getKey(), m);
+        }
+        return out;
+    }
+
+    Map<String, LatencyHistogram> histograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    Map<String, Counter> counters() {
+        return new TreeMap<>(counters);
+    }
+
+    Map<String, Gauge> gauges() {
+        return new TreeMap<>(gauges);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000.0) / 1000.0;
+    }
+
+    private static <T> T register(String type, String name, T bean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("com.forgegrid:type=" + type + ",name=" + ObjectName.quote(name));
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(bean, objectName);
+        } catch (Exception | LinkageError e) {
+            // JMX is optional; the metric still works without it
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,77 @@
+package com.forgegrid.metrics;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.log.Log;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes a metrics table to the log.
+ * Enabled by FORGEGRID_METRICS_LOG_SECONDS (0 or unset = off).
+ */
+public class MetricsReporter {
+
+    private static ScheduledExecutorService scheduler;
+
+    private MetricsReporter() {}
+
+    /**
+     * Start the periodic reporter if FORGEGRID_METRICS_LOG_SECONDS is set; safe to call more than once
+     */
+    public static synchronized void startFromConfig() {
+        int seconds = EnvironmentConfig.getMetricsLogSeconds();
+        if (seconds <= 0 || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "forgegrid-metrics-reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(
+            () -> Log.info("MetricsReporter.report", null, format()), seconds, seconds, TimeUnit.SECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Print every registered metric (command-line tools; the periodic reporter logs instead)
+     *
+     * @param out Destination
+     */
+    public static void report(PrintStream out) {
+        out.print(format());
+    }
+
+    /**
+     * Every registered metric as a fixed-width table
+     */
+    public static String format() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        StringBuilder sb = new StringBuilder(1024);
+        sb.append(String.format("%n%-48s %9s %9s %9s %9s %9s %9s%n",
+            "metric", "count", "mean ms", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (Map.Entry<String, LatencyHistogram> e : registry.histograms().entrySet()) {
+            LatencyHistogram h = e.getValue();
+            sb.append(String.format("%-48s %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                e.getKey(), h.getCount(), h.getMeanMillis(), h.getP50Millis(),
+                h.getP99Millis(), h.getP999Millis(), h.getMaxMillis()));
+        }
+        for (Map.Entry<String, Counter> e : registry.counters().entrySet()) {
+            sb.append(String.format("%-48s %9d%n", e.getKey(), e.getValue().getCount()));
+        }
+        for (Map.Entry<String, Gauge> e : registry.gauges().entrySet()) {
+            sb.append(String.format("%-48s %9d (gauge)%n", e.getKey(), e.getValue().getValue()));
+        }
+        return sb.toString();
+    }
+}
@@ -1,15 +1,19 @@
 package com.forgegrid.model;
 
+import java.util.List;
+
 /**
  * Simple POJO representing a hardcoded task
  */
 public class HardcodedTask {
+    private int id = -1;
     private String taskName;
     private String description;
     private String language;
     private String level;
     private int xpReward;
     private int estimatedMinutes;
+    private List<String> tags = List.of();
     
     public HardcodedTask(String taskName, String description, String language, 
                          String level, int xpReward, int estimatedMinutes) {
@@ -21,7 +25,31 @@ public class HardcodedTask {
         this.estimatedMinutes = estimatedMinutes;
     }
     
+    /**
+     * Copy of this task carrying its catalog ID
+     */
+    public HardcodedTask withId(int id) {
+        HardcodedTask copy = new HardcodedTask(taskName, description, language, level, xpReward, estimatedMinutes);
+        copy.id = id;
+        copy.tags = tags;
+        return copy;
+    }
+    
+    /**
+     * Copy of this task carrying the given topic tags
+     */
+    public HardcodedTask withTags(List<String> tags) {
+        HardcodedTask copy = withId(id);
+        copy.tags = List.copyOf(tags);
+        return copy;
+    }
+    
     // Getters
+    /** Stable catalog ID (see TaskCatalog), or -1 if the task is not from the catalog. */
+    public int getId() {
+        return id;
+    }
+    
     public String getTaskName() {
         return taskName;
     }
@@ -46,6 +74,11 @@ public class HardcodedTask {
         return estimatedMinutes;
     }
     
+    /** Topic tags (see TaskTopics), empty if the task is not from the catalog. */
+    public List<String> getTags() {
+        return tags;
+    }
+    
     @Override
     public String toString() {
         return taskName + " (" + language + " - " + level + ")";
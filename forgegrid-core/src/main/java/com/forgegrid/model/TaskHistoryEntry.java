@@ -9,13 +9,19 @@ public class TaskHistoryEntry {
     public int xpEarned;
     public String status; // "completed" or "skipped"
     public String timestamp;
+    public String cursor; // pass as "before" to get the entries after this one
     
     public TaskHistoryEntry(String taskName, int timeTaken, int xpEarned, String status, String timestamp) {
+        this(taskName, timeTaken, xpEarned, status, timestamp, null);
+    }
+    
+    public TaskHistoryEntry(String taskName, int timeTaken, int xpEarned, String status, String timestamp, String cursor) {
         this.taskName = taskName;
         this.timeTaken = timeTaken;
         this.xpEarned = xpEarned;
         this.status = status;
         this.timestamp = timestamp;
+        this.cursor = cursor;
     }
 }
 
@@ -0,0 +1,40 @@
+package com.forgegrid.model;
+
+/**
+ * Per-user totals read from the user_stats summary table.
+ */
+public class UserStats {
+    private final int completedCount;
+    private final int skippedCount;
+    private final int totalXp;
+    private final int netXp;
+    private final int goatedOpen;
+    private final int goatedDone;
+    private final java.sql.Timestamp lastActivity;
+
+    public UserStats(int completedCount, int skippedCount, int totalXp, int netXp,
+                     int goatedOpen, int goatedDone, java.sql.Timestamp lastActivity) {
+        this.completedCount = completedCount;
+        this.skippedCount = skippedCount;
+        this.totalXp = totalXp;
+        this.netXp = netXp;
+        this.goatedOpen = goatedOpen;
+        this.goatedDone = goatedDone;
+        this.lastActivity = lastActivity;
+    }
+
+    /** Stats for a user with no history (also used when the database is unavailable). */
+    public static UserStats empty() {
+        return new UserStats(0, 0, 0, 0, 0, 0, null);
+    }
+
+    public int getCompletedCount() { return completedCount; }
+    public int getSkippedCount() { return skippedCount; }
+    /** XP from completed tasks only. */
+    public int getTotalXp() { return totalXp; }
+    /** XP across all tasks: completed positive, skipped negative. */
+    public int getNetXp() { return netXp; }
+    public int getGoatedOpen() { return goatedOpen; }
+    public int getGoatedDone() { return goatedDone; }
+    public java.sql.Timestamp getLastActivity() { return lastActivity; }
+}
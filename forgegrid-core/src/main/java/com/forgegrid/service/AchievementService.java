@@ -0,0 +1,406 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Achievements unlocked by task-completed and task-skipped events.
+ *
+ * Each rule in {@link #RULES} names a counter and the value that unlocks it.
+ * An event updates the counters (current run, tasks today, day streak, days
+ * without a skip, total) in O(1) and checks only the rules that are still
+ * locked, so showing achievements never walks the task history.
+ *
+ * Counters and unlocks live in user_achievements, one row per user with a
+ * bitmask of unlocked rules, written in the same transaction as the user_tasks
+ * row. A user without a row is seeded once by replaying their history
+ * (user_tasks and its archive) through the same counters.
+ */
+public class AchievementService {
+
+    /** What happened to a task. */
+    public enum Event { COMPLETED, SKIPPED }
+
+    /** Rolling counters rules can be declared against. */
+    public enum Counter {
+        /** Completions since the last skip. */
+        IN_A_ROW,
+        /** Completions today. */
+        IN_ONE_DAY,
+        /** Consecutive days with at least one completion, up to today or yesterday. */
+        DAY_STREAK,
+        /** Like DAY_STREAK, but a skip resets it. */
+        CLEAN_DAYS,
+        /** All completions. */
+        TOTAL
+    }
+
+    /**
+     * Receives unlocks after the write commits, on the writer's thread; UI listeners must hop to the EDT
+     */
+    public interface Listener {
+        void onUnlocked(String username, List<Rule> unlocked);
+    }
+
+    /** Badge definitions; a rule's bit is its position in the unlocked mask and must never be reused. */
+    private static final List<Rule> RULES = List.of(
+        new Rule(0, "🏆", "Consistency King", "Complete 7 tasks in a row", Counter.IN_A_ROW, 7),
+        new Rule(1, "🔥", "Week Warrior", "7-day completion streak", Counter.DAY_STREAK, 7),
+        new Rule(2, "🚀", "Fast Finisher", "Complete 5 tasks in one day", Counter.IN_ONE_DAY, 5),
+        new Rule(3, "💎", "Perfectionist", "30 days in a row without a skip", Counter.CLEAN_DAYS, 30),
+        new Rule(4, "S", "Streak Master", "30-day completion streak", Counter.DAY_STREAK, 30),
+        new Rule(5, "XP", "Task Legend", "Complete 100 total tasks", Counter.TOTAL, 100)
+    );
+
+    private static final String COLUMNS =
+        "unlocked, total_completed, run_length, day_count, day_streak, last_active, clean_days, last_clean";
+
+    private static final AchievementService INSTANCE = new AchievementService();
+
+    private final DatabaseHelper dbHelper;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private AchievementService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createUserAchievementsTable();
+    }
+
+    public static AchievementService getInstance() {
+        return INSTANCE;
+    }
+
+    private void createUserAchievementsTable() {
+        String createTableSQL =
+            "CREATE TABLE IF NOT EXISTS user_achievements (" +
+            "username VARCHAR(100) PRIMARY KEY, " +
+            "unlocked BIGINT NOT NULL DEFAULT 0, " +
+            "total_completed INT NOT NULL DEFAULT 0, " +
+            "run_length INT NOT NULL DEFAULT 0, " +
+            "day_count INT NOT NULL DEFAULT 0, " +
+            "day_streak INT NOT NULL DEFAULT 0, " +
+            "last_active DATE NULL, " +
+            "clean_days INT NOT NULL DEFAULT 0, " +
+            "last_clean DATE NULL, " +
+            "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP" +
+            ")";
+        try (Connection conn = dbHelper.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(createTableSQL);
+        } catch (SQLException e) {
+            Log.error("AchievementService.createUserAchievementsTable", null, "Error creating user_achievements table", e);
+        }
+    }
+
+    /** Every rule, in display order. */
+    public static List<Rule> getRules() {
+        return RULES;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Apply an event as part of the caller's transaction; call {@link #publish}
+     * with the result after the transaction commits. A user without a row is
+     * seeded from history instead, which already includes the caller's change.
+     *
+     * @param conn Connection holding the caller's transaction
+     * @param username Username
+     * @param event What happened
+     * @return Rules unlocked by this event (empty if none)
+     */
+    List<Rule> record(Connection conn, String username, Event event) throws SQLException {
+        State state = select(conn, username, true);
+        long before;
+        if (state == null) {
+            state = replay(conn, username);
+            before = 0;
+        } else {
+            before = state.unlocked;
+            state.apply(event, LocalDate.now());
+        }
+        upsert(conn, username, state);
+        return rulesIn(state.unlocked & ~before);
+    }
+
+    /**
+     * Re-derive the counters from history as part of the caller's transaction,
+     * after the caller removed a finished task. Badges already unlocked stay
+     * unlocked.
+     */
+    void recordRemoval(Connection conn, String username) throws SQLException {
+        State before = select(conn, username, true);
+        State state = replay(conn, username);
+        if (before != null) {
+            state.unlocked |= before.unlocked;
+        }
+        upsert(conn, username, state);
+    }
+
+    /**
+     * Tell listeners about committed unlocks (no-op if there are none)
+     */
+    void publish(String username, List<Rule> unlocked) {
+        if (unlocked == null || unlocked.isEmpty()) {
+            return;
+        }
+        Log.info("AchievementService.publish", username, "Unlocked " + unlocked.size() + " achievement(s)");
+        for (Listener listener : listeners) {
+            try {
+                listener.onUnlocked(username, unlocked);
+            } catch (RuntimeException e) {
+                Log.warn("AchievementService.publish", username, "Achievement listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Every rule with the user's progress towards it (one primary-key read)
+     *
+     * @return One entry per rule in display order; all locked if the lookup failed
+     */
+    public List<Progress> getAchievements(String username) {
+        State state = null;
+        try (Connection conn = dbHelper.getConnection()) {
+            state = select(conn, username, false);
+            if (state == null) {
+                conn.setAutoCommit(false);
+                state = replay(conn, username);
+                upsert(conn, username, state);
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            Log.error("AchievementService.getAchievements", username, "Error loading achievements", e);
+        }
+        if (state == null) {
+            state = new State();
+        }
+        LocalDate today = LocalDate.now();
+        List<Progress> out = new ArrayList<>(RULES.size());
+        for (Rule rule : RULES) {
+            out.add(new Progress(rule, (state.unlocked & rule.mask()) != 0, state.value(rule.counter, today)));
+        }
+        return out;
+    }
+
+    private static State select(Connection conn, String username, boolean forUpdate) throws SQLException {
+        String selectSQL = "SELECT " + COLUMNS + " FROM user_achievements WHERE username = ?" + (forUpdate ? " FOR UPDATE" : "");
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                State state = new State();
+                state.unlocked = rs.getLong("unlocked");
+                state.total = rs.getInt("total_completed");
+                state.run = rs.getInt("run_length");
+                state.dayCount = rs.getInt("day_count");
+                state.streak = rs.getInt("day_streak");
+                state.lastActive = toLocalDate(rs.getDate("last_active"));
+                state.clean = rs.getInt("clean_days");
+                state.lastClean = toLocalDate(rs.getDate("last_clean"));
+                return state;
+            }
+        }
+    }
+
+    /**
+     * Run the user's finished tasks through the counters in time order
+     */
+    private static State replay(Connection conn, String username) throws SQLException {
+        String selectSQL =
+            "SELECT status, completed_at FROM user_tasks " +
+            "WHERE username = ? AND status IN ('completed', 'skipped') AND completed_at IS NOT NULL " +
+            "UNION ALL SELECT status, completed_at FROM user_tasks_archive " +
+            "WHERE username = ? AND completed_at IS NOT NULL " +
+            "ORDER BY completed_at";
+        State state = new State();
+        int events = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Timestamp at = rs.getTimestamp("completed_at");
+                    Event event = "completed".equals(rs.getString("status")) ? Event.COMPLETED : Event.SKIPPED;
+                    state.apply(event, at.toLocalDateTime().toLocalDate());
+                    events++;
+                }
+            }
+        }
+        if (events > 0) {
+            Log.info("AchievementService.replay", username, "Seeded achievements from " + events + " tasks");
+        }
+        return state;
+    }
+
+    private static void upsert(Connection conn, String username, State state) throws SQLException {
+        String sql =
+            "INSERT INTO user_achievements (username, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE unlocked = VALUES(unlocked), total_completed = VALUES(total_completed), " +
+            "run_length = VALUES(run_length), day_count = VALUES(day_count), day_streak = VALUES(day_streak), " +
+            "last_active = VALUES(last_active), clean_days = VALUES(clean_days), last_clean = VALUES(last_clean)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, username);
+            pstmt.setLong(2, state.unlocked);
+            pstmt.setInt(3, state.total);
+            pstmt.setInt(4, state.run);
+            pstmt.setInt(5, state.dayCount);
+            pstmt.setInt(6, state.streak);
+            pstmt.setDate(7, state.lastActive != null ? Date.valueOf(state.lastActive) : null);
+            pstmt.setInt(8, state.clean);
+            pstmt.setDate(9, state.lastClean != null ? Date.valueOf(state.lastClean) : null);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static List<Rule> rulesIn(long mask) {
+        if (mask == 0) {
+            return Collections.emptyList();
+        }
+        List<Rule> out = new ArrayList<>();
+        for (Rule rule : RULES) {
+            if ((mask & rule.mask()) != 0) {
+                out.add(rule);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * One user's counters and unlocked mask
+     */
+    static final class State {
+        long unlocked;
+        int total;
+        int run;
+        int dayCount;
+        int streak;
+        LocalDate lastActive;
+        int clean;
+        LocalDate lastClean;
+
+        /**
+         * Update the counters for one event on the given day, then unlock any
+         * locked rule whose counter reached its target
+         */
+        void apply(Event event, LocalDate day) {
+            if (event == Event.COMPLETED) {
+                total++;
+                run++;
+                if (!day.equals(lastActive)) {
+                    streak = day.minusDays(1).equals(lastActive) ? streak + 1 : 1;
+                    dayCount = 0;
+                    lastActive = day;
+                }
+                dayCount++;
+                if (!day.equals(lastClean)) {
+                    clean = day.minusDays(1).equals(lastClean) ? clean + 1 : 1;
+                    lastClean = day;
+                }
+            } else {
+                run = 0;
+                // Today no longer counts; the next clean day starts over at 1
+                clean = 0;
+                lastClean = day;
+            }
+            for (Rule rule : RULES) {
+                if ((unlocked & rule.mask()) == 0 && value(rule.counter, day) >= rule.target) {
+                    unlocked |= rule.mask();
+                }
+            }
+        }
+
+        /**
+         * Counter as of the given day: day counts and streaks that lapsed read 0
+         */
+        int value(Counter counter, LocalDate today) {
+            switch (counter) {
+                case IN_A_ROW: return run;
+                case IN_ONE_DAY: return today.equals(lastActive) ? dayCount : 0;
+                case DAY_STREAK: return current(lastActive, today) ? streak : 0;
+                case CLEAN_DAYS: return current(lastClean, today) ? clean : 0;
+                default: return total;
+            }
+        }
+
+        private static boolean current(LocalDate last, LocalDate today) {
+            return last != null && !last.isBefore(today.minusDays(1));
+        }
+    }
+
+    /**
+     * One badge: unlocked once its counter reaches the target (immutable)
+     */
+    public static final class Rule {
+        private final int bit;
+        private final String icon;
+        private final String title;
+        private final String description;
+        private final Counter counter;
+        private final int target;
+
+        Rule(int bit, String icon, String title, String description, Counter counter, int target) {
+            this.bit = bit;
+            this.icon = icon;
+            this.title = title;
+            this.description = description;
+            this.counter = counter;
+            this.target = target;
+        }
+
+        long mask() {
+            return 1L << bit;
+        }
+
+        public String getId() { return "A" + bit; }
+        public String getIcon() { return icon; }
+        public String getTitle() { return title; }
+        public String getDescription() { return description; }
+        public Counter getCounter() { return counter; }
+        public int getTarget() { return target; }
+    }
+
+    /**
+     * A rule and where one user stands on it
+     */
+    public static final class Progress {
+        private final Rule rule;
+        private final boolean unlocked;
+        private final int value;
+
+        Progress(Rule rule, boolean unlocked, int value) {
+            this.rule = rule;
+            this.unlocked = unlocked;
+            this.value = value;
+        }
+
+        public Rule getRule() { return rule; }
+        public boolean isUnlocked() { return unlocked; }
+        /** Current counter value; may be below the target once unlocked (e.g. a streak that ended). */
+        public int getValue() { return value; }
+    }
+}
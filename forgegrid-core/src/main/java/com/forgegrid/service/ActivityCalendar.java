@@ -0,0 +1,284 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+/**
+ * Per-user daily activity: which days had a completed task, how many, and
+ * the current and longest streaks.
+ *
+ * Each user has one user_activity row holding a small blob: a bit per day for
+ * the last {@link #BIT_DAYS} days and a one-byte count per day for the last
+ * {@link #COUNT_DAYS}, both ring buffers indexed by epoch day, plus the
+ * streak counters. Widgets load it with a single primary-key read and every
+ * question (streaks, tasks today, last-7-days histogram) is answered from the
+ * blob without touching user_tasks. Completions update it in the writer's
+ * transaction; a missing row is rebuilt once from user_tasks and its archive.
+ */
+public class ActivityCalendar {
+
+    /** Days covered by the activity bits (about a year, whole bytes). */
+    static final int BIT_DAYS = 384;
+    /** Days covered by the per-day counts; counts saturate at 255. */
+    static final int COUNT_DAYS = 64;
+
+    private static final byte VERSION = 1;
+    /** version, last day, streak, longest, bits, counts */
+    static final int BLOB_BYTES = 1 + 4 + 4 + 4 + BIT_DAYS / 8 + COUNT_DAYS;
+
+    private static volatile boolean tableReady = false;
+
+    private final DatabaseHelper dbHelper;
+
+    public ActivityCalendar() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createUserActivityTable();
+    }
+
+    private void createUserActivityTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (ActivityCalendar.class) {
+            if (tableReady) {
+                return;
+            }
+            String createTableSQL =
+                "CREATE TABLE IF NOT EXISTS user_activity (" +
+                "username VARCHAR(100) PRIMARY KEY, " +
+                "calendar VARBINARY(" + BLOB_BYTES + ") NOT NULL, " +
+                "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP" +
+                ")";
+            try (Connection conn = dbHelper.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute(createTableSQL);
+                tableReady = true;
+            } catch (SQLException e) {
+                Log.error("ActivityCalendar.createUserActivityTable", null, "Error creating user_activity table", e);
+            }
+        }
+    }
+
+    /**
+     * Load the user's calendar with a single primary-key read (rebuilt from
+     * history the first time)
+     *
+     * @return Calendar; empty if the user has no activity or the read failed
+     */
+    public Days load(String username) {
+        try (Connection conn = dbHelper.getConnection()) {
+            Days days = select(conn, username, false);
+            if (days == null) {
+                conn.setAutoCommit(false);
+                days = rebuild(conn, username);
+                upsert(conn, username, days);
+                conn.commit();
+            }
+            return days;
+        } catch (SQLException e) {
+            Log.error("ActivityCalendar.load", username, "Error loading activity calendar", e);
+        }
+        return new Days();
+    }
+
+    /**
+     * Count a completion today as part of the caller's transaction. A user
+     * without a row is rebuilt from history instead, which already includes
+     * the caller's change.
+     */
+    void recordCompletion(Connection conn, String username) throws SQLException {
+        Days days = select(conn, username, true);
+        if (days == null) {
+            days = rebuild(conn, username);
+        } else {
+            days.add(LocalDate.now(), 1);
+        }
+        upsert(conn, username, days);
+    }
+
+    /**
+     * Rebuild the calendar from history as part of the caller's transaction,
+     * after the caller removed a completion (day counts cannot be decremented
+     * once they fall out of the count window)
+     */
+    void recordRemoval(Connection conn, String username) throws SQLException {
+        select(conn, username, true);
+        upsert(conn, username, rebuild(conn, username));
+    }
+
+    private static Days select(Connection conn, String username, boolean forUpdate) throws SQLException {
+        String selectSQL = "SELECT calendar FROM user_activity WHERE username = ?" + (forUpdate ? " FOR UPDATE" : "");
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? Days.decode(rs.getBytes("calendar")) : null;
+            }
+        }
+    }
+
+    /**
+     * Replay every completion, oldest first, one day at a time
+     */
+    private static Days rebuild(Connection conn, String username) throws SQLException {
+        String selectSQL =
+            "SELECT DATE(completed_at) AS day, COUNT(*) AS n FROM (" +
+            "SELECT completed_at FROM user_tasks WHERE username = ? AND status = 'completed' AND completed_at IS NOT NULL " +
+            "UNION ALL SELECT completed_at FROM user_tasks_archive WHERE username = ? AND status = 'completed' AND completed_at IS NOT NULL" +
+            ") done GROUP BY DATE(completed_at) ORDER BY day";
+        Days days = new Days();
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    days.add(rs.getDate("day").toLocalDate(), rs.getInt("n"));
+                }
+            }
+        }
+        return days;
+    }
+
+    private static void upsert(Connection conn, String username, Days days) throws SQLException {
+        String sql = "INSERT INTO user_activity (username, calendar) VALUES (?, ?) ON DUPLICATE KEY UPDATE calendar = VALUES(calendar)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, username);
+            pstmt.setBytes(2, days.encode());
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * One user's activity: day bits, day counts and streaks. Every query is O(1)
+     * in the length of the history (at most {@link #BIT_DAYS} steps).
+     */
+    public static final class Days {
+        private static final long NONE = Long.MIN_VALUE;
+
+        /** Epoch day of the newest active day, or NONE. */
+        private long lastDay = NONE;
+        /** Length of the run of active days ending at lastDay. */
+        private int streak;
+        private int longest;
+        private final byte[] bits = new byte[BIT_DAYS / 8];
+        private final byte[] counts = new byte[COUNT_DAYS];
+
+        Days() {}
+
+        /**
+         * Count completions on a day. Days older than the newest one only update
+         * the bits and counts (history replays in order, so streaks stay exact).
+         */
+        void add(LocalDate date, int completions) {
+            long day = date.toEpochDay();
+            if (lastDay == NONE || day > lastDay) {
+                if (lastDay != NONE) {
+                    clearAfter(lastDay, day);
+                }
+                streak = lastDay != NONE && day == lastDay + 1 ? streak + 1 : 1;
+                longest = Math.max(longest, streak);
+                lastDay = day;
+            } else if (day <= lastDay - BIT_DAYS) {
+                return;
+            }
+            int bit = bitSlot(day);
+            bits[bit >> 3] |= (byte) (1 << (bit & 7));
+            if (day > lastDay - COUNT_DAYS) {
+                int slot = countSlot(day);
+                counts[slot] = (byte) Math.min(255, (counts[slot] & 0xFF) + completions);
+            }
+        }
+
+        /** Empty the ring slots of the days between the old newest day and the new one. */
+        private void clearAfter(long from, long to) {
+            for (long d = from + 1; d <= to && d <= from + BIT_DAYS; d++) {
+                int bit = bitSlot(d);
+                bits[bit >> 3] &= (byte) ~(1 << (bit & 7));
+                if (d <= from + COUNT_DAYS) {
+                    counts[countSlot(d)] = 0;
+                }
+            }
+        }
+
+        /** Whether any task was completed on the day (false beyond the kept window). */
+        public boolean isActive(LocalDate date) {
+            long day = date.toEpochDay();
+            if (lastDay == NONE || day > lastDay || day <= lastDay - BIT_DAYS) {
+                return false;
+            }
+            int bit = bitSlot(day);
+            return (bits[bit >> 3] & (1 << (bit & 7))) != 0;
+        }
+
+        /** Tasks completed on the day (0 beyond the kept window, at most 255). */
+        public int tasksOn(LocalDate date) {
+            long day = date.toEpochDay();
+            if (lastDay == NONE || day > lastDay || day <= lastDay - COUNT_DAYS) {
+                return 0;
+            }
+            return counts[countSlot(day)] & 0xFF;
+        }
+
+        /** Run of active days ending today or yesterday, else 0. */
+        public int currentStreak(LocalDate today) {
+            return lastDay != NONE && lastDay >= today.toEpochDay() - 1 ? streak : 0;
+        }
+
+        public int longestStreak() {
+            return longest;
+        }
+
+        /**
+         * Tasks completed on each of the last n days, oldest first, today last
+         */
+        public int[] lastDays(LocalDate today, int n) {
+            int[] out = new int[n];
+            for (int i = 0; i < n; i++) {
+                out[i] = tasksOn(today.minusDays(n - 1 - i));
+            }
+            return out;
+        }
+
+        private static int bitSlot(long day) {
+            return (int) Math.floorMod(day, (long) BIT_DAYS);
+        }
+
+        private static int countSlot(long day) {
+            return (int) Math.floorMod(day, (long) COUNT_DAYS);
+        }
+
+        byte[] encode() {
+            ByteBuffer buf = ByteBuffer.allocate(BLOB_BYTES);
+            buf.put(VERSION);
+            buf.putInt(lastDay == NONE ? Integer.MIN_VALUE : (int) lastDay);
+            buf.putInt(streak);
+            buf.putInt(longest);
+            buf.put(bits);
+            buf.put(counts);
+            return buf.array();
+        }
+
+        /** Decode a stored blob, or null if it is not in the current format (the row is then rebuilt). */
+        static Days decode(byte[] blob) {
+            if (blob == null || blob.length != BLOB_BYTES || blob[0] != VERSION) {
+                return null;
+            }
+            Days days = new Days();
+            ByteBuffer buf = ByteBuffer.wrap(blob, 1, BLOB_BYTES - 1);
+            int last = buf.getInt();
+            days.lastDay = last == Integer.MIN_VALUE ? NONE : last;
+            days.streak = buf.getInt();
+            days.longest = buf.getInt();
+            buf.get(days.bits);
+            buf.get(days.counts);
+            return days;
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package com.forgegrid.service;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.MetricsRegistry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires reminders before goated task deadlines.
+ *
+ * Reminders sit in a {@link DelayQueue} drained by one daemon thread that
+ * blocks until the earliest one is due, so an idle scheduler costs nothing
+ * and thousands of deadlines cost O(log n) each. Lead times come from
+ * FORGEGRID_DEADLINE_REMINDERS (minutes before the deadline, default
+ * "1440,60"); a final reminder fires at the deadline itself.
+ *
+ * A user's open deadlines are loaded with one query on first use, before the
+ * user is published, and then kept current by the goated task writers
+ * ({@link #schedule} / {@link #cancel}), which also gives views the next
+ * deadline without re-sorting in SQL. Rescheduling or cancelling retires the
+ * old entry and takes its queued reminders out of the queue. Users idle for an
+ * hour with no deadline ahead are dropped and reloaded on their next use.
+ */
+public class DeadlineScheduler {
+
+    /**
+     * Receives reminders on the scheduler thread; UI listeners must hop to the EDT
+     */
+    public interface Listener {
+        void onReminder(Reminder reminder);
+    }
+
+    private static final int RECENT_PER_USER = 20;
+    private static final long IDLE_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long SWEEP_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final DeadlineScheduler INSTANCE = new DeadlineScheduler();
+
+    private final DelayQueue<Pending> queue = new DelayQueue<>();
+    private final Map<String, UserDeadlines> users = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final int[] leadMinutes = EnvironmentConfig.getDeadlineReminderMinutes();
+    private volatile long nextSweepMillis = System.currentTimeMillis() + SWEEP_MILLIS;
+    private Thread worker;
+
+    private DeadlineScheduler() {
+        MetricsRegistry.getInstance().gauge("deadlines.pending", queue::size);
+        MetricsRegistry.getInstance().gauge("deadlines.users", users::size);
+    }
+
+    public static DeadlineScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Load the user's open deadlines from the database if not already tracked
+     */
+    public void track(String username) {
+        user(username);
+    }
+
+    /**
+     * Add or move a task's deadline (call after the write commits)
+     *
+     * @param deadline New deadline; null removes the task's reminders
+     */
+    public void schedule(String username, int taskId, String title, LocalDateTime deadline) {
+        if (deadline == null) {
+            cancel(username, taskId);
+            return;
+        }
+        Entry entry = new Entry(username, taskId, title, deadline);
+        UserDeadlines user = user(username);
+        while (!user.put(entry)) {
+            user = user(username); // evicted meanwhile: load again
+        }
+        enqueue(entry, LocalDateTime.now(), true);
+    }
+
+    /**
+     * Forget the user's deadlines and load them again from the database (after
+     * their goated tasks were replaced wholesale); old queued reminders are dropped
+     */
+    public void reload(String username) {
+        UserDeadlines old = users.remove(username);
+        if (old != null) {
+            old.retireAll();
+        }
+        user(username);
+    }
+
+    /**
+     * Stop reminding about a task that was completed or deleted. Users not loaded
+     * yet are left alone: their next load reads the row as it is now.
+     */
+    public void cancel(String username, int taskId) {
+        UserDeadlines user = users.get(username);
+        if (user != null) {
+            user.remove(taskId);
+        }
+    }
+
+    /**
+     * Fire the reminder's task again after a delay, unless it is completed,
+     * deleted or rescheduled in the meantime
+     */
+    public void snooze(Reminder reminder, Duration delay) {
+        Pending p = new Pending(reminder.entry, LocalDateTime.now().plus(delay));
+        UserDeadlines user = users.get(reminder.entry.username);
+        if (user != null) {
+            user.keepUntil(p.fireAtMillis + IDLE_MILLIS);
+        }
+        add(p);
+        ensureWorker();
+    }
+
+    /**
+     * Open deadlines for the user within the given window, soonest first
+     */
+    public List<Entry> upcoming(String username, Duration within) {
+        return user(username).until(LocalDateTime.now().plus(within));
+    }
+
+    /**
+     * The user's next deadline that has not passed yet, or null
+     */
+    public Entry next(String username) {
+        List<Entry> next = user(username).until(LocalDateTime.MAX);
+        LocalDateTime now = LocalDateTime.now();
+        for (Entry e : next) {
+            if (e.deadline.isAfter(now)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reminders already fired for the user, newest first
+     */
+    public List<Reminder> recent(String username) {
+        return user(username).recent();
+    }
+
+    private UserDeadlines user(String username) {
+        sweep();
+        UserDeadlines user = users.get(username);
+        if (user == null) {
+            // Load before publishing, so a schedule() racing with the load lands in
+            // the published copy instead of being overwritten by an older row
+            List<Entry> entries = load(username);
+            UserDeadlines loaded = new UserDeadlines();
+            for (Entry e : entries) {
+                loaded.put(e);
+            }
+            user = users.putIfAbsent(username, loaded);
+            if (user == null) {
+                user = loaded;
+                LocalDateTime now = LocalDateTime.now();
+                for (Entry e : entries) {
+                    // Loads and reloads happen again and again, so never catch up here
+                    enqueue(e, now, false);
+                }
+            }
+        }
+        user.keepUntil(System.currentTimeMillis() + IDLE_MILLIS);
+        return user;
+    }
+
+    /**
+     * Drop idle users with no deadline ahead; runs at most once per sweep interval
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        if (now < nextSweepMillis) {
+            return;
+        }
+        nextSweepMillis = now + SWEEP_MILLIS;
+        LocalDateTime at = LocalDateTime.now();
+        users.values().removeIf(u -> u.evictIfIdle(now, at));
+    }
+
+    private List<Entry> load(String username) {
+        List<Entry> out = new ArrayList<>();
+        String sql = "SELECT id, title, task_name, deadline FROM user_tasks " +
+                     "WHERE username = ? AND type = 'goated' AND is_completed = 0 AND deadline IS NOT NULL";
+        try (Connection conn = DatabaseHelper.getInstance().getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, username);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String title = rs.getString("title");
+                    Timestamp deadline = rs.getTimestamp("deadline");
+                    out.add(new Entry(username, rs.getInt("id"),
+                        title != null ? title : rs.getString("task_name"), deadline.toLocalDateTime()));
+                }
+            }
+        } catch (SQLException e) {
+            Log.error("DeadlineScheduler.load", username, "Error loading goated deadlines", e);
+        }
+        return out;
+    }
+
+    /**
+     * Queue the entry's reminders that are still ahead. With catchUp, if some lead
+     * reminders were missed (deadline set close), send one of them right away.
+     */
+    private void enqueue(Entry entry, LocalDateTime now, boolean catchUp) {
+        if (!entry.deadline.isAfter(now)) {
+            return;
+        }
+        boolean missed = false;
+        for (int lead : leadMinutes) {
+            LocalDateTime at = entry.deadline.minusMinutes(lead);
+            if (at.isAfter(now)) {
+                add(new Pending(entry, at));
+            } else {
+                missed = true;
+            }
+        }
+        if (missed && catchUp) {
+            add(new Pending(entry, now));
+        }
+        add(new Pending(entry, entry.deadline));
+        ensureWorker();
+    }
+
+    private void add(Pending p) {
+        p.entry.queued.add(p);
+        queue.add(p);
+    }
+
+    /**
+     * Take a replaced or finished entry's reminders out of the queue
+     */
+    private void retire(Entry entry) {
+        for (Pending p : entry.queued) {
+            queue.remove(p);
+        }
+        entry.queued.clear();
+    }
+
+    private synchronized void ensureWorker() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::drain, "forgegrid-deadline-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Pending p;
+            try {
+                p = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            p.entry.queued.remove(p);
+            UserDeadlines user = users.get(p.entry.username);
+            if (user == null || !user.isCurrent(p.entry)) {
+                continue; // rescheduled, completed or deleted since it was queued
+            }
+            Reminder reminder = new Reminder(p.entry, LocalDateTime.now());
+            user.fired(reminder);
+            user.keepUntil(System.currentTimeMillis() + IDLE_MILLIS);
+            MetricsRegistry.getInstance().counter("deadlines.fired").increment();
+            for (Listener l : listeners) {
+                try {
+                    l.onReminder(reminder);
+                } catch (RuntimeException e) {
+                    Log.warn("DeadlineScheduler.drain", p.entry.username, "Reminder listener failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * One goated task deadline being tracked
+     */
+    public static final class Entry {
+        private static final Comparator<Entry> BY_DEADLINE =
+            Comparator.comparing((Entry e) -> e.deadline).thenComparingInt(e -> e.taskId);
+
+        private final String username;
+        private final int taskId;
+        private final String title;
+        private final LocalDateTime deadline;
+        /** Reminders still in the queue for this entry. */
+        private final List<Pending> queued = new CopyOnWriteArrayList<>();
+
+        Entry(String username, int taskId, String title, LocalDateTime deadline) {
+            this.username = username;
+            this.taskId = taskId;
+            this.title = title;
+            this.deadline = deadline;
+        }
+
+        public int getTaskId() { return taskId; }
+        public String getTitle() { return title; }
+        public LocalDateTime getDeadline() { return deadline; }
+    }
+
+    /**
+     * A fired reminder
+     */
+    public static final class Reminder {
+        private final Entry entry;
+        private final LocalDateTime firedAt;
+
+        Reminder(Entry entry, LocalDateTime firedAt) {
+            this.entry = entry;
+            this.firedAt = firedAt;
+        }
+
+        public String getUsername() { return entry.username; }
+        public int getTaskId() { return entry.taskId; }
+        public String getTitle() { return entry.title; }
+        public LocalDateTime getDeadline() { return entry.deadline; }
+        public LocalDateTime getFiredAt() { return firedAt; }
+
+        /** Whether this is the reminder at the deadline itself. */
+        public boolean isDue() {
+            return !firedAt.isBefore(entry.deadline);
+        }
+
+        /** e.g. "'Portfolio site' is due in 1 hour" */
+        public String getMessage() {
+            if (isDue()) {
+                return "'" + entry.title + "' is due now";
+            }
+            return "'" + entry.title + "' is due in " + formatRemaining(Duration.between(firedAt, entry.deadline));
+        }
+    }
+
+    /** Rough human duration, rounded to the nearest day, hour or minute. */
+    public static String formatRemaining(Duration d) {
+        long minutes = Math.max(1, Math.round(d.getSeconds() / 60.0));
+        if (minutes >= 24 * 60) {
+            long days = Math.round(minutes / (24 * 60.0));
+            return days + (days == 1 ? " day" : " days");
+        }
+        if (minutes >= 60) {
+            long hours = Math.round(minutes / 60.0);
+            return hours + (hours == 1 ? " hour" : " hours");
+        }
+        return minutes + (minutes == 1 ? " minute" : " minutes");
+    }
+
+    private static final class Pending implements Delayed {
+        private final Entry entry;
+        private final long fireAtMillis;
+
+        Pending(Entry entry, LocalDateTime fireAt) {
+            this.entry = entry;
+            this.fireAtMillis = fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((Pending) other).fireAtMillis);
+        }
+    }
+
+    /**
+     * One user's open deadlines by task and in deadline order, plus recent reminders
+     */
+    private final class UserDeadlines {
+        private final Map<Integer, Entry> byTask = new HashMap<>();
+        private final TreeSet<Entry> ordered = new TreeSet<>(Entry.BY_DEADLINE);
+        private final Deque<Reminder> recent = new ArrayDeque<>();
+        private long keepUntilMillis;
+        private boolean evicted;
+
+        /**
+         * @return false if this user was evicted and the caller must look it up again
+         */
+        synchronized boolean put(Entry entry) {
+            if (evicted) {
+                return false;
+            }
+            Entry old = byTask.put(entry.taskId, entry);
+            if (old != null) {
+                ordered.remove(old);
+                retire(old);
+            }
+            ordered.add(entry);
+            return true;
+        }
+
+        synchronized void remove(int taskId) {
+            Entry old = byTask.remove(taskId);
+            if (old != null) {
+                ordered.remove(old);
+                retire(old);
+            }
+        }
+
+        synchronized void retireAll() {
+            for (Entry e : byTask.values()) {
+                retire(e);
+            }
+        }
+
+        synchronized void keepUntil(long millis) {
+            keepUntilMillis = Math.max(keepUntilMillis, millis);
+        }
+
+        synchronized boolean evictIfIdle(long nowMillis, LocalDateTime now) {
+            if (nowMillis < keepUntilMillis || (!ordered.isEmpty() && ordered.last().deadline.isAfter(now))) {
+                return false;
+            }
+            evicted = true;
+            return true;
+        }
+
+        synchronized boolean isCurrent(Entry entry) {
+            return byTask.get(entry.taskId) == entry;
+        }
+
+        synchronized List<Entry> until(LocalDateTime limit) {
+            List<Entry> out = new ArrayList<>();
+            for (Entry e : ordered) {
+                if (e.deadline.isAfter(limit)) {
+                    break;
+                }
+                out.add(e);
+            }
+            return out;
+        }
+
+        synchronized void fired(Reminder reminder) {
+            recent.addFirst(reminder);
+            while (recent.size() > RECENT_PER_USER) {
+                recent.removeLast();
+            }
+        }
+
+        synchronized List<Reminder> recent() {
+            return new ArrayList<>(recent);
+        }
+    }
+}
@@ -2,10 +2,14 @@ package com.forgegrid.service;
 
 import com.forgegrid.model.HardcodedTask;
 import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for managing task content and persistence:
@@ -14,15 +18,40 @@ import java.util.List;
  */
 public class HardcodedTaskService {
     
+    /** user_tasks and its migrations only need checking once per process. */
+    private static volatile boolean tableReady = false;
+    
     private DatabaseHelper dbHelper;
+    private final UserStatsService userStats;
+    private final ProgressIndex progressIndex;
+    private final ActivityCalendar activity;
+    private final XpRollupService rollups;
+    private final SpacedRepetitionService reviews = SpacedRepetitionService.getInstance();
+    private final AchievementService achievements = AchievementService.getInstance();
     
     public HardcodedTaskService() {
         this.dbHelper = DatabaseHelper.getInstance();
         createUserTasksTable();
+        this.userStats = new UserStatsService();
+        this.progressIndex = new ProgressIndex();
+        this.activity = new ActivityCalendar();
+        this.rollups = new XpRollupService();
     }
     
     /** Create user_tasks table if it doesn't exist. */
     private void createUserTasksTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (HardcodedTaskService.class) {
+            if (tableReady) {
+                return;
+            }
+            createUserTasksTableOnce();
+        }
+    }
+    
+    private void createUserTasksTableOnce() {
         String createTableSQL = 
             "CREATE TABLE IF NOT EXISTS user_tasks (" +
             "id INT AUTO_INCREMENT PRIMARY KEY, " +
@@ -40,17 +69,22 @@ public class HardcodedTaskService {
             "xp INT NULL, " +
             "is_completed TINYINT(1) DEFAULT 0, " +
             "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "task_id INT NULL, " +
             "INDEX idx_username (username), " +
-            "INDEX idx_status (status)" +
+            "INDEX idx_user_tasks_user_task (username, task_id), " +
+            "INDEX idx_status (status), " +
+            "INDEX idx_user_tasks_status_time (status, completed_at)" +
             ")";
         
         try (Connection conn = dbHelper.getConnection();
              Statement stmt = conn.createStatement()) {
             stmt.execute(createTableSQL);
             migrateUserTasksForGoated(stmt);
+            migrateUserTasksForCatalogIds(stmt);
+            HistoryArchiveService.createTables(stmt);
+            tableReady = true;
         } catch (SQLException e) {
-            System.err.println("Error creating user_tasks table: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("HardcodedTaskService.createUserTasksTable", null, "Error creating user_tasks table", e);
         }
     }
 
@@ -66,13 +100,21 @@ public class HardcodedTaskService {
         try { stmt.execute("CREATE INDEX idx_user_tasks_type ON user_tasks(type)"); } catch (SQLException ignored) {}
     }
 
+    /** Add the catalog task_id column if not present; older rows keep NULL and are matched by name. */
+    private void migrateUserTasksForCatalogIds(Statement stmt) {
+        try { stmt.execute("ALTER TABLE user_tasks ADD COLUMN task_id INT NULL"); } catch (SQLException ignored) {}
+        try { stmt.execute("CREATE INDEX idx_user_tasks_user_task ON user_tasks(username, task_id)"); } catch (SQLException ignored) {}
+        try { stmt.execute("CREATE INDEX idx_user_tasks_status_time ON user_tasks(status, completed_at)"); } catch (SQLException ignored) {}
+    }
+
     /** Create a Goated Task for the user. */
     public boolean createGoatedTask(String username, String title, String description, java.time.LocalDateTime deadline, int xp) {
         if (xp < 0) xp = 0;
         if (xp > 500) xp = 500;
         String sql = "INSERT INTO user_tasks (username, task_name, title, description, deadline, xp, status, type, is_completed, created_at) VALUES (?, ?, ?, ?, ?, ?, 'assigned', 'goated', 0, ?)";
         try (Connection conn = dbHelper.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+             PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            conn.setAutoCommit(false);
             String taskName = title != null && !title.isBlank() ? title : "Custom Task";
             ps.setString(1, username);
             ps.setString(2, taskName);
@@ -81,9 +123,19 @@ public class HardcodedTaskService {
             ps.setTimestamp(5, deadline != null ? java.sql.Timestamp.valueOf(deadline) : null);
             ps.setInt(6, xp);
             ps.setTimestamp(7, java.sql.Timestamp.valueOf(java.time.LocalDateTime.now()));
-            return ps.executeUpdate() > 0;
+            if (ps.executeUpdate() == 0) return false;
+            int id = -1;
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                if (keys.next()) id = keys.getInt(1);
+            }
+            userStats.applyDelta(conn, username, new UserStatsService.Delta().goatedOpen(1));
+            conn.commit();
+            if (id >= 0) {
+                DeadlineScheduler.getInstance().schedule(username, id, taskName, deadline);
+            }
+            return true;
         } catch (SQLException e) {
-            System.err.println("Error creating goated task: " + e.getMessage());
+            Log.error("HardcodedTaskService.createGoatedTask", username, "Error creating goated task", e);
             return false;
         }
     }
@@ -109,36 +161,52 @@ public class HardcodedTaskService {
                 list.add(t);
             }
         } catch (SQLException e) {
-            System.err.println("Error listing goated tasks: " + e.getMessage());
+            Log.error("HardcodedTaskService.listGoatedTasks", username, "Error listing goated tasks", e);
         }
         return list;
     }
 
-    /** Mark a Goated Task as completed and credit XP. */
+    /**
+     * Mark a Goated Task as completed and credit XP. The row is locked and the
+     * update only matches an open task, so a double click or a second session
+     * credits the goal once.
+     */
     public boolean markGoatedTaskComplete(String username, int taskId) {
-        String select = "SELECT xp, is_completed FROM user_tasks WHERE id = ? AND username = ? AND type = 'goated'";
-        String update = "UPDATE user_tasks SET is_completed = 1, status = 'completed', xp_earned = COALESCE(xp, 0), completed_at = ? WHERE id = ? AND username = ?";
+        String select = "SELECT xp, is_completed FROM user_tasks WHERE id = ? AND username = ? AND type = 'goated' FOR UPDATE";
+        String update = "UPDATE user_tasks SET is_completed = 1, status = 'completed', xp_earned = COALESCE(xp, 0), completed_at = ? WHERE id = ? AND username = ? AND is_completed = 0";
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement sel = conn.prepareStatement(select);
              PreparedStatement upd = conn.prepareStatement(update)) {
+            conn.setAutoCommit(false);
             sel.setInt(1, taskId);
             sel.setString(2, username);
             ResultSet rs = sel.executeQuery();
             if (!rs.next()) return false;
             if (rs.getBoolean("is_completed")) return true;
             int xp = rs.getInt("xp");
-            upd.setTimestamp(1, java.sql.Timestamp.valueOf(java.time.LocalDateTime.now()));
+            LocalDateTime now = LocalDateTime.now();
+            upd.setTimestamp(1, Timestamp.valueOf(now));
             upd.setInt(2, taskId);
             upd.setString(3, username);
             int ok = upd.executeUpdate();
             if (ok > 0) {
+                userStats.applyDelta(conn, username, new UserStatsService.Delta()
+                    .completed(1).totalXp(xp).netXp(xp).goatedOpen(-1).goatedDone(1));
+                activity.recordCompletion(conn, username);
+                rollups.record(conn, username, now, xp, 1, 0);
+                List<AchievementService.Rule> unlocked = achievements.record(conn, username, AchievementService.Event.COMPLETED);
+                conn.commit();
+                achievements.publish(username, unlocked);
+                DeadlineScheduler.getInstance().cancel(username, taskId);
                 try {
                     new com.forgegrid.service.LevelService().addXP(username, xp);
                 } catch (Exception ignored) {}
                 return true;
             }
+            // Completed concurrently: nothing to credit
+            return true;
         } catch (SQLException e) {
-            System.err.println("Error completing goated task: " + e.getMessage());
+            Log.error("HardcodedTaskService.markGoatedTaskComplete", username, "Error completing goated task", e);
         }
         return false;
     }
@@ -146,6 +214,7 @@ public class HardcodedTaskService {
     /** Update a Goated Task. */
     public boolean updateGoatedTask(String username, int taskId, String title, String description, java.time.LocalDateTime deadline, Integer xp) {
         String sql = "UPDATE user_tasks SET title = ?, description = ?, deadline = ?, xp = ? WHERE id = ? AND username = ? AND type = 'goated'";
+        String openSQL = "SELECT is_completed FROM user_tasks WHERE id = ? AND username = ?";
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, title);
@@ -154,53 +223,93 @@ public class HardcodedTaskService {
             ps.setInt(4, xp != null ? Math.max(0, Math.min(500, xp)) : 0);
             ps.setInt(5, taskId);
             ps.setString(6, username);
-            return ps.executeUpdate() > 0;
+            if (ps.executeUpdate() == 0) return false;
+            try (PreparedStatement open = conn.prepareStatement(openSQL)) {
+                open.setInt(1, taskId);
+                open.setString(2, username);
+                ResultSet rs = open.executeQuery();
+                if (rs.next() && !rs.getBoolean("is_completed")) {
+                    DeadlineScheduler.getInstance().schedule(username, taskId, title != null && !title.isBlank() ? title : "Custom Task", deadline);
+                }
+            }
+            return true;
         } catch (SQLException e) {
-            System.err.println("Error updating goated task: " + e.getMessage());
+            Log.error("HardcodedTaskService.updateGoatedTask", username, "Error updating goated task", e);
             return false;
         }
     }
 
     /** Delete a Goated Task. */
     public boolean deleteGoatedTask(String username, int taskId) {
+        String select = "SELECT is_completed, COALESCE(xp_earned, 0) AS earned, completed_at FROM user_tasks WHERE id = ? AND username = ? AND type = 'goated' FOR UPDATE";
         String sql = "DELETE FROM user_tasks WHERE id = ? AND username = ? AND type = 'goated'";
         try (Connection conn = dbHelper.getConnection();
+             PreparedStatement sel = conn.prepareStatement(select);
              PreparedStatement ps = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            sel.setInt(1, taskId);
+            sel.setString(2, username);
+            ResultSet rs = sel.executeQuery();
+            if (!rs.next()) return false;
+            boolean completed = rs.getBoolean("is_completed");
+            int earned = rs.getInt("earned");
+            Timestamp completedAt = rs.getTimestamp("completed_at");
             ps.setInt(1, taskId);
             ps.setString(2, username);
-            return ps.executeUpdate() > 0;
+            if (ps.executeUpdate() == 0) return false;
+            // Deleting a finished goal takes back everything completing it gave
+            UserStatsService.Delta delta = completed
+                ? new UserStatsService.Delta().goatedDone(-1).completed(-1).totalXp(-earned).netXp(-earned)
+                : new UserStatsService.Delta().goatedOpen(-1);
+            userStats.applyDelta(conn, username, delta);
+            if (completed) {
+                if (completedAt != null) {
+                    rollups.record(conn, username, completedAt.toLocalDateTime(), -earned, -1, 0);
+                }
+                activity.recordRemoval(conn, username);
+                achievements.recordRemoval(conn, username);
+            }
+            LevelService levels = new LevelService();
+            LevelService.LevelUpResult levelUp = completed && earned > 0 ? levels.addXP(conn, username, -earned) : null;
+            conn.commit();
+            levels.publish(username, levelUp);
+            DeadlineScheduler.getInstance().cancel(username, taskId);
+            return true;
         } catch (SQLException e) {
-            System.err.println("Error deleting goated task: " + e.getMessage());
+            Log.error("HardcodedTaskService.deleteGoatedTask", username, "Error deleting goated task", e);
             return false;
         }
     }
     
-    /** Get hardcoded tasks based on language and skill level. */
+    /** Get hardcoded tasks based on language and skill level (with catalog IDs). */
     public List<HardcodedTask> getTasksForUser(String language, String level) {
-        List<HardcodedTask> tasks = new ArrayList<>();
-        
-        // Normalize inputs
-        String lang = language != null ? language.toLowerCase() : "java";
-        String lvl = level != null ? level.toLowerCase() : "beginner";
-        
-        // Get appropriate task list
-        if (lvl.contains("beginner")) {
-            tasks = getBeginnerTasks(lang);
-        } else if (lvl.contains("intermediate")) {
-            tasks = getIntermediateTasks(lang);
-        } else if (lvl.contains("advanced") || lvl.contains("expert")) {
-            tasks = getAdvancedTasks(lang);
-        } else {
-            // Default to beginner if level not recognized
-            tasks = getBeginnerTasks(lang);
+        return new ArrayList<>(TaskCatalog.getInstance().getTrack(language, level).getTasks());
+    }
+    
+    /**
+     * Build one catalog track; called once per track by TaskCatalog
+     *
+     * @param languageKey One of TaskCatalog.LANGUAGES
+     * @param levelKey One of TaskCatalog.LEVELS
+     */
+    static List<HardcodedTask> buildTrack(String languageKey, String levelKey) {
+        // Inputs that select each branch below ("javascript" itself would match "java")
+        String lang;
+        switch (languageKey) {
+            case "javascript": lang = "js"; break;
+            case "general": lang = "General"; break;
+            default: lang = languageKey;
+        }
+        switch (levelKey) {
+            case "intermediate": return getIntermediateTasks(lang);
+            case "advanced": return getAdvancedTasks(lang);
+            default: return getBeginnerTasks(lang);
         }
-        
-        return tasks;
     }
     
     
     /** Beginner level tasks. */
-    private List<HardcodedTask> getBeginnerTasks(String language) {
+    private static List<HardcodedTask> getBeginnerTasks(String language) {
         List<HardcodedTask> tasks = new ArrayList<>();
         
         if (language.contains("java")) {
@@ -714,7 +823,7 @@ public class HardcodedTaskService {
     /**
      * Intermediate level tasks
      */
-    private List<HardcodedTask> getIntermediateTasks(String language) {
+    private static List<HardcodedTask> getIntermediateTasks(String language) {
         List<HardcodedTask> tasks = new ArrayList<>();
         
         if (language.contains("java")) {
@@ -1485,7 +1594,7 @@ public class HardcodedTaskService {
     /**
      * Advanced level tasks
      */
-    private List<HardcodedTask> getAdvancedTasks(String language) {
+    private static List<HardcodedTask> getAdvancedTasks(String language) {
         List<HardcodedTask> tasks = new ArrayList<>();
         
         if (language.contains("java")) {
@@ -2256,9 +2365,20 @@ public class HardcodedTaskService {
      * Save completed task to database
      */
     public boolean saveCompletedTask(String username, String taskName, int timeTaken, int xpEarned) {
+        return saveCompletedTask(username, taskName, catalogIdFor(taskName), timeTaken, xpEarned);
+    }
+    
+    /**
+     * Save completed catalog task to database, recording its task_id
+     */
+    public boolean saveCompletedTask(String username, HardcodedTask task, int timeTaken, int xpEarned) {
+        return saveCompletedTask(username, task.getTaskName(), task.getId(), timeTaken, xpEarned);
+    }
+    
+    private boolean saveCompletedTask(String username, String taskName, int taskId, int timeTaken, int xpEarned) {
         String insertSQL = 
-            "INSERT INTO user_tasks (username, task_name, time_taken, xp_earned, status, completed_at) " +
-            "VALUES (?, ?, ?, ?, 'completed', ?)";
+            "INSERT INTO user_tasks (username, task_name, time_taken, xp_earned, status, completed_at, task_id) " +
+            "VALUES (?, ?, ?, ?, 'completed', ?, ?)";
         
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(insertSQL)) {
@@ -2267,14 +2387,32 @@ public class HardcodedTaskService {
             pstmt.setString(2, taskName);
             pstmt.setInt(3, timeTaken);
             pstmt.setInt(4, xpEarned);
-            pstmt.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            LocalDateTime now = LocalDateTime.now();
+            pstmt.setTimestamp(5, Timestamp.valueOf(now));
+            setTaskId(pstmt, 6, taskId);
             
+            // The history row and the summary row commit together
+            conn.setAutoCommit(false);
             int affected = pstmt.executeUpdate();
+            SpacedRepetitionService.Review review = null;
+            List<AchievementService.Rule> unlocked = null;
+            if (affected > 0) {
+                userStats.applyDelta(conn, username, new UserStatsService.Delta()
+                    .completed(1).totalXp(xpEarned).netXp(xpEarned));
+                progressIndex.markRecorded(conn, username, taskName, taskId);
+                activity.recordCompletion(conn, username);
+                rollups.record(conn, username, now, xpEarned, 1, 0);
+                review = reviews.record(conn, username, taskId,
+                    SpacedRepetitionService.gradeForCompletion(TaskCatalog.getInstance().getTask(taskId), timeTaken));
+                unlocked = achievements.record(conn, username, AchievementService.Event.COMPLETED);
+            }
+            conn.commit();
+            reviews.publish(username, review);
+            achievements.publish(username, unlocked);
             return affected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error saving completed task: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("HardcodedTaskService.saveCompletedTask", username, "Error saving completed task", e);
             return false;
         }
     }
@@ -2284,12 +2422,14 @@ public class HardcodedTaskService {
      */
     public List<String> getCompletedTasks(String username) {
         List<String> completedTasks = new ArrayList<>();
-        String selectSQL = "SELECT task_name FROM user_tasks WHERE username = ? AND status = 'completed'";
+        String selectSQL = "SELECT task_name FROM user_tasks WHERE username = ? AND status = 'completed' " +
+                           "UNION ALL SELECT task_name FROM user_tasks_archive WHERE username = ? AND status = 'completed'";
         
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
             
             pstmt.setString(1, username);
+            pstmt.setString(2, username);
             ResultSet rs = pstmt.executeQuery();
             
             while (rs.next()) {
@@ -2297,73 +2437,38 @@ public class HardcodedTaskService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting completed tasks: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("HardcodedTaskService.getCompletedTasks", username, "Error getting completed tasks", e);
         }
         
         return completedTasks;
     }
     
     /**
-     * Get total XP earned by user
+     * Get total XP earned by user (from the user_stats summary row)
      */
     public int getTotalXP(String username) {
-        String selectSQL = "SELECT SUM(xp_earned) as total FROM user_tasks WHERE username = ? AND status = 'completed'";
-        
-        try (Connection conn = dbHelper.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-            
-            pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt("total");
-            }
-            
-        } catch (SQLException e) {
-            System.err.println("Error getting total XP: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return 0;
+        return userStats.getStats(username).getTotalXp();
     }
 
     /**
      * Get net XP across all tasks (completed positive, skipped negative)
      */
     public int getNetXP(String username) {
-        String selectSQL = "SELECT COALESCE(SUM(xp_earned), 0) as total FROM user_tasks WHERE username = ?";
-        try (Connection conn = dbHelper.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-            pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getInt("total");
-            }
-        } catch (SQLException e) {
-            System.err.println("Error getting net XP: " + e.getMessage());
-            e.printStackTrace();
-        }
-        return 0;
+        return userStats.getStats(username).getNetXp();
+    }
+
+    /**
+     * Get all summary totals for a user with one primary-key lookup
+     */
+    public com.forgegrid.model.UserStats getUserStats(String username) {
+        return userStats.getStats(username);
     }
 
     /**
      * Get count of skipped tasks for a user
      */
     public int getSkippedTaskCount(String username) {
-        String selectSQL = "SELECT COUNT(*) as count FROM user_tasks WHERE username = ? AND status = 'skipped'";
-        try (Connection conn = dbHelper.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-            pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return rs.getInt("count");
-            }
-        } catch (SQLException e) {
-            System.err.println("Error getting skipped task count: " + e.getMessage());
-            e.printStackTrace();
-        }
-        return 0;
+        return userStats.getStats(username).getSkippedCount();
     }
 
     /**
@@ -2371,12 +2476,26 @@ public class HardcodedTaskService {
      * Uses status 'assigned' and stores the assigned time in completed_at column.
      */
     public void recordAssignedTask(String username, String taskName) {
-        String existsSQL = "SELECT 1 FROM user_tasks WHERE username = ? AND task_name = ? LIMIT 1";
-        String insertSQL = "INSERT INTO user_tasks (username, task_name, time_taken, xp_earned, status, completed_at) VALUES (?, ?, NULL, 0, 'assigned', ?)";
+        recordAssignedTask(username, taskName, catalogIdFor(taskName));
+    }
+
+    /**
+     * Record that a catalog task has been assigned to the user, with its task_id
+     */
+    public void recordAssignedTask(String username, HardcodedTask task) {
+        recordAssignedTask(username, task.getTaskName(), task.getId());
+    }
+
+    private void recordAssignedTask(String username, String taskName, int taskId) {
+        String existsSQL = "(SELECT 1 FROM user_tasks WHERE username = ? AND task_name = ? LIMIT 1) " +
+                           "UNION ALL (SELECT 1 FROM user_tasks_archive WHERE username = ? AND task_name = ? LIMIT 1)";
+        String insertSQL = "INSERT INTO user_tasks (username, task_name, time_taken, xp_earned, status, completed_at, task_id) VALUES (?, ?, NULL, 0, 'assigned', ?, ?)";
         try (Connection conn = dbHelper.getConnection()) {
             try (PreparedStatement check = conn.prepareStatement(existsSQL)) {
                 check.setString(1, username);
                 check.setString(2, taskName);
+                check.setString(3, username);
+                check.setString(4, taskName);
                 ResultSet rs = check.executeQuery();
                 if (rs.next()) {
                     return; // already recorded (assigned/completed/skipped)
@@ -2386,53 +2505,203 @@ public class HardcodedTaskService {
                 ins.setString(1, username);
                 ins.setString(2, taskName);
                 ins.setTimestamp(3, Timestamp.valueOf(java.time.LocalDateTime.now()));
+                setTaskId(ins, 4, taskId);
+                conn.setAutoCommit(false);
                 ins.executeUpdate();
+                progressIndex.markRecorded(conn, username, taskName, taskId);
+                conn.commit();
             }
         } catch (SQLException e) {
-            System.err.println("Error recording assigned task: " + e.getMessage());
+            Log.error("HardcodedTaskService.recordAssignedTask", username, "Error recording assigned task", e);
         }
     }
 
     /**
      * Convert any 'assigned' tasks older than 24 hours into 'skipped' with XP penalty.
      * Penalty is 50% of the task XP (negative).
+     *
+     * @return Number of tasks skipped, or -1 on error
      */
-    public void autoSkipExpiredAssignedTasks(String username, String language, String level) {
-        String selectExpired = "SELECT task_name FROM user_tasks WHERE username = ? AND status = 'assigned' AND completed_at < (NOW() - INTERVAL 24 HOUR)";
+    public int autoSkipExpiredAssignedTasks(String username, String language, String level) {
+        String selectExpired = "SELECT task_name, task_id FROM user_tasks WHERE username = ? AND status = 'assigned' AND completed_at < (NOW() - INTERVAL 24 HOUR)";
         String updateSQL = "UPDATE user_tasks SET status='skipped', xp_earned=?, time_taken=?, completed_at=? WHERE username=? AND task_name=? AND status='assigned'";
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement sel = conn.prepareStatement(selectExpired);
              PreparedStatement upd = conn.prepareStatement(updateSQL)) {
+            conn.setAutoCommit(false);
+            UserStatsService.Delta delta = new UserStatsService.Delta();
+            List<Integer> penalties = new ArrayList<>();
+            List<SpacedRepetitionService.Review> skippedReviews = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+            int penaltyTotal = 0;
             sel.setString(1, username);
             ResultSet rs = sel.executeQuery();
             while (rs.next()) {
                 String taskName = rs.getString("task_name");
-                int reward = getXpRewardForTaskName(taskName, language, level);
-                int penalty = -(Math.max(1, reward / 2));
+                int taskId = rs.getInt("task_id");
+                HardcodedTask task = rs.wasNull()
+                    ? findTask(language, level, taskName)
+                    : TaskCatalog.getInstance().getTask(taskId);
+                int penalty = -(Math.max(1, (task != null ? task.getXpReward() : 10) / 2));
                 upd.setInt(1, penalty);
                 upd.setInt(2, 1440); // 24h in minutes
-                upd.setTimestamp(3, Timestamp.valueOf(java.time.LocalDateTime.now()));
+                upd.setTimestamp(3, Timestamp.valueOf(now));
                 upd.setString(4, username);
                 upd.setString(5, taskName);
-                upd.executeUpdate();
+                if (upd.executeUpdate() > 0) {
+                    delta.skipped(1).netXp(penalty);
+                    penalties.add(penalty);
+                    penaltyTotal += penalty;
+                    if (task != null) {
+                        skippedReviews.add(reviews.record(conn, username, task.getId(), SpacedRepetitionService.SKIP_GRADE));
+                    }
+                }
+            }
+            if (penalties.isEmpty()) return 0;
+            userStats.applyDelta(conn, username, delta);
+            // Any number of skips resets the same counters as one
+            List<AchievementService.Rule> unlocked = achievements.record(conn, username, AchievementService.Event.SKIPPED);
+            rollups.record(conn, username, now, penaltyTotal, 0, penalties.size());
+            // Reflect penalty to user's total XP so UI progress matches net history
+            LevelService levels = new LevelService();
+            LevelService.LevelUpResult levelUp = levels.addXP(conn, username, penaltyTotal);
+            conn.commit();
+            achievements.publish(username, unlocked);
+            for (SpacedRepetitionService.Review review : skippedReviews) {
+                reviews.publish(username, review);
+            }
+            levels.publish(username, levelUp);
+            return penalties.size();
+        } catch (SQLException e) {
+            Log.error("HardcodedTaskService.autoSkipExpiredAssignedTasks", username, "Error auto-skipping expired tasks", e);
+            return -1;
+        }
+    }
 
-                // Reflect penalty to user's total XP so UI progress matches net history
-                try {
-                    new com.forgegrid.service.LevelService().addXP(username, penalty);
-                } catch (Exception ignored) {}
+    /**
+     * Auto-skip expired assignments across all users in one transaction (maintenance sweep).
+     * Same rule and penalty as {@link #autoSkipExpiredAssignedTasks}; rows beyond the
+     * limit are left for the next call.
+     *
+     * @param limit Maximum number of rows to convert
+     * @return Number of tasks skipped, or -1 on error
+     */
+    public int sweepExpiredAssignedTasks(int limit) {
+        String selectExpired = "SELECT t.id, t.username, t.task_name, t.task_id, u.onboarding_language, u.onboarding_skill " +
+            "FROM user_tasks t LEFT JOIN users u ON u.username = t.username " +
+            "WHERE t.status = 'assigned' AND t.completed_at < (NOW() - INTERVAL 24 HOUR) LIMIT ?";
+        String updateSQL = "UPDATE user_tasks SET status='skipped', xp_earned=?, time_taken=?, completed_at=? WHERE id=? AND status='assigned'";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement sel = conn.prepareStatement(selectExpired);
+             PreparedStatement upd = conn.prepareStatement(updateSQL)) {
+            conn.setAutoCommit(false);
+            List<String> usernames = new ArrayList<>();
+            List<Integer> penalties = new ArrayList<>();
+            List<Integer> taskIds = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+            sel.setInt(1, limit);
+            try (ResultSet rs = sel.executeQuery()) {
+                while (rs.next()) {
+                    int taskId = rs.getInt("task_id");
+                    HardcodedTask task = rs.wasNull()
+                        ? findTask(orDefault(rs.getString("onboarding_language"), "Java"),
+                                   orDefault(rs.getString("onboarding_skill"), "Beginner"), rs.getString("task_name"))
+                        : TaskCatalog.getInstance().getTask(taskId);
+                    int penalty = -(Math.max(1, (task != null ? task.getXpReward() : 10) / 2));
+                    upd.setInt(1, penalty);
+                    upd.setInt(2, 1440); // 24h in minutes
+                    upd.setTimestamp(3, Timestamp.valueOf(now));
+                    upd.setInt(4, rs.getInt("id"));
+                    upd.addBatch();
+                    usernames.add(rs.getString("username"));
+                    penalties.add(penalty);
+                    taskIds.add(task != null ? task.getId() : -1);
+                }
             }
+            if (penalties.isEmpty()) return 0;
+
+            // Rows completed or skipped since the select report 0 and are left out of the totals
+            int[] counts = upd.executeBatch();
+            Map<String, UserStatsService.Delta> deltas = new LinkedHashMap<>();
+            Map<String, Integer> xp = new HashMap<>();
+            Map<String, Integer> skips = new HashMap<>();
+            Map<String, List<SpacedRepetitionService.Review>> skippedReviews = new HashMap<>();
+            int skipped = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0 || counts[i] == Statement.EXECUTE_FAILED) continue;
+                String username = usernames.get(i);
+                deltas.computeIfAbsent(username, u -> new UserStatsService.Delta()).skipped(1).netXp(penalties.get(i));
+                xp.merge(username, penalties.get(i), Integer::sum);
+                skips.merge(username, 1, Integer::sum);
+                SpacedRepetitionService.Review review = reviews.record(conn, username, taskIds.get(i), SpacedRepetitionService.SKIP_GRADE);
+                if (review != null) {
+                    skippedReviews.computeIfAbsent(username, u -> new ArrayList<>()).add(review);
+                }
+                skipped++;
+            }
+            Map<String, List<AchievementService.Rule>> unlocked = new HashMap<>();
+            Map<String, LevelService.LevelUpResult> levelUps = new HashMap<>();
+            LevelService levels = new LevelService();
+            for (Map.Entry<String, UserStatsService.Delta> e : deltas.entrySet()) {
+                userStats.applyDelta(conn, e.getKey(), e.getValue());
+                unlocked.put(e.getKey(), achievements.record(conn, e.getKey(), AchievementService.Event.SKIPPED));
+                rollups.record(conn, e.getKey(), now, xp.get(e.getKey()), 0, skips.get(e.getKey()));
+                levelUps.put(e.getKey(), levels.addXP(conn, e.getKey(), xp.get(e.getKey())));
+            }
+            conn.commit();
+
+            unlocked.forEach(achievements::publish);
+            skippedReviews.forEach((username, list) -> list.forEach(review -> reviews.publish(username, review)));
+            levelUps.forEach(levels::publish);
+            return skipped;
         } catch (SQLException e) {
-            System.err.println("Error auto-skipping expired tasks: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("HardcodedTaskService.sweepExpiredAssignedTasks", null, "Error sweeping expired tasks", e);
+            return -1;
         }
     }
 
-    private int getXpRewardForTaskName(String taskName, String language, String level) {
-        List<HardcodedTask> list = getTasksForUser(language, level);
-        for (HardcodedTask t : list) {
-            if (t.getTaskName().equalsIgnoreCase(taskName)) return t.getXpReward();
+    private static String orDefault(String value, String fallback) {
+        return value != null && !value.isEmpty() ? value : fallback;
+    }
+
+    /** Look up a catalog task by name within the given language and level, or null. */
+    public HardcodedTask findTask(String language, String level, String taskName) {
+        return TaskCatalog.getInstance().getTrack(language, level).find(taskName);
+    }
+
+    /**
+     * Get catalog IDs of every task the user has recorded (assigned, completed or skipped)
+     * by scanning user_tasks. Views should use {@link #getProgress} instead, which reads
+     * one small bitmap row.
+     */
+    public java.util.BitSet getRecordedTaskIds(String username) {
+        try (Connection conn = dbHelper.getConnection()) {
+            return ProgressIndex.recordedIds(conn, username);
+        } catch (SQLException e) {
+            Log.error("HardcodedTaskService.getRecordedTaskIds", username, "Error getting recorded task ids", e);
+        }
+        return new java.util.BitSet();
+    }
+
+    /**
+     * Get the user's progress on the track for a language and level (one primary-key read)
+     */
+    public ProgressIndex.TrackProgress getProgress(String username, String language, String level) {
+        return progressIndex.load(username, language, level);
+    }
+
+    /** Catalog ID when the name identifies exactly one catalog task, else -1. */
+    private static int catalogIdFor(String taskName) {
+        int[] ids = TaskCatalog.getInstance().idsForName(taskName);
+        return ids.length == 1 ? ids[0] : -1;
+    }
+
+    private static void setTaskId(PreparedStatement pstmt, int index, int taskId) throws SQLException {
+        if (taskId >= 0) {
+            pstmt.setInt(index, taskId);
+        } else {
+            pstmt.setNull(index, Types.INTEGER);
         }
-        return 10; // sensible default
     }
 
     /**
@@ -2441,52 +2710,61 @@ public class HardcodedTaskService {
      */
     public java.util.Set<String> getRecordedTaskNames(String username) {
         java.util.Set<String> names = new java.util.HashSet<>();
-        String selectSQL = "SELECT task_name FROM user_tasks WHERE username = ?";
+        String selectSQL = "SELECT task_name FROM user_tasks WHERE username = ? " +
+                           "UNION SELECT task_name FROM user_tasks_archive WHERE username = ?";
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
             pstmt.setString(1, username);
+            pstmt.setString(2, username);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
                 names.add(rs.getString("task_name"));
             }
         } catch (SQLException e) {
-            System.err.println("Error getting recorded task names: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("HardcodedTaskService.getRecordedTaskNames", username, "Error getting recorded task names", e);
         }
         return names;
     }
     
     /**
-     * Get task completion count
+     * Get the user's daily activity calendar (one primary-key read)
+     */
+    public ActivityCalendar.Days getActivity(String username) {
+        return activity.load(username);
+    }
+    
+    /**
+     * Get XP and task counts for the last n hours, days or weeks, oldest first (reads n rollup rows)
+     */
+    public XpRollupService.Series getXpSeries(String username, XpRollupService.Grain grain, int buckets) {
+        return rollups.getSeries(username, grain, buckets);
+    }
+    
+    /**
+     * Get task completion count (from the user_stats summary row)
      */
     public int getCompletedTaskCount(String username) {
-        String selectSQL = "SELECT COUNT(*) as count FROM user_tasks WHERE username = ? AND status = 'completed'";
-        
-        try (Connection conn = dbHelper.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-            
-            pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt("count");
-            }
-            
-        } catch (SQLException e) {
-            System.err.println("Error getting task count: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return 0;
+        return userStats.getStats(username).getCompletedCount();
     }
     
     /**
      * Save skipped task to database
      */
     public boolean saveSkippedTask(String username, String taskName, int timeTaken, int xpLost) {
+        return saveSkippedTask(username, taskName, catalogIdFor(taskName), timeTaken, xpLost);
+    }
+    
+    /**
+     * Save skipped catalog task to database, recording its task_id
+     */
+    public boolean saveSkippedTask(String username, HardcodedTask task, int timeTaken, int xpLost) {
+        return saveSkippedTask(username, task.getTaskName(), task.getId(), timeTaken, xpLost);
+    }
+    
+    private boolean saveSkippedTask(String username, String taskName, int taskId, int timeTaken, int xpLost) {
         String insertSQL = 
-            "INSERT INTO user_tasks (username, task_name, time_taken, xp_earned, status, completed_at) " +
-            "VALUES (?, ?, ?, ?, 'skipped', ?)";
+            "INSERT INTO user_tasks (username, task_name, time_taken, xp_earned, status, completed_at, task_id) " +
+            "VALUES (?, ?, ?, ?, 'skipped', ?, ?)";
         
         try (Connection conn = dbHelper.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(insertSQL)) {
@@ -2495,14 +2773,28 @@ public class HardcodedTaskService {
             pstmt.setString(2, taskName);
             pstmt.setInt(3, timeTaken);
             pstmt.setInt(4, xpLost); // Negative value for XP loss
-            pstmt.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            LocalDateTime now = LocalDateTime.now();
+            pstmt.setTimestamp(5, Timestamp.valueOf(now));
+            setTaskId(pstmt, 6, taskId);
             
+            conn.setAutoCommit(false);
             int affected = pstmt.executeUpdate();
+            SpacedRepetitionService.Review review = null;
+            List<AchievementService.Rule> unlocked = null;
+            if (affected > 0) {
+                userStats.applyDelta(conn, username, new UserStatsService.Delta().skipped(1).netXp(xpLost));
+                progressIndex.markRecorded(conn, username, taskName, taskId);
+                review = reviews.record(conn, username, taskId, SpacedRepetitionService.SKIP_GRADE);
+                unlocked = achievements.record(conn, username, AchievementService.Event.SKIPPED);
+                rollups.record(conn, username, now, xpLost, 0, 1);
+            }
+            conn.commit();
+            reviews.publish(username, review);
+            achievements.publish(username, unlocked);
             return affected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error saving skipped task: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("HardcodedTaskService.saveSkippedTask", username, "Error saving skipped task", e);
             return false;
         }
     }
@@ -2511,41 +2803,100 @@ public class HardcodedTaskService {
      * Get task history for a user (recent tasks)
      */
     public List<com.forgegrid.model.TaskHistoryEntry> getTaskHistory(String username, int limit) {
-        List<com.forgegrid.model.TaskHistoryEntry> history = new ArrayList<>();
-        String selectSQL = 
-            "SELECT task_name, time_taken, xp_earned, status, completed_at " +
+        return getTaskHistory(username, null, limit);
+    }
+    
+    /**
+     * Get one page of task history, newest first, across user_tasks and its archive
+     *
+     * @param before Cursor of the last entry of the previous page, or null for the newest
+     * @param limit Page size
+     * @return Entries with their cursors; empty if the cursor is malformed
+     */
+    public List<com.forgegrid.model.TaskHistoryEntry> getTaskHistory(String username, String before, int limit) {
+        long[] cursor = parseHistoryCursor(before);
+        if (before != null && cursor == null) {
+            return new ArrayList<>();
+        }
+        String page = cursor != null ? "AND (completed_at < ? OR (completed_at = ? AND id < ?)) " : "";
+        String hotSQL =
+            "SELECT id, task_name, time_taken, xp_earned, status, completed_at " +
             "FROM user_tasks " +
-            "WHERE username = ? AND status IN ('completed','skipped') " +
-            "ORDER BY completed_at DESC " +
+            "WHERE username = ? AND status IN ('completed','skipped') " + page +
+            "ORDER BY completed_at DESC, id DESC " +
+            "LIMIT ?";
+        String archiveSQL =
+            "SELECT id, task_name, time_taken, xp_earned, status, completed_at " +
+            "FROM user_tasks_archive " +
+            "WHERE username = ? " + page +
+            "ORDER BY completed_at DESC, id DESC " +
             "LIMIT ?";
         
-        try (Connection conn = dbHelper.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-            
-            pstmt.setString(1, username);
-            pstmt.setInt(2, limit);
+        List<HistoryRow> rows = new ArrayList<>();
+        try (Connection conn = dbHelper.getConnection()) {
+            // Goated rows stay hot however old they are, so both segments are read and merged
+            readHistory(conn, hotSQL, username, cursor, limit, rows);
+            readHistory(conn, archiveSQL, username, cursor, limit, rows);
+        } catch (SQLException e) {
+            Log.error("HardcodedTaskService.getTaskHistory", username, "Error getting task history", e);
+        }
+        
+        rows.sort((a, b) -> a.millis != b.millis ? Long.compare(b.millis, a.millis) : Long.compare(b.id, a.id));
+        List<com.forgegrid.model.TaskHistoryEntry> history = new ArrayList<>();
+        for (HistoryRow r : rows.subList(0, Math.min(limit, rows.size()))) {
+            history.add(r.entry);
+        }
+        return history;
+    }
+    
+    private void readHistory(Connection conn, String sql, String username, long[] cursor, int limit,
+                             List<HistoryRow> out) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int i = 1;
+            pstmt.setString(i++, username);
+            if (cursor != null) {
+                Timestamp at = new Timestamp(cursor[0]);
+                pstmt.setTimestamp(i++, at);
+                pstmt.setTimestamp(i++, at);
+                pstmt.setLong(i++, cursor[1]);
+            }
+            pstmt.setInt(i, limit);
             ResultSet rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                String taskName = rs.getString("task_name");
-                int timeTaken = rs.getInt("time_taken");
-                int xpEarned = rs.getInt("xp_earned");
-                String status = rs.getString("status");
+                long id = rs.getLong("id");
                 Timestamp timestamp = rs.getTimestamp("completed_at");
-                
-                String timeStr = formatTimestamp(timestamp);
-                
-                history.add(new com.forgegrid.model.TaskHistoryEntry(
-                    taskName, timeTaken, xpEarned, status, timeStr
-                ));
+                long millis = timestamp != null ? timestamp.getTime() : 0L;
+                out.add(new HistoryRow(id, millis, new com.forgegrid.model.TaskHistoryEntry(
+                    rs.getString("task_name"), rs.getInt("time_taken"), rs.getInt("xp_earned"),
+                    rs.getString("status"), formatTimestamp(timestamp), millis + ":" + id
+                )));
             }
-            
-        } catch (SQLException e) {
-            System.err.println("Error getting task history: " + e.getMessage());
-            e.printStackTrace();
         }
+    }
+    
+    /** "millis:id" as produced by {@link #readHistory}, or null if absent or malformed. */
+    private static long[] parseHistoryCursor(String cursor) {
+        if (cursor == null) return null;
+        int colon = cursor.indexOf(':');
+        if (colon < 0) return null;
+        try {
+            return new long[] { Long.parseLong(cursor.substring(0, colon)), Long.parseLong(cursor.substring(colon + 1)) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private static final class HistoryRow {
+        final long id;
+        final long millis;
+        final com.forgegrid.model.TaskHistoryEntry entry;
         
-        return history;
+        HistoryRow(long id, long millis, com.forgegrid.model.TaskHistoryEntry entry) {
+            this.id = id;
+            this.millis = millis;
+            this.entry = entry;
+        }
     }
     
     /**
@@ -0,0 +1,151 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Moves old task history out of user_tasks so the hot table only holds recent
+ * rows, however long an account has been around.
+ *
+ * Finished regular tasks (completed or skipped, not goated) older than the
+ * horizon are copied into user_tasks_archive (InnoDB compressed rows, same
+ * IDs) and folded into user_tasks_rollup, one row per user and month with the
+ * counts and XP that user_stats is built from. Copy, fold and delete commit
+ * together, a batch at a time.
+ *
+ * Readers that need the full history (history paging, progress and review
+ * rebuilds, stats rebuilds) read the archive or the rollup alongside user_tasks.
+ */
+public class HistoryArchiveService {
+
+    /** Rows of user_tasks that may be archived, once older than the cutoff. */
+    private static final String ARCHIVABLE =
+        "(type IS NULL OR type <> 'goated') AND status IN ('completed', 'skipped') AND completed_at < ?";
+
+    private final DatabaseHelper dbHelper;
+
+    public HistoryArchiveService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+    }
+
+    /**
+     * Create user_tasks_archive and user_tasks_rollup if missing (called with user_tasks creation)
+     */
+    static void createTables(Statement stmt) throws SQLException {
+        String archiveSQL =
+            "CREATE TABLE IF NOT EXISTS user_tasks_archive (" +
+            "id INT PRIMARY KEY, " +
+            "username VARCHAR(100) NOT NULL, " +
+            "task_name VARCHAR(255) NOT NULL, " +
+            "task_id INT NULL, " +
+            "time_taken INT, " +
+            "xp_earned INT, " +
+            "status VARCHAR(50), " +
+            "completed_at TIMESTAMP NULL, " +
+            "created_at TIMESTAMP NULL, " +
+            "archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "INDEX idx_archive_user_time (username, completed_at, id), " +
+            "INDEX idx_archive_user_task (username, task_id)" +
+            ")";
+        try {
+            stmt.execute(archiveSQL + " ROW_FORMAT=COMPRESSED");
+        } catch (SQLException e) {
+            // Servers without compressed row support still get the archive, uncompressed
+            Log.warn("HistoryArchiveService.createTables", null, "Compressed archive not supported, using default row format", e);
+            stmt.execute(archiveSQL);
+        }
+        stmt.execute(
+            "CREATE TABLE IF NOT EXISTS user_tasks_rollup (" +
+            "username VARCHAR(100) NOT NULL, " +
+            "month_start DATE NOT NULL, " +
+            "completed_count INT NOT NULL DEFAULT 0, " +
+            "skipped_count INT NOT NULL DEFAULT 0, " +
+            "total_xp INT NOT NULL DEFAULT 0, " +
+            "net_xp INT NOT NULL DEFAULT 0, " +
+            "minutes INT NOT NULL DEFAULT 0, " +
+            "last_activity TIMESTAMP NULL, " +
+            "PRIMARY KEY (username, month_start)" +
+            ")");
+    }
+
+    /**
+     * Archive one batch of finished tasks completed before the cutoff
+     *
+     * @param cutoff Rows completed before this are archived
+     * @param limit Maximum number of rows to move
+     * @return Number of rows archived, or -1 on error (nothing is moved then)
+     */
+    public int archiveBefore(LocalDateTime cutoff, int limit) {
+        String batchSQL = "SELECT MAX(id) FROM (SELECT id FROM user_tasks WHERE " + ARCHIVABLE + " ORDER BY id LIMIT ?) batch";
+        String where = ARCHIVABLE + " AND id <= ?";
+        String copySQL =
+            "INSERT INTO user_tasks_archive (id, username, task_name, task_id, time_taken, xp_earned, status, completed_at, created_at) " +
+            "SELECT id, username, task_name, task_id, time_taken, xp_earned, status, completed_at, created_at " +
+            "FROM user_tasks WHERE " + where;
+        String foldSQL =
+            "INSERT INTO user_tasks_rollup (username, month_start, completed_count, skipped_count, total_xp, net_xp, minutes, last_activity) " +
+            "SELECT username, DATE_FORMAT(completed_at, '%Y-%m-01'), " +
+            "SUM(status = 'completed'), SUM(status = 'skipped'), " +
+            "COALESCE(SUM(CASE WHEN status = 'completed' THEN xp_earned ELSE 0 END), 0), " +
+            "COALESCE(SUM(xp_earned), 0), " +
+            "COALESCE(SUM(CASE WHEN status = 'completed' THEN time_taken ELSE 0 END), 0), " +
+            "MAX(completed_at) " +
+            "FROM user_tasks WHERE " + where + " GROUP BY username, DATE_FORMAT(completed_at, '%Y-%m-01') " +
+            "ON DUPLICATE KEY UPDATE " +
+            "completed_count = completed_count + VALUES(completed_count), " +
+            "skipped_count = skipped_count + VALUES(skipped_count), " +
+            "total_xp = total_xp + VALUES(total_xp), " +
+            "net_xp = net_xp + VALUES(net_xp), " +
+            "minutes = minutes + VALUES(minutes), " +
+            "last_activity = GREATEST(COALESCE(last_activity, VALUES(last_activity)), VALUES(last_activity))";
+        String deleteSQL = "DELETE FROM user_tasks WHERE " + where;
+
+        // A fixed cutoff and upper id keep the three statements on exactly the same rows
+        Timestamp before = Timestamp.valueOf(cutoff);
+        try (Connection conn = dbHelper.getConnection()) {
+            conn.setAutoCommit(false);
+            int maxId;
+            try (PreparedStatement ps = conn.prepareStatement(batchSQL)) {
+                ps.setTimestamp(1, before);
+                ps.setInt(2, limit);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    maxId = rs.getInt(1);
+                    if (rs.wasNull()) {
+                        return 0;
+                    }
+                }
+            }
+            int copied = executeUpdate(conn, copySQL, before, maxId);
+            executeUpdate(conn, foldSQL, before, maxId);
+            int deleted = executeUpdate(conn, deleteSQL, before, maxId);
+            if (copied != deleted) {
+                conn.rollback();
+                Log.error("HistoryArchiveService.archiveBefore", null,
+                    "Archive batch mismatch (copied " + copied + ", deleted " + deleted + "); rolled back", null);
+                return -1;
+            }
+            conn.commit();
+            return deleted;
+        } catch (SQLException e) {
+            Log.error("HistoryArchiveService.archiveBefore", null, "Error archiving task history", e);
+            return -1;
+        }
+    }
+
+    private static int executeUpdate(Connection conn, String sql, Timestamp before, int maxId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, before);
+            ps.setInt(2, maxId);
+            return ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,585 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * XP rankings kept in memory: global, per onboarding language, per
+ * onboarding skill level, and XP earned this week (Monday to Sunday).
+ *
+ * Each board is a {@link RankTree} ordered by score, then username, so the
+ * top K and any user's rank cost O(log n) instead of sorting users by
+ * total_xp. {@link LevelService#addXP} updates the boards as XP changes;
+ * changes made by other processes (and onboarding track changes) are picked up
+ * by a catch-up read of users changed since the last sync, at most once a
+ * minute. Loads and catch-ups read the database without holding the boards'
+ * monitor and only apply the rows under it, so readers and {@link #recordXp}
+ * never wait on a query; one thread syncs at a time and the others serve the
+ * boards as they are.
+ *
+ * The boards load lazily on first use. Cold start reads the
+ * leaderboard_checkpoint table, written by {@link #checkpoint()} (the
+ * "leaderboard" maintenance job), and catches up from there; only the very
+ * first start reads every user and this week's XP from user_tasks.
+ */
+public class LeaderboardService {
+
+    /** Which ranking to read. */
+    public enum Board {
+        GLOBAL, LANGUAGE, SKILL, WEEKLY
+    }
+
+    private static final long SYNC_MILLIS = 60_000;
+    /** Catch-up reaches this far before the last sync or checkpoint, for writes in flight (and clock skew) at the time. */
+    private static final int CATCH_UP_MARGIN_MINUTES = 5;
+
+    private static final Comparator<Standing> BY_SCORE =
+        Comparator.comparingInt((Standing s) -> -s.score).thenComparing(s -> s.username);
+
+    private static final LeaderboardService INSTANCE = new LeaderboardService();
+
+    private final DatabaseHelper dbHelper;
+    private final Map<String, Member> members = new HashMap<>();
+    private final RankTree<Standing> global = new RankTree<>(BY_SCORE);
+    private final RankTree<Standing> weekly = new RankTree<>(BY_SCORE);
+    private final Map<String, RankTree<Standing>> byLanguage = new HashMap<>();
+    private final Map<String, RankTree<Standing>> bySkill = new HashMap<>();
+    /** Users changed since the last checkpoint. */
+    private final Set<String> dirty = new LinkedHashSet<>();
+
+    /** Held while reading the database for a load or catch-up. */
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private volatile boolean loaded;
+    private LocalDate weekStart;
+    /** Database time of the last sync (guarded by syncLock); users updated after it are re-read. */
+    private Timestamp syncedAt;
+    private volatile long syncedAtMillis;
+
+    private LeaderboardService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createLeaderboardCheckpointTable();
+        MetricsRegistry.getInstance().gauge("leaderboard.users", this::size);
+    }
+
+    public static LeaderboardService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The first limit users on a board, best first
+     *
+     * @param track Language (LANGUAGE) or skill level (SKILL); ignored for the other boards
+     */
+    public List<Standing> top(Board board, String track, int limit) {
+        ensureFresh();
+        synchronized (this) {
+            rollWeek();
+            RankTree<Standing> tree = tree(board, track);
+            List<Standing> out = new ArrayList<>();
+            if (tree == null) {
+                return out;
+            }
+            int rank = 1;
+            for (Standing s : tree.range(0, limit)) {
+                out.add(s.at(rank++));
+            }
+            return out;
+        }
+    }
+
+    /**
+     * A user's place on a board
+     *
+     * @param track Language (LANGUAGE) or skill level (SKILL); ignored for the
+     *        other boards; null uses the user's own track
+     * @return Standing with its 1-based rank, or null if the user is not on the board
+     */
+    public Standing rankOf(Board board, String track, String username) {
+        ensureFresh();
+        synchronized (this) {
+            rollWeek();
+            Member m = members.get(username);
+            if (m == null) {
+                return null;
+            }
+            if (track == null) {
+                track = board == Board.LANGUAGE ? m.language : m.skill;
+            }
+            RankTree<Standing> tree = tree(board, track);
+            Standing entry = entryOf(m, board);
+            int rank = tree != null && entry != null ? tree.rank(entry) : -1;
+            return rank >= 0 ? entry.at(rank + 1) : null;
+        }
+    }
+
+    /**
+     * Number of users on a board
+     */
+    public int count(Board board, String track) {
+        ensureFresh();
+        synchronized (this) {
+            rollWeek();
+            RankTree<Standing> tree = tree(board, track);
+            return tree != null ? tree.size() : 0;
+        }
+    }
+
+    /**
+     * Apply an XP change written by {@link LevelService#addXP} (no-op until the boards are loaded)
+     *
+     * @param totalXp New total
+     * @param delta Change, counted towards this week
+     */
+    synchronized void recordXp(String username, int totalXp, int delta) {
+        if (!loaded) {
+            return;
+        }
+        rollWeek();
+        Member m = member(username);
+        update(m, totalXp, m.weeklyXp + delta);
+        m.recordedAtMillis = System.currentTimeMillis();
+        dirty.add(username);
+    }
+
+    /**
+     * Replace the user's XP after their history was rewritten by a progress
+     * import (no-op until the boards are loaded)
+     *
+     * @param totalXp New total
+     * @param weeklyXp XP earned since {@link #currentWeekStart()} in the new history
+     */
+    synchronized void resetXp(String username, int totalXp, int weeklyXp) {
+        if (!loaded) {
+            return;
+        }
+        rollWeek();
+        Member m = member(username);
+        update(m, totalXp, weeklyXp);
+        m.recordedAtMillis = System.currentTimeMillis();
+        dirty.add(username);
+    }
+
+    private Member member(String username) {
+        Member m = members.get(username);
+        if (m == null) {
+            // Not on the boards yet; the next catch-up brings in the track
+            m = new Member(username, null, null);
+            members.put(username, m);
+        }
+        return m;
+    }
+
+    /**
+     * Write changed users to leaderboard_checkpoint
+     *
+     * @return Rows written
+     */
+    public int checkpoint() throws SQLException {
+        List<Member> batch = new ArrayList<>();
+        LocalDate week;
+        synchronized (this) {
+            if (!loaded) {
+                return 0;
+            }
+            for (String username : dirty) {
+                Member m = members.get(username);
+                if (m != null) {
+                    batch.add(m.copy());
+                }
+            }
+            dirty.clear();
+            week = weekStart;
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        String sql =
+            "INSERT INTO leaderboard_checkpoint (username, total_xp, language, skill, weekly_xp, week_start, checkpointed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, NOW()) ON DUPLICATE KEY UPDATE total_xp = VALUES(total_xp), " +
+            "language = VALUES(language), skill = VALUES(skill), weekly_xp = VALUES(weekly_xp), " +
+            "week_start = VALUES(week_start), checkpointed_at = VALUES(checkpointed_at)";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            for (Member m : batch) {
+                pstmt.setString(1, m.username);
+                pstmt.setInt(2, m.totalXp);
+                pstmt.setString(3, m.language);
+                pstmt.setString(4, m.skill);
+                pstmt.setInt(5, m.weeklyXp);
+                pstmt.setDate(6, Date.valueOf(week));
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            synchronized (this) {
+                for (Member m : batch) {
+                    dirty.add(m.username);
+                }
+            }
+            throw e;
+        }
+        return batch.size();
+    }
+
+    private synchronized int size() {
+        return members.size();
+    }
+
+    // ----- loading -----
+
+    /**
+     * Load the boards on first use (callers wait for it) or catch up once the last
+     * sync is a minute old (callers do not wait if another thread is already at it)
+     */
+    private void ensureFresh() {
+        if (loaded) {
+            if (System.currentTimeMillis() - syncedAtMillis < SYNC_MILLIS || !syncLock.tryLock()) {
+                return;
+            }
+        } else {
+            syncLock.lock();
+        }
+        try {
+            if (!loaded) {
+                try (LatencyHistogram.Sample ignored = MetricsRegistry.getInstance().time("leaderboard.load")) {
+                    load();
+                } catch (SQLException e) {
+                    Log.error("LeaderboardService.load", null, "Error loading leaderboards", e);
+                }
+            } else if (System.currentTimeMillis() - syncedAtMillis >= SYNC_MILLIS) {
+                try {
+                    catchUp();
+                } catch (SQLException e) {
+                    Log.warn("LeaderboardService.catchUp", null, "Leaderboard catch-up failed", e);
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void load() throws SQLException {
+        LocalDate week = currentWeekStart();
+        long readStart = System.currentTimeMillis();
+        List<Member> checkpointed = new ArrayList<>();
+        List<Member> changed;
+        Timestamp at;
+        Timestamp newest = null;
+        try (Connection conn = dbHelper.getConnection()) {
+            at = now(conn);
+            String selectSQL =
+                "SELECT username, total_xp, language, skill, weekly_xp, week_start, checkpointed_at FROM leaderboard_checkpoint";
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(selectSQL)) {
+                while (rs.next()) {
+                    Member m = new Member(rs.getString("username"), rs.getString("language"), rs.getString("skill"));
+                    Date weekOf = rs.getDate("week_start");
+                    m.totalXp = rs.getInt("total_xp");
+                    m.weeklyXp = weekOf != null && weekOf.toLocalDate().equals(week) ? rs.getInt("weekly_xp") : 0;
+                    checkpointed.add(m);
+                    Timestamp checkpointedAt = rs.getTimestamp("checkpointed_at");
+                    if (newest == null || checkpointedAt.after(newest)) {
+                        newest = checkpointedAt;
+                    }
+                }
+            }
+            Timestamp since = newest != null
+                ? new Timestamp(newest.getTime() - CATCH_UP_MARGIN_MINUTES * 60_000L)
+                : null;
+            changed = readChanged(conn, since, week);
+        }
+        int users;
+        synchronized (this) {
+            weekStart = week;
+            for (Member row : checkpointed) {
+                Member m = new Member(row.username, row.language, row.skill);
+                members.put(m.username, m);
+                update(m, row.totalXp, row.weeklyXp);
+            }
+            apply(changed, readStart);
+            users = members.size();
+            syncedAt = at;
+            syncedAtMillis = System.currentTimeMillis();
+            loaded = true;
+        }
+        Log.info("LeaderboardService.load", null, "Loaded " + users + " users ("
+            + (newest != null ? changed.size() + " caught up since checkpoint" : "no checkpoint, read all users") + ")");
+    }
+
+    private void catchUp() throws SQLException {
+        LocalDate week;
+        synchronized (this) {
+            rollWeek();
+            week = weekStart;
+        }
+        Timestamp since = new Timestamp(syncedAt.getTime() - CATCH_UP_MARGIN_MINUTES * 60_000L);
+        long readStart = System.currentTimeMillis();
+        Timestamp at;
+        List<Member> changed;
+        try (Connection conn = dbHelper.getConnection()) {
+            at = now(conn);
+            changed = readChanged(conn, since, week);
+        }
+        synchronized (this) {
+            if (!week.equals(weekStart)) {
+                return; // the week rolled during the read; re-read against the new week next time
+            }
+            apply(changed, readStart);
+            syncedAt = at;
+            syncedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Read users changed since the given time (all users if null), with their XP
+     * since the start of the week; touches no in-memory state
+     *
+     * @return Detached members holding the database values
+     */
+    private static List<Member> readChanged(Connection conn, Timestamp since, LocalDate week) throws SQLException {
+        String changed = since != null ? " WHERE u.updated_at > ?" : "";
+        Map<String, Integer> weeklyXp = new HashMap<>();
+        String weeklySQL =
+            "SELECT t.username, COALESCE(SUM(t.xp_earned), 0) AS xp FROM user_tasks t " +
+            "JOIN users u ON u.username = t.username " +
+            "WHERE t.status IN ('completed', 'skipped') AND t.completed_at >= ?" +
+            (since != null ? " AND u.updated_at > ?" : "") + " GROUP BY t.username";
+        try (PreparedStatement pstmt = conn.prepareStatement(weeklySQL)) {
+            pstmt.setTimestamp(1, Timestamp.valueOf(week.atStartOfDay()));
+            if (since != null) {
+                pstmt.setTimestamp(2, since);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    weeklyXp.put(rs.getString("username"), rs.getInt("xp"));
+                }
+            }
+        }
+        List<Member> rows = new ArrayList<>();
+        String usersSQL = "SELECT u.username, u.total_xp, u.onboarding_language, u.onboarding_skill FROM users u" + changed;
+        try (PreparedStatement pstmt = conn.prepareStatement(usersSQL)) {
+            if (since != null) {
+                pstmt.setTimestamp(1, since);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String username = rs.getString("username");
+                    Member row = new Member(username, rs.getString("onboarding_language"), rs.getString("onboarding_skill"));
+                    row.totalXp = rs.getInt("total_xp");
+                    row.weeklyXp = weeklyXp.getOrDefault(username, 0);
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Apply rows read by {@link #readChanged}. Users whose XP was recorded in this
+     * process after the read started keep their newer values; the next catch-up
+     * re-reads them.
+     */
+    private void apply(List<Member> rows, long readStart) {
+        for (Member row : rows) {
+            Member m = members.get(row.username);
+            if (m == null) {
+                m = new Member(row.username, row.language, row.skill);
+                members.put(row.username, m);
+            } else if (m.recordedAtMillis >= readStart) {
+                continue;
+            } else if (!same(m.language, row.language) || !same(m.skill, row.skill)) {
+                remove(m);
+                m.language = row.language;
+                m.skill = row.skill;
+            }
+            update(m, row.totalXp, row.weeklyXp);
+            dirty.add(row.username);
+        }
+    }
+
+    private void createLeaderboardCheckpointTable() {
+        String createTableSQL =
+            "CREATE TABLE IF NOT EXISTS leaderboard_checkpoint (" +
+            "username VARCHAR(100) PRIMARY KEY, " +
+            "total_xp INT NOT NULL DEFAULT 0, " +
+            "language VARCHAR(255) NULL, " +
+            "skill VARCHAR(255) NULL, " +
+            "weekly_xp INT NOT NULL DEFAULT 0, " +
+            "week_start DATE NULL, " +
+            "checkpointed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP" +
+            ")";
+        try (Connection conn = dbHelper.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(createTableSQL);
+        } catch (SQLException e) {
+            Log.error("LeaderboardService.createLeaderboardCheckpointTable", null, "Error creating leaderboard_checkpoint table", e);
+        }
+    }
+
+    private static Timestamp now(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT NOW()")) {
+            rs.next();
+            return rs.getTimestamp(1);
+        }
+    }
+
+    // ----- boards -----
+
+    /** Start a new weekly board on Monday. */
+    private void rollWeek() {
+        LocalDate current = currentWeekStart();
+        if (current.equals(weekStart)) {
+            return;
+        }
+        weekStart = current;
+        weekly.clear();
+        for (Member m : members.values()) {
+            m.weeklyEntry = null;
+            m.weeklyXp = 0;
+            if (m.totalEntry != null) {
+                m.weeklyEntry = new Standing(0, m.username, 0);
+                weekly.add(m.weeklyEntry);
+            }
+            dirty.add(m.username);
+        }
+    }
+
+    private void update(Member m, int totalXp, int weeklyXp) {
+        remove(m);
+        m.totalXp = totalXp;
+        m.weeklyXp = weeklyXp;
+        m.totalEntry = new Standing(0, m.username, totalXp);
+        m.weeklyEntry = new Standing(0, m.username, weeklyXp);
+        global.add(m.totalEntry);
+        weekly.add(m.weeklyEntry);
+        if (m.language != null) {
+            byLanguage.computeIfAbsent(key(m.language), k -> new RankTree<>(BY_SCORE)).add(m.totalEntry);
+        }
+        if (m.skill != null) {
+            bySkill.computeIfAbsent(key(m.skill), k -> new RankTree<>(BY_SCORE)).add(m.totalEntry);
+        }
+    }
+
+    private void remove(Member m) {
+        if (m.totalEntry != null) {
+            global.remove(m.totalEntry);
+            if (m.language != null) {
+                RankTree<Standing> tree = byLanguage.get(key(m.language));
+                if (tree != null) {
+                    tree.remove(m.totalEntry);
+                }
+            }
+            if (m.skill != null) {
+                RankTree<Standing> tree = bySkill.get(key(m.skill));
+                if (tree != null) {
+                    tree.remove(m.totalEntry);
+                }
+            }
+        }
+        if (m.weeklyEntry != null) {
+            weekly.remove(m.weeklyEntry);
+        }
+    }
+
+    private RankTree<Standing> tree(Board board, String track) {
+        switch (board) {
+            case LANGUAGE: return track != null ? byLanguage.get(key(track)) : null;
+            case SKILL: return track != null ? bySkill.get(key(track)) : null;
+            case WEEKLY: return weekly;
+            default: return global;
+        }
+    }
+
+    private static Standing entryOf(Member m, Board board) {
+        return board == Board.WEEKLY ? m.weeklyEntry : m.totalEntry;
+    }
+
+    private static String key(String track) {
+        return track.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean same(String a, String b) {
+        return a == null ? b == null : b != null && key(a).equals(key(b));
+    }
+
+    static LocalDate currentWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * One user's place on a board (immutable). Entries inside the boards carry rank 0;
+     * the rank is filled in when a standing is handed out.
+     */
+    public static final class Standing {
+        private final int rank;
+        private final String username;
+        private final int score;
+
+        Standing(int rank, String username, int score) {
+            this.rank = rank;
+            this.username = username;
+            this.score = score;
+        }
+
+        Standing at(int rank) {
+            return new Standing(rank, username, score);
+        }
+
+        /** 1-based; ties are broken by username. */
+        public int getRank() { return rank; }
+        public String getUsername() { return username; }
+        /** Total XP, or XP earned this week on the weekly board. */
+        public int getScore() { return score; }
+    }
+
+    private static final class Member {
+        final String username;
+        String language;
+        String skill;
+        int totalXp;
+        int weeklyXp;
+        Standing totalEntry;
+        Standing weeklyEntry;
+        /** When {@link #recordXp} last changed this member, or 0. */
+        long recordedAtMillis;
+
+        Member(String username, String language, String skill) {
+            this.username = username;
+            this.language = language;
+            this.skill = skill;
+        }
+
+        Member copy() {
+            Member m = new Member(username, language, skill);
+            m.totalXp = totalXp;
+            m.weeklyXp = weeklyXp;
+            return m;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.forgegrid.service;
 
 import com.forgegrid.db.DatabaseHelper;
 import com.forgegrid.model.PlayerProfile;
+import com.forgegrid.log.Log;
 import java.sql.*;
 
 /**
@@ -86,55 +87,76 @@ public class LevelService {
      */
     public LevelUpResult addXP(String username, int xpToAdd) {
         try (Connection conn = dbHelper.getConnection()) {
-            // Get current XP and level
-            String selectSQL = "SELECT total_xp, level FROM users WHERE username = ?";
-            int currentTotalXP = 0;
-            int currentLevel = 1;
-            
-            try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
-                pstmt.setString(1, username);
-                ResultSet rs = pstmt.executeQuery();
-                if (rs.next()) {
-                    currentTotalXP = rs.getInt("total_xp");
-                    currentLevel = rs.getInt("level");
-                }
-            }
-            
-            // Add new XP
-            int newTotalXP = Math.max(0, currentTotalXP + xpToAdd);
-            int newLevel = calculateLevelFromXP(newTotalXP);
-            boolean leveledUp = newLevel > currentLevel;
-            
-            // Update database
-            String updateSQL = "UPDATE users SET total_xp = ?, level = ?, updated_at = ? WHERE username = ?";
-            try (PreparedStatement pstmt = conn.prepareStatement(updateSQL)) {
-                pstmt.setInt(1, newTotalXP);
-                pstmt.setInt(2, newLevel);
-                pstmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
-                pstmt.setString(4, username);
-                pstmt.executeUpdate();
-            }
-            
-            // Calculate XP within current level
-            int currentLevelXP = getCurrentLevelXP(newTotalXP);
-            int requiredForNextLevel = getRequiredXPForLevel(newLevel + 1);
-            
-            return new LevelUpResult(
-                leveledUp,
-                currentLevel,
-                newLevel,
-                newTotalXP,
-                currentLevelXP,
-                requiredForNextLevel
-            );
-            
+            conn.setAutoCommit(false);
+            LevelUpResult result = addXP(conn, username, xpToAdd);
+            conn.commit();
+            publish(username, result);
+            return result;
         } catch (SQLException e) {
-            System.err.println("Error adding XP: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("LevelService.addXP", username, "Error adding XP", e);
             return null;
         }
     }
     
+    /**
+     * Add XP as part of the caller's transaction. The users row is locked until
+     * the caller commits, so concurrent changes add up instead of overwriting
+     * each other; call {@link #publish} with the result after the commit.
+     */
+    LevelUpResult addXP(Connection conn, String username, int xpToAdd) throws SQLException {
+        // Get current XP and level
+        String selectSQL = "SELECT total_xp, level FROM users WHERE username = ? FOR UPDATE";
+        int currentTotalXP = 0;
+        int currentLevel = 1;
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                currentTotalXP = rs.getInt("total_xp");
+                currentLevel = rs.getInt("level");
+            }
+        }
+        
+        // Add new XP
+        int newTotalXP = Math.max(0, currentTotalXP + xpToAdd);
+        int newLevel = calculateLevelFromXP(newTotalXP);
+        boolean leveledUp = newLevel > currentLevel;
+        
+        // Update database
+        String updateSQL = "UPDATE users SET total_xp = ?, level = ?, updated_at = ? WHERE username = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(updateSQL)) {
+            pstmt.setInt(1, newTotalXP);
+            pstmt.setInt(2, newLevel);
+            pstmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            pstmt.setString(4, username);
+            pstmt.executeUpdate();
+        }
+        
+        // Calculate XP within current level
+        int currentLevelXP = getCurrentLevelXP(newTotalXP);
+        int requiredForNextLevel = getRequiredXPForLevel(newLevel + 1);
+        
+        return new LevelUpResult(
+            leveledUp,
+            currentLevel,
+            newLevel,
+            newTotalXP,
+            currentLevelXP,
+            requiredForNextLevel,
+            newTotalXP - currentTotalXP
+        );
+    }
+    
+    /**
+     * Apply a committed XP change to the leaderboard (no-op for null)
+     */
+    void publish(String username, LevelUpResult result) {
+        if (result != null) {
+            LeaderboardService.getInstance().recordXp(username, result.totalXP, result.xpChange);
+        }
+    }
+    
     /**
      * Get user's current level info
      */
@@ -157,8 +179,7 @@ public class LevelService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting level info: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("LevelService.getLevelInfo", username, "Error getting level info", e);
         }
         
         return new LevelInfo(1, 0, 0, getRequiredXPForLevel(2));
@@ -174,15 +195,23 @@ public class LevelService {
         public final int totalXP;
         public final int currentLevelXP;
         public final int requiredForNextLevel;
+        /** XP actually applied (the total never drops below 0) */
+        final int xpChange;
         
         public LevelUpResult(boolean leveledUp, int oldLevel, int newLevel, int totalXP, 
                             int currentLevelXP, int requiredForNextLevel) {
+            this(leveledUp, oldLevel, newLevel, totalXP, currentLevelXP, requiredForNextLevel, 0);
+        }
+        
+        LevelUpResult(boolean leveledUp, int oldLevel, int newLevel, int totalXP, 
+                      int currentLevelXP, int requiredForNextLevel, int xpChange) {
             this.leveledUp = leveledUp;
             this.oldLevel = oldLevel;
             this.newLevel = newLevel;
             this.totalXP = totalXP;
             this.currentLevelXP = currentLevelXP;
             this.requiredForNextLevel = requiredForNextLevel;
+            this.xpChange = xpChange;
         }
     }
     
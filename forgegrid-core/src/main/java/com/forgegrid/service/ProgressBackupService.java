@@ -0,0 +1,472 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.util.Json;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saves a user's progress to a file and loads it back (the Save/Load view).
+ *
+ * The file is gzipped JSON lines: a header, the user's progress columns from
+ * users, their user_preferences row, one line per task row (user_tasks,
+ * goated tasks included, and user_tasks_archive) and a trailer with the task
+ * count. Export streams the history straight from a forward-only result set
+ * into the file, and import streams it back into multi-row INSERTs, so memory
+ * stays flat however many years of history the file holds.
+ *
+ * Loading replaces the user's progress with the file's in one transaction:
+ * the users and user_preferences rows are upserted, the user's task rows are
+ * deleted and re-inserted, and the per-user rows derived from history
+ * (stats, calendar, achievements, progress bitmaps, XP buckets, archive
+ * rollups) are dropped so they are rebuilt on next use. Loading the same file
+ * twice leaves the same state; a file cut short is rolled back.
+ */
+public class ProgressBackupService {
+
+    private static final String FORMAT = "forgegrid-progress";
+    private static final int VERSION = 1;
+    private static final int BUFFER_BYTES = 1 << 16;
+    /** Rows per INSERT statement on import. */
+    private static final int INSERT_ROWS = 500;
+
+    /** Task columns in file order, with their type: S string, I int, T timestamp. */
+    private static final String[] TASK_COLUMNS = {
+        "task_name", "time_taken", "xp_earned", "status", "completed_at", "type",
+        "title", "description", "deadline", "xp", "is_completed", "created_at", "task_id"
+    };
+    private static final String TASK_TYPES = "SIISTSSSTIITI";
+
+    /** Per-user rows rebuilt from history when missing. */
+    private static final String[] DERIVED_TABLES = {
+        "user_stats", "user_activity", "user_achievements", "user_progress",
+        "user_xp_buckets", "user_xp_rollup_users", "user_tasks_rollup", "task_reviews"
+    };
+
+    private final DatabaseHelper dbHelper;
+
+    public ProgressBackupService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+    }
+
+    /**
+     * Write the user's progress to a file, replacing it only once complete
+     *
+     * @param username Username
+     * @param file Target file (gzipped JSON lines)
+     * @return What was written
+     */
+    public Summary exportTo(String username, Path file) throws IOException, SQLException {
+        long start = System.nanoTime();
+        Path target = file.toAbsolutePath();
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        int tasks = 0;
+        try (LatencyHistogram.Sample ignored = MetricsRegistry.getInstance().time("progress.export");
+             Connection conn = dbHelper.getConnection();
+             FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                 new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES), StandardCharsets.UTF_8), BUFFER_BYTES)) {
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("format", FORMAT);
+            header.put("version", VERSION);
+            header.put("username", username);
+            header.put("exportedAt", LocalDateTime.now().toString());
+            writeLine(out, header);
+
+            String userSQL = "SELECT total_xp, level, onboarding_completed, onboarding_goal, onboarding_language, onboarding_skill " +
+                             "FROM users WHERE username = ?";
+            try (PreparedStatement ps = conn.prepareStatement(userSQL)) {
+                ps.setString(1, username);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("No such user: " + username);
+                    }
+                    Map<String, Object> user = new LinkedHashMap<>();
+                    user.put("kind", "user");
+                    user.put("total_xp", rs.getInt("total_xp"));
+                    user.put("level", rs.getInt("level"));
+                    user.put("onboarding_completed", rs.getInt("onboarding_completed"));
+                    user.put("onboarding_goal", rs.getString("onboarding_goal"));
+                    user.put("onboarding_language", rs.getString("onboarding_language"));
+                    user.put("onboarding_skill", rs.getString("onboarding_skill"));
+                    writeLine(out, user);
+                }
+            }
+
+            String prefsSQL = "SELECT experience_level, work_style, productivity_goals, notification_preference, customize_completed " +
+                              "FROM user_preferences WHERE username = ? ORDER BY id DESC LIMIT 1";
+            try (PreparedStatement ps = conn.prepareStatement(prefsSQL)) {
+                ps.setString(1, username);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        Map<String, Object> prefs = new LinkedHashMap<>();
+                        prefs.put("kind", "preferences");
+                        prefs.put("experience_level", rs.getString("experience_level"));
+                        prefs.put("work_style", rs.getString("work_style"));
+                        prefs.put("productivity_goals", rs.getString("productivity_goals"));
+                        prefs.put("notification_preference", rs.getString("notification_preference"));
+                        prefs.put("customize_completed", rs.getBoolean("customize_completed"));
+                        writeLine(out, prefs);
+                    }
+                }
+            }
+
+            // Archived rows never have goated fields; the hot table has everything else
+            String columns = String.join(", ", TASK_COLUMNS);
+            String tasksSQL =
+                "SELECT task_name, time_taken, xp_earned, status, completed_at, 'regular' AS type, " +
+                "NULL AS title, NULL AS description, NULL AS deadline, NULL AS xp, 0 AS is_completed, created_at, task_id " +
+                "FROM user_tasks_archive WHERE username = ? " +
+                "UNION ALL SELECT " + columns + " FROM user_tasks WHERE username = ?";
+            try (PreparedStatement ps = conn.prepareStatement(tasksSQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                // Connector/J buffers whole results unless asked to stream row by row
+                ps.setFetchSize(Integer.MIN_VALUE);
+                ps.setString(1, username);
+                ps.setString(2, username);
+                try (ResultSet rs = ps.executeQuery()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    while (rs.next()) {
+                        row.clear();
+                        row.put("kind", "task");
+                        for (int i = 0; i < TASK_COLUMNS.length; i++) {
+                            row.put(TASK_COLUMNS[i], readColumn(rs, i + 1, TASK_TYPES.charAt(i)));
+                        }
+                        writeLine(out, row);
+                        tasks++;
+                    }
+                }
+            }
+
+            Map<String, Object> trailer = new LinkedHashMap<>();
+            trailer.put("kind", "end");
+            trailer.put("tasks", tasks);
+            writeLine(out, trailer);
+        } catch (IOException | SQLException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Summary summary = new Summary(tasks, Files.size(target), (System.nanoTime() - start) / 1_000_000);
+        Log.info("ProgressBackupService.exportTo", username,
+            "Exported " + tasks + " tasks (" + summary.getBytes() + " bytes) in " + summary.getMillis() + " ms");
+        return summary;
+    }
+
+    /**
+     * Replace the user's progress with a file written by {@link #exportTo}.
+     * The file may come from another account; its rows are loaded as this user's.
+     *
+     * @param username Username to load into (must exist)
+     * @param file Progress file
+     * @return What was loaded
+     * @throws IOException if the file is unreadable, not a progress file or cut short (nothing is changed then)
+     */
+    public Summary importFrom(String username, Path file) throws IOException, SQLException {
+        long start = System.nanoTime();
+        int tasks = 0;
+        int totalXp;
+        int weeklyXp;
+        try (LatencyHistogram.Sample ignored = MetricsRegistry.getInstance().time("progress.import");
+             Connection conn = dbHelper.getConnection();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                 new GZIPInputStream(Channels.newInputStream(channel), BUFFER_BYTES), StandardCharsets.UTF_8), BUFFER_BYTES)) {
+            Map<String, Object> header = readLine(in);
+            if (header == null || !FORMAT.equals(header.get("format"))) {
+                throw new IOException("Not a ForgeGrid progress file");
+            }
+            if (toInt(header.get("version")) > VERSION) {
+                throw new IOException("Progress file version " + header.get("version") + " is newer than this app supports");
+            }
+
+            conn.setAutoCommit(false);
+            try {
+                // Hold the user's row so XP writers wait for the load to finish
+                try (PreparedStatement ps = conn.prepareStatement("SELECT total_xp FROM users WHERE username = ? FOR UPDATE")) {
+                    ps.setString(1, username);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException("No such user: " + username);
+                        }
+                        totalXp = rs.getInt(1);
+                    }
+                }
+                deleteUserRows(conn, username, "user_tasks", "user_tasks_archive");
+                deleteUserRows(conn, username, DERIVED_TABLES);
+
+                TaskInserter inserter = new TaskInserter(conn, username);
+                Integer expected = null;
+                for (Map<String, Object> line = readLine(in); line != null && expected == null; line = readLine(in)) {
+                    Object kind = line.get("kind");
+                    if ("task".equals(kind)) {
+                        inserter.add(line);
+                        tasks++;
+                    } else if ("user".equals(kind)) {
+                        totalXp = updateUser(conn, username, line);
+                    } else if ("preferences".equals(kind)) {
+                        upsertPreferences(conn, username, line);
+                    } else if ("end".equals(kind)) {
+                        expected = toInt(line.get("tasks"));
+                    }
+                }
+                inserter.flush();
+                if (expected == null || expected != tasks) {
+                    throw new IOException("Progress file is incomplete (" + tasks + " tasks read"
+                        + (expected != null ? ", " + expected + " expected" : ", no trailer") + ")");
+                }
+                weeklyXp = weeklyXp(conn, username);
+                conn.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Progress file is damaged: " + e.getMessage(), e);
+        }
+
+        // Drop caches built from the old rows
+        LeaderboardService.getInstance().resetXp(username, totalXp, weeklyXp);
+        DeadlineScheduler.getInstance().reload(username);
+        TaskScheduler.getInstance().invalidate(username);
+        SpacedRepetitionService.getInstance().invalidate(username);
+        Summary summary = new Summary(tasks, Files.size(file), (System.nanoTime() - start) / 1_000_000);
+        Log.info("ProgressBackupService.importFrom", username,
+            "Imported " + tasks + " tasks in " + summary.getMillis() + " ms");
+        return summary;
+    }
+
+    /**
+     * XP the loaded history earned this week, for the weekly leaderboard
+     */
+    private static int weeklyXp(Connection conn, String username) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(xp_earned), 0) FROM user_tasks " +
+                     "WHERE username = ? AND status IN ('completed', 'skipped') AND completed_at >= ?";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, username);
+            ps.setTimestamp(2, Timestamp.valueOf(LeaderboardService.currentWeekStart().atStartOfDay()));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    private static void deleteUserRows(Connection conn, String username, String... tables) throws SQLException {
+        for (String table : tables) {
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM " + table + " WHERE username = ?")) {
+                ps.setString(1, username);
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Overwrite the user's progress columns
+     *
+     * @return The new total XP
+     */
+    private static int updateUser(Connection conn, String username, Map<String, Object> line) throws SQLException {
+        String sql = "UPDATE users SET total_xp = ?, level = ?, onboarding_completed = ?, " +
+                     "onboarding_goal = ?, onboarding_language = ?, onboarding_skill = ? WHERE username = ?";
+        int totalXp = toInt(line.get("total_xp"));
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, totalXp);
+            ps.setInt(2, Math.max(1, toInt(line.get("level"))));
+            ps.setInt(3, toInt(line.get("onboarding_completed")));
+            ps.setString(4, (String) line.get("onboarding_goal"));
+            ps.setString(5, (String) line.get("onboarding_language"));
+            ps.setString(6, (String) line.get("onboarding_skill"));
+            ps.setString(7, username);
+            ps.executeUpdate();
+        }
+        return totalXp;
+    }
+
+    /**
+     * Update the user's preferences row, or add one (user_preferences has no unique key on username)
+     */
+    private static void upsertPreferences(Connection conn, String username, Map<String, Object> line) throws SQLException {
+        String updateSQL = "UPDATE user_preferences SET experience_level = ?, work_style = ?, productivity_goals = ?, " +
+                           "notification_preference = ?, customize_completed = ? WHERE username = ?";
+        String insertSQL = "INSERT INTO user_preferences (experience_level, work_style, productivity_goals, " +
+                           "notification_preference, customize_completed, username) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement ps = conn.prepareStatement(updateSQL)) {
+            bindPreferences(ps, username, line);
+            if (ps.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement(insertSQL)) {
+            bindPreferences(ps, username, line);
+            ps.executeUpdate();
+        }
+    }
+
+    private static void bindPreferences(PreparedStatement ps, String username, Map<String, Object> line) throws SQLException {
+        ps.setString(1, (String) line.get("experience_level"));
+        ps.setString(2, (String) line.get("work_style"));
+        ps.setString(3, (String) line.get("productivity_goals"));
+        ps.setString(4, (String) line.get("notification_preference"));
+        ps.setBoolean(5, Boolean.TRUE.equals(line.get("customize_completed")));
+        ps.setString(6, username);
+    }
+
+    private static Object readColumn(ResultSet rs, int index, char type) throws SQLException {
+        switch (type) {
+            case 'I': {
+                int v = rs.getInt(index);
+                return rs.wasNull() ? null : v;
+            }
+            case 'T': {
+                Timestamp t = rs.getTimestamp(index);
+                return t != null ? t.toLocalDateTime().toString() : null;
+            }
+            default:
+                return rs.getString(index);
+        }
+    }
+
+    private static void bindColumn(PreparedStatement ps, int index, char type, Object value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, type == 'I' ? Types.INTEGER : type == 'T' ? Types.TIMESTAMP : Types.VARCHAR);
+            return;
+        }
+        switch (type) {
+            case 'I': ps.setInt(index, toInt(value)); break;
+            case 'T': ps.setTimestamp(index, Timestamp.valueOf(LocalDateTime.parse((String) value))); break;
+            default: ps.setString(index, (String) value);
+        }
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private static void writeLine(Writer out, Map<String, Object> line) throws IOException {
+        out.write(Json.write(line));
+        out.write('\n');
+    }
+
+    private static Map<String, Object> readLine(BufferedReader in) throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+        } while (line != null && line.isBlank());
+        return line != null ? Json.parseObject(line) : null;
+    }
+
+    /**
+     * Inserts task rows {@link #INSERT_ROWS} at a time with one multi-row
+     * statement; holds at most one statement's worth of rows
+     */
+    private static final class TaskInserter {
+        private final Connection conn;
+        private final String username;
+        private final Object[][] pending = new Object[INSERT_ROWS][];
+        private PreparedStatement full;
+        private int rows;
+
+        TaskInserter(Connection conn, String username) {
+            this.conn = conn;
+            this.username = username;
+        }
+
+        void add(Map<String, Object> line) throws SQLException {
+            Object[] values = new Object[TASK_COLUMNS.length];
+            for (int i = 0; i < TASK_COLUMNS.length; i++) {
+                values[i] = line.get(TASK_COLUMNS[i]);
+            }
+            pending[rows++] = values;
+            if (rows == INSERT_ROWS) {
+                if (full == null) {
+                    full = conn.prepareStatement(insertSQL(INSERT_ROWS));
+                }
+                execute(full);
+            }
+        }
+
+        /** Insert the rows left over from the last full statement, and close the statements. */
+        void flush() throws SQLException {
+            try {
+                if (rows > 0) {
+                    try (PreparedStatement last = conn.prepareStatement(insertSQL(rows))) {
+                        execute(last);
+                    }
+                }
+            } finally {
+                if (full != null) {
+                    full.close();
+                }
+            }
+        }
+
+        private void execute(PreparedStatement ps) throws SQLException {
+            int param = 1;
+            for (int r = 0; r < rows; r++) {
+                ps.setString(param++, username);
+                for (int i = 0; i < TASK_COLUMNS.length; i++) {
+                    bindColumn(ps, param++, TASK_TYPES.charAt(i), pending[r][i]);
+                }
+                pending[r] = null;
+            }
+            ps.executeUpdate();
+            rows = 0;
+        }
+
+        private static String insertSQL(int rows) {
+            StringBuilder sb = new StringBuilder("INSERT INTO user_tasks (username, ")
+                .append(String.join(", ", TASK_COLUMNS)).append(") VALUES ");
+            String row = "(?" + ", ?".repeat(TASK_COLUMNS.length) + ")";
+            for (int r = 0; r < rows; r++) {
+                sb.append(r > 0 ? ", " : "").append(row);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Outcome of an export or import
+     */
+    public static final class Summary {
+        private final int tasks;
+        private final long bytes;
+        private final long millis;
+
+        private Summary(int tasks, long bytes, long millis) {
+            this.tasks = tasks;
+            this.bytes = bytes;
+            this.millis = millis;
+        }
+
+        /** Task rows written or loaded. */
+        public int getTasks() { return tasks; }
+        /** Size of the compressed file. */
+        public long getBytes() { return bytes; }
+        public long getMillis() { return millis; }
+    }
+}
@@ -0,0 +1,252 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.model.HardcodedTask;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Per-user task progress stored as one small bitmap per catalog track.
+ *
+ * user_progress holds a BINARY(32) blob per (username, track): bit i is set
+ * once the task at position i of the track has been assigned, completed or
+ * skipped. Views load a single row (32 bytes) instead of every task name the
+ * user has ever recorded; writers OR their bit in with one UPDATE inside the
+ * same transaction as the user_tasks row.
+ *
+ * A missing row is rebuilt from user_tasks, so existing users are backfilled
+ * lazily, one track at a time.
+ */
+public class ProgressIndex {
+
+    /** Bytes per track bitmap; one bit per ID in a track's block. */
+    static final int BLOB_BYTES = TaskCatalog.TRACK_STRIDE / 8;
+
+    private static volatile boolean tableReady = false;
+
+    private final DatabaseHelper dbHelper;
+    private final TaskCatalog catalog = TaskCatalog.getInstance();
+
+    public ProgressIndex() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createUserProgressTable();
+    }
+
+    private void createUserProgressTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (ProgressIndex.class) {
+            if (tableReady) {
+                return;
+            }
+            String createTableSQL =
+                "CREATE TABLE IF NOT EXISTS user_progress (" +
+                "username VARCHAR(100) NOT NULL, " +
+                "track SMALLINT NOT NULL, " +
+                "bits BINARY(" + BLOB_BYTES + ") NOT NULL, " +
+                "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
+                "PRIMARY KEY (username, track)" +
+                ")";
+            try (Connection conn = dbHelper.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute(createTableSQL);
+                tableReady = true;
+            } catch (SQLException e) {
+                Log.error("ProgressIndex.createUserProgressTable", null, "Error creating user_progress table", e);
+            }
+        }
+    }
+
+    /**
+     * Load the user's progress on one track with a single primary-key read
+     *
+     * @param username Username
+     * @param language Onboarding language, e.g. "Java"
+     * @param level Onboarding level, e.g. "Beginner"
+     * @return Progress; empty if nothing is recorded or the read failed
+     */
+    public TrackProgress load(String username, String language, String level) {
+        TaskCatalog.Track track = catalog.getTrack(language, level);
+        String selectSQL = "SELECT bits FROM user_progress WHERE username = ? AND track = ?";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            pstmt.setInt(2, track.getIndex());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return new TrackProgress(track, BitSet.valueOf(rs.getBytes("bits")));
+                }
+            }
+            return new TrackProgress(track, rebuildTrack(conn, username, track));
+        } catch (SQLException e) {
+            Log.error("ProgressIndex.load", username, "Error loading task progress", e);
+        }
+        return new TrackProgress(track, new BitSet());
+    }
+
+    /**
+     * Set the bit for a recorded task as part of the caller's transaction.
+     * Tasks without a catalog ID are matched by name on every track that has them.
+     *
+     * @param conn Connection holding the caller's transaction (the user_tasks row is already written)
+     * @param username Username
+     * @param taskName Task name
+     * @param taskId Catalog ID, or -1 if unknown
+     */
+    void markRecorded(Connection conn, String username, String taskName, int taskId) throws SQLException {
+        int[] ids = taskId >= 0 ? new int[] { taskId } : catalog.idsForName(taskName);
+        String updateSQL = "UPDATE user_progress SET bits = bits | ? WHERE username = ? AND track = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(updateSQL)) {
+            for (int id : ids) {
+                int trackIndex = id / TaskCatalog.TRACK_STRIDE;
+                BitSet bit = new BitSet();
+                bit.set(id - trackIndex * TaskCatalog.TRACK_STRIDE);
+                pstmt.setBytes(1, toBlob(bit));
+                pstmt.setString(2, username);
+                pstmt.setInt(3, trackIndex);
+                if (pstmt.executeUpdate() == 0) {
+                    // No row yet: derive it from user_tasks, which already holds this change
+                    rebuildTrack(conn, username, catalog.getTracks().get(trackIndex));
+                }
+            }
+        }
+    }
+
+    /**
+     * Recompute all of a user's track bitmaps from user_tasks
+     *
+     * @return true if the rebuild succeeded
+     */
+    public boolean rebuild(String username) {
+        try (Connection conn = dbHelper.getConnection()) {
+            conn.setAutoCommit(false);
+            BitSet all = recordedIds(conn, username);
+            try (PreparedStatement del = conn.prepareStatement("DELETE FROM user_progress WHERE username = ?")) {
+                del.setString(1, username);
+                del.executeUpdate();
+            }
+            for (TaskCatalog.Track track : catalog.getTracks()) {
+                BitSet local = all.get(track.getBaseId(), track.getBaseId() + TaskCatalog.TRACK_STRIDE);
+                if (!local.isEmpty()) {
+                    upsert(conn, username, track, local);
+                }
+            }
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            Log.error("ProgressIndex.rebuild", username, "Error rebuilding task progress", e);
+            return false;
+        }
+    }
+
+    /**
+     * Catalog IDs of every regular task row the user has, read from user_tasks
+     * and its archive.
+     * Rows from before task_id existed are matched to catalog tasks by name.
+     */
+    static BitSet recordedIds(Connection conn, String username) throws SQLException {
+        BitSet ids = new BitSet();
+        String selectSQL = "SELECT task_id, task_name FROM user_tasks WHERE username = ? AND (type IS NULL OR type <> 'goated') " +
+                           "UNION ALL SELECT task_id, task_name FROM user_tasks_archive WHERE username = ?";
+        TaskCatalog catalog = TaskCatalog.getInstance();
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int id = rs.getInt("task_id");
+                    if (!rs.wasNull()) {
+                        ids.set(id);
+                    } else {
+                        for (int legacy : catalog.idsForName(rs.getString("task_name"))) {
+                            ids.set(legacy);
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private BitSet rebuildTrack(Connection conn, String username, TaskCatalog.Track track) throws SQLException {
+        BitSet local = recordedIds(conn, username).get(track.getBaseId(), track.getBaseId() + TaskCatalog.TRACK_STRIDE);
+        upsert(conn, username, track, local);
+        return local;
+    }
+
+    private static void upsert(Connection conn, String username, TaskCatalog.Track track, BitSet local) throws SQLException {
+        String sql = "INSERT INTO user_progress (username, track, bits) VALUES (?, ?, ?) " +
+                     "ON DUPLICATE KEY UPDATE bits = bits | VALUES(bits)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, username);
+            pstmt.setInt(2, track.getIndex());
+            pstmt.setBytes(3, toBlob(local));
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static byte[] toBlob(BitSet bits) {
+        return Arrays.copyOf(bits.toByteArray(), BLOB_BYTES);
+    }
+
+    /**
+     * A user's progress on one track, as loaded from user_progress
+     */
+    public static final class TrackProgress {
+        private final TaskCatalog.Track track;
+        private final BitSet bits;
+
+        TrackProgress(TaskCatalog.Track track, BitSet bits) {
+            this.track = track;
+            this.bits = bits;
+        }
+
+        public TaskCatalog.Track getTrack() {
+            return track;
+        }
+
+        /** Whether the task was assigned, completed or skipped before. */
+        public boolean isRecorded(HardcodedTask task) {
+            int position = task.getId() - track.getBaseId();
+            return position >= 0 && position < TaskCatalog.TRACK_STRIDE && bits.get(position);
+        }
+
+        /**
+         * Position of the first task not yet recorded (one nextClearBit)
+         *
+         * @return Index into the track's task list, or -1 if all are recorded
+         */
+        public int nextOpenPosition() {
+            int position = bits.nextClearBit(0);
+            return position < track.size() ? position : -1;
+        }
+
+        /** Copy of the recorded positions (bit i = task i of the track). */
+        public BitSet toBitSet() {
+            return (BitSet) bits.clone();
+        }
+
+        /** Tasks recorded on this track. */
+        public int recordedCount() {
+            return bits.get(0, track.size()).cardinality();
+        }
+
+        /**
+         * Update the in-memory copy after a write (the database row is updated by the service)
+         */
+        public void markRecorded(HardcodedTask task) {
+            int position = task.getId() - track.getBaseId();
+            if (position >= 0 && position < TaskCatalog.TRACK_STRIDE) {
+                bits.set(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.forgegrid.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sorted set that also answers "position of x" and "elements at positions
+ * i..i+k" in O(log n) (plus k): a treap whose nodes carry their subtree size.
+ *
+ * Not thread-safe; callers lock around it.
+ */
+final class RankTree<T> {
+
+    private static final class Node<T> {
+        final T value;
+        final int priority;
+        int size = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    /** Result of {@link #split}: the elements before a value, and the rest. */
+    private static final class Split<T> {
+        Node<T> before;
+        Node<T> rest;
+    }
+
+    private final Comparator<? super T> order;
+    private final Random random = new Random();
+    private Node<T> root;
+
+    RankTree(Comparator<? super T> order) {
+        this.order = order;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * @return false if an equal element is already present
+     */
+    boolean add(T value) {
+        if (rank(value) >= 0) {
+            return false;
+        }
+        root = insert(root, new Node<>(value, random.nextInt()));
+        return true;
+    }
+
+    /**
+     * @return false if no equal element was present
+     */
+    boolean remove(T value) {
+        int before = size();
+        root = remove(root, value);
+        return size() < before;
+    }
+
+    /**
+     * Zero-based position of the element, or -1 if absent
+     */
+    int rank(T value) {
+        int rank = 0;
+        Node<T> n = root;
+        while (n != null) {
+            int c = order.compare(value, n.value);
+            if (c < 0) {
+                n = n.left;
+            } else if (c > 0) {
+                rank += size(n.left) + 1;
+                n = n.right;
+            } else {
+                return rank + size(n.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Up to limit elements in order, starting at zero-based position from
+     */
+    List<T> range(int from, int limit) {
+        List<T> out = new ArrayList<>(Math.max(0, Math.min(limit, size() - from)));
+        collect(root, Math.max(0, from), limit, out);
+        return out;
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    private void collect(Node<T> n, int skip, int limit, List<T> out) {
+        if (n == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(n.left);
+        if (skip < leftSize) {
+            collect(n.left, skip, limit, out);
+        }
+        if (skip <= leftSize && out.size() < limit) {
+            out.add(n.value);
+        }
+        if (out.size() < limit) {
+            collect(n.right, Math.max(0, skip - leftSize - 1), limit, out);
+        }
+    }
+
+    private Node<T> insert(Node<T> n, Node<T> x) {
+        if (n == null) {
+            return x;
+        }
+        if (x.priority > n.priority) {
+            // x becomes the root of this subtree: split n around it
+            Split<T> parts = new Split<>();
+            split(n, x.value, parts);
+            x.left = parts.before;
+            x.right = parts.rest;
+            update(x);
+            return x;
+        }
+        if (order.compare(x.value, n.value) < 0) {
+            n.left = insert(n.left, x);
+        } else {
+            n.right = insert(n.right, x);
+        }
+        update(n);
+        return n;
+    }
+
+    /** Fill parts with the elements of n before value and the rest. */
+    private void split(Node<T> n, T value, Split<T> parts) {
+        if (n == null) {
+            parts.before = null;
+            parts.rest = null;
+            return;
+        }
+        if (order.compare(n.value, value) < 0) {
+            split(n.right, value, parts);
+            n.right = parts.before;
+            update(n);
+            parts.before = n;
+        } else {
+            split(n.left, value, parts);
+            n.left = parts.rest;
+            update(n);
+            parts.rest = n;
+        }
+    }
+
+    private Node<T> remove(Node<T> n, T value) {
+        if (n == null) {
+            return null;
+        }
+        int c = order.compare(value, n.value);
+        if (c == 0) {
+            return merge(n.left, n.right);
+        }
+        if (c < 0) {
+            n.left = remove(n.left, value);
+        } else {
+            n.right = remove(n.right, value);
+        }
+        update(n);
+        return n;
+    }
+
+    /** Join two subtrees where every element of a precedes every element of b. */
+    private Node<T> merge(Node<T> a, Node<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static int size(Node<?> n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static void update(Node<?> n) {
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+}
@@ -0,0 +1,401 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.model.HardcodedTask;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * SM-2 spaced repetition over catalog tasks, so completed and skipped tasks
+ * come back for practice at growing intervals instead of never (skips) or
+ * all at once when the catalog is exhausted.
+ *
+ * Review state lives in task_reviews, one row per (username, task_id). Each
+ * completion or skip rewrites only that task's row, in the caller's
+ * transaction. Per user, due dates are kept in memory in one ordered set per
+ * track, so "next due" is O(log n) and never rescans history. A user's queue
+ * is loaded with one query on first use; users without review rows are
+ * seeded by replaying their user_tasks history.
+ */
+public class SpacedRepetitionService {
+
+    /** Users whose queues are kept in memory; least recently used are dropped first. */
+    private static final int MAX_CACHED_USERS = 5_000;
+    private static final double DEFAULT_EASE = 2.5;
+    private static final double MIN_EASE = 1.3;
+    /** SM-2 grade for a skip: a failed recall, so the task comes back tomorrow. */
+    public static final int SKIP_GRADE = 1;
+
+    private static final SpacedRepetitionService INSTANCE = new SpacedRepetitionService();
+
+    private final DatabaseHelper dbHelper;
+    private final Map<String, UserQueue> queues = Collections.synchronizedMap(
+        new LinkedHashMap<String, UserQueue>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserQueue> eldest) {
+                return size() > MAX_CACHED_USERS;
+            }
+        });
+
+    private SpacedRepetitionService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createTaskReviewsTable();
+    }
+
+    public static SpacedRepetitionService getInstance() {
+        return INSTANCE;
+    }
+
+    private void createTaskReviewsTable() {
+        String createTableSQL =
+            "CREATE TABLE IF NOT EXISTS task_reviews (" +
+            "username VARCHAR(100) NOT NULL, " +
+            "task_id INT NOT NULL, " +
+            "ease_factor DOUBLE NOT NULL DEFAULT " + DEFAULT_EASE + ", " +
+            "interval_days INT NOT NULL DEFAULT 0, " +
+            "repetitions INT NOT NULL DEFAULT 0, " +
+            "last_grade TINYINT NOT NULL DEFAULT 0, " +
+            "due_at TIMESTAMP NOT NULL, " +
+            "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
+            "PRIMARY KEY (username, task_id), " +
+            "INDEX idx_task_reviews_due (username, due_at)" +
+            ")";
+        try (Connection conn = dbHelper.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(createTableSQL);
+        } catch (SQLException e) {
+            Log.error("SpacedRepetitionService.createTaskReviewsTable", null, "Error creating task_reviews table", e);
+        }
+    }
+
+    /**
+     * SM-2 grade for a completion: 5 within the estimate, 4 within twice the estimate, else 3
+     */
+    public static int gradeForCompletion(HardcodedTask task, int minutesTaken) {
+        int estimate = task != null ? Math.max(1, task.getEstimatedMinutes()) : 1;
+        if (minutesTaken <= estimate) {
+            return 5;
+        }
+        return minutesTaken <= 2 * estimate ? 4 : 3;
+    }
+
+    /**
+     * Record a review as part of the caller's transaction. Only this task's row is
+     * written; call {@link #publish} with the result after the transaction commits.
+     *
+     * @param conn Connection holding the caller's transaction
+     * @param username Username
+     * @param taskId Catalog ID; non-catalog tasks (-1) are not scheduled
+     * @param grade SM-2 quality 0-5
+     * @return New review state, or null if the task is not in the catalog
+     */
+    Review record(Connection conn, String username, int taskId, int grade) throws SQLException {
+        if (TaskCatalog.getInstance().getTask(taskId) == null) {
+            return null;
+        }
+        Review previous = null;
+        String selectSQL =
+            "SELECT task_id, ease_factor, interval_days, repetitions, last_grade, due_at " +
+            "FROM task_reviews WHERE username = ? AND task_id = ? FOR UPDATE";
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            pstmt.setInt(2, taskId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    previous = read(rs);
+                }
+            }
+        }
+        Review next = (previous != null ? previous : Review.initial(taskId)).after(grade, LocalDateTime.now());
+        upsert(conn, username, Collections.singletonList(next));
+        return next;
+    }
+
+    /**
+     * Apply a committed review to the in-memory queue (no-op if the user's queue is not loaded)
+     */
+    void publish(String username, Review review) {
+        if (review == null) {
+            return;
+        }
+        UserQueue queue = queues.get(username);
+        if (queue != null) {
+            queue.put(review);
+        }
+    }
+
+    /**
+     * Load the user's review queue ahead of first use (cache warmer)
+     */
+    public void warm(String username) {
+        queue(username);
+    }
+
+    /**
+     * Drop the user's in-memory queue; it is reloaded on next use
+     */
+    public void invalidate(String username) {
+        queues.remove(username);
+    }
+
+    /**
+     * Earliest review on the track that is due now
+     *
+     * @return Task to practice again, or null if nothing on the track is due
+     */
+    public HardcodedTask nextDue(String username, TaskCatalog.Track track) {
+        Review first = queue(username).first(track.getIndex());
+        if (first == null || first.dueAt.isAfter(LocalDateTime.now())) {
+            return null;
+        }
+        return TaskCatalog.getInstance().getTask(first.taskId);
+    }
+
+    /**
+     * Review on the track that comes due soonest, even if not due yet
+     * (used once every task on the track has been recorded)
+     */
+    public HardcodedTask soonest(String username, TaskCatalog.Track track) {
+        Review first = queue(username).first(track.getIndex());
+        return first != null ? TaskCatalog.getInstance().getTask(first.taskId) : null;
+    }
+
+    /**
+     * Reviews due now across all tracks, earliest first
+     *
+     * @param limit Maximum number of reviews
+     */
+    public List<Review> getDueReviews(String username, int limit) {
+        return queue(username).due(LocalDateTime.now(), limit);
+    }
+
+    private UserQueue queue(String username) {
+        UserQueue queue = queues.get(username);
+        if (queue != null) {
+            return queue;
+        }
+        queue = load(username);
+        queues.put(username, queue);
+        return queue;
+    }
+
+    private UserQueue load(String username) {
+        UserQueue queue = new UserQueue();
+        String selectSQL =
+            "SELECT task_id, ease_factor, interval_days, repetitions, last_grade, due_at " +
+            "FROM task_reviews WHERE username = ?";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Review r = read(rs);
+                    if (TaskCatalog.getInstance().getTask(r.taskId) != null) {
+                        queue.put(r);
+                    }
+                }
+            }
+            if (queue.isEmpty()) {
+                for (Review r : seedFromHistory(conn, username)) {
+                    queue.put(r);
+                }
+            }
+        } catch (SQLException e) {
+            Log.error("SpacedRepetitionService.load", username, "Error loading review queue", e);
+        }
+        return queue;
+    }
+
+    /**
+     * Replay completed/skipped rows in time order through SM-2 and store the final states.
+     * Rows from before task_id existed are matched to catalog tasks by name.
+     */
+    private List<Review> seedFromHistory(Connection conn, String username) throws SQLException {
+        Map<Integer, Review> states = new HashMap<>();
+        String selectSQL =
+            "SELECT task_id, task_name, status, time_taken, completed_at FROM user_tasks " +
+            "WHERE username = ? AND (type IS NULL OR type <> 'goated') AND status IN ('completed', 'skipped') " +
+            "UNION ALL SELECT task_id, task_name, status, time_taken, completed_at FROM user_tasks_archive " +
+            "WHERE username = ? " +
+            "ORDER BY completed_at";
+        TaskCatalog catalog = TaskCatalog.getInstance();
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int taskId = rs.getInt("task_id");
+                    int[] ids = rs.wasNull() ? catalog.idsForName(rs.getString("task_name")) : new int[] { taskId };
+                    Timestamp at = rs.getTimestamp("completed_at");
+                    if (at == null) {
+                        continue;
+                    }
+                    boolean completed = "completed".equals(rs.getString("status"));
+                    int timeTaken = rs.getInt("time_taken");
+                    for (int id : ids) {
+                        HardcodedTask task = catalog.getTask(id);
+                        if (task == null) {
+                            continue;
+                        }
+                        int grade = completed ? gradeForCompletion(task, timeTaken) : SKIP_GRADE;
+                        Review previous = states.getOrDefault(id, Review.initial(id));
+                        states.put(id, previous.after(grade, at.toLocalDateTime()));
+                    }
+                }
+            }
+        }
+        if (states.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Review> seeded = new ArrayList<>(states.values());
+        conn.setAutoCommit(false);
+        upsert(conn, username, seeded);
+        conn.commit();
+        Log.info("SpacedRepetitionService.seedFromHistory", username, "Seeded " + seeded.size() + " reviews from history");
+        return seeded;
+    }
+
+    private static void upsert(Connection conn, String username, List<Review> reviews) throws SQLException {
+        String sql =
+            "INSERT INTO task_reviews (username, task_id, ease_factor, interval_days, repetitions, last_grade, due_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE ease_factor = VALUES(ease_factor), " +
+            "interval_days = VALUES(interval_days), repetitions = VALUES(repetitions), " +
+            "last_grade = VALUES(last_grade), due_at = VALUES(due_at)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Review r : reviews) {
+                pstmt.setString(1, username);
+                pstmt.setInt(2, r.taskId);
+                pstmt.setDouble(3, r.easeFactor);
+                pstmt.setInt(4, r.intervalDays);
+                pstmt.setInt(5, r.repetitions);
+                pstmt.setInt(6, r.lastGrade);
+                pstmt.setTimestamp(7, Timestamp.valueOf(r.dueAt));
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    private static Review read(ResultSet rs) throws SQLException {
+        return new Review(
+            rs.getInt("task_id"),
+            rs.getDouble("ease_factor"),
+            rs.getInt("interval_days"),
+            rs.getInt("repetitions"),
+            rs.getInt("last_grade"),
+            rs.getTimestamp("due_at").toLocalDateTime()
+        );
+    }
+
+    /**
+     * SM-2 state of one task for one user (immutable)
+     */
+    public static final class Review {
+        private final int taskId;
+        private final double easeFactor;
+        private final int intervalDays;
+        private final int repetitions;
+        private final int lastGrade;
+        private final LocalDateTime dueAt;
+
+        Review(int taskId, double easeFactor, int intervalDays, int repetitions, int lastGrade, LocalDateTime dueAt) {
+            this.taskId = taskId;
+            this.easeFactor = easeFactor;
+            this.intervalDays = intervalDays;
+            this.repetitions = repetitions;
+            this.lastGrade = lastGrade;
+            this.dueAt = dueAt;
+        }
+
+        static Review initial(int taskId) {
+            return new Review(taskId, DEFAULT_EASE, 0, 0, 0, LocalDateTime.now());
+        }
+
+        /**
+         * State after a review graded 0-5 at the given time (SM-2)
+         */
+        Review after(int grade, LocalDateTime at) {
+            int q = Math.max(0, Math.min(5, grade));
+            int reps;
+            int interval;
+            if (q >= 3) {
+                interval = repetitions == 0 ? 1 : repetitions == 1 ? 6 : (int) Math.round(intervalDays * easeFactor);
+                reps = repetitions + 1;
+            } else {
+                interval = 1;
+                reps = 0;
+            }
+            double ease = Math.max(MIN_EASE, easeFactor + (0.1 - (5 - q) * (0.08 + (5 - q) * 0.02)));
+            return new Review(taskId, ease, interval, reps, q, at.plusDays(interval));
+        }
+
+        public int getTaskId() { return taskId; }
+        public double getEaseFactor() { return easeFactor; }
+        public int getIntervalDays() { return intervalDays; }
+        public int getRepetitions() { return repetitions; }
+        public int getLastGrade() { return lastGrade; }
+        public LocalDateTime getDueAt() { return dueAt; }
+    }
+
+    /**
+     * One user's reviews: an ordered set per track plus an index by task ID
+     */
+    private static final class UserQueue {
+        private static final Comparator<Review> BY_DUE =
+            Comparator.comparing((Review r) -> r.dueAt).thenComparingInt(r -> r.taskId);
+
+        private final Map<Integer, Review> byTask = new HashMap<>();
+        private final Map<Integer, TreeSet<Review>> byTrack = new HashMap<>();
+
+        synchronized void put(Review review) {
+            Review old = byTask.put(review.taskId, review);
+            TreeSet<Review> track = byTrack.computeIfAbsent(trackOf(review), k -> new TreeSet<>(BY_DUE));
+            if (old != null) {
+                track.remove(old);
+            }
+            track.add(review);
+        }
+
+        synchronized Review first(int trackIndex) {
+            TreeSet<Review> track = byTrack.get(trackIndex);
+            return track == null || track.isEmpty() ? null : track.first();
+        }
+
+        synchronized List<Review> due(LocalDateTime now, int limit) {
+            List<Review> out = new ArrayList<>();
+            for (TreeSet<Review> track : byTrack.values()) {
+                for (Review r : track) {
+                    if (r.dueAt.isAfter(now)) {
+                        break;
+                    }
+                    out.add(r);
+                }
+            }
+            out.sort(BY_DUE);
+            return out.size() > limit ? new ArrayList<>(out.subList(0, limit)) : out;
+        }
+
+        synchronized boolean isEmpty() {
+            return byTask.isEmpty();
+        }
+
+        private static int trackOf(Review review) {
+            return review.taskId / TaskCatalog.TRACK_STRIDE;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.forgegrid.service;
+
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.model.HardcodedTask;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The built-in task catalog with a stable integer ID for every task.
+ *
+ * Tasks are grouped into tracks (language + level). Each track owns a fixed
+ * block of {@link #TRACK_STRIDE} IDs and a task's ID is its track base plus
+ * its position in the track, so a user's progress fits in a small BitSet and
+ * "next open task" is a single {@link BitSet#nextClearBit(int)}.
+ *
+ * IDs are persisted in user_tasks.task_id: new tracks and tasks must only be
+ * appended, never inserted or reordered.
+ */
+public final class TaskCatalog {
+
+    /** IDs reserved per track; a track may hold at most this many tasks. */
+    public static final int TRACK_STRIDE = 256;
+
+    /** Language keys in resolution order (mirrors the original contains() checks). */
+    static final String[] LANGUAGES = {"java", "javascript", "c", "python", "general"};
+    static final String[] LEVELS = {"beginner", "intermediate", "advanced"};
+
+    private static final TaskCatalog INSTANCE = new TaskCatalog();
+
+    private final Track[] tracks = new Track[LANGUAGES.length * LEVELS.length];
+    private final Map<String, int[]> idsByName = new HashMap<>();
+    private final TaskSearchIndex searchIndex;
+    private final TaskFacets facets;
+
+    private TaskCatalog() {
+        Map<String, List<Integer>> byName = new HashMap<>();
+        for (int l = 0; l < LANGUAGES.length; l++) {
+            for (int v = 0; v < LEVELS.length; v++) {
+                int index = l * LEVELS.length + v;
+                Track track = new Track(index, LANGUAGES[l], LEVELS[v],
+                    HardcodedTaskService.buildTrack(LANGUAGES[l], LEVELS[v]));
+                tracks[index] = track;
+                for (HardcodedTask t : track.tasks) {
+                    byName.computeIfAbsent(key(t.getTaskName()), k -> new ArrayList<>()).add(t.getId());
+                }
+            }
+        }
+        byName.forEach((name, ids) -> idsByName.put(name, ids.stream().mapToInt(Integer::intValue).toArray()));
+        searchIndex = new TaskSearchIndex(List.of(tracks));
+        facets = new TaskFacets(List.of(tracks));
+    }
+
+    public static TaskCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolve free-form onboarding values to a track
+     *
+     * @param language e.g. "Java", "Python"
+     * @param level e.g. "Beginner", "Advanced"
+     */
+    public Track getTrack(String language, String level) {
+        String lang = language != null ? language.toLowerCase(Locale.ROOT) : "java";
+        String lvl = level != null ? level.toLowerCase(Locale.ROOT) : "beginner";
+
+        int l;
+        if (lang.contains("java")) {
+            l = 0;
+        } else if (lang.contains("javascript") || lang.contains("js")) {
+            l = 1;
+        } else if (lang.contains("c")) {
+            l = 2;
+        } else if (lang.contains("python")) {
+            l = 3;
+        } else {
+            l = 4;
+        }
+
+        int v;
+        if (lvl.contains("intermediate")) {
+            v = 1;
+        } else if (lvl.contains("advanced") || lvl.contains("expert")) {
+            v = 2;
+        } else {
+            v = 0;
+        }
+        return tracks[l * LEVELS.length + v];
+    }
+
+    /** All tracks, in ID order. */
+    public List<Track> getTracks() {
+        return List.of(tracks);
+    }
+
+    /**
+     * Look up a task by catalog ID
+     *
+     * @return Task, or null if the ID is unknown
+     */
+    public HardcodedTask getTask(int id) {
+        if (id < 0) {
+            return null;
+        }
+        int index = id / TRACK_STRIDE;
+        return index < tracks.length ? tracks[index].get(id - index * TRACK_STRIDE) : null;
+    }
+
+    /**
+     * IDs of every catalog task with the given name (case-insensitive), across all tracks.
+     * Used to map rows recorded before task_id existed.
+     */
+    public int[] idsForName(String taskName) {
+        int[] ids = taskName != null ? idsByName.get(key(taskName)) : null;
+        return ids != null ? ids : new int[0];
+    }
+
+    /**
+     * Search every track's task names and descriptions (prefix and typo-tolerant; see {@link TaskSearchIndex})
+     *
+     * @param filter Track, XP and duration limits, or null for none
+     * @return Up to limit tasks, best match first
+     */
+    public List<HardcodedTask> search(String text, TaskSearchIndex.Filter filter, int limit) {
+        try (LatencyHistogram.Sample ignored = MetricsRegistry.getInstance().time("catalog.search")) {
+            return searchIndex.search(text, filter, limit);
+        }
+    }
+
+    /**
+     * Faceted browsing across every track (language, level, topic, XP, minutes)
+     */
+    public TaskFacets getFacets() {
+        return facets;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tasks for one language and level, with a contiguous block of IDs
+     */
+    public static final class Track {
+        private final int index;
+        private final String language;
+        private final String level;
+        private final int baseId;
+        private final List<HardcodedTask> tasks;
+        private final Map<String, HardcodedTask> byName = new HashMap<>();
+
+        private Track(int index, String language, String level, List<HardcodedTask> built) {
+            if (built.size() > TRACK_STRIDE) {
+                throw new IllegalStateException("Track " + language + "/" + level + " exceeds " + TRACK_STRIDE + " tasks");
+            }
+            this.index = index;
+            this.language = language;
+            this.level = level;
+            this.baseId = index * TRACK_STRIDE;
+            List<HardcodedTask> withIds = new ArrayList<>(built.size());
+            for (int i = 0; i < built.size(); i++) {
+                HardcodedTask t = built.get(i).withId(baseId + i);
+                t = t.withTags(TaskTopics.tagsFor(t));
+                withIds.add(t);
+                byName.putIfAbsent(key(t.getTaskName()), t);
+            }
+            this.tasks = Collections.unmodifiableList(withIds);
+        }
+
+        public int getIndex() { return index; }
+        public String getLanguage() { return language; }
+        public String getLevel() { return level; }
+        /** ID of the first task; IDs run from here to baseId + size() - 1. */
+        public int getBaseId() { return baseId; }
+        public int size() { return tasks.size(); }
+        public List<HardcodedTask> getTasks() { return tasks; }
+
+        /** Task at a position in this track, or null. */
+        public HardcodedTask get(int position) {
+            return position >= 0 && position < tasks.size() ? tasks.get(position) : null;
+        }
+
+        /** Task with the given name (case-insensitive), or null. */
+        public HardcodedTask find(String taskName) {
+            return taskName != null ? byName.get(key(taskName)) : null;
+        }
+
+        /**
+         * Position of the first task whose ID is not set in the given progress bits
+         *
+         * @param recordedIds Catalog IDs the user has already recorded
+         * @return Position in this track, or -1 if every task is recorded
+         */
+        public int nextOpenPosition(BitSet recordedIds) {
+            int id = recordedIds.nextClearBit(baseId);
+            return id < baseId + tasks.size() ? id - baseId : -1;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.forgegrid.service;
+
+import com.forgegrid.model.HardcodedTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Faceted browsing of the whole catalog: language, level, topic, XP band and
+ * duration band, across all tracks.
+ *
+ * Every facet value owns a BitSet of the catalog IDs it contains (IDs are
+ * dense per track, see {@link TaskCatalog}), built once with the catalog. A
+ * query ORs the selected values within a facet and ANDs across facets, so
+ * "Python, under 20 minutes, at least 30 XP, topic=loops" is a handful of
+ * 60-word AND operations rather than a scan. Arbitrary XP and minute limits
+ * use cumulative "value at most v" bitsets. Counts for each facet value are
+ * computed against the other facets' selections (selecting "Python" does not
+ * zero the count of "Java"), so the UI can show live counts next to every
+ * choice.
+ */
+public final class TaskFacets {
+
+    public static final String LANGUAGE = "language";
+    public static final String LEVEL = "level";
+    public static final String TOPIC = "topic";
+    public static final String XP = "xp";
+    public static final String MINUTES = "minutes";
+
+    /** Display names of the catalog's languages and levels, in TaskCatalog order. */
+    private static final String[] LANGUAGE_NAMES = {"Java", "JavaScript", "C", "Python", "General"};
+    private static final String[] LEVEL_NAMES = {"Beginner", "Intermediate", "Advanced"};
+    /** Band name and inclusive upper bound; the last band is open-ended. */
+    private static final String[] XP_BANDS = {"up to 20 XP", "21-35 XP", "36+ XP"};
+    private static final int[] XP_BAND_MAX = {20, 35, Integer.MAX_VALUE};
+    private static final String[] MINUTE_BANDS = {"up to 15 min", "16-30 min", "31-60 min", "over 60 min"};
+    private static final int[] MINUTE_BAND_MAX = {15, 30, 60, Integer.MAX_VALUE};
+
+    private final HardcodedTask[] byId;
+    private final BitSet all = new BitSet();
+    /** Facet -> value -> catalog IDs, in display order. */
+    private final Map<String, Map<String, BitSet>> postings = new LinkedHashMap<>();
+    private final int[] xpValues;
+    private final BitSet[] xpAtMost;
+    private final int[] minuteValues;
+    private final BitSet[] minutesAtMost;
+
+    TaskFacets(List<TaskCatalog.Track> tracks) {
+        int maxId = 0;
+        for (TaskCatalog.Track track : tracks) {
+            maxId = Math.max(maxId, track.getBaseId() + track.size());
+        }
+        byId = new HardcodedTask[maxId];
+        for (String facet : new String[] {LANGUAGE, LEVEL, TOPIC, XP, MINUTES}) {
+            postings.put(facet, new LinkedHashMap<>());
+        }
+        for (String name : LANGUAGE_NAMES) postings.get(LANGUAGE).put(name, new BitSet());
+        for (String name : LEVEL_NAMES) postings.get(LEVEL).put(name, new BitSet());
+        for (String name : TaskTopics.topics()) postings.get(TOPIC).put(name, new BitSet());
+        for (String name : XP_BANDS) postings.get(XP).put(name, new BitSet());
+        for (String name : MINUTE_BANDS) postings.get(MINUTES).put(name, new BitSet());
+
+        for (TaskCatalog.Track track : tracks) {
+            String language = LANGUAGE_NAMES[track.getIndex() / TaskCatalog.LEVELS.length];
+            String level = LEVEL_NAMES[track.getIndex() % TaskCatalog.LEVELS.length];
+            for (HardcodedTask t : track.getTasks()) {
+                int id = t.getId();
+                byId[id] = t;
+                all.set(id);
+                postings.get(LANGUAGE).get(language).set(id);
+                postings.get(LEVEL).get(level).set(id);
+                for (String tag : t.getTags()) {
+                    postings.get(TOPIC).get(tag).set(id);
+                }
+                postings.get(XP).get(XP_BANDS[band(XP_BAND_MAX, t.getXpReward())]).set(id);
+                postings.get(MINUTES).get(MINUTE_BANDS[band(MINUTE_BAND_MAX, t.getEstimatedMinutes())]).set(id);
+            }
+        }
+
+        xpValues = all.stream().map(id -> byId[id].getXpReward()).distinct().sorted().toArray();
+        xpAtMost = cumulative(xpValues, true);
+        minuteValues = all.stream().map(id -> byId[id].getEstimatedMinutes()).distinct().sorted().toArray();
+        minutesAtMost = cumulative(minuteValues, false);
+    }
+
+    /** Facet names, in display order. */
+    public List<String> getFacets() {
+        return new ArrayList<>(postings.keySet());
+    }
+
+    /** Values of a facet, in display order (empty for an unknown facet). */
+    public List<String> getValues(String facet) {
+        Map<String, BitSet> values = postings.get(facet);
+        return values != null ? new ArrayList<>(values.keySet()) : Collections.emptyList();
+    }
+
+    /**
+     * Run a query
+     *
+     * @return Matching IDs and live counts for every facet value
+     */
+    public Result query(Query q) {
+        BitSet range = (BitSet) all.clone();
+        range.and(atLeast(xpValues, xpAtMost, q.minXp));
+        range.and(atMost(xpValues, xpAtMost, q.maxXp));
+        range.and(atLeast(minuteValues, minutesAtMost, q.minMinutes));
+        range.and(atMost(minuteValues, minutesAtMost, q.maxMinutes));
+
+        // Union of the selected values of each facet that has a selection
+        Map<String, BitSet> selected = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> e : q.selections.entrySet()) {
+            Map<String, BitSet> values = postings.get(e.getKey());
+            if (values == null || e.getValue().isEmpty()) {
+                continue;
+            }
+            BitSet union = new BitSet();
+            for (String v : e.getValue()) {
+                BitSet bits = values.get(v);
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            selected.put(e.getKey(), union);
+        }
+
+        BitSet matches = (BitSet) range.clone();
+        for (BitSet union : selected.values()) {
+            matches.and(union);
+        }
+
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, BitSet>> facet : postings.entrySet()) {
+            // Count against every selection except this facet's own
+            BitSet base = matches;
+            if (selected.containsKey(facet.getKey())) {
+                base = (BitSet) range.clone();
+                for (Map.Entry<String, BitSet> other : selected.entrySet()) {
+                    if (!other.getKey().equals(facet.getKey())) {
+                        base.and(other.getValue());
+                    }
+                }
+            }
+            Map<String, Integer> valueCounts = new LinkedHashMap<>();
+            for (Map.Entry<String, BitSet> value : facet.getValue().entrySet()) {
+                BitSet both = (BitSet) base.clone();
+                both.and(value.getValue());
+                valueCounts.put(value.getKey(), both.cardinality());
+            }
+            counts.put(facet.getKey(), valueCounts);
+        }
+        return new Result(matches, counts);
+    }
+
+    private static int band(int[] bandMax, int value) {
+        int i = 0;
+        while (value > bandMax[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /** atMost[i] = IDs whose XP (or minutes) is at most values[i]. */
+    private BitSet[] cumulative(int[] values, boolean xp) {
+        BitSet[] out = new BitSet[values.length];
+        BitSet running = new BitSet();
+        int next = 0;
+        int[] ids = all.stream().boxed()
+            .sorted((a, b) -> Integer.compare(valueOf(a, xp), valueOf(b, xp)))
+            .mapToInt(Integer::intValue).toArray();
+        for (int i = 0; i < values.length; i++) {
+            while (next < ids.length && valueOf(ids[next], xp) <= values[i]) {
+                running.set(ids[next++]);
+            }
+            out[i] = (BitSet) running.clone();
+        }
+        return out;
+    }
+
+    private int valueOf(int id, boolean xp) {
+        return xp ? byId[id].getXpReward() : byId[id].getEstimatedMinutes();
+    }
+
+    /** IDs with value <= max. */
+    private BitSet atMost(int[] values, BitSet[] atMost, int max) {
+        if (max == Integer.MAX_VALUE) {
+            return all;
+        }
+        int i = Arrays.binarySearch(values, max);
+        int last = i >= 0 ? i : -i - 2;
+        return last >= 0 ? atMost[last] : new BitSet();
+    }
+
+    /** IDs with value >= min. */
+    private BitSet atLeast(int[] values, BitSet[] atMost, int min) {
+        if (min == Integer.MIN_VALUE) {
+            return all;
+        }
+        BitSet out = (BitSet) all.clone();
+        out.andNot(atMost(values, atMost, min - 1));
+        return out;
+    }
+
+    /**
+     * Facet selections and numeric limits; values of one facet are ORed, facets are ANDed.
+     */
+    public static final class Query {
+        private final Map<String, List<String>> selections = new LinkedHashMap<>();
+        private int minXp = Integer.MIN_VALUE;
+        private int maxXp = Integer.MAX_VALUE;
+        private int minMinutes = Integer.MIN_VALUE;
+        private int maxMinutes = Integer.MAX_VALUE;
+
+        /** Add values of a facet (see {@link TaskFacets#getValues}); unknown values match nothing. */
+        public Query select(String facet, String... values) {
+            selections.computeIfAbsent(facet, k -> new ArrayList<>()).addAll(Arrays.asList(values));
+            return this;
+        }
+
+        /** Inclusive XP limits. */
+        public Query xp(int min, int max) {
+            this.minXp = min;
+            this.maxXp = max;
+            return this;
+        }
+
+        /** Inclusive estimated-minute limits. */
+        public Query minutes(int min, int max) {
+            this.minMinutes = min;
+            this.maxMinutes = max;
+            return this;
+        }
+    }
+
+    /**
+     * Matching tasks (in catalog ID order) and per-value counts.
+     */
+    public final class Result {
+        private final BitSet ids;
+        private final Map<String, Map<String, Integer>> counts;
+
+        private Result(BitSet ids, Map<String, Map<String, Integer>> counts) {
+            this.ids = ids;
+            this.counts = counts;
+        }
+
+        public int size() {
+            return ids.cardinality();
+        }
+
+        /** Catalog IDs of the matches (a copy). */
+        public BitSet getIds() {
+            return (BitSet) ids.clone();
+        }
+
+        /** A page of the matches, in catalog ID order. */
+        public List<HardcodedTask> getTasks(int offset, int limit) {
+            List<HardcodedTask> out = new ArrayList<>();
+            int skipped = 0;
+            for (int id = ids.nextSetBit(0); id >= 0 && out.size() < limit; id = ids.nextSetBit(id + 1)) {
+                if (skipped++ >= offset) {
+                    out.add(byId[id]);
+                }
+            }
+            return out;
+        }
+
+        /** Facet -> value -> matching tasks with that value, ignoring the facet's own selection. */
+        public Map<String, Map<String, Integer>> getCounts() {
+            return counts;
+        }
+
+        public int getCount(String facet, String value) {
+            Map<String, Integer> values = counts.get(facet);
+            return values != null ? values.getOrDefault(value, 0) : 0;
+        }
+    }
+}
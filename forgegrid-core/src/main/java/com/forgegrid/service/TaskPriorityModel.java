@@ -0,0 +1,109 @@
+package com.forgegrid.service;
+
+import com.forgegrid.model.HardcodedTask;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Default task ordering: each open task gets a cost and the cheapest come first.
+ *
+ * cost = position in track                       (keep roughly to the curriculum)
+ *      + timeWeight  * minutes over the session budget
+ *      + skillWeight * distance from the XP the player's level suits
+ *
+ * The time budget depends on the hour (short sessions early morning and late
+ * at night) and shrinks for users who skip a lot, so they see quicker tasks.
+ * Only the best {@code limit} tasks are kept (bounded heap, O(n log limit)).
+ */
+public class TaskPriorityModel implements TaskScheduler.Strategy {
+
+    private final double timeWeight;
+    private final double skillWeight;
+
+    public TaskPriorityModel() {
+        this(0.25, 0.15);
+    }
+
+    /**
+     * @param timeWeight Cost per minute a task runs over the session budget
+     * @param skillWeight Cost per XP point between the task and the player's target
+     */
+    public TaskPriorityModel(double timeWeight, double skillWeight) {
+        this.timeWeight = timeWeight;
+        this.skillWeight = skillWeight;
+    }
+
+    @Override
+    public String getName() {
+        return "priority";
+    }
+
+    @Override
+    public List<HardcodedTask> rank(TaskScheduler.Context context, int limit) {
+        TaskCatalog.Track track = context.getTrack();
+        BitSet recorded = context.getRecorded();
+        if (limit <= 0 || recorded.nextClearBit(0) >= track.size()) {
+            return Collections.emptyList();
+        }
+
+        int minXp = Integer.MAX_VALUE;
+        int maxXp = Integer.MIN_VALUE;
+        for (HardcodedTask t : track.getTasks()) {
+            minXp = Math.min(minXp, t.getXpReward());
+            maxXp = Math.max(maxXp, t.getXpReward());
+        }
+        // Level 1 aims at the easiest tasks of the track, level 11+ at the hardest
+        double targetXp = minXp + (maxXp - minXp) * Math.min(1.0, (context.getPlayerLevel() - 1) / 10.0);
+        double budget = sessionBudgetMinutes(context.getHourOfDay()) * (1.0 - Math.min(0.5, context.getSkipRatio()));
+
+        // Max-heap on cost holding the best `limit` candidates seen so far
+        PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, (a, b) -> Double.compare(b.cost, a.cost));
+        for (int p = recorded.nextClearBit(0); p < track.size(); p = recorded.nextClearBit(p + 1)) {
+            HardcodedTask t = track.get(p);
+            double cost = p
+                + timeWeight * Math.max(0.0, t.getEstimatedMinutes() - budget)
+                + skillWeight * Math.abs(t.getXpReward() - targetXp);
+            if (best.size() < limit) {
+                best.add(new Scored(t, cost));
+            } else if (cost < best.peek().cost) {
+                best.poll();
+                best.add(new Scored(t, cost));
+            }
+        }
+
+        List<HardcodedTask> out = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            out.add(best.poll().task);
+        }
+        Collections.reverse(out);
+        return out;
+    }
+
+    /** Minutes a typical session at this hour has room for. */
+    static double sessionBudgetMinutes(int hour) {
+        if (hour >= 6 && hour < 9) {
+            return 20;
+        }
+        if (hour >= 9 && hour < 18) {
+            return 45;
+        }
+        if (hour >= 18 && hour < 23) {
+            return 60;
+        }
+        return 25;
+    }
+
+    private static final class Scored {
+        final HardcodedTask task;
+        final double cost;
+
+        Scored(HardcodedTask task, double cost) {
+            this.task = task;
+            this.cost = cost;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.forgegrid.service;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.LatencyHistogram;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.model.UserStats;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses the next catalog task for a user and keeps a short ranked list of
+ * upcoming tasks ready, so "Next Task" does not wait on the database.
+ *
+ * Ordering is delegated to a {@link Strategy}; the default is
+ * {@link TaskPriorityModel}, {@link CatalogOrder} reproduces the original
+ * first-open-task behaviour. Strategies are pure functions of a
+ * {@link Context}, so they can be benchmarked without a database.
+ *
+ * Call {@link #prefetch} after each completion or skip: the plan is rebuilt on
+ * a small bounded pool and {@link #next} then just takes its head. If the plan
+ * is still being built, next plans inline instead of waiting for it; when the
+ * pool is saturated the prefetch is dropped. Plans expire after a few minutes
+ * so users who leave do not keep theirs forever. Tasks due for review in
+ * {@link SpacedRepetitionService} are served before new ones.
+ */
+public class TaskScheduler {
+
+    /**
+     * Orders a user's open tasks on one track
+     */
+    public interface Strategy {
+        /** Short name used in config and logs, e.g. "priority". */
+        String getName();
+
+        /**
+         * Rank the open (unrecorded) tasks of the context's track
+         *
+         * @param context User and track state
+         * @param limit Maximum number of tasks to return
+         * @return Best task first; empty if every task is recorded
+         */
+        List<HardcodedTask> rank(Context context, int limit);
+    }
+
+    private static final int WORKERS = 4;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long PLAN_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private static volatile TaskScheduler instance;
+
+    private final HardcodedTaskService taskService;
+    private final LevelService levelService;
+    private final SpacedRepetitionService reviews = SpacedRepetitionService.getInstance();
+    private final Strategy strategy;
+    private final int prefetchDepth;
+    private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ThreadPoolExecutor workers = new ThreadPoolExecutor(WORKERS, WORKERS, 30, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+            Thread t = new Thread(r, "forgegrid-task-scheduler-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    private volatile long nextSweepNanos = System.nanoTime() + PLAN_TTL_NANOS;
+
+    public TaskScheduler(HardcodedTaskService taskService, LevelService levelService, Strategy strategy, int prefetchDepth) {
+        this.taskService = taskService;
+        this.levelService = levelService;
+        this.strategy = strategy;
+        this.prefetchDepth = Math.max(1, prefetchDepth);
+        workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Shared scheduler using FORGEGRID_TASK_STRATEGY and FORGEGRID_TASK_PREFETCH
+     */
+    public static TaskScheduler getInstance() {
+        if (instance == null) {
+            synchronized (TaskScheduler.class) {
+                if (instance == null) {
+                    instance = new TaskScheduler(new HardcodedTaskService(), new LevelService(),
+                        strategyFor(EnvironmentConfig.getTaskStrategy()), EnvironmentConfig.getTaskPrefetchDepth());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Look up a built-in strategy by name
+     *
+     * @param name "catalog" or "priority" (anything else falls back to priority)
+     */
+    public static Strategy strategyFor(String name) {
+        if ("catalog".equalsIgnoreCase(name)) {
+            return new CatalogOrder();
+        }
+        return new TaskPriorityModel();
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Rebuild the user's plan in the background; replaces any plan already held.
+     * If the pool is saturated the old plan is dropped and next plans inline.
+     *
+     * @param username Username
+     * @param language Onboarding language
+     * @param level Onboarding level
+     */
+    public void prefetch(String username, String language, String level) {
+        TaskCatalog.Track track = TaskCatalog.getInstance().getTrack(language, level);
+        String key = key(username, track);
+        sweep();
+        try {
+            plans.put(key, new Plan(CompletableFuture.supplyAsync(() -> plan(username, track), workers), System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            plans.remove(key);
+            MetricsRegistry.getInstance().counter("scheduler.prefetch.rejected").increment();
+        }
+    }
+
+    /**
+     * Build the user's plan on the calling thread and hold it, for background jobs
+     * that warm many users and should not fill the prefetch pool
+     */
+    public void warm(String username, String language, String level) {
+        TaskCatalog.Track track = TaskCatalog.getInstance().getTrack(language, level);
+        sweep();
+        plans.put(key(username, track), new Plan(CompletableFuture.completedFuture(plan(username, track)), System.nanoTime()));
+    }
+
+    /**
+     * Take the next task for the user. Uses the prefetched plan when it is ready,
+     * otherwise plans synchronously rather than waiting for the prefetch.
+     *
+     * @return A due review, else the next new task, else the review due soonest
+     */
+    public HardcodedTask next(String username, String language, String level) {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        TaskCatalog.Track track = TaskCatalog.getInstance().getTrack(language, level);
+        String key = key(username, track);
+        try (LatencyHistogram.Sample sample = metrics.time("scheduler.next")) {
+            // Reviews that have come due go before new tasks
+            HardcodedTask due = reviews.nextDue(username, track);
+            if (due != null) {
+                metrics.counter("scheduler.review").increment();
+                return due;
+            }
+            Plan ready = take(key);
+            List<HardcodedTask> planned;
+            long plannedAt;
+            if (ready != null) {
+                metrics.counter("scheduler.prefetch.hit").increment();
+                planned = ready.tasks.join();
+                plannedAt = ready.createdNanos;
+            } else {
+                metrics.counter("scheduler.prefetch.miss").increment();
+                planned = plan(username, track);
+                plannedAt = System.nanoTime();
+            }
+            if (planned.isEmpty()) {
+                // Every task is recorded: practice whatever review comes due first
+                HardcodedTask soonest = reviews.soonest(username, track);
+                return soonest != null ? soonest : track.get(0);
+            }
+            if (planned.size() > 1) {
+                // Keep the rest for the next call unless a fresh prefetch already replaced it
+                plans.putIfAbsent(key, new Plan(CompletableFuture.completedFuture(
+                    new ArrayList<>(planned.subList(1, planned.size()))), plannedAt));
+            }
+            return planned.get(0);
+        }
+    }
+
+    /**
+     * Upcoming tasks for the user without consuming them (plans synchronously unless a plan is ready)
+     */
+    public List<HardcodedTask> peek(String username, String language, String level) {
+        TaskCatalog.Track track = TaskCatalog.getInstance().getTrack(language, level);
+        Plan held = plans.get(key(username, track));
+        if (held != null && held.isReady(username, System.nanoTime())) {
+            return new ArrayList<>(held.tasks.join());
+        }
+        return plan(username, track);
+    }
+
+    /**
+     * Drop every plan held for the user (e.g. after onboarding changes their track)
+     */
+    public void invalidate(String username) {
+        plans.keySet().removeIf(k -> k.startsWith(username + "|"));
+    }
+
+    /**
+     * Remove the held plan and return it if it finished in time; a plan still being
+     * built is discarded since the caller is about to plan with fresher state anyway
+     */
+    private Plan take(String key) {
+        sweep();
+        Plan held = plans.remove(key);
+        return held != null && held.isReady(null, System.nanoTime()) ? held : null;
+    }
+
+    /**
+     * Drop expired plans; runs at most once per TTL
+     */
+    private void sweep() {
+        long now = System.nanoTime();
+        if (now - nextSweepNanos < 0) {
+            return;
+        }
+        nextSweepNanos = now + PLAN_TTL_NANOS;
+        plans.values().removeIf(p -> p.isExpired(now));
+    }
+
+    private List<HardcodedTask> plan(String username, TaskCatalog.Track track) {
+        ProgressIndex.TrackProgress progress = taskService.getProgress(username, track.getLanguage(), track.getLevel());
+        UserStats stats = taskService.getUserStats(username);
+        int attempts = stats.getCompletedCount() + stats.getSkippedCount();
+        double skipRatio = attempts > 0 ? stats.getSkippedCount() / (double) attempts : 0.0;
+        Context context = new Context(track, progress.toBitSet(), levelService.getLevelInfo(username).level,
+            skipRatio, LocalTime.now().getHour());
+        return strategy.rank(context, prefetchDepth);
+    }
+
+    private static String key(String username, TaskCatalog.Track track) {
+        return username + "|" + track.getIndex();
+    }
+
+    /**
+     * A ranked list being built or ready, with the time its state was read
+     */
+    private static final class Plan {
+        final CompletableFuture<List<HardcodedTask>> tasks;
+        final long createdNanos;
+
+        Plan(CompletableFuture<List<HardcodedTask>> tasks, long createdNanos) {
+            this.tasks = tasks;
+            this.createdNanos = createdNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - createdNanos > PLAN_TTL_NANOS;
+        }
+
+        /** Finished successfully and not expired; never blocks. */
+        boolean isReady(String username, long now) {
+            if (isExpired(now) || !tasks.isDone()) {
+                return false;
+            }
+            try {
+                tasks.join();
+                return true;
+            } catch (CompletionException e) {
+                Log.warn("TaskScheduler.plan", username, "Prefetch failed, planning inline", e.getCause());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Everything a strategy may use to order tasks
+     */
+    public static final class Context {
+        private final TaskCatalog.Track track;
+        private final BitSet recorded;
+        private final int playerLevel;
+        private final double skipRatio;
+        private final int hourOfDay;
+
+        /**
+         * @param track Track to plan
+         * @param recorded Recorded positions within the track (bit i = task i)
+         * @param playerLevel User's level from LevelService
+         * @param skipRatio Skipped / (completed + skipped), 0 for new users
+         * @param hourOfDay Local hour, 0-23
+         */
+        public Context(TaskCatalog.Track track, BitSet recorded, int playerLevel, double skipRatio, int hourOfDay) {
+            this.track = track;
+            this.recorded = recorded;
+            this.playerLevel = playerLevel;
+            this.skipRatio = skipRatio;
+            this.hourOfDay = hourOfDay;
+        }
+
+        public TaskCatalog.Track getTrack() { return track; }
+        public BitSet getRecorded() { return recorded; }
+        public int getPlayerLevel() { return playerLevel; }
+        public double getSkipRatio() { return skipRatio; }
+        public int getHourOfDay() { return hourOfDay; }
+    }
+
+    /**
+     * Open tasks in catalog order (the original "first task not done yet" rule)
+     */
+    public static final class CatalogOrder implements Strategy {
+        @Override
+        public String getName() {
+            return "catalog";
+        }
+
+        @Override
+        public List<HardcodedTask> rank(Context context, int limit) {
+            TaskCatalog.Track track = context.getTrack();
+            List<HardcodedTask> out = new ArrayList<>(limit);
+            for (int p = context.getRecorded().nextClearBit(0); p < track.size() && out.size() < limit;
+                 p = context.getRecorded().nextClearBit(p + 1)) {
+                out.add(track.get(p));
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.forgegrid.service;
+
+import com.forgegrid.model.HardcodedTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keyword search over every catalog task's name and description, built once
+ * with the catalog (see {@link TaskCatalog#search}).
+ *
+ * Words are kept in a sorted array, so all words starting with a typed prefix
+ * are one binary search away, with a posting list of tasks per word and field
+ * (the task's language, level and topic tags are indexed with its description).
+ * Misspelled words (three letters or more) also match words sharing enough
+ * trigrams or one or two edits away. Every query word must match; tasks are
+ * ranked by how well each word matched (exact, then prefix, then fuzzy; name
+ * above description).
+ */
+public final class TaskSearchIndex {
+
+    private static final float NAME_EXACT = 10f;
+    private static final float NAME_PREFIX = 6f;
+    private static final float NAME_FUZZY = 4f;
+    private static final float DESC_EXACT = 4f;
+    private static final float DESC_PREFIX = 2.5f;
+    private static final float DESC_FUZZY = 1.5f;
+    /** Lowest Dice coefficient over trigrams that still counts as a match. */
+    private static final float MIN_SIMILARITY = 0.5f;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    /** Words this long allow two edits (insert, delete, substitute, swap); shorter ones one. */
+    private static final int TWO_EDIT_LENGTH = 6;
+    private static final int[] NONE = new int[0];
+
+    private final HardcodedTask[] tasks;
+    private final int[] languageOf;
+    private final int[] levelOf;
+    /** Every word in the catalog, sorted. */
+    private final String[] terms;
+    /** Tasks (by position in tasks) whose name / description contains terms[i]. */
+    private final int[][] namePostings;
+    private final int[][] descPostings;
+    /** Terms (by index) containing each trigram of "$term$". */
+    private final Map<String, int[]> trigramTerms = new HashMap<>();
+    private final int[] trigramCount;
+
+    TaskSearchIndex(List<TaskCatalog.Track> tracks) {
+        List<HardcodedTask> all = new ArrayList<>();
+        List<Integer> languages = new ArrayList<>();
+        List<Integer> levels = new ArrayList<>();
+        for (TaskCatalog.Track track : tracks) {
+            for (HardcodedTask t : track.getTasks()) {
+                all.add(t);
+                languages.add(track.getIndex() / TaskCatalog.LEVELS.length);
+                levels.add(track.getIndex() % TaskCatalog.LEVELS.length);
+            }
+        }
+        tasks = all.toArray(new HardcodedTask[0]);
+        languageOf = languages.stream().mapToInt(Integer::intValue).toArray();
+        levelOf = levels.stream().mapToInt(Integer::intValue).toArray();
+
+        TreeMap<String, List<Set<Integer>>> words = new TreeMap<>();
+        for (int doc = 0; doc < tasks.length; doc++) {
+            for (String w : tokenize(tasks[doc].getTaskName())) {
+                words.computeIfAbsent(w, k -> List.of(new LinkedHashSet<>(), new LinkedHashSet<>())).get(0).add(doc);
+            }
+            HardcodedTask t = tasks[doc];
+            for (String w : tokenize(t.getDescription() + " " + t.getLanguage() + " " + t.getLevel() + " " + String.join(" ", t.getTags()))) {
+                words.computeIfAbsent(w, k -> List.of(new LinkedHashSet<>(), new LinkedHashSet<>())).get(1).add(doc);
+            }
+        }
+        terms = words.keySet().toArray(new String[0]);
+        namePostings = new int[terms.length][];
+        descPostings = new int[terms.length][];
+        trigramCount = new int[terms.length];
+        Map<String, List<Integer>> byTrigram = new HashMap<>();
+        int i = 0;
+        for (List<Set<Integer>> postings : words.values()) {
+            namePostings[i] = postings.get(0).stream().mapToInt(Integer::intValue).toArray();
+            descPostings[i] = postings.get(1).stream().mapToInt(Integer::intValue).toArray();
+            Set<String> grams = trigrams(terms[i]);
+            trigramCount[i] = grams.size();
+            for (String g : grams) {
+                byTrigram.computeIfAbsent(g, k -> new ArrayList<>()).add(i);
+            }
+            i++;
+        }
+        byTrigram.forEach((g, ids) -> trigramTerms.put(g, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /** Number of distinct words indexed. */
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Best matches for the typed text, best first (ties in catalog order). The
+     * last word may be partial. Blank text lists the filtered catalog in order.
+     *
+     * @param filter Track, XP and duration limits, or null for none
+     */
+    public List<HardcodedTask> search(String text, Filter filter, int limit) {
+        List<String> words = tokenize(text);
+        List<HardcodedTask> out = new ArrayList<>();
+        if (words.isEmpty()) {
+            for (int doc = 0; doc < tasks.length && out.size() < limit; doc++) {
+                if (filter == null || filter.accepts(this, doc)) {
+                    out.add(tasks[doc]);
+                }
+            }
+            return out;
+        }
+
+        float[] total = null;
+        for (String word : words) {
+            float[] scores = scoreWord(word);
+            if (total == null) {
+                total = scores;
+            } else {
+                for (int doc = 0; doc < total.length; doc++) {
+                    // Every word must match
+                    total[doc] = total[doc] > 0 && scores[doc] > 0 ? total[doc] + scores[doc] : 0;
+                }
+            }
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        for (int doc = 0; doc < total.length; doc++) {
+            if (total[doc] > 0 && (filter == null || filter.accepts(this, doc))) {
+                hits.add(doc);
+            }
+        }
+        final float[] score = total;
+        hits.sort((a, b) -> score[a] != score[b] ? Float.compare(score[b], score[a]) : Integer.compare(a, b));
+        for (int k = 0; k < hits.size() && k < limit; k++) {
+            out.add(tasks[hits.get(k)]);
+        }
+        return out;
+    }
+
+    /**
+     * Best score per task for one query word: exact word, words it prefixes, then similar words
+     */
+    private float[] scoreWord(String word) {
+        float[] scores = new float[tasks.length];
+        int lo = lowerBound(word);
+        int hi = lo;
+        while (hi < terms.length && terms[hi].startsWith(word)) {
+            boolean exact = terms[hi].length() == word.length();
+            apply(scores, hi, exact ? NAME_EXACT : NAME_PREFIX, exact ? DESC_EXACT : DESC_PREFIX);
+            hi++;
+        }
+        if (word.length() < MIN_FUZZY_LENGTH) {
+            return scores;
+        }
+        Set<String> grams = trigrams(word);
+        int[] shared = new int[terms.length];
+        for (String g : grams) {
+            for (int term : trigramTerms.getOrDefault(g, NONE)) {
+                shared[term]++;
+            }
+        }
+        for (int term = 0; term < terms.length; term++) {
+            if (shared[term] == 0 || (term >= lo && term < hi)) {
+                continue;
+            }
+            float similarity = 2f * shared[term] / (grams.size() + trigramCount[term]);
+            if (similarity < MIN_SIMILARITY) {
+                // Short words lose most trigrams to one typo; accept a small edit distance instead
+                int maxEdits = word.length() >= TWO_EDIT_LENGTH ? 2 : 1;
+                int edits = editDistance(word, terms[term], maxEdits);
+                similarity = edits <= maxEdits ? 1f - (float) edits / Math.max(word.length(), terms[term].length()) : 0f;
+            }
+            if (similarity >= MIN_SIMILARITY) {
+                apply(scores, term, NAME_FUZZY * similarity, DESC_FUZZY * similarity);
+            }
+        }
+        return scores;
+    }
+
+    private void apply(float[] scores, int term, float nameScore, float descScore) {
+        for (int doc : namePostings[term]) {
+            scores[doc] = Math.max(scores[doc], nameScore);
+        }
+        for (int doc : descPostings[term]) {
+            scores[doc] = Math.max(scores[doc], descScore);
+        }
+    }
+
+    /**
+     * Edits (insert, delete, substitute, swap adjacent) turning a into b, or max + 1 if more than max
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] prev2 = new int[b.length() + 1];
+        int[] prev = new int[b.length() + 1];
+        int[] cur = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, prev2[j - 2] + 1);
+                }
+                cur[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] t = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = t;
+        }
+        return Math.min(prev[b.length()], max + 1);
+    }
+
+    /** Index of the first term not below word. */
+    private int lowerBound(String word) {
+        int i = Arrays.binarySearch(terms, word);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /** Lower-case letter/digit runs, in order, without duplicates. */
+    static List<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text != null) {
+            for (String w : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!w.isEmpty()) {
+                    words.add(w);
+                }
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = "$" + word + "$";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Limits on which tasks a search returns; unset limits match everything.
+     */
+    public static final class Filter {
+        private int language = -1;
+        private int level = -1;
+        private int minXp = Integer.MIN_VALUE;
+        private int maxXp = Integer.MAX_VALUE;
+        private int maxMinutes = Integer.MAX_VALUE;
+
+        /** Track language, e.g. "Java" or "Python" (null or unknown for any). */
+        public Filter language(String language) {
+            this.language = indexOf(TaskCatalog.LANGUAGES, language);
+            return this;
+        }
+
+        /** Track level, e.g. "Beginner" (null or unknown for any). */
+        public Filter level(String level) {
+            this.level = indexOf(TaskCatalog.LEVELS, level);
+            return this;
+        }
+
+        public Filter xp(int min, int max) {
+            this.minXp = min;
+            this.maxXp = max;
+            return this;
+        }
+
+        public Filter maxMinutes(int minutes) {
+            this.maxMinutes = minutes;
+            return this;
+        }
+
+        private boolean accepts(TaskSearchIndex index, int doc) {
+            HardcodedTask t = index.tasks[doc];
+            return (language < 0 || index.languageOf[doc] == language)
+                && (level < 0 || index.levelOf[doc] == level)
+                && t.getXpReward() >= minXp && t.getXpReward() <= maxXp
+                && t.getEstimatedMinutes() <= maxMinutes;
+        }
+
+        private static int indexOf(String[] keys, String value) {
+            if (value != null) {
+                String key = value.trim().toLowerCase(Locale.ROOT);
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i].equals(key)) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.forgegrid.service;
+
+import com.forgegrid.model.HardcodedTask;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Topic tags for catalog tasks, assigned from keywords in the task's name and
+ * description when the catalog is built (the catalog has ~400 hand-written
+ * tasks; keeping the rules here means new tasks are tagged without touching
+ * each entry). A task gets every topic whose keywords it mentions, or
+ * {@link #OTHER} if none.
+ */
+final class TaskTopics {
+
+    static final String OTHER = "other";
+
+    /** Topic -> whole words (optionally plural) that place a task in it, in display order. */
+    private static final Map<String, Pattern> RULES = new LinkedHashMap<>();
+
+    static {
+        rule("basics", "hello world", "variable", "personal information", "swap", "swapping", "ascii", "temperature", "case conversion", "input");
+        rule("conditionals", "even", "odd", "leap year", "largest of", "positive", "negative", "grade", "condition", "conditional");
+        rule("loops", "loop", "while", "1 to 10", "1-10", "1-50", "pattern", "multiplication table", "natural number", "iterate", "range");
+        rule("strings", "string", "palindrome", "vowel", "anagram", "character", "word count", "spaces", "template literal", "replace");
+        rule("arrays", "array", "arraylist", "list", "matrix", "tuple", "comprehension");
+        rule("maps and sets", "dictionary", "dictionaries", "hashmap", "map", "set", "hashset", "property", "properties");
+        rule("math", "prime", "factorial", "fibonacci", "gcd", "lcm", "armstrong", "digit", "power", "quadratic", "calculator", "average", "binary", "math", "random number", "number reverse", "number reverser");
+        rule("recursion", "recursive", "recursion");
+        rule("sorting and searching", "sort", "sorting", "search", "comparator", "filter");
+        rule("data structures", "stack", "queue", "linked list", "graph", "tree", "data structure");
+        rule("functions", "function", "callback", "closure", "arrow", "parameter", "higher-order", "functional", "spread", "destructuring");
+        rule("oop", "class", "object", "inheritance", "encapsulation", "polymorphism", "overriding", "overloading", "constructor", "interface", "abstract", "design pattern");
+        rule("errors", "exception", "error", "try-catch", "try-except", "finally", "validation", "catch");
+        rule("dates and time", "date", "time", "clock", "stopwatch");
+        rule("modules and packages", "module", "package", "import");
+        rule("files", "file", "csv", "json", "serialization");
+        rule("pointers and memory", "pointer", "memory", "structure", "union");
+        rule("concurrency", "thread", "runnable", "producer-consumer", "async", "await", "promise", "settimeout", "setinterval");
+        rule("dom and events", "button", "html", "dom", "mouse", "keyboard", "keyup", "event", "form", "image", "slider", "carousel", "element color", "dynamic element");
+        rule("projects", "system", "app", "application", "game", "simulation", "management", "chat", "to-do");
+        rule("databases and networking", "database", "jdbc", "crud", "socket", "fetch", "api");
+    }
+
+    private TaskTopics() {}
+
+    private static void rule(String topic, String... keywords) {
+        StringBuilder alternation = new StringBuilder();
+        for (String k : keywords) {
+            if (alternation.length() > 0) {
+                alternation.append('|');
+            }
+            alternation.append(Pattern.quote(k));
+        }
+        RULES.put(topic, Pattern.compile("(?<![\\p{L}\\p{N}])(?:" + alternation + ")(?:s|es)?(?![\\p{L}\\p{N}])"));
+    }
+
+    /** Every topic, in display order ({@link #OTHER} last). */
+    static List<String> topics() {
+        List<String> topics = new ArrayList<>(RULES.keySet());
+        topics.add(OTHER);
+        return topics;
+    }
+
+    /** Topics the task mentions, in display order. */
+    static List<String> tagsFor(HardcodedTask task) {
+        String text = (task.getTaskName() + " " + task.getDescription()).toLowerCase(Locale.ROOT);
+        List<String> tags = new ArrayList<>();
+        for (Map.Entry<String, Pattern> rule : RULES.entrySet()) {
+            if (rule.getValue().matcher(text).find()) {
+                tags.add(rule.getKey());
+            }
+        }
+        if (tags.isEmpty()) {
+            tags.add(OTHER);
+        }
+        return tags;
+    }
+}
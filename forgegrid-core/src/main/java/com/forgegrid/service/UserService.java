@@ -1,6 +1,7 @@
 package com.forgegrid.service;
 
 import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -45,8 +46,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error checking onboarding status: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.hasCompletedOnboarding", null, "Error checking onboarding status", e);
         }
         
         return false;
@@ -88,8 +88,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error saving onboarding data: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.saveOnboardingData", null, "Error saving onboarding data", e);
         }
         
         return false;
@@ -131,8 +130,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error saving onboarding data: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.saveOnboardingDataByUsername", username, "Error saving onboarding data", e);
         }
         
         return false;
@@ -167,8 +165,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error retrieving onboarding data: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.getOnboardingData", null, "Error retrieving onboarding data", e);
         }
         
         return null;
@@ -203,13 +200,53 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error retrieving onboarding data: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.getOnboardingDataByUsername", username, "Error retrieving onboarding data", e);
         }
         
         return null;
     }
     
+    /**
+     * Users with task activity in the last few hours, most recent first
+     * (used by the cache warmer)
+     * 
+     * @param hours How far back to look
+     * @param limit Maximum number of users
+     * @return Arrays containing [username, language, skill]; language and skill may be null
+     */
+    public java.util.List<String[]> getRecentlyActiveUsers(int hours, int limit) {
+        String selectSQL = """
+            SELECT s.username, u.onboarding_language, u.onboarding_skill
+            FROM user_stats s LEFT JOIN users u ON u.username = s.username
+            WHERE s.last_activity > (NOW() - INTERVAL ? HOUR)
+            ORDER BY s.last_activity DESC
+            LIMIT ?
+            """;
+        java.util.List<String[]> users = new java.util.ArrayList<>();
+        
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            
+            pstmt.setInt(1, hours);
+            pstmt.setInt(2, limit);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(new String[] {
+                        rs.getString("username"),
+                        rs.getString("onboarding_language"),
+                        rs.getString("onboarding_skill")
+                    });
+                }
+            }
+            
+        } catch (SQLException e) {
+            Log.error("UserService.getRecentlyActiveUsers", null, "Error retrieving recently active users", e);
+        }
+        
+        return users;
+    }
+    
     /**
      * Check if a user has completed onboarding by username
      * 
@@ -231,8 +268,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error checking onboarding status: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.hasCompletedOnboardingByUsername", username, "Error checking onboarding status", e);
         }
         
         return false;
@@ -257,8 +293,7 @@ public class UserService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating last login: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.updateLastLogin", username, "Error updating last login", e);
         }
         
         return false;
@@ -302,7 +337,7 @@ public class UserService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            e.printStackTrace();
+            Log.error("UserService.saveUserPreferences", username, "Error saving user preferences", e);
         }
         
         return false;
@@ -328,7 +363,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            e.printStackTrace();
+            Log.error("UserService.hasCompletedCustomization", username, "Error checking customization status", e);
         }
         
         return false;
@@ -364,8 +399,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error retrieving user preferences: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.getUserPreferences", username, "Error retrieving user preferences", e);
         }
         
         return null;
@@ -392,8 +426,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error checking user preferences: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.hasUserPreferences", username, "Error checking user preferences", e);
         }
         
         return false;
@@ -420,8 +453,7 @@ public class UserService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting user ID: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.getUserIdByUsername", username, "Error getting user ID", e);
         }
         
         return -1;
@@ -450,7 +482,7 @@ public class UserService {
                 details.put("onboarding_skill", rs.getString("onboarding_skill"));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            Log.error("UserService.getUserProfileDetails", username, "Error loading user profile", e);
         }
         
         // Get notification preference from user_preferences table
@@ -465,7 +497,7 @@ public class UserService {
                 details.put("notification_preference", rs.getString("notification_preference"));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            Log.error("UserService.getUserProfileDetails", username, "Error loading notification preference", e);
         }
         
         return details;
@@ -494,7 +526,7 @@ public class UserService {
             pstmt.executeUpdate();
             
         } catch (SQLException e) {
-            e.printStackTrace();
+            Log.error("UserService.updateUserProfileDetails", username, "Error updating user profile", e);
             return false;
         }
         
@@ -513,7 +545,7 @@ public class UserService {
             pstmt.executeUpdate();
             
         } catch (SQLException e) {
-            e.printStackTrace();
+            Log.error("UserService.updateUserProfileDetails", username, "Error updating notification preference", e);
             return false;
         }
         
@@ -541,8 +573,7 @@ public class UserService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating user score: " + e.getMessage());
-            e.printStackTrace();
+            Log.error("UserService.updateUserScore", username, "Error updating user score", e);
             return false;
         }
     }
@@ -0,0 +1,274 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.model.UserStats;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the user_stats summary table: one row per user with task counts
+ * and XP totals, so dashboard stats are a primary-key lookup instead of an
+ * aggregate over the whole user_tasks history.
+ *
+ * Writers call {@link #applyDelta} on the same connection and transaction as
+ * their user_tasks change. A user without a row (new, or never backfilled) is
+ * rebuilt from user_tasks on first read or write; {@link #rebuildAll()}
+ * recomputes everyone, a small batch of users per transaction. Rebuilds add the monthly user_tasks_rollup rows left
+ * behind by {@link HistoryArchiveService}, so archiving never changes totals.
+ */
+public class UserStatsService {
+
+    private static volatile boolean tableReady = false;
+    private static final int REBUILD_BATCH = 100;
+
+    private static final String AGGREGATE_COLUMNS =
+        "COALESCE(SUM(status = 'completed'), 0), " +
+        "COALESCE(SUM(status = 'skipped'), 0), " +
+        "COALESCE(SUM(CASE WHEN status = 'completed' THEN xp_earned ELSE 0 END), 0), " +
+        "COALESCE(SUM(xp_earned), 0), " +
+        "COALESCE(SUM(type = 'goated' AND is_completed = 0), 0), " +
+        "COALESCE(SUM(type = 'goated' AND is_completed = 1), 0), " +
+        "MAX(completed_at) ";
+
+    /** Adds archived totals to rebuilt rows; %s is an optional WHERE on the rollup. */
+    private static final String FOLD_ROLLUP =
+        "UPDATE user_stats s JOIN (" +
+        "SELECT username, SUM(completed_count) c, SUM(skipped_count) k, SUM(total_xp) t, SUM(net_xp) n, MAX(last_activity) a " +
+        "FROM user_tasks_rollup %s GROUP BY username) r ON r.username = s.username " +
+        "SET s.completed_count = s.completed_count + r.c, s.skipped_count = s.skipped_count + r.k, " +
+        "s.total_xp = s.total_xp + r.t, s.net_xp = s.net_xp + r.n, " +
+        "s.last_activity = GREATEST(COALESCE(s.last_activity, r.a), r.a)";
+
+    private static final String STATS_COLUMNS =
+        "user_stats (username, completed_count, skipped_count, total_xp, net_xp, goated_open, goated_done, last_activity) ";
+
+    private final DatabaseHelper dbHelper;
+
+    public UserStatsService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createUserStatsTable();
+    }
+
+    /**
+     * Create user_stats once per process; the first time it is created, backfill it
+     */
+    private void createUserStatsTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (UserStatsService.class) {
+            if (tableReady) {
+                return;
+            }
+            String createTableSQL =
+                "CREATE TABLE IF NOT EXISTS user_stats (" +
+                "username VARCHAR(100) PRIMARY KEY, " +
+                "completed_count INT NOT NULL DEFAULT 0, " +
+                "skipped_count INT NOT NULL DEFAULT 0, " +
+                "total_xp INT NOT NULL DEFAULT 0, " +
+                "net_xp INT NOT NULL DEFAULT 0, " +
+                "goated_open INT NOT NULL DEFAULT 0, " +
+                "goated_done INT NOT NULL DEFAULT 0, " +
+                "last_activity TIMESTAMP NULL, " +
+                "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP" +
+                ")";
+            try (Connection conn = dbHelper.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                boolean existed;
+                try (ResultSet rs = stmt.executeQuery("SHOW TABLES LIKE 'user_stats'")) {
+                    existed = rs.next();
+                }
+                stmt.execute(createTableSQL);
+                if (!existed) {
+                    int users = backfill(conn);
+                    Log.info("UserStatsService.createUserStatsTable", null, "Backfilled user_stats for " + users + " users");
+                }
+                tableReady = true;
+            } catch (SQLException e) {
+                Log.error("UserStatsService.createUserStatsTable", null, "Error creating user_stats table", e);
+            }
+        }
+    }
+
+    /**
+     * Get the summary row for a user
+     *
+     * @param username Username
+     * @return Stats; all zero if the user has no history or the lookup failed
+     */
+    public UserStats getStats(String username) {
+        String selectSQL =
+            "SELECT completed_count, skipped_count, total_xp, net_xp, goated_open, goated_done, last_activity " +
+            "FROM user_stats WHERE username = ?";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+            pstmt.setString(1, username);
+            UserStats stats = read(pstmt);
+            if (stats == null) {
+                rebuild(conn, username);
+                stats = read(pstmt);
+            }
+            return stats != null ? stats : UserStats.empty();
+        } catch (SQLException e) {
+            Log.error("UserStatsService.getStats", username, "Error getting user stats", e);
+        }
+        return UserStats.empty();
+    }
+
+    /**
+     * Apply a change to a user's totals as part of the caller's transaction.
+     * If the user has no row yet it is rebuilt from user_tasks instead, which
+     * already includes the caller's uncommitted change.
+     *
+     * @param conn Connection holding the caller's transaction
+     * @param username Username
+     * @param delta Amounts to add
+     */
+    public void applyDelta(Connection conn, String username, Delta delta) throws SQLException {
+        String updateSQL =
+            "UPDATE user_stats SET completed_count = completed_count + ?, skipped_count = skipped_count + ?, " +
+            "total_xp = total_xp + ?, net_xp = net_xp + ?, goated_open = goated_open + ?, goated_done = goated_done + ?, " +
+            "last_activity = ? WHERE username = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(updateSQL)) {
+            pstmt.setInt(1, delta.completed);
+            pstmt.setInt(2, delta.skipped);
+            pstmt.setInt(3, delta.totalXp);
+            pstmt.setInt(4, delta.netXp);
+            pstmt.setInt(5, delta.goatedOpen);
+            pstmt.setInt(6, delta.goatedDone);
+            pstmt.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+            pstmt.setString(8, username);
+            if (pstmt.executeUpdate() == 0) {
+                rebuild(conn, username);
+            }
+        }
+    }
+
+    /**
+     * Recompute one user's row from user_tasks
+     *
+     * @return true if the row was rebuilt
+     */
+    public boolean rebuild(String username) {
+        try (Connection conn = dbHelper.getConnection()) {
+            rebuild(conn, username);
+            return true;
+        } catch (SQLException e) {
+            Log.error("UserStatsService.rebuild", username, "Error rebuilding user stats", e);
+            return false;
+        }
+    }
+
+    /**
+     * Recompute every user's row from user_tasks. Users are walked in username
+     * order and committed in batches of {@value #REBUILD_BATCH}, so no transaction
+     * locks the whole table or aggregates the whole history at once.
+     *
+     * @return Number of users rebuilt, or -1 on error
+     */
+    public int rebuildAll() {
+        String pageSQL = "SELECT username FROM users WHERE username > ? ORDER BY username LIMIT " + REBUILD_BATCH;
+        int users = 0;
+        String after = "";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement page = conn.prepareStatement(pageSQL)) {
+            conn.setAutoCommit(false);
+            while (true) {
+                List<String> batch = new ArrayList<>(REBUILD_BATCH);
+                page.setString(1, after);
+                try (ResultSet rs = page.executeQuery()) {
+                    while (rs.next()) {
+                        batch.add(rs.getString(1));
+                    }
+                }
+                for (String username : batch) {
+                    rebuild(conn, username);
+                }
+                conn.commit();
+                users += batch.size();
+                if (batch.size() < REBUILD_BATCH) {
+                    return users;
+                }
+                after = batch.get(batch.size() - 1);
+            }
+        } catch (SQLException e) {
+            Log.error("UserStatsService.rebuildAll", null, "Error rebuilding user stats", e);
+            return -1;
+        }
+    }
+
+    private static void rebuild(Connection conn, String username) throws SQLException {
+        String sql = "REPLACE INTO " + STATS_COLUMNS +
+            "SELECT ?, " + AGGREGATE_COLUMNS + "FROM user_tasks WHERE username = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, username);
+            pstmt.executeUpdate();
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(String.format(FOLD_ROLLUP, "WHERE username = ?"))) {
+            pstmt.setString(1, username);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Fill a freshly created (empty) user_stats with set-based statements
+     */
+    private static int backfill(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            int users = stmt.executeUpdate("INSERT INTO " + STATS_COLUMNS +
+                "SELECT username, " + AGGREGATE_COLUMNS + "FROM user_tasks GROUP BY username");
+            // Users whose whole history is archived only have rollup rows
+            users += stmt.executeUpdate("INSERT IGNORE INTO user_stats (username) SELECT DISTINCT username FROM user_tasks_rollup");
+            stmt.executeUpdate(String.format(FOLD_ROLLUP, ""));
+            return users;
+        }
+    }
+
+    private static UserStats read(PreparedStatement pstmt) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            if (!rs.next()) {
+                return null;
+            }
+            return new UserStats(
+                rs.getInt("completed_count"),
+                rs.getInt("skipped_count"),
+                rs.getInt("total_xp"),
+                rs.getInt("net_xp"),
+                rs.getInt("goated_open"),
+                rs.getInt("goated_done"),
+                rs.getTimestamp("last_activity")
+            );
+        }
+    }
+
+    /**
+     * Change to apply to a user's totals; unset fields stay zero.
+     *
+     * Example: new UserStatsService.Delta().completed(1).totalXp(xp).netXp(xp)
+     */
+    public static final class Delta {
+        private int completed;
+        private int skipped;
+        private int totalXp;
+        private int netXp;
+        private int goatedOpen;
+        private int goatedDone;
+
+        public Delta completed(int n) { completed += n; return this; }
+        public Delta skipped(int n) { skipped += n; return this; }
+        public Delta totalXp(int xp) { totalXp += xp; return this; }
+        public Delta netXp(int xp) { netXp += xp; return this; }
+        public Delta goatedOpen(int n) { goatedOpen += n; return this; }
+        public Delta goatedDone(int n) { goatedDone += n; return this; }
+    }
+}
@@ -0,0 +1,349 @@
+package com.forgegrid.service;
+
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XP and task counts per user in hourly, daily and weekly buckets, so charts
+ * over the last N hours/days/weeks read N rows instead of the user's history.
+ *
+ * Every completion or skip adds to its three buckets (user_xp_buckets) in the
+ * writer's transaction. A user's buckets are built once from user_tasks and
+ * its archive, either by the "rollups" maintenance job or on the user's first
+ * write or read, whichever comes first; user_xp_rollup_users records who is
+ * built. Hourly buckets are kept for {@link #HOURLY_RETENTION_DAYS} days.
+ */
+public class XpRollupService {
+
+    /** Bucket width; the code is what is stored in user_xp_buckets.grain. */
+    public enum Grain {
+        HOUR('H'), DAY('D'), WEEK('W');
+
+        private final char code;
+
+        Grain(char code) {
+            this.code = code;
+        }
+
+        /** Start of the bucket containing the given time. */
+        public LocalDateTime bucketOf(LocalDateTime time) {
+            switch (this) {
+                case HOUR: return time.truncatedTo(ChronoUnit.HOURS);
+                case DAY: return time.truncatedTo(ChronoUnit.DAYS);
+                default: return time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            }
+        }
+
+        /** Start of the bucket n buckets after (or before, if negative) the given start. */
+        public LocalDateTime plus(LocalDateTime start, long n) {
+            switch (this) {
+                case HOUR: return start.plusHours(n);
+                case DAY: return start.plusDays(n);
+                default: return start.plusWeeks(n);
+            }
+        }
+
+        /** MySQL expression for the bucket start of completed_at. */
+        private String sqlBucket() {
+            switch (this) {
+                case HOUR: return "DATE_FORMAT(completed_at, '%Y-%m-%d %H:00:00')";
+                case DAY: return "DATE(completed_at)";
+                default: return "DATE_SUB(DATE(completed_at), INTERVAL WEEKDAY(completed_at) DAY)";
+            }
+        }
+    }
+
+    /** Hourly buckets older than this are pruned by the maintenance job. */
+    public static final int HOURLY_RETENTION_DAYS = 30;
+    /** Most buckets one series may ask for. */
+    public static final int MAX_BUCKETS = 1000;
+
+    private static volatile boolean tableReady = false;
+
+    private final DatabaseHelper dbHelper;
+
+    public XpRollupService() {
+        this.dbHelper = DatabaseHelper.getInstance();
+        createRollupTables();
+    }
+
+    private void createRollupTables() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (XpRollupService.class) {
+            if (tableReady) {
+                return;
+            }
+            String bucketsSQL =
+                "CREATE TABLE IF NOT EXISTS user_xp_buckets (" +
+                "username VARCHAR(100) NOT NULL, " +
+                "grain CHAR(1) NOT NULL, " +
+                "bucket_start DATETIME NOT NULL, " +
+                "xp INT NOT NULL DEFAULT 0, " +
+                "completed INT NOT NULL DEFAULT 0, " +
+                "skipped INT NOT NULL DEFAULT 0, " +
+                "PRIMARY KEY (username, grain, bucket_start)" +
+                ")";
+            String usersSQL =
+                "CREATE TABLE IF NOT EXISTS user_xp_rollup_users (" +
+                "username VARCHAR(100) PRIMARY KEY, " +
+                "built_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                ")";
+            try (Connection conn = dbHelper.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute(bucketsSQL);
+                stmt.execute(usersSQL);
+                tableReady = true;
+            } catch (SQLException e) {
+                Log.error("XpRollupService.createRollupTables", null, "Error creating XP rollup tables", e);
+            }
+        }
+    }
+
+    /**
+     * Add a write to its hourly, daily and weekly buckets as part of the
+     * caller's transaction. A user who is not built yet is built from history
+     * instead, which already includes the caller's change.
+     *
+     * @param at The row's completed_at
+     * @param xp Net XP (negative for skip penalties or removals)
+     * @param completed Completed tasks added (or removed, if negative)
+     * @param skipped Skipped tasks added
+     */
+    void record(Connection conn, String username, LocalDateTime at, int xp, int completed, int skipped) throws SQLException {
+        if (!lockBuilt(conn, username)) {
+            build(conn, username);
+            return;
+        }
+        String sql =
+            "INSERT INTO user_xp_buckets (username, grain, bucket_start, xp, completed, skipped) VALUES " +
+            "(?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE xp = xp + VALUES(xp), completed = completed + VALUES(completed), " +
+            "skipped = skipped + VALUES(skipped)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int i = 1;
+            for (Grain grain : Grain.values()) {
+                pstmt.setString(i++, username);
+                pstmt.setString(i++, String.valueOf(grain.code));
+                pstmt.setTimestamp(i++, Timestamp.valueOf(grain.bucketOf(at)));
+                pstmt.setInt(i++, xp);
+                pstmt.setInt(i++, completed);
+                pstmt.setInt(i++, skipped);
+            }
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * The last n buckets of a grain, ending with the current one, ready to plot
+     * (empty buckets are zero; one range read of at most n rows)
+     */
+    public Series getSeries(String username, Grain grain, int buckets) {
+        int n = Math.max(1, Math.min(MAX_BUCKETS, buckets));
+        LocalDateTime last = grain.bucketOf(LocalDateTime.now());
+        LocalDateTime first = grain.plus(last, -(n - 1));
+        Series series = new Series(grain, first, n);
+        String selectSQL =
+            "SELECT bucket_start, xp, completed, skipped FROM user_xp_buckets " +
+            "WHERE username = ? AND grain = ? AND bucket_start >= ? ORDER BY bucket_start";
+        try (Connection conn = dbHelper.getConnection()) {
+            ensureBuilt(conn, username);
+            try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+                pstmt.setString(1, username);
+                pstmt.setString(2, String.valueOf(grain.code));
+                pstmt.setTimestamp(3, Timestamp.valueOf(first));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        series.put(rs.getTimestamp("bucket_start").toLocalDateTime(),
+                            rs.getInt("xp"), rs.getInt("completed"), rs.getInt("skipped"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            Log.error("XpRollupService.getSeries", username, "Error reading XP series", e);
+        }
+        return series;
+    }
+
+    /**
+     * Build up to limit users that have task history but no buckets yet (maintenance backfill)
+     *
+     * @return Users built
+     */
+    public int backfill(int limit) throws SQLException {
+        String selectSQL =
+            "SELECT DISTINCT t.username FROM user_tasks t " +
+            "LEFT JOIN user_xp_rollup_users r ON r.username = t.username " +
+            "WHERE r.username IS NULL AND t.status IN ('completed', 'skipped') LIMIT ?";
+        List<String> usernames = new ArrayList<>();
+        try (Connection conn = dbHelper.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(selectSQL)) {
+                pstmt.setInt(1, limit);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        usernames.add(rs.getString("username"));
+                    }
+                }
+            }
+            int built = 0;
+            for (String username : usernames) {
+                if (ensureBuilt(conn, username)) {
+                    built++;
+                }
+            }
+            return built;
+        }
+    }
+
+    /**
+     * Delete hourly buckets older than {@link #HOURLY_RETENTION_DAYS} days
+     *
+     * @return Rows deleted
+     */
+    public int pruneHourly() throws SQLException {
+        String deleteSQL = "DELETE FROM user_xp_buckets WHERE grain = ? AND bucket_start < ?";
+        try (Connection conn = dbHelper.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(deleteSQL)) {
+            pstmt.setString(1, String.valueOf(Grain.HOUR.code));
+            pstmt.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now().minusDays(HOURLY_RETENTION_DAYS)));
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Build the user in its own transaction unless already built
+     *
+     * @return true if this call built the user
+     */
+    private boolean ensureBuilt(Connection conn, String username) throws SQLException {
+        if (isBuilt(conn, username)) {
+            return false;
+        }
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            // Re-check under the lock: a writer or another backfill may have won
+            boolean built = !lockBuilt(conn, username);
+            if (built) {
+                build(conn, username);
+            }
+            conn.commit();
+            return built;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static boolean isBuilt(Connection conn, String username) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT 1 FROM user_xp_rollup_users WHERE username = ?")) {
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /** Whether the user is built, locking its marker row (or the gap where it goes). */
+    private static boolean lockBuilt(Connection conn, String username) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT 1 FROM user_xp_rollup_users WHERE username = ? FOR UPDATE")) {
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Replace the user's buckets with sums over user_tasks and its archive, and mark the user built
+     */
+    private static void build(Connection conn, String username) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM user_xp_buckets WHERE username = ?")) {
+            pstmt.setString(1, username);
+            pstmt.executeUpdate();
+        }
+        LocalDateTime hourlyFrom = LocalDateTime.now().minusDays(HOURLY_RETENTION_DAYS);
+        for (Grain grain : Grain.values()) {
+            String insertSQL =
+                "INSERT INTO user_xp_buckets (username, grain, bucket_start, xp, completed, skipped) " +
+                "SELECT ?, ?, " + grain.sqlBucket() + " AS b, COALESCE(SUM(xp_earned), 0), " +
+                "SUM(status = 'completed'), SUM(status = 'skipped') FROM (" +
+                "SELECT completed_at, xp_earned, status FROM user_tasks WHERE username = ? " +
+                "AND status IN ('completed', 'skipped') AND completed_at IS NOT NULL " +
+                "UNION ALL SELECT completed_at, xp_earned, status FROM user_tasks_archive WHERE username = ? " +
+                "AND status IN ('completed', 'skipped') AND completed_at IS NOT NULL" +
+                ") done" + (grain == Grain.HOUR ? " WHERE completed_at >= ?" : "") + " GROUP BY b";
+            try (PreparedStatement pstmt = conn.prepareStatement(insertSQL)) {
+                pstmt.setString(1, username);
+                pstmt.setString(2, String.valueOf(grain.code));
+                pstmt.setString(3, username);
+                pstmt.setString(4, username);
+                if (grain == Grain.HOUR) {
+                    pstmt.setTimestamp(5, Timestamp.valueOf(hourlyFrom));
+                }
+                pstmt.executeUpdate();
+            }
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement("INSERT IGNORE INTO user_xp_rollup_users (username) VALUES (?)")) {
+            pstmt.setString(1, username);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Consecutive buckets, oldest first: index i starts at {@link #getStart(int)}.
+     */
+    public static final class Series {
+        private final Grain grain;
+        private final LocalDateTime first;
+        private final int[] xp;
+        private final int[] completed;
+        private final int[] skipped;
+
+        Series(Grain grain, LocalDateTime first, int buckets) {
+            this.grain = grain;
+            this.first = first;
+            this.xp = new int[buckets];
+            this.completed = new int[buckets];
+            this.skipped = new int[buckets];
+        }
+
+        private void put(LocalDateTime start, int xp, int completed, int skipped) {
+            long i;
+            switch (grain) {
+                case HOUR: i = ChronoUnit.HOURS.between(first, start); break;
+                case DAY: i = ChronoUnit.DAYS.between(first, start); break;
+                default: i = ChronoUnit.WEEKS.between(first, start); break;
+            }
+            if (i >= 0 && i < this.xp.length) {
+                this.xp[(int) i] = xp;
+                this.completed[(int) i] = completed;
+                this.skipped[(int) i] = skipped;
+            }
+        }
+
+        public Grain getGrain() { return grain; }
+        public int size() { return xp.length; }
+        public LocalDateTime getStart(int i) { return grain.plus(first, i); }
+        /** Net XP per bucket (skip penalties are negative). */
+        public int[] getXp() { return xp.clone(); }
+        public int[] getCompleted() { return completed.clone(); }
+        public int[] getSkipped() { return skipped.clone(); }
+    }
+}
@@ -0,0 +1,291 @@
+package com.forgegrid.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON writer and parser for the headless API, logs and exports.
+ * Supports objects (Map), arrays (Iterable / Object[]), strings, numbers,
+ * booleans and null. Parsed numbers are Long when integral, otherwise Double.
+ */
+public final class Json {
+
+    private Json() {}
+
+    /**
+     * Serialize a value to a JSON string
+     *
+     * @param value Map, Iterable, array, String, Number, Boolean or null
+     * @return JSON text
+     */
+    public static String write(Object value) {
+        StringBuilder sb = new StringBuilder(64);
+        write(sb, value);
+        return sb.toString();
+    }
+
+    /**
+     * Append a value as JSON to the given builder
+     */
+    public static void write(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof CharSequence) {
+            writeString(sb, value.toString());
+        } else if (value instanceof Number) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                sb.append("null");
+            } else {
+                sb.append(value);
+            }
+        } else if (value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof Map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                if (!first) sb.append(',');
+                first = false;
+                writeString(sb, String.valueOf(e.getKey()));
+                sb.append(':');
+                write(sb, e.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof Iterable) {
+            sb.append('[');
+            boolean first = true;
+            for (Object o : (Iterable<?>) value) {
+                if (!first) sb.append(',');
+                first = false;
+                write(sb, o);
+            }
+            sb.append(']');
+        } else if (value instanceof Object[]) {
+            sb.append('[');
+            Object[] arr = (Object[]) value;
+            for (int i = 0; i < arr.length; i++) {
+                if (i > 0) sb.append(',');
+                write(sb, arr[i]);
+            }
+            sb.append(']');
+        } else if (value instanceof int[]) {
+            sb.append('[');
+            int[] arr = (int[]) value;
+            for (int i = 0; i < arr.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(arr[i]);
+            }
+            sb.append(']');
+        } else if (value instanceof long[]) {
+            sb.append('[');
+            long[] arr = (long[]) value;
+            for (int i = 0; i < arr.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(arr[i]);
+            }
+            sb.append(']');
+        } else {
+            writeString(sb, value.toString());
+        }
+    }
+
+    /**
+     * Append a quoted, escaped JSON string
+     */
+    public static void writeString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\b': sb.append("\\b"); break;
+                case '\f': sb.append("\\f"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * Parse JSON text
+     *
+     * @param text JSON text
+     * @return Map, List, String, Long, Double, Boolean or null
+     * @throws IllegalArgumentException if the text is not valid JSON
+     */
+    public static Object parse(String text) {
+        Parser p = new Parser(text);
+        p.skipWs();
+        Object v = p.readValue();
+        p.skipWs();
+        if (p.pos != text.length()) {
+            throw p.error("Trailing characters");
+        }
+        return v;
+    }
+
+    /**
+     * Parse a JSON object; an empty or blank body yields an empty map
+     *
+     * @param text JSON text
+     * @return Parsed object
+     * @throws IllegalArgumentException if the text is not a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseObject(String text) {
+        if (text == null || text.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        Object v = parse(text);
+        if (!(v instanceof Map)) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return (Map<String, Object>) v;
+    }
+
+    private static final class Parser {
+        private final String s;
+        private int pos;
+
+        Parser(String s) {
+            this.s = s;
+        }
+
+        IllegalArgumentException error(String msg) {
+            return new IllegalArgumentException(msg + " at position " + pos);
+        }
+
+        void skipWs() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++;
+        }
+
+        Object readValue() {
+            if (pos >= s.length()) throw error("Unexpected end of input");
+            char c = s.charAt(pos);
+            switch (c) {
+                case '{': return readObject();
+                case '[': return readArray();
+                case '"': return readString();
+                case 't': expect("true"); return Boolean.TRUE;
+                case 'f': expect("false"); return Boolean.FALSE;
+                case 'n': expect("null"); return null;
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) return readNumber();
+                    throw error("Unexpected character '" + c + "'");
+            }
+        }
+
+        void expect(String word) {
+            if (!s.startsWith(word, pos)) throw error("Expected " + word);
+            pos += word.length();
+        }
+
+        Map<String, Object> readObject() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            pos++;
+            skipWs();
+            if (pos < s.length() && s.charAt(pos) == '}') {
+                pos++;
+                return map;
+            }
+            while (true) {
+                skipWs();
+                if (pos >= s.length() || s.charAt(pos) != '"') throw error("Expected string key");
+                String key = readString();
+                skipWs();
+                if (pos >= s.length() || s.charAt(pos) != ':') throw error("Expected ':'");
+                pos++;
+                skipWs();
+                map.put(key, readValue());
+                skipWs();
+                if (pos >= s.length()) throw error("Unterminated object");
+                char c = s.charAt(pos++);
+                if (c == '}') return map;
+                if (c != ',') throw error("Expected ',' or '}'");
+            }
+        }
+
+        List<Object> readArray() {
+            List<Object> list = new ArrayList<>();
+            pos++;
+            skipWs();
+            if (pos < s.length() && s.charAt(pos) == ']') {
+                pos++;
+                return list;
+            }
+            while (true) {
+                skipWs();
+                list.add(readValue());
+                skipWs();
+                if (pos >= s.length()) throw error("Unterminated array");
+                char c = s.charAt(pos++);
+                if (c == ']') return list;
+                if (c != ',') throw error("Expected ',' or ']'");
+            }
+        }
+
+        String readString() {
+            StringBuilder sb = new StringBuilder();
+            pos++;
+            while (pos < s.length()) {
+                char c = s.charAt(pos++);
+                if (c == '"') return sb.toString();
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos >= s.length()) break;
+                char e = s.charAt(pos++);
+                switch (e) {
+                    case '"': sb.append('"'); break;
+                    case '\\': sb.append('\\'); break;
+                    case '/': sb.append('/'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'u':
+                        if (pos + 4 > s.length()) throw error("Bad unicode escape");
+                        sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default: throw error("Bad escape");
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        Number readNumber() {
+            int start = pos;
+            boolean fractional = false;
+            while (pos < s.length()) {
+                char c = s.charAt(pos);
+                if (c == '.' || c == 'e' || c == 'E') {
+                    fractional = true;
+                } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                    break;
+                }
+                pos++;
+            }
+            String num = s.substring(start, pos);
+            try {
+                return fractional ? (Number) Double.parseDouble(num) : (Number) Long.parseLong(num);
+            } catch (NumberFormatException e) {
+                throw error("Bad number");
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.forgegrid.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getPercentileNanos(99));
+        assertEquals(0.0, h.getMeanNanos());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int v = 1; v <= 50; v++) {
+            h.recordNanos(v);
+        }
+        assertEquals(50, h.getCount());
+        assertEquals(25, h.getPercentileNanos(50));
+        assertEquals(50, h.getPercentileNanos(100));
+        assertEquals(1, h.getPercentileNanos(0));
+        assertEquals(25.5, h.getMeanNanos(), 1e-9);
+    }
+
+    @Test
+    void bucketUpperBoundIsWithinThreePercent() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long v = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            long bound = LatencyHistogram.upperBound(LatencyHistogram.indexFor(v));
+            assertTrue(bound >= v, "bound below value " + v);
+            assertTrue(bound - v <= v / 32 + 1, "bound too loose for " + v + ": " + bound);
+        }
+    }
+
+    @Test
+    void indexIsMonotonicAcrossBucketEdges() {
+        int last = -1;
+        for (long v = 0; v < 1 << 16; v++) {
+            int index = LatencyHistogram.indexFor(v);
+            assertTrue(index == last || index == last + 1, "gap at " + v);
+            last = index;
+        }
+        // The largest value still lands in the last bucket
+        assertEquals(LatencyHistogram.upperBound(LatencyHistogram.indexFor(Long.MAX_VALUE)), Long.MAX_VALUE);
+    }
+
+    @Test
+    void percentilesAreCappedAtMaxAndNegativesCountAsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordNanos(-5);
+        h.recordNanos(1_000_001);
+        assertEquals(0, h.getPercentileNanos(50));
+        assertEquals(1_000_001, h.getPercentileNanos(99.9));
+        assertEquals(1_000_001, h.getMaxNanos());
+    }
+
+    @Test
+    void tailPercentilesSeparateOutliers() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 990; i++) {
+            h.recordNanos(1_000_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            h.recordNanos(50_000_000);
+        }
+        assertEquals(1.0, h.getP50Millis(), 0.04);
+        assertEquals(1.0, h.getP99Millis(), 0.04);
+        assertEquals(50.0, h.getP999Millis(), 1.6);
+    }
+
+    @Test
+    void concurrentRecordingLosesNothing() throws Exception {
+        LatencyHistogram h = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    h.recordNanos(i);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(200_000, h.getCount());
+        assertEquals(49_999, h.getMaxNanos());
+    }
+}
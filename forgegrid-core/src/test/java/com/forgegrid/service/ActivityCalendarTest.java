@@ -0,0 +1,153 @@
+package com.forgegrid.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivityCalendarTest {
+
+    private static final LocalDate D0 = LocalDate.of(2024, 1, 10);
+
+    @Test
+    void emptyCalendarHasNoActivity() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        assertFalse(days.isActive(D0));
+        assertEquals(0, days.tasksOn(D0));
+        assertEquals(0, days.currentStreak(D0));
+        assertEquals(0, days.longestStreak());
+        assertArrayEquals(new int[7], days.lastDays(D0, 7));
+    }
+
+    @Test
+    void consecutiveDaysExtendStreakAndGapResetsIt() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        days.add(D0, 1);
+        days.add(D0.plusDays(1), 2);
+        days.add(D0.plusDays(2), 1);
+        assertEquals(3, days.currentStreak(D0.plusDays(2)));
+        assertEquals(3, days.longestStreak());
+
+        days.add(D0.plusDays(5), 1);
+        assertEquals(1, days.currentStreak(D0.plusDays(5)));
+        assertEquals(3, days.longestStreak());
+        assertFalse(days.isActive(D0.plusDays(3)));
+        assertTrue(days.isActive(D0.plusDays(1)));
+    }
+
+    @Test
+    void currentStreakSurvivesUntilEndOfNextDay() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        days.add(D0, 1);
+        days.add(D0.plusDays(1), 1);
+        assertEquals(2, days.currentStreak(D0.plusDays(1)));
+        assertEquals(2, days.currentStreak(D0.plusDays(2)));
+        assertEquals(0, days.currentStreak(D0.plusDays(3)));
+    }
+
+    @Test
+    void sameDayCompletionsAddUpAndSaturate() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        days.add(D0, 2);
+        days.add(D0, 3);
+        assertEquals(5, days.tasksOn(D0));
+        assertEquals(1, days.longestStreak());
+        days.add(D0, 1000);
+        assertEquals(255, days.tasksOn(D0));
+    }
+
+    @Test
+    void lastDaysIsOldestFirst() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        days.add(D0.minusDays(3), 4);
+        days.add(D0.minusDays(1), 2);
+        days.add(D0, 1);
+        assertArrayEquals(new int[] {0, 4, 0, 2, 1}, days.lastDays(D0, 5));
+    }
+
+    @Test
+    void reusedRingSlotsStartEmpty() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        days.add(D0, 7);
+        LocalDate countWrap = D0.plusDays(ActivityCalendar.COUNT_DAYS);
+        days.add(countWrap, 1);
+        assertEquals(1, days.tasksOn(countWrap));
+        assertEquals(0, days.tasksOn(D0));
+        assertTrue(days.isActive(D0));
+
+        // D0 shares its slot with the skipped day D0 + BIT_DAYS
+        LocalDate beyond = D0.plusDays(ActivityCalendar.BIT_DAYS + 10);
+        days.add(beyond, 1);
+        assertFalse(days.isActive(D0));
+        assertFalse(days.isActive(D0.plusDays(ActivityCalendar.BIT_DAYS)), "slot of a skipped day must be cleared");
+        assertTrue(days.isActive(countWrap));
+    }
+
+    @Test
+    void olderDaysFillHistoryWithoutChangingStreaks() {
+        ActivityCalendar.Days days = new ActivityCalendar.Days();
+        days.add(D0, 1);
+        days.add(D0.minusDays(2), 3);
+        assertTrue(days.isActive(D0.minusDays(2)));
+        assertEquals(3, days.tasksOn(D0.minusDays(2)));
+        assertEquals(1, days.currentStreak(D0));
+        days.add(D0.minusDays(ActivityCalendar.BIT_DAYS), 1);
+        assertFalse(days.isActive(D0.minusDays(ActivityCalendar.BIT_DAYS)));
+    }
+
+    @Test
+    void matchesBruteForceOverRandomHistory() {
+        Random random = new Random(45);
+        for (int round = 0; round < 20; round++) {
+            ActivityCalendar.Days days = new ActivityCalendar.Days();
+            TreeMap<Long, Integer> model = new TreeMap<>();
+            long day = D0.toEpochDay();
+            for (int i = 0; i < 300; i++) {
+                day += random.nextInt(10) < 7 ? 1 : random.nextInt(40);
+                int n = 1 + random.nextInt(4);
+                days.add(LocalDate.ofEpochDay(day), n);
+                model.merge(day, n, Integer::sum);
+            }
+            assertModel(model, days, day);
+            assertModel(model, ActivityCalendar.Days.decode(days.encode()), day);
+        }
+    }
+
+    @Test
+    void decodeRejectsOtherFormats() {
+        assertNull(ActivityCalendar.Days.decode(null));
+        assertNull(ActivityCalendar.Days.decode(new byte[3]));
+        byte[] blob = new ActivityCalendar.Days().encode();
+        assertEquals(ActivityCalendar.BLOB_BYTES, blob.length);
+        blob[0] = 99;
+        assertNull(ActivityCalendar.Days.decode(blob));
+    }
+
+    private static void assertModel(TreeMap<Long, Integer> model, ActivityCalendar.Days days, long last) {
+        int run = 0;
+        int longest = 0;
+        long previous = Long.MIN_VALUE;
+        for (long d : model.keySet()) {
+            run = d == previous + 1 ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = d;
+        }
+        assertEquals(longest, days.longestStreak());
+        assertEquals(run, days.currentStreak(LocalDate.ofEpochDay(last)));
+        for (long d = last - ActivityCalendar.BIT_DAYS - 5; d <= last + 2; d++) {
+            LocalDate date = LocalDate.ofEpochDay(d);
+            boolean kept = d <= last && d > last - ActivityCalendar.BIT_DAYS;
+            assertEquals(kept && model.containsKey(d), days.isActive(date), "active " + date);
+            boolean counted = d <= last && d > last - ActivityCalendar.COUNT_DAYS;
+            int expected = counted ? Math.min(255, model.getOrDefault(d, 0)) : 0;
+            assertEquals(expected, days.tasksOn(date), "count " + date);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.forgegrid.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LevelServiceTest {
+
+    @Test
+    void requiredXpGrowsByHalfPerLevel() {
+        assertEquals(0, LevelService.getRequiredXPForLevel(1));
+        assertEquals(100, LevelService.getRequiredXPForLevel(2));
+        assertEquals(150, LevelService.getRequiredXPForLevel(3));
+        assertEquals(225, LevelService.getRequiredXPForLevel(4));
+        assertEquals(338, LevelService.getRequiredXPForLevel(5));
+    }
+
+    @Test
+    void totalXpIsSumOfSteps() {
+        assertEquals(0, LevelService.getTotalXPForLevel(1));
+        assertEquals(100, LevelService.getTotalXPForLevel(2));
+        assertEquals(250, LevelService.getTotalXPForLevel(3));
+        assertEquals(475, LevelService.getTotalXPForLevel(4));
+    }
+
+    @Test
+    void levelChangesExactlyAtThresholds() {
+        assertEquals(1, LevelService.calculateLevelFromXP(-5));
+        assertEquals(1, LevelService.calculateLevelFromXP(0));
+        assertEquals(1, LevelService.calculateLevelFromXP(99));
+        assertEquals(2, LevelService.calculateLevelFromXP(100));
+        assertEquals(2, LevelService.calculateLevelFromXP(249));
+        assertEquals(3, LevelService.calculateLevelFromXP(250));
+    }
+
+    @Test
+    void currentLevelXpIsRemainderAboveLevelStart() {
+        assertEquals(0, LevelService.getCurrentLevelXP(0));
+        assertEquals(0, LevelService.getCurrentLevelXP(100));
+        assertEquals(149, LevelService.getCurrentLevelXP(249));
+        assertEquals(10, LevelService.getCurrentLevelXP(260));
+    }
+
+    @Test
+    void levelIsConsistentWithTotalXpForLevel() {
+        for (int level = 1; level <= 30; level++) {
+            int start = LevelService.getTotalXPForLevel(level);
+            assertEquals(level, LevelService.calculateLevelFromXP(start), "start of level " + level);
+            if (level > 1) {
+                assertEquals(level - 1, LevelService.calculateLevelFromXP(start - 1), "just below level " + level);
+            }
+        }
+    }
+}
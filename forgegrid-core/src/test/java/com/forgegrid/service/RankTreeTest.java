@@ -0,0 +1,92 @@
+package com.forgegrid.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankTreeTest {
+
+    @Test
+    void emptyTree() {
+        RankTree<Integer> tree = new RankTree<>(Comparator.naturalOrder());
+        assertEquals(0, tree.size());
+        assertEquals(-1, tree.rank(1));
+        assertEquals(List.of(), tree.range(0, 10));
+        assertFalse(tree.remove(1));
+    }
+
+    @Test
+    void rejectsDuplicatesAndReportsRemovals() {
+        RankTree<Integer> tree = new RankTree<>(Comparator.naturalOrder());
+        assertTrue(tree.add(5));
+        assertFalse(tree.add(5));
+        assertEquals(1, tree.size());
+        assertTrue(tree.remove(5));
+        assertFalse(tree.remove(5));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    void ranksFollowComparatorOrder() {
+        RankTree<Integer> tree = new RankTree<>(Comparator.<Integer>reverseOrder());
+        for (int v : new int[] {30, 10, 50, 20, 40}) {
+            tree.add(v);
+        }
+        assertEquals(0, tree.rank(50));
+        assertEquals(2, tree.rank(30));
+        assertEquals(4, tree.rank(10));
+        assertEquals(-1, tree.rank(35));
+        assertEquals(List.of(40, 30, 20), tree.range(1, 3));
+    }
+
+    @Test
+    void rangeClampsToBounds() {
+        RankTree<Integer> tree = new RankTree<>(Comparator.naturalOrder());
+        for (int i = 0; i < 10; i++) {
+            tree.add(i);
+        }
+        assertEquals(List.of(0, 1), tree.range(-3, 2));
+        assertEquals(List.of(8, 9), tree.range(8, 5));
+        assertEquals(List.of(), tree.range(10, 5));
+        assertEquals(List.of(), tree.range(3, 0));
+        tree.clear();
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    void matchesSortedSetUnderRandomUpdates() {
+        Random random = new Random(46);
+        RankTree<Integer> tree = new RankTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> model = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            int v = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(model.remove(v), tree.remove(v));
+            } else {
+                assertEquals(model.add(v), tree.add(v));
+            }
+            if (i % 1000 == 0) {
+                assertSame(model, tree);
+            }
+        }
+        assertSame(model, tree);
+    }
+
+    private static void assertSame(TreeSet<Integer> model, RankTree<Integer> tree) {
+        assertEquals(model.size(), tree.size());
+        List<Integer> sorted = new ArrayList<>(model);
+        assertEquals(sorted, tree.range(0, Integer.MAX_VALUE));
+        for (int i = 0; i < sorted.size(); i += 7) {
+            assertEquals(i, tree.rank(sorted.get(i)));
+            assertEquals(sorted.subList(i, Math.min(sorted.size(), i + 25)), tree.range(i, 25));
+        }
+    }
+}
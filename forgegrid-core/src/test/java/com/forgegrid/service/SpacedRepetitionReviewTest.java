@@ -0,0 +1,85 @@
+package com.forgegrid.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpacedRepetitionReviewTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 30);
+    private static final double EPS = 1e-9;
+
+    @Test
+    void initialStateHasDefaultEaseAndNoRepetitions() {
+        SpacedRepetitionService.Review r = SpacedRepetitionService.Review.initial(42);
+        assertEquals(42, r.getTaskId());
+        assertEquals(2.5, r.getEaseFactor(), EPS);
+        assertEquals(0, r.getIntervalDays());
+        assertEquals(0, r.getRepetitions());
+    }
+
+    @Test
+    void successfulReviewsGrowIntervalOneSixThenByEase() {
+        SpacedRepetitionService.Review r = SpacedRepetitionService.Review.initial(1).after(4, T0);
+        assertEquals(1, r.getIntervalDays());
+        assertEquals(1, r.getRepetitions());
+        assertEquals(T0.plusDays(1), r.getDueAt());
+
+        r = r.after(4, T0.plusDays(1));
+        assertEquals(6, r.getIntervalDays());
+        assertEquals(2, r.getRepetitions());
+        assertEquals(T0.plusDays(7), r.getDueAt());
+
+        r = r.after(4, T0.plusDays(7));
+        assertEquals(15, r.getIntervalDays());
+        assertEquals(3, r.getRepetitions());
+        assertEquals(T0.plusDays(22), r.getDueAt());
+    }
+
+    @Test
+    void easeMovesWithGrade() {
+        SpacedRepetitionService.Review start = SpacedRepetitionService.Review.initial(1);
+        assertEquals(2.6, start.after(5, T0).getEaseFactor(), EPS);
+        assertEquals(2.5, start.after(4, T0).getEaseFactor(), EPS);
+        assertEquals(2.36, start.after(3, T0).getEaseFactor(), EPS);
+        assertEquals(1.7, start.after(0, T0).getEaseFactor(), EPS);
+    }
+
+    @Test
+    void failedReviewResetsRepetitionsAndComesBackTomorrow() {
+        SpacedRepetitionService.Review r = SpacedRepetitionService.Review.initial(1)
+            .after(5, T0).after(5, T0.plusDays(1)).after(5, T0.plusDays(7));
+        assertEquals(3, r.getRepetitions());
+
+        SpacedRepetitionService.Review failed = r.after(SpacedRepetitionService.SKIP_GRADE, T0.plusDays(30));
+        assertEquals(0, failed.getRepetitions());
+        assertEquals(1, failed.getIntervalDays());
+        assertEquals(SpacedRepetitionService.SKIP_GRADE, failed.getLastGrade());
+        assertEquals(T0.plusDays(31), failed.getDueAt());
+
+        // The next success restarts the 1, 6 ladder
+        assertEquals(1, failed.after(5, T0.plusDays(31)).getIntervalDays());
+    }
+
+    @Test
+    void easeNeverDropsBelowFloor() {
+        SpacedRepetitionService.Review r = SpacedRepetitionService.Review.initial(1);
+        for (int i = 0; i < 10; i++) {
+            r = r.after(0, T0.plusDays(i));
+        }
+        assertEquals(1.3, r.getEaseFactor(), EPS);
+    }
+
+    @Test
+    void gradesAreClampedToZeroThroughFive() {
+        SpacedRepetitionService.Review start = SpacedRepetitionService.Review.initial(1);
+        SpacedRepetitionService.Review high = start.after(9, T0);
+        assertEquals(5, high.getLastGrade());
+        assertEquals(2.6, high.getEaseFactor(), EPS);
+        SpacedRepetitionService.Review low = start.after(-3, T0);
+        assertEquals(0, low.getLastGrade());
+        assertEquals(1.7, low.getEaseFactor(), EPS);
+    }
+}
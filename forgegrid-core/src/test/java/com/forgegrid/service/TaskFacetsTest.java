@@ -0,0 +1,162 @@
+package com.forgegrid.service;
+
+import com.forgegrid.model.HardcodedTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskFacetsTest {
+
+    private static final TaskCatalog CATALOG = TaskCatalog.getInstance();
+    private static final TaskFacets FACETS = new TaskFacets(CATALOG.getTracks());
+
+    @Test
+    void facetsAndValuesAreInDisplayOrder() {
+        assertEquals(List.of(TaskFacets.LANGUAGE, TaskFacets.LEVEL, TaskFacets.TOPIC, TaskFacets.XP, TaskFacets.MINUTES),
+            FACETS.getFacets());
+        assertEquals(List.of("Java", "JavaScript", "C", "Python", "General"), FACETS.getValues(TaskFacets.LANGUAGE));
+        assertEquals(List.of("Beginner", "Intermediate", "Advanced"), FACETS.getValues(TaskFacets.LEVEL));
+        assertEquals(List.of(), FACETS.getValues("colour"));
+    }
+
+    @Test
+    void emptyQueryMatchesWholeCatalog() {
+        TaskFacets.Result result = FACETS.query(new TaskFacets.Query());
+        List<HardcodedTask> all = allTasks();
+        assertEquals(all.size(), result.size());
+        assertEquals(all, result.getTasks(0, Integer.MAX_VALUE));
+        for (String facet : List.of(TaskFacets.LANGUAGE, TaskFacets.LEVEL, TaskFacets.XP, TaskFacets.MINUTES)) {
+            int sum = result.getCounts().get(facet).values().stream().mapToInt(Integer::intValue).sum();
+            assertEquals(all.size(), sum, facet + " values partition the catalog");
+        }
+    }
+
+    @Test
+    void countsIgnoreTheFacetsOwnSelection() {
+        TaskFacets.Result python = FACETS.query(new TaskFacets.Query().select(TaskFacets.LANGUAGE, "Python"));
+        TaskFacets.Result none = FACETS.query(new TaskFacets.Query());
+        assertEquals(none.getCount(TaskFacets.LANGUAGE, "Java"), python.getCount(TaskFacets.LANGUAGE, "Java"));
+        assertEquals(python.size(), python.getCount(TaskFacets.LANGUAGE, "Python"));
+        assertTrue(python.getCount(TaskFacets.LEVEL, "Beginner") < none.getCount(TaskFacets.LEVEL, "Beginner"));
+    }
+
+    @Test
+    void unknownValuesMatchNothingAndUnknownFacetsAreIgnored() {
+        assertEquals(0, FACETS.query(new TaskFacets.Query().select(TaskFacets.LANGUAGE, "Cobol")).size());
+        assertEquals(allTasks().size(), FACETS.query(new TaskFacets.Query().select("colour", "red")).size());
+    }
+
+    @Test
+    void pagesFollowCatalogOrder() {
+        TaskFacets.Result result = FACETS.query(new TaskFacets.Query().select(TaskFacets.LEVEL, "Advanced"));
+        List<HardcodedTask> all = result.getTasks(0, Integer.MAX_VALUE);
+        assertEquals(all.subList(5, 15), result.getTasks(5, 10));
+        assertEquals(List.of(), result.getTasks(all.size(), 10));
+        BitSet ids = result.getIds();
+        ids.clear();
+        assertEquals(all.size(), result.size(), "getIds returns a copy");
+    }
+
+    @Test
+    void matchesBruteForceOverRandomQueries() {
+        Random random = new Random(49);
+        for (int round = 0; round < 500; round++) {
+            TaskFacets.Query query = new TaskFacets.Query();
+            Map<String, List<String>> selected = new HashMap<>();
+            for (String facet : FACETS.getFacets()) {
+                if (random.nextBoolean()) {
+                    List<String> values = FACETS.getValues(facet);
+                    List<String> picked = new ArrayList<>();
+                    for (int k = 1 + random.nextInt(2); k > 0; k--) {
+                        picked.add(values.get(random.nextInt(values.size())));
+                    }
+                    query.select(facet, picked.toArray(new String[0]));
+                    selected.put(facet, picked);
+                }
+            }
+            int[] xp = limits(random, 80);
+            int[] minutes = limits(random, 120);
+            query.xp(xp[0], xp[1]).minutes(minutes[0], minutes[1]);
+
+            TaskFacets.Result result = FACETS.query(query);
+            List<HardcodedTask> expected = new ArrayList<>();
+            for (HardcodedTask t : allTasks()) {
+                if (inRange(t, xp, minutes) && matches(t, selected, null)) {
+                    expected.add(t);
+                }
+            }
+            assertEquals(expected, result.getTasks(0, Integer.MAX_VALUE), "round " + round);
+
+            for (String facet : FACETS.getFacets()) {
+                for (String value : FACETS.getValues(facet)) {
+                    int count = 0;
+                    for (HardcodedTask t : allTasks()) {
+                        if (inRange(t, xp, minutes) && matches(t, selected, facet) && valuesOf(t, facet).contains(value)) {
+                            count++;
+                        }
+                    }
+                    assertEquals(count, result.getCount(facet, value), "round " + round + " " + facet + "=" + value);
+                }
+            }
+        }
+    }
+
+    /** Unbounded, or a random inclusive [min, max] that may be empty. */
+    private static int[] limits(Random random, int top) {
+        int min = random.nextInt(4) == 0 ? random.nextInt(top) : Integer.MIN_VALUE;
+        int max = random.nextInt(4) == 0 ? random.nextInt(top) : Integer.MAX_VALUE;
+        return new int[] {min, max};
+    }
+
+    private static boolean inRange(HardcodedTask t, int[] xp, int[] minutes) {
+        return t.getXpReward() >= xp[0] && t.getXpReward() <= xp[1]
+            && t.getEstimatedMinutes() >= minutes[0] && t.getEstimatedMinutes() <= minutes[1];
+    }
+
+    private static boolean matches(HardcodedTask t, Map<String, List<String>> selected, String except) {
+        for (Map.Entry<String, List<String>> e : selected.entrySet()) {
+            if (e.getKey().equals(except)) {
+                continue;
+            }
+            List<String> values = valuesOf(t, e.getKey());
+            if (e.getValue().stream().noneMatch(values::contains)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> valuesOf(HardcodedTask t, String facet) {
+        int track = t.getId() / TaskCatalog.TRACK_STRIDE;
+        switch (facet) {
+            case TaskFacets.LANGUAGE:
+                return List.of(FACETS.getValues(TaskFacets.LANGUAGE).get(track / TaskCatalog.LEVELS.length));
+            case TaskFacets.LEVEL:
+                return List.of(FACETS.getValues(TaskFacets.LEVEL).get(track % TaskCatalog.LEVELS.length));
+            case TaskFacets.TOPIC:
+                return t.getTags();
+            case TaskFacets.XP:
+                int xp = t.getXpReward();
+                return List.of(xp <= 20 ? "up to 20 XP" : xp <= 35 ? "21-35 XP" : "36+ XP");
+            default:
+                int m = t.getEstimatedMinutes();
+                return List.of(m <= 15 ? "up to 15 min" : m <= 30 ? "16-30 min" : m <= 60 ? "31-60 min" : "over 60 min");
+        }
+    }
+
+    private static List<HardcodedTask> allTasks() {
+        List<HardcodedTask> all = new ArrayList<>();
+        for (TaskCatalog.Track track : CATALOG.getTracks()) {
+            all.addAll(track.getTasks());
+        }
+        return all;
+    }
+}
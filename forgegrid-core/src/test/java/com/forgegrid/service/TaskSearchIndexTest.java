@@ -0,0 +1,153 @@
+package com.forgegrid.service;
+
+import com.forgegrid.model.HardcodedTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchIndexTest {
+
+    private static final TaskCatalog CATALOG = TaskCatalog.getInstance();
+    private static final TaskSearchIndex INDEX = new TaskSearchIndex(CATALOG.getTracks());
+    private static final int ALL = Integer.MAX_VALUE;
+
+    @Test
+    void tokenizeLowerCasesSplitsAndDeduplicates() {
+        assertEquals(List.of("hello", "world", "2d", "café"), TaskSearchIndex.tokenize("Hello, WORLD! hello 2D-café"));
+        assertEquals(List.of(), TaskSearchIndex.tokenize("  ...  "));
+        assertEquals(List.of(), TaskSearchIndex.tokenize(null));
+    }
+
+    @Test
+    void editDistanceCountsInsertDeleteSubstituteAndSwap() {
+        assertEquals(0, TaskSearchIndex.editDistance("array", "array", 2));
+        assertEquals(1, TaskSearchIndex.editDistance("array", "arrays", 2));
+        assertEquals(1, TaskSearchIndex.editDistance("array", "aray", 2));
+        assertEquals(1, TaskSearchIndex.editDistance("array", "arrey", 2));
+        assertEquals(1, TaskSearchIndex.editDistance("form", "from", 2));
+        assertEquals(2, TaskSearchIndex.editDistance("loop", "pool", 2));
+        assertEquals(3, TaskSearchIndex.editDistance("loop", "xyzw", 2));
+        assertEquals(2, TaskSearchIndex.editDistance("a", "abcdef", 1));
+    }
+
+    @Test
+    void blankQueryListsCatalogInOrder() {
+        List<HardcodedTask> all = allTasks();
+        assertEquals(all.subList(0, 25), INDEX.search("", null, 25));
+        assertEquals(all, INDEX.search(" ", null, ALL));
+    }
+
+    @Test
+    void everyTaskWithAMatchingWordIsFound() {
+        for (String prefix : List.of("arr", "loop", "str", "function", "class")) {
+            Set<HardcodedTask> found = new HashSet<>(INDEX.search(prefix, null, ALL));
+            for (HardcodedTask t : allTasks()) {
+                if (indexedWords(t).stream().anyMatch(w -> w.startsWith(prefix))) {
+                    assertTrue(found.contains(t), prefix + " should find " + t.getTaskName());
+                }
+            }
+        }
+    }
+
+    @Test
+    void exactNameMatchesRankFirst() {
+        String word = nameWord(5);
+        List<HardcodedTask> results = INDEX.search(word, null, ALL);
+        List<HardcodedTask> named = allTasks().stream()
+            .filter(t -> TaskSearchIndex.tokenize(t.getTaskName()).contains(word))
+            .collect(Collectors.toList());
+        assertFalse(named.isEmpty());
+        assertEquals(named, results.subList(0, named.size()), "catalog order among equal scores");
+    }
+
+    @Test
+    void misspelledWordsStillMatch() {
+        HardcodedTask target = taskWithNameWord(7);
+        String word = longestNameWord(target);
+        String swapped = word.substring(0, 2) + word.charAt(3) + word.charAt(2) + word.substring(4);
+        String dropped = word.substring(0, 3) + word.substring(4);
+        assertTrue(INDEX.search(swapped, null, ALL).contains(target), swapped);
+        assertTrue(INDEX.search(dropped, null, ALL).contains(target), dropped);
+    }
+
+    @Test
+    void everyWordMustMatch() {
+        List<HardcodedTask> first = INDEX.search("array", null, ALL);
+        List<HardcodedTask> second = INDEX.search("sum", null, ALL);
+        List<HardcodedTask> both = INDEX.search("array sum", null, ALL);
+        assertFalse(both.isEmpty());
+        assertTrue(first.containsAll(both));
+        assertTrue(second.containsAll(both));
+        assertEquals(List.of(), INDEX.search("array qqqqqqzzzz", null, ALL));
+    }
+
+    @Test
+    void filterKeepsScoreOrderOfUnfilteredResults() {
+        TaskSearchIndex.Filter filter = new TaskSearchIndex.Filter()
+            .language("Python").level("Beginner").xp(10, 60).maxMinutes(30);
+        int python = List.of(TaskCatalog.LANGUAGES).indexOf("python");
+        int beginner = List.of(TaskCatalog.LEVELS).indexOf("beginner");
+        Predicate<HardcodedTask> accepts = t -> {
+            int track = t.getId() / TaskCatalog.TRACK_STRIDE;
+            return track / TaskCatalog.LEVELS.length == python && track % TaskCatalog.LEVELS.length == beginner
+                && t.getXpReward() >= 10 && t.getXpReward() <= 60 && t.getEstimatedMinutes() <= 30;
+        };
+        for (String query : List.of("", "print", "list")) {
+            List<HardcodedTask> expected = INDEX.search(query, null, ALL).stream().filter(accepts).collect(Collectors.toList());
+            assertEquals(expected, INDEX.search(query, filter, ALL), query);
+        }
+        assertFalse(INDEX.search("", filter, ALL).isEmpty());
+    }
+
+    @Test
+    void unknownFilterValuesMatchEverything() {
+        TaskSearchIndex.Filter filter = new TaskSearchIndex.Filter().language("Cobol").level(null);
+        assertEquals(INDEX.search("loop", null, ALL), INDEX.search("loop", filter, ALL));
+    }
+
+    private static List<HardcodedTask> allTasks() {
+        List<HardcodedTask> all = new ArrayList<>();
+        for (TaskCatalog.Track track : CATALOG.getTracks()) {
+            all.addAll(track.getTasks());
+        }
+        return all;
+    }
+
+    private static List<String> indexedWords(HardcodedTask t) {
+        List<String> words = new ArrayList<>(TaskSearchIndex.tokenize(t.getTaskName()));
+        words.addAll(TaskSearchIndex.tokenize(t.getDescription() + " " + t.getLanguage() + " " + t.getLevel()
+            + " " + String.join(" ", t.getTags())));
+        return words;
+    }
+
+    /** A catalog name word at least minLength long that only contains letters. */
+    private static String nameWord(int minLength) {
+        return longestNameWord(taskWithNameWord(minLength));
+    }
+
+    private static HardcodedTask taskWithNameWord(int minLength) {
+        return allTasks().stream()
+            .filter(t -> longestNameWord(t).length() >= minLength)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static String longestNameWord(HardcodedTask t) {
+        String best = "";
+        for (String w : TaskSearchIndex.tokenize(t.getTaskName())) {
+            if (w.chars().allMatch(Character::isLetter) && w.length() > best.length()) {
+                best = w;
+            }
+        }
+        return best;
+    }
+}
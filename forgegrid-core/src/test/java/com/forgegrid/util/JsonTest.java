@@ -0,0 +1,85 @@
+package com.forgegrid.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonTest {
+
+    @Test
+    void writesScalarsArraysAndObjectsInOrder() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("b", 1);
+        m.put("a", "x");
+        m.put("n", null);
+        m.put("ok", true);
+        m.put("ids", new int[] {3, 4});
+        m.put("list", List.of(1.5, "y"));
+        assertEquals("{\"b\":1,\"a\":\"x\",\"n\":null,\"ok\":true,\"ids\":[3,4],\"list\":[1.5,\"y\"]}", Json.write(m));
+    }
+
+    @Test
+    void nonFiniteNumbersBecomeNull() {
+        assertEquals("[null,null]", Json.write(new Object[] {Double.NaN, Double.POSITIVE_INFINITY}));
+    }
+
+    @Test
+    void escapesControlCharactersAndQuotes() {
+        assertEquals("\"a\\\"b\\\\c\\n\\t\\u0001\"", Json.write("a\"b\\c\n\t\u0001"));
+    }
+
+    @Test
+    void roundTripsStrings() {
+        String tricky = "quote \" backslash \\ slash / tab \t newline \n bell \u0007 é 🏆";
+        assertEquals(tricky, Json.parse(Json.write(tricky)));
+    }
+
+    @Test
+    void parsesIntegralNumbersAsLongAndOthersAsDouble() {
+        List<?> values = (List<?>) Json.parse("[0, -12, 9007199254740993, 1.25, -2e3, 1E2]");
+        assertEquals(Arrays.asList(0L, -12L, 9007199254740993L, 1.25, -2000.0, 100.0), values);
+    }
+
+    @Test
+    void parsesNestedStructuresWithWhitespace() {
+        Map<String, Object> m = Json.parseObject(" { \"a\" : [ 1 , { \"b\" : null } ] , \"c\" : false , \"d\" : \"\\u00e9\\/\" } ");
+        List<?> a = (List<?>) m.get("a");
+        assertEquals(1L, a.get(0));
+        assertTrue(((Map<?, ?>) a.get(1)).containsKey("b"));
+        assertNull(((Map<?, ?>) a.get(1)).get("b"));
+        assertEquals(false, m.get("c"));
+        assertEquals("é/", m.get("d"));
+    }
+
+    @Test
+    void emptyContainersAndBlankBody() {
+        assertEquals(List.of(), Json.parse("[]"));
+        assertEquals(Map.of(), Json.parse("{}"));
+        assertTrue(Json.parseObject("  ").isEmpty());
+        assertTrue(Json.parseObject(null).isEmpty());
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        for (String bad : new String[] {
+            "{", "[1,", "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "\"open", "tru", "nul", "{a:1}",
+            "1 2", "\"\\x\"", "\"\\u12\"", "--1", "-", "}"
+        }) {
+            assertThrows(IllegalArgumentException.class, () -> Json.parse(bad), bad);
+        }
+    }
+
+    @Test
+    void parseObjectRejectsNonObjects() {
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("[1]"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("\"x\""));
+    }
+}
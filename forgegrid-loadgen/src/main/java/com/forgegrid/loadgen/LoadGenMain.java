@@ -0,0 +1,88 @@
+package com.forgegrid.loadgen;
+
+import com.forgegrid.auth.AuthService;
+import com.forgegrid.config.UserPreferences;
+import com.forgegrid.controller.AuthController;
+import com.forgegrid.controller.DashboardController;
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.metrics.MetricsReporter;
+import com.forgegrid.service.HardcodedTaskService;
+import com.forgegrid.service.LevelService;
+import com.forgegrid.service.UserService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capacity-planning tool: runs many simulated learners against the service
+ * layer and a real MySQL instance, then prints throughput and latency
+ * percentiles per operation.
+ *
+ * Example: java -jar forgegrid-loadgen.jar --users 200 --ramp 60 --duration 300
+ */
+public class LoadGenMain {
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile;
+        try {
+            profile = LoadProfile.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            if (!"help".equals(e.getMessage())) {
+                System.err.println(e.getMessage());
+            }
+            System.err.println(LoadProfile.usage());
+            System.exit(2);
+            return;
+        }
+
+        System.setProperty("java.awt.headless", "true");
+        System.out.println("ForgeGrid load generator: " + profile);
+
+        MetricsReporter.startFromConfig();
+        DatabaseHelper db = DatabaseHelper.getInstance();
+        if (db.getPool().getMaxSize() < profile.users) {
+            System.out.println("Note: connection pool holds " + db.getPool().getMaxSize()
+                + " connections for " + profile.users + " users; raise FORGEGRID_DB_POOL_SIZE to remove pool waits from the numbers.");
+        }
+
+        // Shared, stateless services - exactly what the server and client use
+        AuthController auth = new AuthController(new AuthService(), new UserService(), new UserPreferences());
+        DashboardController dashboard = new DashboardController(new HardcodedTaskService(), new LevelService());
+        OperationStats stats = new OperationStats();
+
+        long start = System.nanoTime();
+        long rampMillis = TimeUnit.SECONDS.toMillis(profile.rampSeconds);
+        long deadline = start + TimeUnit.SECONDS.toNanos(profile.rampSeconds + (long) profile.durationSeconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(profile.users, r -> {
+            Thread t = new Thread(r, "loadgen-user");
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < profile.users; i++) {
+            // Linear ramp: user i arrives at i/users of the ramp window
+            long delay = profile.users > 1 ? rampMillis * i / profile.users : 0;
+            pool.execute(new VirtualUser(i, profile, auth, dashboard, stats, delay, deadline));
+        }
+
+        // Progress line every 10 seconds while the run is active
+        pool.shutdown();
+        while (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+            long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+            System.out.printf("  %ds elapsed, pool active=%d idle=%d%n",
+                elapsed, db.getPool().getActiveCount(), db.getPool().getIdleCount());
+            if (System.nanoTime() > deadline + TimeUnit.SECONDS.toNanos(60)) {
+                System.out.println("  users did not stop within 60s of the deadline; abandoning them");
+                pool.shutdownNow();
+                break;
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        stats.printReport(System.out, elapsedSeconds);
+        System.out.println();
+        System.out.println("Connection hold time per service method and pool wait:");
+        MetricsReporter.report(System.out);
+        db.closeConnection();
+    }
+}
@@ -0,0 +1,65 @@
+package com.forgegrid.loadgen;
+
+/**
+ * Load shape for one run: how many simulated learners, how fast they arrive
+ * and how long they keep working.
+ */
+public class LoadProfile {
+    public int users = 50;
+    public int rampSeconds = 30;
+    public int durationSeconds = 120;
+    public int thinkTimeMillis = 200;
+    /** Fraction of regular tasks that are skipped instead of completed. */
+    public double skipRatio = 0.2;
+    /** Probability per iteration of also working a goated task. */
+    public double goatedRatio = 0.3;
+    public String usernamePrefix = "loadgen";
+    public long seed = 42;
+
+    /**
+     * Parse command line flags such as --users 200 --ramp 60 --duration 300
+     *
+     * @param args Command line arguments
+     * @return Parsed profile (defaults for anything not given)
+     */
+    public static LoadProfile fromArgs(String[] args) {
+        LoadProfile p = new LoadProfile();
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if ("--help".equals(flag) || "-h".equals(flag)) {
+                throw new IllegalArgumentException("help");
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + flag);
+            }
+            String value = args[++i];
+            switch (flag) {
+                case "--users": p.users = Integer.parseInt(value); break;
+                case "--ramp": p.rampSeconds = Integer.parseInt(value); break;
+                case "--duration": p.durationSeconds = Integer.parseInt(value); break;
+                case "--think-ms": p.thinkTimeMillis = Integer.parseInt(value); break;
+                case "--skip-ratio": p.skipRatio = Double.parseDouble(value); break;
+                case "--goated-ratio": p.goatedRatio = Double.parseDouble(value); break;
+                case "--prefix": p.usernamePrefix = value; break;
+                case "--seed": p.seed = Long.parseLong(value); break;
+                default: throw new IllegalArgumentException("Unknown flag: " + flag);
+            }
+        }
+        if (p.users < 1 || p.durationSeconds < 1 || p.rampSeconds < 0) {
+            throw new IllegalArgumentException("users and duration must be positive, ramp non-negative");
+        }
+        return p;
+    }
+
+    public static String usage() {
+        return "Usage: java -jar forgegrid-loadgen.jar [--users N] [--ramp SECONDS] [--duration SECONDS]\n"
+             + "       [--think-ms MILLIS] [--skip-ratio 0..1] [--goated-ratio 0..1] [--prefix NAME] [--seed N]\n"
+             + "Database settings come from .env / RAILWAY_MYSQL_* (point them at a local MySQL instance).";
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", ramp=" + rampSeconds + "s, duration=" + durationSeconds
+             + "s, think=" + thinkTimeMillis + "ms, skipRatio=" + skipRatio + ", goatedRatio=" + goatedRatio;
+    }
+}
@@ -0,0 +1,92 @@
+package com.forgegrid.loadgen;
+
+import com.forgegrid.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms and error counts collected during a run.
+ */
+public class OperationStats {
+
+    /** Work that returns a value and may fail. */
+    public interface Op<T> {
+        T call() throws Exception;
+    }
+
+    /** Work with no result; only exceptions count as errors. */
+    public interface VoidOp {
+        void run() throws Exception;
+    }
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Time one call and record it under the given operation name.
+     * Exceptions and null/false results count as errors.
+     *
+     * @return The call's result, or null if it threw
+     */
+    public <T> T time(String operation, Op<T> op) {
+        long start = System.nanoTime();
+        T result = null;
+        boolean failed;
+        try {
+            result = op.call();
+            failed = result == null || Boolean.FALSE.equals(result);
+        } catch (Exception e) {
+            failed = true;
+        }
+        histograms.computeIfAbsent(operation, k -> new LatencyHistogram()).recordNanos(System.nanoTime() - start);
+        if (failed) {
+            errors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+        }
+        return result;
+    }
+
+    /**
+     * Time a call that returns nothing
+     */
+    public void run(String operation, VoidOp op) {
+        time(operation, () -> {
+            op.run();
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Print throughput and p50/p99/p999 for every operation
+     *
+     * @param out Destination
+     * @param elapsedSeconds Wall-clock length of the measured window
+     */
+    public void printReport(PrintStream out, double elapsedSeconds) {
+        out.println();
+        out.printf("%-22s %9s %8s %9s %9s %9s %9s %9s %7s%n",
+            "operation", "count", "ops/s", "mean ms", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        long totalOps = 0;
+        for (Map.Entry<String, LatencyHistogram> e : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram h = e.getValue();
+            long count = h.getCount();
+            totalOps += count;
+            LongAdder err = errors.get(e.getKey());
+            out.printf("%-22s %9d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                e.getKey(),
+                count,
+                count / Math.max(0.001, elapsedSeconds),
+                h.getMeanNanos() / 1e6,
+                h.getPercentileNanos(50) / 1e6,
+                h.getPercentileNanos(99) / 1e6,
+                h.getPercentileNanos(99.9) / 1e6,
+                h.getMaxNanos() / 1e6,
+                err != null ? err.sum() : 0);
+        }
+        out.printf("%ntotal: %d ops in %.1f s (%.1f ops/s)%n",
+            totalOps, elapsedSeconds, totalOps / Math.max(0.001, elapsedSeconds));
+    }
+}
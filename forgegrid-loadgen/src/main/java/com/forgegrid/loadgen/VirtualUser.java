@@ -0,0 +1,142 @@
+package com.forgegrid.loadgen;
+
+import com.forgegrid.controller.AuthController;
+import com.forgegrid.controller.DashboardController;
+import com.forgegrid.model.GoatedTask;
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.model.PlayerProfile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulated learner. Signs up if needed, logs in, then loops through the
+ * same calls the Swing client makes: pick the next task, start it, complete or
+ * skip it, check stats/history, and occasionally work a goated task.
+ */
+public class VirtualUser implements Runnable {
+
+    private static final String[] LANGUAGES = { "Java", "Python", "JavaScript", "C++" };
+    private static final String[] LEVELS = { "Beginner", "Intermediate", "Advanced" };
+
+    private final int id;
+    private final LoadProfile profile;
+    private final AuthController auth;
+    private final DashboardController dashboard;
+    private final OperationStats stats;
+    private final long startDelayMillis;
+    private final long deadlineNanos;
+    private final Random random;
+
+    public VirtualUser(int id, LoadProfile profile, AuthController auth, DashboardController dashboard,
+                       OperationStats stats, long startDelayMillis, long deadlineNanos) {
+        this.id = id;
+        this.profile = profile;
+        this.auth = auth;
+        this.dashboard = dashboard;
+        this.stats = stats;
+        this.startDelayMillis = startDelayMillis;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new Random(profile.seed * 31 + id);
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (startDelayMillis > 0) {
+                Thread.sleep(startDelayMillis);
+            }
+            session();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void session() throws InterruptedException {
+        String username = profile.usernamePrefix + "_" + id;
+        String password = "loadgen-" + id;
+        String language = LANGUAGES[id % LANGUAGES.length];
+        String level = LEVELS[(id / LANGUAGES.length) % LEVELS.length];
+
+        if (!auth.usernameExists(username)) {
+            stats.time("register", () -> auth.register(username, username + "@loadgen.invalid", password));
+        }
+        PlayerProfile player = stats.time("login", () -> auth.login(username, password));
+        if (player == null) {
+            return;
+        }
+        Boolean onboarded = stats.time("hasCompletedOnboarding", () -> auth.hasCompletedOnboarding(username));
+        if (!Boolean.TRUE.equals(onboarded)) {
+            stats.time("saveOnboarding", () -> auth.saveOnboardingData(username, "Load test", language, level));
+        }
+        // Keep whatever track an earlier run assigned
+        String lang = player.getOnboardingLanguage() != null ? player.getOnboardingLanguage() : language;
+        String lvl = player.getOnboardingSkill() != null ? player.getOnboardingSkill() : level;
+
+        List<HardcodedTask> catalog = stats.time("getTasksFor", () -> dashboard.getTasksFor(lang, lvl));
+        if (catalog == null || catalog.isEmpty()) {
+            return;
+        }
+
+        int iteration = 0;
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            if (iteration++ % 10 == 0) {
+                stats.run("autoSkipExpired", () -> dashboard.autoSkipExpired(username, lang, lvl));
+            }
+
+            HardcodedTask picked = stats.time("nextTask", () -> dashboard.nextTask(username, lang, lvl));
+            HardcodedTask task = picked != null ? picked : catalog.get(random.nextInt(catalog.size()));
+            stats.run("recordAssignedTask", () -> dashboard.recordAssignedTask(username, task));
+            think();
+
+            int minutes = Math.max(1, task.getEstimatedMinutes() / 2 + random.nextInt(Math.max(1, task.getEstimatedMinutes())));
+            if (random.nextDouble() < profile.skipRatio) {
+                int penalty = -(task.getXpReward() / 2);
+                stats.time("saveSkippedTask", () -> dashboard.saveSkippedTask(username, task, minutes, penalty));
+                stats.time("addXP", () -> dashboard.addXP(username, penalty));
+            } else {
+                stats.time("saveCompletedTask", () -> dashboard.saveCompletedTask(username, task, minutes, task.getXpReward()));
+                stats.time("addXP", () -> dashboard.addXP(username, task.getXpReward()));
+            }
+            dashboard.prefetchNextTasks(username, lang, lvl);
+
+            // What the dashboard reads after every change
+            stats.time("getLevelInfo", () -> dashboard.getLevelInfo(username));
+            stats.time("getCompletedTaskCount", () -> dashboard.getCompletedTaskCount(username));
+            stats.time("getSkippedTaskCount", () -> dashboard.getSkippedTaskCount(username));
+            stats.time("getNetXP", () -> dashboard.getNetXP(username));
+            stats.time("getTaskHistory", () -> dashboard.getTaskHistory(username, 10));
+
+            if (random.nextDouble() < profile.goatedRatio) {
+                goatedRound(username);
+            }
+            think();
+        }
+    }
+
+    private void goatedRound(String username) throws InterruptedException {
+        LocalDateTime deadline = LocalDateTime.now().plusHours(1 + random.nextInt(72));
+        stats.time("createGoatedTask", () -> dashboard.createGoatedTask(
+            username, "Goal " + random.nextInt(1_000_000), "Load test goal", deadline, 10 + random.nextInt(90)));
+        List<GoatedTask> goated = stats.time("listGoatedTasks", () -> dashboard.listGoatedTasks(username));
+        think();
+        if (goated != null) {
+            for (GoatedTask g : goated) {
+                if (!g.isCompleted()) {
+                    stats.time("markGoatedTaskComplete", () -> dashboard.markGoatedTaskComplete(username, g.getId()));
+                    break;
+                }
+            }
+        }
+    }
+
+    private void think() throws InterruptedException {
+        if (profile.thinkTimeMillis > 0) {
+            // Exponential think time around the configured mean
+            long ms = (long) (-Math.log(1 - random.nextDouble()) * profile.thinkTimeMillis);
+            TimeUnit.MILLISECONDS.sleep(Math.min(ms, profile.thinkTimeMillis * 10L));
+        }
+    }
+}
@@ -0,0 +1,706 @@
+package com.forgegrid.app;
+
+import com.forgegrid.controller.AuthController;
+import com.forgegrid.controller.DashboardController;
+import com.forgegrid.db.SqlTracer;
+import com.forgegrid.log.Log;
+import com.forgegrid.model.GoatedTask;
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.model.PlayerProfile;
+import com.forgegrid.model.TaskHistoryEntry;
+import com.forgegrid.model.UserStats;
+import com.forgegrid.service.AchievementService;
+import com.forgegrid.service.DeadlineScheduler;
+import com.forgegrid.service.LeaderboardService;
+import com.forgegrid.service.LevelService;
+import com.forgegrid.service.SpacedRepetitionService;
+import com.forgegrid.service.TaskCatalog;
+import com.forgegrid.service.TaskFacets;
+import com.forgegrid.service.TaskSearchIndex;
+import com.forgegrid.service.XpRollupService;
+import com.forgegrid.util.Json;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP/JSON front end over AuthController and DashboardController.
+ * Clients log in once, then send "Authorization: Bearer &lt;token&gt;".
+ * Requests for the same user are serialized; different users run in parallel.
+ */
+public class ApiServer {
+
+    /** Largest request body accepted, in bytes. */
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final AuthController authController;
+    private final DashboardController dashboardController;
+    private final SessionManager sessions;
+    private final Map<String, Route> routes = new HashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+    private ScheduledExecutorService janitor;
+
+    public ApiServer(AuthController authController, DashboardController dashboardController, SessionManager sessions) {
+        this.authController = authController;
+        this.dashboardController = dashboardController;
+        this.sessions = sessions;
+        registerRoutes();
+    }
+
+    /**
+     * Bind and start serving
+     *
+     * @param port TCP port
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/api/", this::dispatch);
+        server.start();
+
+        janitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "forgegrid-session-janitor");
+            t.setDaemon(true);
+            return t;
+        });
+        janitor.scheduleAtFixedRate(sessions::evictExpired, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stop accepting requests, waiting briefly for in-flight ones
+     */
+    public void stop() {
+        if (server != null) server.stop(2);
+        if (janitor != null) janitor.shutdownNow();
+        if (executor != null) executor.shutdown();
+    }
+
+    /**
+     * Virtual thread per request when the runtime has them (Java 21+),
+     * otherwise a cached pool of platform threads.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "forgegrid-http");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    // ----- routing -----
+
+    private void registerRoutes() {
+        // Public
+        routes.put("POST /api/auth/login", new Route(false, this::login));
+        routes.put("POST /api/auth/register", new Route(false, this::register));
+
+        // Authenticated
+        routes.put("POST /api/auth/logout", new Route(true, this::logout));
+        routes.put("GET /api/onboarding", new Route(true, req ->
+            Map.of("completed", authController.hasCompletedOnboarding(req.session.getUsername()))));
+        routes.put("POST /api/onboarding", new Route(true, this::saveOnboarding));
+        routes.put("GET /api/level", new Route(true, req ->
+            levelInfoJson(dashboardController.getLevelInfo(req.session.getUsername()))));
+        routes.put("GET /api/stats", new Route(true, this::stats));
+        routes.put("GET /api/history", new Route(true, this::history));
+        routes.put("GET /api/achievements", new Route(true, this::achievements));
+        routes.put("GET /api/leaderboard", new Route(true, this::leaderboard));
+        routes.put("GET /api/xp/series", new Route(true, this::xpSeries));
+        routes.put("GET /api/tasks", new Route(true, this::tasks));
+        routes.put("GET /api/tasks/search", new Route(true, this::searchTasks));
+        routes.put("GET /api/tasks/facets", new Route(true, this::browseTasks));
+        routes.put("GET /api/tasks/recorded", new Route(true, req ->
+            dashboardController.getRecordedTaskNames(req.session.getUsername())));
+        routes.put("GET /api/tasks/next", new Route(true, req -> taskJson(dashboardController.nextTask(
+            req.session.getUsername(), req.session.getLanguage(), req.session.getLevel()))));
+        routes.put("GET /api/reviews", new Route(true, this::dueReviews));
+        routes.put("POST /api/tasks/assign", new Route(true, this::assignTask));
+        routes.put("POST /api/tasks/complete", new Route(true, this::completeTask));
+        routes.put("POST /api/tasks/skip", new Route(true, this::skipTask));
+        routes.put("POST /api/tasks/autoskip", new Route(true, req -> {
+            dashboardController.autoSkipExpired(req.session.getUsername(), req.session.getLanguage(), req.session.getLevel());
+            return Map.of("ok", true);
+        }));
+        routes.put("GET /api/goated", new Route(true, this::listGoated));
+        routes.put("POST /api/goated", new Route(true, this::createGoated));
+        routes.put("GET /api/goated/reminders", new Route(true, this::reminders));
+        routes.put("POST /api/goated/update", new Route(true, this::updateGoated));
+        routes.put("POST /api/goated/delete", new Route(true, req ->
+            Map.of("ok", dashboardController.deleteGoatedTask(req.session.getUsername(), req.intParam("id")))));
+        routes.put("POST /api/goated/complete", new Route(true, req ->
+            Map.of("ok", dashboardController.markGoatedTaskComplete(req.session.getUsername(), req.intParam("id")))));
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        String operation = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+        Request req = null;
+        try (SqlTracer.Action sql = SqlTracer.getInstance().beginAction(operation)) {
+            Route route = routes.get(operation);
+            if (route == null) {
+                throw new ApiException(404, "No such endpoint: " + operation);
+            }
+
+            req = new Request(exchange);
+            Object result;
+            if (!route.authenticated) {
+                result = route.handler.handle(req);
+            } else {
+                req.session = sessions.get(bearerToken(exchange));
+                if (req.session == null) {
+                    throw new ApiException(401, "Missing or expired session token");
+                }
+                String username = req.session.getUsername();
+                sessions.lock(username);
+                try {
+                    result = route.handler.handle(req);
+                } finally {
+                    sessions.unlock(username);
+                }
+            }
+            // Written after unlock so a slow client never holds up the user's next request
+            send(exchange, 200, result);
+        } catch (ApiException e) {
+            sendError(exchange, e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, String.valueOf(e.getMessage()));
+        } catch (Exception e) {
+            if (exchange.getResponseCode() != -1) {
+                // Headers already went out, so the client disconnected mid-write
+                Log.debug(operation, username(req), "Response aborted: " + e);
+            } else {
+                Log.error(operation, username(req), "Error handling " + exchange.getRequestURI(), e);
+                sendError(exchange, 500, "Internal server error");
+            }
+        } finally {
+            exchange.close();
+            if (Log.isEnabled(Log.Level.DEBUG)) {
+                Log.timed(Log.Level.DEBUG, operation, username(req),
+                    "status " + exchange.getResponseCode(), System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static String username(Request req) {
+        return req != null && req.session != null ? req.session.getUsername() : null;
+    }
+
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header != null && header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return header.substring(7).trim();
+        }
+        return null;
+    }
+
+    /** Sends an error body unless a response has already been started on this exchange. */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() == -1) {
+            send(exchange, status, Map.of("error", message));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    // ----- handlers -----
+
+    private Object login(Request req) throws ApiException {
+        PlayerProfile profile = authController.login(req.stringParam("username"), req.stringParam("password"));
+        if (profile == null) {
+            throw new ApiException(401, "Invalid username or password");
+        }
+        SessionManager.Session session = sessions.create(profile);
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("token", session.token);
+        out.put("profile", profileJson(profile));
+        return out;
+    }
+
+    private Object register(Request req) throws ApiException {
+        boolean ok = authController.register(req.stringParam("username"), req.stringParam("email"), req.stringParam("password"));
+        if (!ok) {
+            throw new ApiException(409, "Username or email already exists");
+        }
+        return Map.of("ok", true);
+    }
+
+    private Object logout(Request req) {
+        sessions.invalidate(req.session.token);
+        return Map.of("ok", true);
+    }
+
+    private Object saveOnboarding(Request req) throws ApiException {
+        String goal = req.stringParam("goal");
+        String language = req.stringParam("language");
+        String skill = req.stringParam("skill");
+        boolean ok = authController.saveOnboardingData(req.session.getUsername(), goal, language, skill);
+        if (ok) {
+            req.session.profile.setOnboardingCompleted(true);
+            req.session.profile.setOnboardingGoal(goal);
+            req.session.profile.setOnboardingLanguage(language);
+            req.session.profile.setOnboardingSkill(skill);
+        }
+        return Map.of("ok", ok);
+    }
+
+    private Object stats(Request req) {
+        UserStats stats = dashboardController.getUserStats(req.session.getUsername());
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("completed", stats.getCompletedCount());
+        out.put("skipped", stats.getSkippedCount());
+        out.put("netXP", stats.getNetXp());
+        out.put("totalXP", stats.getTotalXp());
+        out.put("goatedOpen", stats.getGoatedOpen());
+        out.put("goatedDone", stats.getGoatedDone());
+        out.put("lastActivity", stats.getLastActivity() != null ? stats.getLastActivity().toString() : null);
+        return out;
+    }
+
+    private Object achievements(Request req) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (AchievementService.Progress p : dashboardController.getAchievements(req.session.getUsername())) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("id", p.getRule().getId());
+            m.put("title", p.getRule().getTitle());
+            m.put("description", p.getRule().getDescription());
+            m.put("unlocked", p.isUnlocked());
+            m.put("value", p.getValue());
+            m.put("target", p.getRule().getTarget());
+            out.add(m);
+        }
+        return out;
+    }
+
+    private Object leaderboard(Request req) throws ApiException {
+        LeaderboardService.Board board;
+        try {
+            board = LeaderboardService.Board.valueOf(req.query.getOrDefault("board", "global").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Unknown board: " + req.query.get("board"));
+        }
+        String track = req.query.get("track");
+        if (track == null) {
+            track = board == LeaderboardService.Board.LANGUAGE ? req.session.getLanguage() : req.session.getLevel();
+        }
+        int limit = Math.max(1, Math.min(100, req.intQuery("limit", 10)));
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (LeaderboardService.Standing s : dashboardController.getLeaderboard(board, track, limit)) {
+            top.add(standingJson(s));
+        }
+        LeaderboardService.Standing mine = dashboardController.getLeaderboardRank(board, track, req.session.getUsername());
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("board", board.name().toLowerCase(Locale.ROOT));
+        out.put("track", board == LeaderboardService.Board.LANGUAGE || board == LeaderboardService.Board.SKILL ? track : null);
+        out.put("size", dashboardController.getLeaderboardSize(board, track));
+        out.put("top", top);
+        out.put("me", mine != null ? standingJson(mine) : null);
+        return out;
+    }
+
+    private Object xpSeries(Request req) throws ApiException {
+        XpRollupService.Grain grain;
+        try {
+            grain = XpRollupService.Grain.valueOf(req.query.getOrDefault("grain", "day").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Unknown grain: " + req.query.get("grain"));
+        }
+        int buckets = Math.max(1, Math.min(XpRollupService.MAX_BUCKETS, req.intQuery("buckets", 30)));
+        XpRollupService.Series series = dashboardController.getXpSeries(req.session.getUsername(), grain, buckets);
+        List<String> starts = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            starts.add(series.getStart(i).toString());
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("grain", grain.name().toLowerCase(Locale.ROOT));
+        out.put("start", starts);
+        out.put("xp", series.getXp());
+        out.put("completed", series.getCompleted());
+        out.put("skipped", series.getSkipped());
+        return out;
+    }
+
+    private static Map<String, Object> standingJson(LeaderboardService.Standing s) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("rank", s.getRank());
+        m.put("username", s.getUsername());
+        m.put("score", s.getScore());
+        return m;
+    }
+
+    private Object history(Request req) {
+        int limit = Math.max(1, Math.min(500, req.intQuery("limit", 20)));
+        List<Map<String, Object>> out = new ArrayList<>();
+        String before = req.query.get("before");
+        for (TaskHistoryEntry e : dashboardController.getTaskHistory(req.session.getUsername(), before, limit)) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("taskName", e.taskName);
+            m.put("timeTaken", e.timeTaken);
+            m.put("xpEarned", e.xpEarned);
+            m.put("status", e.status);
+            m.put("timestamp", e.timestamp);
+            m.put("cursor", e.cursor);
+            out.add(m);
+        }
+        return out;
+    }
+
+    private Object tasks(Request req) {
+        String language = req.query.getOrDefault("language", req.session.getLanguage());
+        String level = req.query.getOrDefault("level", req.session.getLevel());
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (HardcodedTask t : dashboardController.getTasksFor(language, level)) {
+            out.add(taskJson(t));
+        }
+        return out;
+    }
+
+    private Object searchTasks(Request req) {
+        TaskSearchIndex.Filter filter = new TaskSearchIndex.Filter()
+            .language(req.query.get("language"))
+            .level(req.query.get("level"))
+            .xp(req.intQuery("minXp", Integer.MIN_VALUE), req.intQuery("maxXp", Integer.MAX_VALUE))
+            .maxMinutes(req.intQuery("maxMinutes", Integer.MAX_VALUE));
+        int limit = Math.max(1, Math.min(100, req.intQuery("limit", 20)));
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (HardcodedTask t : dashboardController.searchTasks(req.query.get("q"), filter, limit)) {
+            out.add(taskJson(t));
+        }
+        return out;
+    }
+
+    private Object browseTasks(Request req) {
+        TaskFacets.Query query = new TaskFacets.Query()
+            .xp(req.intQuery("minXp", Integer.MIN_VALUE), req.intQuery("maxXp", Integer.MAX_VALUE))
+            .minutes(req.intQuery("minMinutes", Integer.MIN_VALUE), req.intQuery("maxMinutes", Integer.MAX_VALUE));
+        for (String facet : new String[] {TaskFacets.LANGUAGE, TaskFacets.LEVEL, TaskFacets.TOPIC, TaskFacets.XP, TaskFacets.MINUTES}) {
+            String values = req.query.get(facet);
+            if (values != null && !values.isBlank()) {
+                query.select(facet, Arrays.stream(values.split(",")).map(String::trim).toArray(String[]::new));
+            }
+        }
+        int offset = Math.max(0, req.intQuery("offset", 0));
+        int limit = Math.max(1, Math.min(100, req.intQuery("limit", 20)));
+        TaskFacets.Result result = dashboardController.browseTasks(query);
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (HardcodedTask t : result.getTasks(offset, limit)) {
+            tasks.add(taskJson(t));
+        }
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("total", result.size());
+        m.put("tasks", tasks);
+        m.put("counts", result.getCounts());
+        return m;
+    }
+
+    private Object dueReviews(Request req) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        int limit = Math.max(1, Math.min(500, req.intQuery("limit", 20)));
+        for (SpacedRepetitionService.Review r : dashboardController.getDueReviews(req.session.getUsername(), limit)) {
+            HardcodedTask task = TaskCatalog.getInstance().getTask(r.getTaskId());
+            Map<String, Object> m = new LinkedHashMap<>(taskJson(task));
+            m.put("dueAt", r.getDueAt().toString());
+            m.put("intervalDays", r.getIntervalDays());
+            m.put("repetitions", r.getRepetitions());
+            m.put("easeFactor", Math.round(r.getEaseFactor() * 100) / 100.0);
+            out.add(m);
+        }
+        return out;
+    }
+
+    private Object assignTask(Request req) throws ApiException {
+        HardcodedTask task = requireCatalogTask(req);
+        dashboardController.recordAssignedTask(req.session.getUsername(), task);
+        return Map.of("ok", true);
+    }
+
+    private Object completeTask(Request req) throws ApiException {
+        HardcodedTask task = requireCatalogTask(req);
+        int timeTaken = Math.max(1, req.intParam("timeTaken"));
+        String user = req.session.getUsername();
+        // XP always comes from the catalog, never from the client
+        if (!dashboardController.saveCompletedTask(user, task, timeTaken, task.getXpReward())) {
+            throw new ApiException(500, "Failed to save task");
+        }
+        dashboardController.prefetchNextTasks(user, req.session.getLanguage(), req.session.getLevel());
+        return levelUpJson(dashboardController.addXP(user, task.getXpReward()));
+    }
+
+    private Object skipTask(Request req) throws ApiException {
+        HardcodedTask task = requireCatalogTask(req);
+        int timeTaken = Math.max(1, req.intParam("timeTaken"));
+        String user = req.session.getUsername();
+        int xpPenalty = -(task.getXpReward() / 2);
+        if (!dashboardController.saveSkippedTask(user, task, timeTaken, xpPenalty)) {
+            throw new ApiException(500, "Failed to skip task");
+        }
+        dashboardController.prefetchNextTasks(user, req.session.getLanguage(), req.session.getLevel());
+        return levelUpJson(dashboardController.addXP(user, xpPenalty));
+    }
+
+    private Object reminders(Request req) {
+        String user = req.session.getUsername();
+        List<Map<String, Object>> upcoming = new ArrayList<>();
+        for (DeadlineScheduler.Entry e : dashboardController.getUpcomingDeadlines(user, java.time.Duration.ofDays(2))) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("id", e.getTaskId());
+            m.put("title", e.getTitle());
+            m.put("deadline", e.getDeadline().toString());
+            upcoming.add(m);
+        }
+        List<Map<String, Object>> fired = new ArrayList<>();
+        for (DeadlineScheduler.Reminder r : dashboardController.getRecentReminders(user)) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("id", r.getTaskId());
+            m.put("message", r.getMessage());
+            m.put("firedAt", r.getFiredAt().toString());
+            m.put("due", r.isDue());
+            fired.add(m);
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("upcoming", upcoming);
+        out.put("recent", fired);
+        return out;
+    }
+
+    private Object listGoated(Request req) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (GoatedTask t : dashboardController.listGoatedTasks(req.session.getUsername())) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("id", t.getId());
+            m.put("title", t.getTitle());
+            m.put("description", t.getDescription());
+            m.put("deadline", t.getDeadline() != null ? t.getDeadline().toLocalDateTime().toString() : null);
+            m.put("xp", t.getXp());
+            m.put("completed", t.isCompleted());
+            m.put("createdAt", t.getCreatedAt() != null ? t.getCreatedAt().toLocalDateTime().toString() : null);
+            out.add(m);
+        }
+        return out;
+    }
+
+    private Object createGoated(Request req) throws ApiException {
+        boolean ok = dashboardController.createGoatedTask(
+            req.session.getUsername(),
+            req.stringParam("title"),
+            req.optString("description"),
+            req.optDateTime("deadline"),
+            req.intParam("xp")
+        );
+        return Map.of("ok", ok);
+    }
+
+    private Object updateGoated(Request req) throws ApiException {
+        boolean ok = dashboardController.updateGoatedTask(
+            req.session.getUsername(),
+            req.intParam("id"),
+            req.stringParam("title"),
+            req.optString("description"),
+            req.optDateTime("deadline"),
+            req.intParam("xp")
+        );
+        return Map.of("ok", ok);
+    }
+
+    private HardcodedTask requireCatalogTask(Request req) throws ApiException {
+        String taskName = req.stringParam("taskName");
+        HardcodedTask task = dashboardController.findTask(req.session.getLanguage(), req.session.getLevel(), taskName);
+        if (task == null) {
+            throw new ApiException(404, "Unknown task for your track: " + taskName);
+        }
+        return task;
+    }
+
+    // ----- JSON shapes -----
+
+    private static Map<String, Object> profileJson(PlayerProfile p) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("username", p.getUsername());
+        m.put("email", p.getEmail());
+        m.put("onboardingCompleted", p.isOnboardingCompleted());
+        m.put("onboardingGoal", p.getOnboardingGoal());
+        m.put("onboardingLanguage", p.getOnboardingLanguage());
+        m.put("onboardingSkill", p.getOnboardingSkill());
+        return m;
+    }
+
+    private static Map<String, Object> taskJson(HardcodedTask t) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", t.getId());
+        m.put("taskName", t.getTaskName());
+        m.put("description", t.getDescription());
+        m.put("language", t.getLanguage());
+        m.put("level", t.getLevel());
+        m.put("xpReward", t.getXpReward());
+        m.put("estimatedMinutes", t.getEstimatedMinutes());
+        m.put("tags", t.getTags());
+        return m;
+    }
+
+    private static Map<String, Object> levelInfoJson(LevelService.LevelInfo info) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("level", info.level);
+        m.put("totalXP", info.totalXP);
+        m.put("currentLevelXP", info.currentLevelXP);
+        m.put("requiredForNextLevel", info.requiredForNextLevel);
+        m.put("progressPercentage", info.getProgressPercentage());
+        return m;
+    }
+
+    private static Map<String, Object> levelUpJson(LevelService.LevelUpResult r) throws ApiException {
+        if (r == null) {
+            throw new ApiException(500, "Failed to update XP");
+        }
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("leveledUp", r.leveledUp);
+        m.put("oldLevel", r.oldLevel);
+        m.put("newLevel", r.newLevel);
+        m.put("totalXP", r.totalXP);
+        m.put("currentLevelXP", r.currentLevelXP);
+        m.put("requiredForNextLevel", r.requiredForNextLevel);
+        return m;
+    }
+
+    // ----- plumbing -----
+
+    interface Handler {
+        Object handle(Request req) throws ApiException;
+    }
+
+    private static final class Route {
+        final boolean authenticated;
+        final Handler handler;
+
+        Route(boolean authenticated, Handler handler) {
+            this.authenticated = authenticated;
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Error with an HTTP status code
+     */
+    static final class ApiException extends Exception {
+        final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Parsed request: JSON body, query string and (when authenticated) session
+     */
+    static final class Request {
+        final Map<String, Object> body;
+        final Map<String, String> query;
+        SessionManager.Session session;
+
+        Request(HttpExchange exchange) throws IOException, ApiException {
+            this.query = parseQuery(exchange.getRequestURI().getRawQuery());
+            this.body = Json.parseObject(readBody(exchange));
+        }
+
+        String stringParam(String name) throws ApiException {
+            Object v = body.get(name);
+            if (v == null || v.toString().isBlank()) {
+                throw new ApiException(400, "Missing field: " + name);
+            }
+            return v.toString();
+        }
+
+        String optString(String name) {
+            Object v = body.get(name);
+            return v != null ? v.toString() : null;
+        }
+
+        int intParam(String name) throws ApiException {
+            Object v = body.get(name);
+            if (v instanceof Number) {
+                return ((Number) v).intValue();
+            }
+            if (v != null) {
+                try {
+                    return Integer.parseInt(v.toString().trim());
+                } catch (NumberFormatException ignored) {}
+            }
+            throw new ApiException(400, "Missing or invalid integer field: " + name);
+        }
+
+        int intQuery(String name, int defaultValue) {
+            String v = query.get(name);
+            if (v == null) return defaultValue;
+            try {
+                return Integer.parseInt(v.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+
+        /** ISO-8601 local date-time such as 2025-01-31T18:00, or null when absent. */
+        LocalDateTime optDateTime(String name) throws ApiException {
+            String v = optString(name);
+            if (v == null || v.isBlank()) return null;
+            try {
+                return LocalDateTime.parse(v);
+            } catch (Exception e) {
+                throw new ApiException(400, "Invalid date-time for " + name + ": " + v);
+            }
+        }
+
+        private static String readBody(HttpExchange exchange) throws IOException, ApiException {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+                if (bytes.length > MAX_BODY_BYTES) {
+                    throw new ApiException(413, "Request body too large");
+                }
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        private static Map<String, String> parseQuery(String raw) {
+            Map<String, String> out = new HashMap<>();
+            if (raw == null || raw.isEmpty()) return out;
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                String k = eq >= 0 ? pair.substring(0, eq) : pair;
+                String v = eq >= 0 ? pair.substring(eq + 1) : "";
+                out.put(URLDecoder.decode(k, StandardCharsets.UTF_8), URLDecoder.decode(v, StandardCharsets.UTF_8));
+            }
+            return out;
+        }
+    }
+}
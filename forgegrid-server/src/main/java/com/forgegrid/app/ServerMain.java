@@ -0,0 +1,73 @@
+package com.forgegrid.app;
+
+import com.forgegrid.auth.AuthService;
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.config.UserPreferences;
+import com.forgegrid.controller.AuthController;
+import com.forgegrid.controller.DashboardController;
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.maintenance.MaintenanceScheduler;
+import com.forgegrid.metrics.MetricsReporter;
+import com.forgegrid.service.HardcodedTaskService;
+import com.forgegrid.service.LevelService;
+import com.forgegrid.service.UserService;
+import com.forgegrid.service.UserStatsService;
+
+/**
+ * Entry point for headless mode: serves the controller operations over HTTP/JSON
+ * so database credentials live on the server instead of every desktop.
+ *
+ * Usage: java -jar forgegrid-server.jar [port]
+ *        java -jar forgegrid-server.jar --rebuild-stats [username]   (backfill user_stats and exit)
+ */
+public class ServerMain {
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length > 0 && args[0].equals("--rebuild-stats")) {
+            rebuildStats(args.length > 1 ? args[1] : null);
+            return;
+        }
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : EnvironmentConfig.getServerPort();
+
+        MetricsReporter.startFromConfig();
+
+        // One set of stateless services shared by all requests; DB access goes through the pool
+        DatabaseHelper db = DatabaseHelper.getInstance();
+        db.getPool().prestart(Math.min(4, db.getPool().getMaxSize()));
+        UserService userService = new UserService();
+        AuthController authController = new AuthController(new AuthService(), userService, new UserPreferences());
+        DashboardController dashboardController = new DashboardController(new HardcodedTaskService(), new LevelService());
+
+        ApiServer server = new ApiServer(authController, dashboardController,
+                                         new SessionManager(EnvironmentConfig.getSessionTtlMinutes()));
+        server.start(port);
+        System.out.println("ForgeGrid server listening on port " + port);
+
+        // Expiry sweeps, stats rollups and cache warming run here instead of in request handlers
+        MaintenanceScheduler.startFromConfig(true);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            MaintenanceScheduler.stop();
+            db.closeConnection();
+        }, "forgegrid-shutdown"));
+    }
+
+    private static void rebuildStats(String username) {
+        // Constructing the task service makes sure user_tasks exists first
+        new HardcodedTaskService();
+        UserStatsService stats = new UserStatsService();
+        if (username != null) {
+            boolean ok = stats.rebuild(username);
+            System.out.println(ok ? "Rebuilt user_stats for " + username : "Rebuild failed; see log");
+        } else {
+            int users = stats.rebuildAll();
+            System.out.println(users >= 0 ? "Rebuilt user_stats for " + users + " users" : "Rebuild failed; see log");
+        }
+        Log.flush();
+        DatabaseHelper.getInstance().closeConnection();
+    }
+}
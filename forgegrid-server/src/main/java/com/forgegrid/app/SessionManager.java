@@ -0,0 +1,135 @@
+package com.forgegrid.app;
+
+import com.forgegrid.model.PlayerProfile;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issues opaque session tokens for the headless server and hands out one
+ * lock per username so requests from the same user run one at a time
+ * (services do read-modify-write on XP and task rows). A user's lock lives
+ * only while some request holds or waits for it: the holder count is changed
+ * inside the map's compute, so a lock is never dropped while in use.
+ */
+public class SessionManager {
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, UserLock> userLocks = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public SessionManager(int ttlMinutes) {
+        this.ttlMillis = Math.max(1, ttlMinutes) * 60_000L;
+    }
+
+    /**
+     * Create a session for an authenticated profile
+     *
+     * @param profile Authenticated user
+     * @return New session
+     */
+    public Session create(PlayerProfile profile) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Session session = new Session(token, profile);
+        sessions.put(token, session);
+        return session;
+    }
+
+    /**
+     * Look up a live session and refresh its idle timer
+     *
+     * @param token Bearer token
+     * @return Session, or null if unknown or expired
+     */
+    public Session get(String token) {
+        if (token == null) return null;
+        Session s = sessions.get(token);
+        if (s == null) return null;
+        long now = System.currentTimeMillis();
+        if (now - s.lastSeen > ttlMillis) {
+            sessions.remove(token);
+            return null;
+        }
+        s.lastSeen = now;
+        return s;
+    }
+
+    public void invalidate(String token) {
+        if (token != null) sessions.remove(token);
+    }
+
+    /**
+     * Wait for the user's lock; every call must be paired with {@link #unlock}
+     * on the same thread
+     */
+    public void lock(String username) {
+        UserLock l = userLocks.compute(username, (k, v) -> {
+            UserLock held = v != null ? v : new UserLock();
+            held.users++;
+            return held;
+        });
+        l.lock.lock();
+    }
+
+    /** Release the user's lock, dropping it once no request holds or waits for it. */
+    public void unlock(String username) {
+        userLocks.computeIfPresent(username, (k, v) -> {
+            v.lock.unlock();
+            return --v.users == 0 ? null : v;
+        });
+    }
+
+    /** Drop expired sessions. */
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        sessions.values().removeIf(s -> now - s.lastSeen > ttlMillis);
+    }
+
+    /** Number of users with a request running or waiting. */
+    int lockCount() {
+        return userLocks.size();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /** A user's lock and how many requests hold or wait for it (changed only inside compute). */
+    private static final class UserLock {
+        final ReentrantLock lock = new ReentrantLock();
+        int users;
+    }
+
+    /**
+     * Server-side state for one logged-in client
+     */
+    public static class Session {
+        public final String token;
+        public final PlayerProfile profile;
+        volatile long lastSeen;
+
+        Session(String token, PlayerProfile profile) {
+            this.token = token;
+            this.profile = profile;
+            this.lastSeen = System.currentTimeMillis();
+        }
+
+        public String getUsername() {
+            return profile.getUsername();
+        }
+
+        public String getLanguage() {
+            return profile.getOnboardingLanguage() != null ? profile.getOnboardingLanguage() : "Java";
+        }
+
+        public String getLevel() {
+            return profile.getOnboardingSkill() != null ? profile.getOnboardingSkill() : "Beginner";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.forgegrid.app;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionManagerTest {
+
+    @Test
+    void lockIsDroppedOnceReleased() {
+        SessionManager sessions = new SessionManager(30);
+        sessions.lock("ada");
+        sessions.lock("ada");
+        assertEquals(1, sessions.lockCount());
+        sessions.unlock("ada");
+        assertEquals(1, sessions.lockCount());
+        sessions.unlock("ada");
+        assertEquals(0, sessions.lockCount());
+    }
+
+    @Test
+    void sameUserNeverRunsConcurrently() throws Exception {
+        SessionManager sessions = new SessionManager(30);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    sessions.lock("ada");
+                    try {
+                        if (inside.incrementAndGet() > 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        inside.decrementAndGet();
+                    } finally {
+                        sessions.unlock("ada");
+                    }
+                    // Evicting between requests must not hand out a second lock
+                    sessions.evictExpired();
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals(0, overlaps.get());
+        assertEquals(0, sessions.lockCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.forgegrid.app;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.metrics.MetricsReporter;
+import com.forgegrid.log.Log;
+import com.forgegrid.maintenance.MaintenanceScheduler;
+import com.forgegrid.ui.AuthUI;
+
+import javax.swing.*;
+
+/**
+ * Main entry point for the ForgeGrid application.
+ */
+public class Main {
+    public static void main(String[] args) {
+        System.setProperty("sun.awt.noerasebackground", "true");
+        System.setProperty("swing.bufferPerWindow", "true");
+        System.setProperty("sun.java2d.noddraw", "true");
+        MetricsReporter.startFromConfig();
+        // Database, schema and catalog get ready while the user types their password
+        if (EnvironmentConfig.isWarmupEnabled()) {
+            StartupWarmup.start();
+        }
+        startMaintenance();
+        
+        try {
+            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+        } catch (Exception e) {
+            Log.warn("Main.main", null, "Could not set system look and feel", e);
+        }
+        
+        SwingUtilities.invokeLater(() -> {
+            AuthUI authUI = new AuthUI();
+            authUI.setVisible(true);
+        });
+    }
+
+    /** Background jobs are opt-in on the desktop (FORGEGRID_MAINTENANCE=true); started off the main thread since they open the database. */
+    private static void startMaintenance() {
+        Thread t = new Thread(() -> {
+            try {
+                MaintenanceScheduler.startFromConfig(false);
+            } catch (RuntimeException e) {
+                Log.warn("Main.startMaintenance", null, "Maintenance jobs not started", e);
+            }
+        }, "forgegrid-maintenance-start");
+        t.setDaemon(true);
+        t.start();
+    }
+}
@@ -0,0 +1,206 @@
+package com.forgegrid.app;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.db.DatabaseHelper;
+import com.forgegrid.log.Log;
+import com.forgegrid.metrics.MetricsRegistry;
+import com.forgegrid.service.AchievementService;
+import com.forgegrid.service.HardcodedTaskService;
+import com.forgegrid.service.LeaderboardService;
+import com.forgegrid.service.SpacedRepetitionService;
+import com.forgegrid.service.TaskCatalog;
+import com.forgegrid.service.TaskScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uses the time the login form is on screen to get everything else ready.
+ *
+ * Phases, on background threads:
+ *   database     driver, first TLS connection and core tables
+ *   connections  the rest of the pool, opened in parallel
+ *   schema       task tables created/migrated once, then checked against the expected list
+ *   catalog      the built-in task catalog (no database needed)
+ *   jit          the password hash and task ranking run until compiled
+ *
+ * The catalog and jit phases start at once; connections and schema start when
+ * the database phase succeeds. A failed phase is logged and its dependents are
+ * skipped; nothing here is required, the app just pays the cost later instead.
+ * When all phases are done the timeline is logged and each phase is recorded
+ * as startup.{phase}.
+ */
+final class StartupWarmup {
+
+    /** Every table the services create; missing ones are reported after the schema phase. */
+    private static final String[] TABLES = {
+        "users", "user_preferences", "user_tasks", "user_tasks_archive", "user_tasks_rollup",
+        "user_stats", "user_progress", "task_reviews", "user_achievements", "user_activity",
+        "leaderboard_checkpoint", "user_xp_buckets", "user_xp_rollup_users"
+    };
+
+    /** Roughly what C2 needs before it compiles a hot method. */
+    private static final int PRIME_ITERATIONS = 12_000;
+
+    private final long startNanos = System.nanoTime();
+    private final List<String> timeline = new ArrayList<>();
+    private final AtomicInteger threads = new AtomicInteger();
+    private final ExecutorService workers = Executors.newFixedThreadPool(3, r -> {
+        Thread t = new Thread(r, "forgegrid-warmup-" + threads.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private StartupWarmup() {}
+
+    /**
+     * Start warming up in the background
+     *
+     * @return Completes when every phase has finished or been skipped (never exceptionally)
+     */
+    static CompletableFuture<Void> start() {
+        return new StartupWarmup().run();
+    }
+
+    private CompletableFuture<Void> run() {
+        CompletableFuture<Boolean> catalog = phase("catalog", () -> TaskCatalog.getInstance().getTracks().size());
+        CompletableFuture<Boolean> jit = catalog.thenCompose(ok -> ok ? phase("jit", this::primeHotPaths) : skip("jit"));
+        CompletableFuture<Boolean> database = phase("database", () -> DatabaseHelper.getInstance().initialize().getMaxSize());
+        CompletableFuture<Boolean> connections = database.thenCompose(ok -> ok ? phase("connections", this::openConnections) : skip("connections"));
+        CompletableFuture<Boolean> schema = database.thenCompose(ok -> ok ? phase("schema", this::validateSchema) : skip("schema"));
+
+        return CompletableFuture.allOf(jit, connections, schema).whenComplete((v, e) -> {
+            workers.shutdown();
+            synchronized (timeline) {
+                Log.info("StartupWarmup", null, "Startup timeline (ms since launch): " + String.join(", ", timeline));
+            }
+        });
+    }
+
+    /**
+     * Run one phase on a worker, record it in the timeline and report success
+     */
+    private CompletableFuture<Boolean> phase(String name, Callable<?> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            long begin = System.nanoTime();
+            boolean ok;
+            String detail;
+            try {
+                detail = String.valueOf(work.call());
+                ok = true;
+            } catch (Exception e) {
+                Log.warn("StartupWarmup." + name, null, "Warm-up phase failed", e);
+                detail = "failed";
+                ok = false;
+            }
+            long end = System.nanoTime();
+            MetricsRegistry.getInstance().histogram("startup." + name).recordNanos(end - begin);
+            record(name + " " + millis(begin) + "-" + millis(end) + " (" + detail + ")");
+            return ok;
+        }, workers);
+    }
+
+    private CompletableFuture<Boolean> skip(String name) {
+        record(name + " skipped");
+        return CompletableFuture.completedFuture(false);
+    }
+
+    private void record(String entry) {
+        synchronized (timeline) {
+            timeline.add(entry);
+        }
+    }
+
+    private long millis(long nanos) {
+        return (nanos - startNanos) / 1_000_000;
+    }
+
+    private int openConnections() throws SQLException {
+        int count = EnvironmentConfig.getWarmupConnections();
+        DatabaseHelper.getInstance().getPool().prestart(count);
+        return DatabaseHelper.getInstance().getPool().getIdleCount();
+    }
+
+    /**
+     * Create and migrate the task tables now instead of when the dashboard opens,
+     * then check that every expected table exists
+     *
+     * @return Number of tables found
+     */
+    private int validateSchema() throws SQLException {
+        new HardcodedTaskService();
+        SpacedRepetitionService.getInstance();
+        AchievementService.getInstance();
+        LeaderboardService.getInstance();
+
+        Set<String> found = new HashSet<>();
+        try (Connection conn = DatabaseHelper.getInstance().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT table_name FROM information_schema.tables WHERE table_schema = DATABASE()")) {
+            while (rs.next()) {
+                found.add(rs.getString(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        List<String> missing = new ArrayList<>();
+        for (String table : TABLES) {
+            if (!found.contains(table)) {
+                missing.add(table);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new SQLException("Missing tables: " + String.join(", ", missing));
+        }
+        return TABLES.length;
+    }
+
+    /**
+     * Run the code behind login and "Next Task" until the JIT has compiled it,
+     * on throwaway inputs
+     *
+     * @return Iterations run
+     */
+    private int primeHotPaths() throws Exception {
+        // Same digest AuthService uses for every login and signup
+        MessageDigest sha = MessageDigest.getInstance("SHA-256");
+        byte[] password = "forgegrid-warmup".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < PRIME_ITERATIONS; i++) {
+            sha.update(password);
+            sha.digest();
+        }
+
+        TaskScheduler.Strategy strategy = TaskScheduler.strategyFor(EnvironmentConfig.getTaskStrategy());
+        List<TaskCatalog.Track> tracks = TaskCatalog.getInstance().getTracks();
+        // A fresh account and one halfway through each track
+        BitSet[] halfDone = new BitSet[tracks.size()];
+        for (int t = 0; t < tracks.size(); t++) {
+            TaskCatalog.Track track = tracks.get(t);
+            halfDone[t] = new BitSet();
+            for (int id = track.getBaseId(); id < track.getBaseId() + track.size(); id += 2) {
+                halfDone[t].set(id);
+            }
+        }
+        BitSet none = new BitSet();
+        for (int i = 0; i < PRIME_ITERATIONS; i++) {
+            int t = i % tracks.size();
+            BitSet recorded = (i & 1) == 0 ? none : halfDone[t];
+            strategy.rank(new TaskScheduler.Context(tracks.get(t), recorded, 1 + i % 10, (i % 5) / 10.0, i % 24), 5);
+        }
+        return PRIME_ITERATIONS;
+    }
+}
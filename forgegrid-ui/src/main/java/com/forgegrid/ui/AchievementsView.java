@@ -0,0 +1,124 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.log.Log;
+import com.forgegrid.service.AchievementService;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Achievements: unlocked badges and progress towards the locked ones.
+ * Progress is read off the EDT; the badges appear once it arrives.
+ */
+final class AchievementsView implements DashboardView {
+
+    private Dashboard dashboard;
+    private SwingWorker<?, ?> loader;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildAchievementsView();
+    }
+
+    @Override
+    public void dispose() {
+        if (loader != null) {
+            loader.cancel(true);
+        }
+    }
+
+    private JComponent buildAchievementsView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        
+        JLabel title = new JLabel("Achievements Gallery");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(20));
+        
+        JPanel badgesGrid = new JPanel(new GridLayout(0, 3, 15, 15));
+        badgesGrid.setOpaque(false);
+        panel.add(badgesGrid);
+        load(badgesGrid);
+        return panel;
+    }
+
+    /**
+     * Read the user's progress in the background; a user seen for the first time
+     * is replayed from history, which can take a while
+     */
+    private void load(JPanel badgesGrid) {
+        String username = dashboard.profile != null ? dashboard.profile.getUsername() : "";
+        loader = new SwingWorker<List<AchievementService.Progress>, Void>() {
+            @Override
+            protected List<AchievementService.Progress> doInBackground() {
+                return dashboard.controller.getAchievements(username);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    showBadges(badgesGrid, get());
+                } catch (Exception e) {
+                    Log.error("AchievementsView.load", username, "Error loading achievements", e);
+                }
+            }
+        };
+        loader.execute();
+    }
+
+    private void showBadges(JPanel badgesGrid, List<AchievementService.Progress> achievements) {
+        for (AchievementService.Progress achievement : achievements) {
+            AchievementService.Rule rule = achievement.getRule();
+            String description = achievement.isUnlocked()
+                ? rule.getDescription()
+                : rule.getDescription() + " (" + Math.min(achievement.getValue(), rule.getTarget()) + "/" + rule.getTarget() + ")";
+            badgesGrid.add(createAchievementBadge(rule.getIcon(), rule.getTitle(), description, achievement.isUnlocked()));
+        }
+        badgesGrid.revalidate();
+        badgesGrid.repaint();
+    }
+
+    private JPanel createAchievementBadge(String icon, String title, String description, boolean unlocked) {
+        JPanel badge = new JPanel();
+        badge.setOpaque(true);
+        badge.setBackground(unlocked ? new Color(45, 55, 70) : new Color(30, 35, 45));
+        badge.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(unlocked ? new Color(255, 215, 0) : new Color(60, 70, 85), 2),
+            new EmptyBorder(15, 15, 15, 15)
+        ));
+        badge.setLayout(new BoxLayout(badge, BoxLayout.Y_AXIS));
+        
+        JLabel iconLabel = new JLabel(icon);
+        iconLabel.setFont(new Font("Segoe UI", Font.PLAIN, 24));
+        iconLabel.setForeground(unlocked ? new Color(255, 215, 0) : new Color(80, 85, 90));
+        iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        titleLabel.setForeground(unlocked ? Dashboard.TEXT_COLOR : new Color(100, 105, 110));
+        titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        JLabel descLabel = new JLabel(description);
+        descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 10));
+        descLabel.setForeground(unlocked ? Dashboard.TEXT_COLOR : new Color(80, 85, 90));
+        descLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        badge.add(iconLabel);
+        badge.add(Box.createVerticalStrut(5));
+        badge.add(titleLabel);
+        badge.add(Box.createVerticalStrut(3));
+        badge.add(descLabel);
+        
+        return badge;
+    }
+}
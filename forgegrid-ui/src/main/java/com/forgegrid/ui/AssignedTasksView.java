@@ -0,0 +1,107 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+
+import java.awt.*;
+
+/**
+ * Assigned Tasks: open tasks in a table coloured by priority.
+ */
+final class AssignedTasksView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildAssignedTasksView();
+    }
+
+    // Task Management Views
+    private JComponent buildAssignedTasksView() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setOpaque(false);
+        
+        // Header with buttons
+        JPanel header = new JPanel(new BorderLayout());
+        header.setOpaque(false);
+        
+        JLabel title = new JLabel("Assigned Tasks");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        header.add(title, BorderLayout.WEST);
+        
+        JPanel buttons = dashboard.createGlowingFlowPanel(new FlowLayout(FlowLayout.RIGHT));
+        
+        JButton addTaskBtn = new JButton("+ Add New Task");
+        dashboard.styleTaskButton(addTaskBtn, new Color(80, 200, 120));
+        
+        JButton sortBtn = new JButton("Sort by Deadline");
+        dashboard.styleTaskButton(sortBtn, Dashboard.ACCENT_COLOR);
+        
+        buttons.add(addTaskBtn);
+        buttons.add(Box.createHorizontalStrut(10));
+        buttons.add(sortBtn);
+        header.add(buttons, BorderLayout.EAST);
+        
+        panel.add(header, BorderLayout.NORTH);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Task table
+        String[] columns = {"Task Name", "Deadline", "Priority", "Status"};
+        Object[][] data = {
+            {"Complete Java Assignment", "2024-01-15", "HIGH", "In Progress"},
+            {"Review Code Documentation", "2024-01-18", "MEDIUM", "Pending"},
+            {"Update Project README", "2024-01-20", "LOW", "Pending"},
+            {"Fix Bug #123", "2024-01-12", "HIGH", "In Progress"},
+            {"Write Unit Tests", "2024-01-25", "MEDIUM", "Pending"}
+        };
+        
+        JTable table = new JTable(data, columns);
+        table.setBackground(Dashboard.PANEL_COLOR);
+        table.setForeground(Dashboard.TEXT_COLOR);
+        table.setGridColor(new Color(60, 70, 85));
+        table.setSelectionBackground(Dashboard.ACCENT_COLOR);
+        table.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        table.setRowHeight(35);
+        
+        // Custom cell renderer for priority colors
+        table.getColumnModel().getColumn(2).setCellRenderer(new PriorityCellRenderer());
+        
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setBorder(BorderFactory.createLineBorder(new Color(100, 180, 220), 1));
+        scrollPane.getViewport().setBackground(Dashboard.PANEL_COLOR);
+        
+        panel.add(scrollPane, BorderLayout.CENTER);
+        return panel;
+    }
+
+    // Custom cell renderer for priority colors
+    private static class PriorityCellRenderer extends DefaultTableCellRenderer {
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+            Component c = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            
+            if (column == 2) { // Priority column
+                String priority = value.toString();
+                switch (priority) {
+                    case "HIGH":
+                        c.setBackground(new Color(200, 100, 100));
+                        c.setForeground(Color.WHITE);
+                        break;
+                    case "MEDIUM":
+                        c.setBackground(new Color(200, 200, 100));
+                        c.setForeground(Color.BLACK);
+                        break;
+                    case "LOW":
+                        c.setBackground(new Color(100, 200, 100));
+                        c.setForeground(Color.WHITE);
+                        break;
+                }
+            }
+            
+            return c;
+        }
+    }
+}
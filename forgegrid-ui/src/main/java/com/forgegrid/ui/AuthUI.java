@@ -5,7 +5,9 @@ import com.forgegrid.config.UserPreferences;
 import com.forgegrid.model.PlayerProfile;
 import com.forgegrid.service.UserService;
 import com.forgegrid.controller.AuthController;
+import com.forgegrid.controller.LoginPipeline;
 import com.forgegrid.controller.OnboardingController;
+import com.forgegrid.log.Log;
 import javax.swing.*;
 import java.awt.*;
 import javax.swing.plaf.basic.BasicButtonUI;
@@ -37,6 +39,8 @@ public class AuthUI extends JFrame {
     private OnboardingController onboardingController;
     private LoadingScreen loadingScreen;
     private PlayerProfile currentProfile;
+    private LoginPipeline loginPipeline;
+    private LoginPipeline.Attempt pendingLogin;
     
     // Panel references for dynamic onboarding creation
     private JPanel loginPanel;
@@ -48,6 +52,8 @@ public class AuthUI extends JFrame {
     public AuthUI() {
         this.controller = new AuthController(new AuthService(), new UserService(), new UserPreferences());
         this.onboardingController = new OnboardingController(new UserService());
+        this.loginPipeline = new LoginPipeline(controller, onboardingController,
+            new com.forgegrid.service.LevelService(), com.forgegrid.config.EnvironmentConfig.getLoginTimeoutMillis());
         initializeUI();
     }
     
@@ -69,6 +75,17 @@ public class AuthUI extends JFrame {
         setLocationRelativeTo(null);
         setResizable(true);
         
+        // Developer SQL trace window (Ctrl+Shift+D)
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(
+            KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_D,
+                java.awt.event.InputEvent.CTRL_DOWN_MASK | java.awt.event.InputEvent.SHIFT_DOWN_MASK), "sqlTrace");
+        getRootPane().getActionMap().put("sqlTrace", new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                SqlTracePanel.showDialog(AuthUI.this);
+            }
+        });
+        
         // Set the window icon to the existing logo image (single source)
         try {
             java.net.URL iconUrl = getClass().getResource("/com/forgegrid/icon/logo2_transparent.png");
@@ -151,27 +168,23 @@ public class AuthUI extends JFrame {
 
     private void openDashboardInCard(String goal, String language, String skill) {
         // Show loading screen immediately for better UX
+        loadingScreen.reset();
         showCard("LOADING");
         
-        // Create Dashboard asynchronously to avoid blocking the UI thread
-        SwingWorker<Dashboard, Void> worker = new SwingWorker<Dashboard, Void>() {
+        loadingScreen.setStatus("Loading your dashboard...");
+        
+        // Load the dashboard data in the background, then build the view on the EDT
+        SwingWorker<com.forgegrid.controller.DashboardModel, Void> worker = new SwingWorker<com.forgegrid.controller.DashboardModel, Void>() {
             @Override
-            protected Dashboard doInBackground() throws Exception {
-                // Create Dashboard in background thread
-                return new Dashboard(currentProfile, true); // skipWelcome = true
+            protected com.forgegrid.controller.DashboardModel doInBackground() {
+                return com.forgegrid.controller.DashboardModel.load(currentProfile);
             }
             
             @Override
             protected void done() {
                 try {
-                    // Get the created Dashboard
-                    Dashboard dashboard = get();
-                    
-                    // Get the dashboard content pane
-                    Container dashboardContent = dashboard.getContentPane();
-                    
-                    // Replace this frame's content with the dashboard content
-                    setContentPane(dashboardContent);
+                    // Embed the dashboard panel directly in this frame
+                    setContentPane(new Dashboard(get()));
                     
                     // Keep the title as "ForgeGrid"
                     setTitle("ForgeGrid");
@@ -179,13 +192,12 @@ public class AuthUI extends JFrame {
                     // Refresh the frame
                     revalidate();
                     repaint();
-                    
-                    // Dispose the temporary dashboard frame (we only needed its content)
-                    dashboard.dispose();
                 } catch (Exception ex) {
+                    Throwable cause = ex instanceof java.util.concurrent.ExecutionException && ex.getCause() != null
+                        ? ex.getCause() : ex;
                     JOptionPane.showMessageDialog(
                         AuthUI.this,
-                        "Error loading dashboard: " + ex.getMessage(),
+                        "Error loading dashboard: " + cause.getMessage(),
                         "Error",
                         JOptionPane.ERROR_MESSAGE
                     );
@@ -720,49 +732,89 @@ public class AuthUI extends JFrame {
         // Show loading state on button
         loginButton.setEnabled(false);
         loginButton.setText("Authenticating...");
+        loadingScreen.setStatus("Signing in...");
+        loadingScreen.setProgress(0, LoginPipeline.Stage.values().length);
+        loadingScreen.setCancelAction(this::cancelLogin);
+        showCard("LOADING");
         
-        // Use MySQL authentication
-        SwingUtilities.invokeLater(() -> {
-            try {
-                PlayerProfile profile = controller.login(username, password);
-                
-                loginButton.setEnabled(true);
-                loginButton.setText("Login");
-                
-                if (profile != null) {
-                    // Store current profile
-                    this.currentProfile = profile;
-                    
-                    // Save username for auto-fill on next login
-                    controller.setLastUsername(username);
-                    
-                    if (rememberMeCheckbox.isSelected()) {
-                        controller.saveRememberMeCredentials(username, password);
-                    } else {
-                        controller.clearRememberMe();
-                    }
-                    
-                    boolean hasCompletedOnboarding = controller.hasCompletedOnboarding(profile.getUsername());
-                    
-                        showCard("LOADING");
-                    if (hasCompletedOnboarding) {
-                            createWelcomeBackOnboarding(profile.getUsername());
-                    } else {
-                            showCard("ONBOARDING_PROMPT");
-                    }
+        // Authentication, onboarding lookup and profile loading run on background workers
+        boolean rememberMe = rememberMeCheckbox.isSelected();
+        LoginPipeline.Attempt attempt = loginPipeline.start(username, password, (stage, done, total) ->
+            SwingUtilities.invokeLater(() -> {
+                if (pendingLogin != null && !pendingLogin.isCancelled()) {
+                    loadingScreen.setStatus(stage.getLabel());
+                    loadingScreen.setProgress(done, total);
+                }
+            }));
+        pendingLogin = attempt;
+        attempt.getResult().whenComplete((result, error) -> {
+            if (error == null && result.getProfile() != null) {
+                // Preference writes stay off the EDT too
+                controller.setLastUsername(username);
+                if (rememberMe) {
+                    controller.saveRememberMeCredentials(username, password);
                 } else {
-                    JOptionPane.showMessageDialog(this, "Invalid username or password.", "Login Failed", JOptionPane.ERROR_MESSAGE);
-                    showCard("LOGIN");
+                    controller.clearRememberMe();
                 }
-            } catch (Exception e) {
-                loginButton.setEnabled(true);
-                loginButton.setText("Login");
-                JOptionPane.showMessageDialog(this, "Authentication error: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-                showCard("LOGIN");
             }
+            SwingUtilities.invokeLater(() -> finishLogin(attempt, result, error));
         });
     }
     
+    /** Abandon the login in progress and go back to the form. */
+    private void cancelLogin() {
+        if (pendingLogin != null) {
+            pendingLogin.cancel();
+            pendingLogin = null;
+        }
+        resetLoginButton();
+        loadingScreen.reset();
+        showCard("LOGIN");
+    }
+    
+    private void resetLoginButton() {
+        loginButton.setEnabled(true);
+        loginButton.setText("Login");
+    }
+    
+    /** Route the user once the login pipeline is done (on the EDT). */
+    private void finishLogin(LoginPipeline.Attempt attempt, LoginPipeline.Result result, Throwable error) {
+        if (attempt != pendingLogin) {
+            return; // cancelled, or superseded by a newer attempt
+        }
+        pendingLogin = null;
+        resetLoginButton();
+        loadingScreen.setCancelAction(null);
+        
+        Throwable cause = error instanceof java.util.concurrent.CompletionException && error.getCause() != null
+            ? error.getCause() : error;
+        if (cause instanceof java.util.concurrent.TimeoutException) {
+            JOptionPane.showMessageDialog(this, "The server is taking too long to respond. Please try again.", "Login Timed Out", JOptionPane.ERROR_MESSAGE);
+            showCard("LOGIN");
+            return;
+        }
+        if (cause != null) {
+            JOptionPane.showMessageDialog(this, "Authentication error: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            showCard("LOGIN");
+            return;
+        }
+        
+        PlayerProfile profile = result.getProfile();
+        if (profile == null) {
+            JOptionPane.showMessageDialog(this, "Invalid username or password.", "Login Failed", JOptionPane.ERROR_MESSAGE);
+            showCard("LOGIN");
+            return;
+        }
+        
+        // Store current profile
+        this.currentProfile = profile;
+        if (result.isOnboardingCompleted()) {
+            createWelcomeBackOnboarding(profile.getUsername(), result.getOnboardingData());
+        } else {
+            showCard("ONBOARDING_PROMPT");
+        }
+    }
+    
     private void handleSignup(JTextField nameFieldParam, JTextField emailField, JPasswordField passwordField) {
         // Normalize placeholders just before reading values
         Object nPA2 = nameFieldParam.getClientProperty("placeholderActive");
@@ -1077,7 +1129,7 @@ public class AuthUI extends JFrame {
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
-            e.printStackTrace();
+            Log.warn("AuthUI.applyCustomStyling", null, "Could not set system look and feel", e);
         }
     }
     
@@ -1195,10 +1247,12 @@ public class AuthUI extends JFrame {
 
     /**
      * Create onboarding panel for returning users (shows welcome back message)
+     *
+     * @param loadedData Onboarding answers already fetched during login, or null to look them up
      */
-    private void createWelcomeBackOnboarding(String username) {
+    private void createWelcomeBackOnboarding(String username, String[] loadedData) {
         OnboardingInAppPanel onboarding = new OnboardingInAppPanel((goal, language, skill) -> {
-            String[] onboardingData = onboardingController.getOnboardingData(username);
+            String[] onboardingData = loadedData != null ? loadedData : onboardingController.getOnboardingData(username);
             String existingGoal = onboardingData != null ? onboardingData[0] : null;
             String existingLanguage = onboardingData != null ? onboardingData[1] : null;
             String existingSkill = onboardingData != null ? onboardingData[2] : null;
@@ -0,0 +1,174 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.service.TaskFacets;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browse Catalog: build a practice set from every track at once by ticking
+ * languages, levels, topics, XP and duration bands. Each choice shows how many
+ * tasks it would add to the current selection.
+ */
+final class CatalogBrowserView implements DashboardView {
+
+    private static final int PAGE = 200;
+    private static final String[][] FACETS = {
+        {TaskFacets.LANGUAGE, "Language"},
+        {TaskFacets.LEVEL, "Level"},
+        {TaskFacets.XP, "XP"},
+        {TaskFacets.MINUTES, "Duration"},
+        {TaskFacets.TOPIC, "Topic"},
+    };
+
+    private Dashboard dashboard;
+    /** Facet -> value -> its checkbox. */
+    private final Map<String, Map<String, JCheckBox>> boxes = new LinkedHashMap<>();
+    private final DefaultListModel<HardcodedTask> results = new DefaultListModel<>();
+    private JLabel summary;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildCatalogBrowserView();
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private JComponent buildCatalogBrowserView() {
+        JPanel panel = new JPanel(new BorderLayout(15, 15));
+        panel.setOpaque(false);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        JPanel header = new JPanel(new BorderLayout());
+        header.setOpaque(false);
+        JLabel title = new JLabel("Browse Catalog");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        header.add(title, BorderLayout.WEST);
+        JButton clear = new JButton("Clear");
+        clear.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        clear.addActionListener(e -> {
+            boxes.values().forEach(values -> values.values().forEach(box -> box.setSelected(false)));
+            refresh();
+        });
+        header.add(clear, BorderLayout.EAST);
+        panel.add(header, BorderLayout.NORTH);
+
+        JPanel facets = new JPanel();
+        facets.setOpaque(false);
+        facets.setLayout(new BoxLayout(facets, BoxLayout.Y_AXIS));
+        for (String[] facet : FACETS) {
+            facets.add(createFacetSection(facet[0], facet[1]));
+            facets.add(Box.createVerticalStrut(10));
+        }
+        JScrollPane facetScroll = new JScrollPane(facets);
+        facetScroll.setOpaque(false);
+        facetScroll.getViewport().setOpaque(false);
+        facetScroll.setBorder(BorderFactory.createEmptyBorder());
+        facetScroll.getVerticalScrollBar().setUnitIncrement(16);
+        facetScroll.setPreferredSize(new Dimension(240, 0));
+        panel.add(facetScroll, BorderLayout.WEST);
+
+        JList<HardcodedTask> list = new JList<HardcodedTask>(results) {
+            @Override
+            public String getToolTipText(java.awt.event.MouseEvent e) {
+                int i = locationToIndex(e.getPoint());
+                return i >= 0 ? getModel().getElementAt(i).getDescription() : null;
+            }
+        };
+        list.setToolTipText("");
+        list.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> l, Object value, int index, boolean selected, boolean focus) {
+                HardcodedTask t = (HardcodedTask) value;
+                String text = t.getTaskName() + "  -  " + t.getLanguage() + " " + t.getLevel()
+                    + " | " + t.getXpReward() + " XP | " + t.getEstimatedMinutes() + " min"
+                    + " | " + String.join(", ", t.getTags());
+                return super.getListCellRendererComponent(l, text, index, selected, focus);
+            }
+        });
+        JScrollPane listScroll = new JScrollPane(list);
+        listScroll.setBorder(BorderFactory.createLineBorder(new Color(220, 220, 220)));
+
+        summary = new JLabel(" ");
+        summary.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        summary.setForeground(Dashboard.TEXT_COLOR);
+
+        JPanel right = new JPanel(new BorderLayout(0, 8));
+        right.setOpaque(false);
+        right.add(summary, BorderLayout.NORTH);
+        right.add(listScroll, BorderLayout.CENTER);
+        panel.add(right, BorderLayout.CENTER);
+
+        refresh();
+        return panel;
+    }
+
+    private JPanel createFacetSection(String facet, String label) {
+        JPanel section = new JPanel();
+        section.setOpaque(false);
+        section.setLayout(new BoxLayout(section, BoxLayout.Y_AXIS));
+        section.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        JLabel name = new JLabel(label);
+        name.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        name.setForeground(Dashboard.TEXT_COLOR);
+        section.add(name);
+
+        Map<String, JCheckBox> values = new LinkedHashMap<>();
+        for (String value : dashboard.controller.getFacetValues(facet)) {
+            JCheckBox box = new JCheckBox(value);
+            box.setOpaque(false);
+            box.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            box.setForeground(Dashboard.TEXT_COLOR);
+            box.addActionListener(e -> refresh());
+            values.put(value, box);
+            section.add(box);
+        }
+        boxes.put(facet, values);
+        return section;
+    }
+
+    /**
+     * Re-run the query for the ticked boxes and update the list and every box's count.
+     * The facet bitsets are in memory, so this runs on the EDT on every click.
+     */
+    private void refresh() {
+        TaskFacets.Query query = new TaskFacets.Query();
+        for (Map.Entry<String, Map<String, JCheckBox>> facet : boxes.entrySet()) {
+            List<String> ticked = new ArrayList<>();
+            facet.getValue().forEach((value, box) -> {
+                if (box.isSelected()) {
+                    ticked.add(value);
+                }
+            });
+            if (!ticked.isEmpty()) {
+                query.select(facet.getKey(), ticked.toArray(new String[0]));
+            }
+        }
+        TaskFacets.Result result = dashboard.controller.browseTasks(query);
+
+        for (Map.Entry<String, Map<String, JCheckBox>> facet : boxes.entrySet()) {
+            facet.getValue().forEach((value, box) -> {
+                int n = result.getCount(facet.getKey(), value);
+                box.setText(value + " (" + n + ")");
+                box.setEnabled(n > 0 || box.isSelected());
+            });
+        }
+
+        results.clear();
+        results.addAll(result.getTasks(0, PAGE));
+        int total = result.size();
+        summary.setText(total == 0 ? "No tasks match this selection"
+            : total + (total == 1 ? " task" : " tasks") + (total > PAGE ? " (showing the first " + PAGE + ")" : ""));
+    }
+}
@@ -0,0 +1,115 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+
+/**
+ * Completed Tasks: finished tasks with their XP.
+ */
+final class CompletedTasksView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildCompletedTasksView();
+    }
+
+    private JComponent buildCompletedTasksView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        
+        JLabel title = new JLabel("Completed Tasks");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Progress ring
+        JPanel progressPanel = new JPanel(new BorderLayout());
+        progressPanel.setOpaque(false);
+        
+        JPanel progressRing = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                
+                int size = 80;
+                int x = (getWidth() - size) / 2;
+                int y = (getHeight() - size) / 2;
+                
+                // Background ring
+                g2.setColor(new Color(50, 60, 75));
+                g2.fillOval(x, y, size, size);
+                
+                // Progress arc (0% completion - not initialized)
+                g2.setColor(new Color(80, 200, 120));
+                g2.fillArc(x, y, size, size, 90, 0);
+                
+                // Inner cutout
+                int thickness = 15;
+                g2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR));
+                g2.fillOval(x + thickness, y + thickness, size - 2*thickness, size - 2*thickness);
+                g2.dispose();
+                
+                // Center text
+                Graphics2D g3 = (Graphics2D) g.create();
+                g3.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g3.setColor(Dashboard.TEXT_COLOR);
+                g3.setFont(new Font("Segoe UI", Font.BOLD, 16));
+                FontMetrics fm = g3.getFontMetrics();
+                String text = "0%";
+                int tx = (getWidth() - fm.stringWidth(text)) / 2;
+                int ty = (getHeight() + fm.getAscent()) / 2;
+                g3.drawString(text, tx, ty);
+                g3.dispose();
+            }
+        };
+        progressRing.setPreferredSize(new Dimension(100, 100));
+        progressRing.setOpaque(false);
+        
+        JLabel progressLabel = new JLabel("Daily Completion Rate (Not Initialized)");
+        progressLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        progressLabel.setForeground(Dashboard.TEXT_COLOR);
+        progressLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        JPanel progressInfo = new JPanel();
+        progressInfo.setOpaque(false);
+        progressInfo.setLayout(new BoxLayout(progressInfo, BoxLayout.Y_AXIS));
+        progressInfo.add(progressRing);
+        progressInfo.add(Box.createVerticalStrut(5));
+        progressInfo.add(progressLabel);
+        
+        progressPanel.add(progressInfo, BorderLayout.WEST);
+        
+        // Completed tasks list
+        JPanel tasksList = new JPanel();
+        tasksList.setOpaque(false);
+        tasksList.setLayout(new BoxLayout(tasksList, BoxLayout.Y_AXIS));
+        
+        String[] completedTasks = {
+            "No completed tasks yet - system not initialized"
+        };
+        
+        for (String task : completedTasks) {
+            JLabel taskLabel = new JLabel(task);
+            taskLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            taskLabel.setForeground(new Color(80, 200, 120));
+            taskLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            taskLabel.setBorder(new EmptyBorder(5, 0, 5, 0));
+            tasksList.add(taskLabel);
+        }
+        
+        progressPanel.add(tasksList, BorderLayout.CENTER);
+        panel.add(progressPanel);
+        
+        return panel;
+    }
+}
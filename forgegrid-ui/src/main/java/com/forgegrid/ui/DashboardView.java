@@ -0,0 +1,30 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+
+/**
+ * One screen in the dashboard's center area (Home, Tasks, Settings, ...).
+ *
+ * Implementations are registered by name in {@link DashboardViews} and are
+ * only class-loaded and instantiated the first time the user opens them, so
+ * rarely used screens cost nothing until then. A view is created on the EDT
+ * and may be disposed when it goes stale or when memory runs low; the next
+ * visit creates a fresh instance.
+ */
+public interface DashboardView {
+
+    /**
+     * Build the view's content (on the EDT)
+     *
+     * @param dashboard The hosting dashboard, for its profile, controller and shared widgets
+     * @return Component placed in the center area
+     */
+    JComponent create(Dashboard dashboard);
+
+    /**
+     * Release timers, listeners and caches created by {@link #create}.
+     * The component has already been removed from the dashboard.
+     */
+    default void dispose() {
+    }
+}
@@ -0,0 +1,125 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.log.Log;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of dashboard views by name.
+ *
+ * Views are registered by class name, not class literal, so a view's class
+ * (and its anonymous inner classes) is not loaded until the view is first
+ * opened. Also tells dashboards when the heap is nearly full after a GC so
+ * they can drop views that are not on screen.
+ */
+public final class DashboardViews {
+
+    /** Old-generation occupancy after a GC at which hidden views are released. */
+    private static final double LOW_MEMORY_FRACTION = 0.80;
+
+    private static final Map<String, String> CLASSES = new ConcurrentHashMap<>();
+    private static volatile boolean thresholdsSet = false;
+
+    static {
+        register(Dashboard.VIEW_DASHBOARD, "com.forgegrid.ui.HomeView");
+        register(Dashboard.VIEW_TASKS, "com.forgegrid.ui.TasksView");
+        register(Dashboard.VIEW_GOATED, "com.forgegrid.ui.GoatedTasksView");
+        register(Dashboard.VIEW_PROFILE, "com.forgegrid.ui.ProfileView");
+        register(Dashboard.VIEW_SETTINGS, "com.forgegrid.ui.SettingsView");
+        register(Dashboard.VIEW_HELP, "com.forgegrid.ui.HelpView");
+        register(Dashboard.VIEW_MOTIVATION, "com.forgegrid.ui.MotivationView");
+        register(Dashboard.VIEW_ASSIGNED, "com.forgegrid.ui.AssignedTasksView");
+        register(Dashboard.VIEW_COMPLETED, "com.forgegrid.ui.CompletedTasksView");
+        register(Dashboard.VIEW_SKIPPED, "com.forgegrid.ui.MissedTasksView");
+        register(Dashboard.VIEW_ACHIEVEMENTS, "com.forgegrid.ui.AchievementsView");
+        register(Dashboard.VIEW_PROGRESS, "com.forgegrid.ui.ProgressTrackerView");
+        register(Dashboard.VIEW_DEADLINES, "com.forgegrid.ui.DeadlineTrackerView");
+        register(Dashboard.VIEW_SAVE_LOAD, "com.forgegrid.ui.SaveLoadView");
+        register(Dashboard.VIEW_LEADERBOARD, "com.forgegrid.ui.LeaderboardView");
+        register(Dashboard.VIEW_CATALOG, "com.forgegrid.ui.CatalogBrowserView");
+    }
+
+    private DashboardViews() {}
+
+    /**
+     * Register (or replace) a view
+     *
+     * @param name Name used with switchView and shown in the sidebar
+     * @param className Fully qualified {@link DashboardView} implementation with a no-arg constructor
+     */
+    public static void register(String name, String className) {
+        CLASSES.put(name, className);
+    }
+
+    public static boolean has(String name) {
+        return CLASSES.containsKey(name);
+    }
+
+    /**
+     * Load and instantiate the view registered under the name
+     *
+     * @return New view, or null if nothing is registered under the name
+     * @throws IllegalStateException if the registered class cannot be instantiated
+     */
+    static DashboardView create(String name) {
+        String className = CLASSES.get(name);
+        if (className == null) {
+            return null;
+        }
+        try {
+            return Class.forName(className).asSubclass(DashboardView.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Cannot load view '" + name + "' (" + className + ")", e);
+        }
+    }
+
+    /**
+     * Call the action (on the GC notification thread) whenever a heap pool is
+     * still over 80% full after a collection
+     *
+     * @return Listener to pass to {@link #removeLowMemoryListener}
+     */
+    static NotificationListener addLowMemoryListener(Runnable action) {
+        setThresholds();
+        NotificationListener listener = (Notification n, Object handback) -> {
+            if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(n.getType())) {
+                action.run();
+            }
+        };
+        ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(listener, null, null);
+        return listener;
+    }
+
+    static void removeLowMemoryListener(NotificationListener listener) {
+        try {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(listener);
+        } catch (javax.management.ListenerNotFoundException e) {
+            // Already removed
+        }
+    }
+
+    private static synchronized void setThresholds() {
+        if (thresholdsSet) {
+            return;
+        }
+        thresholdsSet = true;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long max = pool.getUsage().getMax();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && max > 0) {
+                try {
+                    pool.setCollectionUsageThreshold((long) (max * LOW_MEMORY_FRACTION));
+                } catch (RuntimeException e) {
+                    Log.debug("DashboardViews.setThresholds", null, "Cannot watch pool " + pool.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+}
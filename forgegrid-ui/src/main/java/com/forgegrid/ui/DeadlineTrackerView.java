@@ -0,0 +1,268 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.service.ActivityCalendar;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Deadline Tracker: activity calendar, countdown to the next goated deadline and recent reminders.
+ * The countdown timer is stopped when the view is disposed.
+ */
+final class DeadlineTrackerView implements DashboardView {
+
+    private Dashboard dashboard;
+    private javax.swing.Timer tick;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildDeadlineTrackerView();
+    }
+
+    @Override
+    public void dispose() {
+        if (tick != null) {
+            tick.stop();
+            tick = null;
+        }
+    }
+
+    // Components Section Views
+    private JComponent buildDeadlineTrackerView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        
+        JLabel title = new JLabel("Deadline Tracker");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Main content panel
+        JPanel contentPanel = new JPanel(new BorderLayout());
+        contentPanel.setOpaque(false);
+        
+        // Mini calendar
+        JPanel calendarPanel = buildMiniCalendar();
+        contentPanel.add(calendarPanel, BorderLayout.WEST);
+        
+        // Countdown timer and reminders
+        JPanel rightPanel = new JPanel();
+        rightPanel.setOpaque(false);
+        rightPanel.setLayout(new BoxLayout(rightPanel, BoxLayout.Y_AXIS));
+        
+        rightPanel.add(buildCountdownTimer());
+        rightPanel.add(Box.createVerticalStrut(20));
+        rightPanel.add(buildRemindersPanel());
+        
+        contentPanel.add(rightPanel, BorderLayout.CENTER);
+        panel.add(contentPanel);
+        
+        return panel;
+    }
+
+    private JPanel buildMiniCalendar() {
+        JPanel calendar = new JPanel();
+        calendar.setOpaque(true);
+        calendar.setBackground(new Color(40, 50, 65));
+        calendar.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1),
+            new EmptyBorder(15, 15, 15, 15)
+        ));
+        calendar.setPreferredSize(new Dimension(250, 200));
+        
+        // Calendar header: this month, days with a completed task highlighted
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        ActivityCalendar.Days activity = dashboard.model.getActivity();
+        JLabel monthLabel = new JLabel(month.getMonth().getDisplayName(TextStyle.FULL, Locale.getDefault()) + " " + month.getYear());
+        monthLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        monthLabel.setForeground(Dashboard.TEXT_COLOR);
+        monthLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        // Calendar grid
+        JPanel gridPanel = new JPanel(new GridLayout(7, 7, 2, 2));
+        gridPanel.setOpaque(false);
+        
+        // Day headers
+        String[] dayHeaders = {"S", "M", "T", "W", "T", "F", "S"};
+        for (String day : dayHeaders) {
+            JLabel dayLabel = new JLabel(day, JLabel.CENTER);
+            dayLabel.setFont(new Font("Segoe UI", Font.PLAIN, 10));
+            dayLabel.setForeground(Dashboard.TEXT_COLOR);
+            gridPanel.add(dayLabel);
+        }
+        
+        // Blank cells before the 1st (Sunday-first weeks)
+        int offset = month.atDay(1).getDayOfWeek().getValue() % 7;
+        for (int i = 0; i < offset; i++) {
+            gridPanel.add(new JLabel());
+        }
+        
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            JPanel dayPanel = new JPanel(new BorderLayout());
+            dayPanel.setPreferredSize(new Dimension(25, 20));
+            boolean active = activity.isActive(date);
+            dayPanel.setOpaque(active);
+            if (active) {
+                dayPanel.setBackground(new Color(80, 200, 120));
+                dayPanel.setToolTipText(activity.tasksOn(date) > 0 ? activity.tasksOn(date) + " completed" : "Active");
+            }
+            
+            JLabel dayLabel = new JLabel(String.valueOf(day), JLabel.CENTER);
+            dayLabel.setFont(new Font("Segoe UI", date.equals(today) ? Font.BOLD : Font.PLAIN, 10));
+            dayLabel.setForeground(Dashboard.TEXT_COLOR);
+            dayPanel.add(dayLabel, BorderLayout.CENTER);
+            
+            gridPanel.add(dayPanel);
+        }
+        
+        calendar.setLayout(new BoxLayout(calendar, BoxLayout.Y_AXIS));
+        calendar.add(monthLabel);
+        calendar.add(Box.createVerticalStrut(10));
+        calendar.add(gridPanel);
+        
+        return calendar;
+    }
+
+    private JComponent buildCountdownTimer() {
+        JPanel timerPanel = new JPanel();
+        timerPanel.setOpaque(true);
+        timerPanel.setBackground(new Color(45, 55, 70));
+        timerPanel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(255, 150, 100), 2),
+            new EmptyBorder(15, 15, 15, 15)
+        ));
+        timerPanel.setLayout(new BoxLayout(timerPanel, BoxLayout.Y_AXIS));
+        
+        JLabel timerTitle = new JLabel("Next Deadline");
+        timerTitle.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        timerTitle.setForeground(Dashboard.TEXT_COLOR);
+        timerTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        JLabel timerValue = new JLabel("No deadlines");
+        timerValue.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        timerValue.setForeground(new Color(255, 150, 100));
+        timerValue.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        JLabel timerTask = new JLabel("Add a goated task with a deadline");
+        timerTask.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        timerTask.setForeground(Dashboard.TEXT_COLOR);
+        timerTask.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        // Next deadline comes from the in-memory deadline index; tick once a minute while shown
+        Runnable update = () -> {
+            com.forgegrid.service.DeadlineScheduler.Entry next =
+                dashboard.profile != null ? dashboard.controller.getNextDeadline(dashboard.profile.getUsername()) : null;
+            if (next != null) {
+                timerValue.setText(com.forgegrid.service.DeadlineScheduler.formatRemaining(
+                    java.time.Duration.between(java.time.LocalDateTime.now(), next.getDeadline())));
+                timerTask.setText(next.getTitle());
+            } else {
+                timerValue.setText("No deadlines");
+                timerTask.setText("Add a goated task with a deadline");
+            }
+        };
+        update.run();
+        tick = new javax.swing.Timer(60_000, e -> update.run());
+        tick.start();
+        
+        timerPanel.add(timerTitle);
+        timerPanel.add(Box.createVerticalStrut(5));
+        timerPanel.add(timerValue);
+        timerPanel.add(Box.createVerticalStrut(5));
+        timerPanel.add(timerTask);
+        
+        return timerPanel;
+    }
+
+    private JComponent buildRemindersPanel() {
+        JPanel remindersPanel = new JPanel();
+        remindersPanel.setOpaque(true);
+        remindersPanel.setBackground(new Color(40, 50, 65));
+        remindersPanel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1),
+            new EmptyBorder(15, 15, 15, 15)
+        ));
+        remindersPanel.setLayout(new BoxLayout(remindersPanel, BoxLayout.Y_AXIS));
+        
+        JLabel remindersTitle = new JLabel("Reminders");
+        remindersTitle.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        remindersTitle.setForeground(Dashboard.TEXT_COLOR);
+        remindersTitle.setAlignmentX(Component.LEFT_ALIGNMENT);
+        remindersPanel.add(remindersTitle);
+        remindersPanel.add(Box.createVerticalStrut(10));
+        
+        // Reminder cards: the latest reminders the deadline scheduler fired
+        java.util.List<com.forgegrid.service.DeadlineScheduler.Reminder> fired =
+            dashboard.profile != null ? dashboard.controller.getRecentReminders(dashboard.profile.getUsername()) : java.util.Collections.emptyList();
+        java.time.format.DateTimeFormatter firedFormat = java.time.format.DateTimeFormatter.ofPattern("MMM d, HH:mm");
+        java.util.List<String[]> reminders = new java.util.ArrayList<>();
+        for (com.forgegrid.service.DeadlineScheduler.Reminder r : fired) {
+            if (reminders.size() == 5) break;
+            reminders.add(new String[] {r.getMessage(), firedFormat.format(r.getFiredAt()), r.isDue() ? "red" : "yellow", String.valueOf(reminders.size())});
+        }
+        if (reminders.isEmpty()) {
+            reminders.add(new String[] {"No reminders yet", "You'll be reminded before goated task deadlines", "gray", null});
+        }
+        
+        for (String[] reminder : reminders) {
+            JPanel reminderCard = new JPanel(new BorderLayout());
+            reminderCard.setOpaque(true);
+            Color bgColor = switch (reminder[2]) {
+                case "red" -> new Color(60, 40, 40);
+                case "yellow" -> new Color(60, 55, 40);
+                case "green" -> new Color(40, 60, 40);
+                case "gray" -> new Color(50, 55, 60);
+                default -> new Color(50, 55, 60);
+            };
+            reminderCard.setBackground(bgColor);
+            reminderCard.setBorder(new EmptyBorder(8, 10, 8, 10));
+            
+            JLabel taskLabel = new JLabel(reminder[0]);
+            taskLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            taskLabel.setForeground(Dashboard.TEXT_COLOR);
+            
+            JLabel timeLabel = new JLabel(reminder[1]);
+            timeLabel.setFont(new Font("Segoe UI", Font.PLAIN, 10));
+            timeLabel.setForeground(Dashboard.TEXT_COLOR);
+            
+            JPanel rightPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+            rightPanel.setOpaque(false);
+            
+            JButton snoozeBtn = new JButton("Snooze");
+            snoozeBtn.setFont(new Font("Segoe UI", Font.PLAIN, 10));
+            snoozeBtn.setPreferredSize(new Dimension(25, 20));
+            snoozeBtn.setBackground(new Color(100, 180, 220));
+            snoozeBtn.setForeground(Color.WHITE);
+            snoozeBtn.setBorderPainted(false);
+            if (reminder[3] != null) {
+                com.forgegrid.service.DeadlineScheduler.Reminder source = fired.get(Integer.parseInt(reminder[3]));
+                snoozeBtn.setToolTipText("Remind me again in 10 minutes");
+                snoozeBtn.addActionListener(e -> {
+                    dashboard.controller.snoozeReminder(source, java.time.Duration.ofMinutes(10));
+                    snoozeBtn.setEnabled(false);
+                });
+                rightPanel.add(snoozeBtn);
+            }
+            
+            reminderCard.add(taskLabel, BorderLayout.WEST);
+            reminderCard.add(timeLabel, BorderLayout.CENTER);
+            reminderCard.add(rightPanel, BorderLayout.EAST);
+            
+            remindersPanel.add(reminderCard);
+            remindersPanel.add(Box.createVerticalStrut(5));
+        }
+        
+        return remindersPanel;
+    }
+}
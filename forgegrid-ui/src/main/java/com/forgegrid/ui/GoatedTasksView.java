@@ -0,0 +1,301 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+import java.awt.event.*;
+
+/**
+ * Goated Tasks: the user's own tasks with deadlines and XP, and the dialog to add one.
+ */
+final class GoatedTasksView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildGoatedTasksView();
+    }
+
+    private JComponent buildGoatedTasksView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+
+        JLabel title = new JLabel("Custom Tasks");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(12));
+
+        // Add Custom Task button
+        JButton addBtn = new JButton("Add Custom Task");
+        dashboard.styleTaskButton(addBtn, new Color(60, 120, 200));
+        addBtn.setAlignmentX(Component.LEFT_ALIGNMENT);
+        addBtn.addActionListener(e -> openAddGoatedTaskDialog());
+        panel.add(addBtn);
+        panel.add(Box.createVerticalStrut(16));
+
+        // List area
+        JPanel list = new JPanel();
+        list.setOpaque(false);
+        list.setLayout(new BoxLayout(list, BoxLayout.Y_AXIS));
+        list.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        java.util.List<com.forgegrid.model.GoatedTask> goated = dashboard.controller.listGoatedTasks(dashboard.profile.getUsername());
+        if (goated.isEmpty()) {
+            JLabel empty = new JLabel("No custom tasks yet. Click \"Add Custom Task\" to create one.");
+            empty.setForeground(Dashboard.TEXT_COLOR);
+            empty.setAlignmentX(Component.LEFT_ALIGNMENT);
+            panel.add(empty);
+        } else {
+            for (com.forgegrid.model.GoatedTask t : goated) {
+                JPanel card = createEnhancedTaskCard(t);
+
+                // Add action button
+                JPanel actions = new JPanel();
+                actions.setOpaque(false);
+                JButton done = new JButton(t.isCompleted() ? "Completed" : "Mark Complete");
+                dashboard.styleTaskButton(done, t.isCompleted() ? new Color(60, 140, 90) : new Color(70, 160, 100));
+                done.setEnabled(!t.isCompleted());
+                int id = t.getId();
+                done.addActionListener(ev -> {
+                    if (dashboard.controller.markGoatedTaskComplete(dashboard.profile.getUsername(), id)) {
+                        refreshGoatedTasksView();
+                        dashboard.refreshHeaderAfterXPChange();
+                    }
+                });
+                actions.add(done);
+                card.add(actions, BorderLayout.EAST);
+
+                list.add(card);
+                list.add(Box.createVerticalStrut(10));
+            }
+        }
+
+        panel.add(list);
+        return panel;
+    }
+
+    /**
+     * Create an enhanced task card with pink theme, rounded corners, colored priority bars, and glow effects
+     */
+    private JPanel createEnhancedTaskCard(com.forgegrid.model.GoatedTask task) {
+        JPanel card = new JPanel(new BorderLayout()) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                
+                // Determine priority color based on task properties
+                Color priorityColor = determinePriorityColor(task);
+                
+                // Create pink glow effect
+                g2.setColor(new Color(Theme.BRAND_PINK.getRed(), Theme.BRAND_PINK.getGreen(), Theme.BRAND_PINK.getBlue(), 30));
+                g2.fillRoundRect(-2, -2, getWidth() + 4, getHeight() + 4, 16, 16);
+                
+                // Draw colored priority bar on the left edge
+                g2.setColor(priorityColor);
+                g2.fillRect(0, 0, 3, getHeight());
+                
+                // Draw rounded background with pink gradient
+                GradientPaint gradient = new GradientPaint(
+                    3, 0, Theme.BRAND_PINK.brighter(),
+                    3, getHeight(), Theme.BRAND_PINK,
+                    false
+                );
+                g2.setPaint(gradient);
+                g2.fillRoundRect(3, 0, getWidth() - 3, getHeight(), 12, 12);
+                
+                // Add Neon Lime border/glow for Goated Tasks with pink accent
+                g2.setColor(new Color(160, 255, 0, 80)); // Neon Lime with higher transparency
+                g2.setStroke(new BasicStroke(2.0f));
+                g2.drawRoundRect(3, 0, getWidth() - 3, getHeight(), 12, 12);
+                
+                g2.dispose();
+            }
+        };
+        
+        card.setOpaque(false);
+        card.setBorder(new EmptyBorder(12, 16, 12, 16)); // Left padding accounts for priority bar
+        
+        // Content panel
+        JPanel contentPanel = new JPanel(new BorderLayout());
+        contentPanel.setOpaque(false);
+        
+        // Left content
+        JPanel left = new JPanel();
+        left.setOpaque(false);
+        left.setLayout(new BoxLayout(left, BoxLayout.Y_AXIS));
+
+        JLabel tTitle = new JLabel(task.getTitle() != null ? task.getTitle() : "Custom Task");
+        tTitle.setFont(new Font("Segoe UI", Font.BOLD, 15));
+        tTitle.setForeground(Dashboard.TEXT_COLOR);
+        left.add(tTitle);
+
+        String subtitle = (task.getDeadline() != null ? ("Due: " + task.getDeadline().toString()) : "No deadline") +
+                "  •  XP: " + task.getXp();
+        JLabel tSub = new JLabel(subtitle);
+        tSub.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        tSub.setForeground(Dashboard.TEXT_COLOR);
+        left.add(tSub);
+
+        if (task.getDescription() != null && !task.getDescription().isBlank()) {
+            JLabel tDesc = new JLabel("<html><body style='width: 500px'>" + task.getDescription() + "</body></html>");
+            tDesc.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            tDesc.setForeground(Dashboard.TEXT_COLOR);
+            left.add(Box.createVerticalStrut(4));
+            left.add(tDesc);
+        }
+        
+        contentPanel.add(left, BorderLayout.CENTER);
+        
+        return contentPanel;
+    }
+
+    /**
+     * Determine priority color based on task properties
+     */
+    private Color determinePriorityColor(com.forgegrid.model.GoatedTask task) {
+        // High priority: Red
+        if (task.getDeadline() != null) {
+            try {
+                java.time.LocalDate deadlineDate = task.getDeadline().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
+                long daysUntilDeadline = java.time.temporal.ChronoUnit.DAYS.between(
+                    java.time.LocalDate.now(), 
+                    deadlineDate
+                );
+                if (daysUntilDeadline <= 1) {
+                    return new Color(255, 100, 100); // Red for urgent
+                } else if (daysUntilDeadline <= 3) {
+                    return new Color(255, 153, 0); // Orange for high priority
+                }
+            } catch (Exception e) {
+                // If date conversion fails, use standard priority
+            }
+        }
+        // Standard priority: Soft White
+        return new Color(255, 255, 255);
+    }
+
+    private void openAddGoatedTaskDialog() {
+        JDialog dlg = new JDialog(SwingUtilities.getWindowAncestor(dashboard), "Add Custom Task", Dialog.ModalityType.APPLICATION_MODAL);
+        dlg.setUndecorated(false);
+        dlg.getContentPane().setBackground(UIManager.getColor("Panel.background"));
+        dlg.setLayout(new BorderLayout(10, 10));
+        dlg.getRootPane().setBorder(null);
+
+        // Title bar similar to TaskPopupDialog
+        JPanel titleBar = new JPanel(new BorderLayout());
+        titleBar.setBackground(UIManager.getColor("Panel.background"));
+        titleBar.setBorder(new EmptyBorder(10, 15, 10, 15));
+        JLabel titleLb = new JLabel("New Custom Task");
+        titleLb.setFont(new Font("SansSerif", Font.BOLD, 14));
+        titleLb.setForeground(Color.BLACK);
+        JButton close = new JButton("✕");
+        close.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        close.setForeground(Color.BLACK);
+        close.setBackground(UIManager.getColor("Panel.background"));
+        close.setBorderPainted(true);
+        close.setFocusPainted(true);
+        close.setPreferredSize(new Dimension(40, 30));
+        
+        close.addActionListener(ev -> dlg.dispose());
+        titleBar.add(titleLb, BorderLayout.WEST);
+        titleBar.add(close, BorderLayout.EAST);
+
+        // Make draggable
+        final java.awt.Point[] drag = { null };
+        titleBar.addMouseListener(new java.awt.event.MouseAdapter(){ @Override public void mousePressed(java.awt.event.MouseEvent e){ drag[0] = e.getPoint(); }});
+        titleBar.addMouseMotionListener(new java.awt.event.MouseAdapter(){ @Override public void mouseDragged(java.awt.event.MouseEvent e){ if (drag[0]!=null){ java.awt.Point loc = dlg.getLocation(); dlg.setLocation(loc.x + e.getX()-drag[0].x, loc.y + e.getY()-drag[0].y); }}});
+
+        JPanel form = new JPanel();
+        form.setOpaque(false);
+        form.setLayout(new GridBagLayout());
+        GridBagConstraints gc = new GridBagConstraints();
+        gc.insets = new Insets(6, 6, 6, 6);
+        gc.anchor = GridBagConstraints.WEST;
+
+        JTextField titleField = new JTextField(24);
+        titleField.setForeground(Color.BLACK);
+        titleField.setBackground(Color.WHITE);
+        JTextArea descArea = new JTextArea(5, 24);
+        descArea.setForeground(Color.BLACK);
+        descArea.setBackground(Color.WHITE);
+        descArea.setLineWrap(true);
+        descArea.setWrapStyleWord(true);
+        JSpinner xpField = new JSpinner(new SpinnerNumberModel(50, 0, 500, 10));
+        ((JSpinner.DefaultEditor) xpField.getEditor()).getTextField().setBackground(Color.WHITE);
+        ((JSpinner.DefaultEditor) xpField.getEditor()).getTextField().setForeground(Color.BLACK);
+        JTextField deadlineField = new JTextField(24);
+        deadlineField.setForeground(Color.BLACK);
+        deadlineField.setBackground(Color.WHITE);
+        deadlineField.setToolTipText("Duration: HH.MM.SS (e.g., 56.24.30 for 56h 24m 30s)");
+
+        int r = 0;
+        gc.gridx = 0; gc.gridy = r; form.add(new JLabel("Title"), gc);
+        gc.gridx = 1; form.add(titleField, gc);
+        r++;
+        gc.gridx = 0; gc.gridy = r; form.add(new JLabel("Description"), gc);
+        gc.gridx = 1; form.add(new JScrollPane(descArea), gc);
+        r++;
+        gc.gridx = 0; gc.gridy = r; form.add(new JLabel("Duration (HH.MM.SS)"), gc);
+        gc.gridx = 1; form.add(deadlineField, gc);
+        r++;
+        gc.gridx = 0; gc.gridy = r; form.add(new JLabel("XP"), gc);
+        gc.gridx = 1; form.add(xpField, gc);
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.setOpaque(false);
+        JButton cancel = new JButton("Cancel");
+        JButton save = new JButton("Save");
+        buttons.add(cancel);
+        buttons.add(save);
+
+        cancel.addActionListener(e -> dlg.dispose());
+        save.addActionListener(e -> {
+            String title = titleField.getText();
+            String desc = descArea.getText();
+            Integer xp = (Integer) xpField.getValue();
+            java.time.LocalDateTime deadline = null;
+            try {
+                String txt = deadlineField.getText();
+                if (txt != null && !txt.isBlank()) {
+                    // Parse duration format: HH.MM.SS (e.g., 56.24.30)
+                    String[] parts = txt.split("\\.");
+                    if (parts.length == 3) {
+                        int hours = Integer.parseInt(parts[0]);
+                        int minutes = Integer.parseInt(parts[1]);
+                        int seconds = Integer.parseInt(parts[2]);
+                        
+                        // Calculate deadline as current time + duration
+                        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+                        deadline = now.plusHours(hours).plusMinutes(minutes).plusSeconds(seconds);
+                    }
+                }
+            } catch (Exception ignore) {}
+            if (dashboard.controller.createGoatedTask(dashboard.profile.getUsername(), title, desc, deadline, xp)) {
+                dlg.dispose();
+                refreshGoatedTasksView();
+            } else {
+                JOptionPane.showMessageDialog(dlg, "Failed to save task.", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        dlg.add(titleBar, BorderLayout.NORTH);
+        dlg.add(form, BorderLayout.CENTER);
+        dlg.add(buttons, BorderLayout.SOUTH);
+        dlg.pack();
+        dlg.setLocationRelativeTo(dashboard);
+        dlg.setVisible(true);
+    }
+
+    private void refreshGoatedTasksView() {
+        dashboard.loadedViews.put(Dashboard.VIEW_GOATED, false);
+        dashboard.switchView(Dashboard.VIEW_GOATED);
+    }
+}
@@ -0,0 +1,69 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+
+import java.awt.*;
+
+/**
+ * Help: links that open the bundled documentation in the system viewer.
+ */
+final class HelpView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        JLabel intro = new JLabel("Open documentation:");
+        intro.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+        intro.setForeground(Dashboard.TEXT_COLOR);
+        intro.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        JButton userManualBtn = new JButton("Open User Manual (USER_MANUAL.md)");
+        userManualBtn.addActionListener(e -> openDoc("USER_MANUAL.md"));
+        styleLinkishButton(userManualBtn);
+
+        JButton techSetupBtn = new JButton("Open Technical Setup (TECHNICAL_SETUP.md)");
+        techSetupBtn.addActionListener(e -> openDoc("TECHNICAL_SETUP.md"));
+        styleLinkishButton(techSetupBtn);
+
+        panel.add(intro);
+        panel.add(Box.createVerticalStrut(10));
+        panel.add(userManualBtn);
+        panel.add(Box.createVerticalStrut(8));
+        panel.add(techSetupBtn);
+        return panel;
+    }
+
+    private void openDoc(String filename) {
+        try {
+            java.io.File f = new java.io.File(filename).getAbsoluteFile();
+            if (!f.exists()) {
+                JOptionPane.showMessageDialog(dashboard, "File not found: " + f.getPath(), "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            if (Desktop.isDesktopSupported()) {
+                Desktop.getDesktop().open(f);
+            } else {
+                JOptionPane.showMessageDialog(dashboard, "Desktop open is not supported on this system.", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(dashboard, "Unable to open document: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void styleLinkishButton(AbstractButton b) {
+        b.setFocusPainted(false);
+        b.setContentAreaFilled(false);
+        b.setBorderPainted(false);
+        b.setOpaque(false);
+        b.setForeground(Dashboard.ACCENT_COLOR);
+        
+        b.setAlignmentX(Component.LEFT_ALIGNMENT);
+    }
+}
@@ -0,0 +1,180 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.log.Log;
+import com.forgegrid.service.LeaderboardService;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.util.List;
+
+/**
+ * Leaderboard: the top users on the chosen board and the user's own rank.
+ * Standings are re-read (off the EDT) whenever the view is shown or the board changes.
+ */
+final class LeaderboardView implements DashboardView {
+
+    private static final int TOP = 10;
+    private static final String[] BOARDS = {"Global", "My Language", "My Skill Level", "This Week"};
+
+    private Dashboard dashboard;
+    private JComboBox<String> boardSelect;
+    private JPanel rows;
+    private JLabel myRank;
+    private SwingWorker<?, ?> loader;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildLeaderboardView();
+    }
+
+    @Override
+    public void dispose() {
+        if (loader != null) {
+            loader.cancel(true);
+        }
+    }
+
+    private JComponent buildLeaderboardView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        JPanel header = new JPanel(new BorderLayout());
+        header.setOpaque(false);
+        header.setAlignmentX(Component.LEFT_ALIGNMENT);
+        header.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40));
+        JLabel title = new JLabel("Leaderboard");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        header.add(title, BorderLayout.WEST);
+        boardSelect = new JComboBox<>(BOARDS);
+        boardSelect.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        boardSelect.addActionListener(e -> reload());
+        header.add(boardSelect, BorderLayout.EAST);
+        panel.add(header);
+        panel.add(Box.createVerticalStrut(15));
+
+        myRank = new JLabel(" ");
+        myRank.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        myRank.setForeground(Dashboard.TEXT_COLOR);
+        myRank.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(myRank);
+        panel.add(Box.createVerticalStrut(10));
+
+        rows = new JPanel(new GridLayout(0, 1, 0, 6));
+        rows.setOpaque(false);
+        rows.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(rows);
+
+        panel.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent e) {
+                if (loader == null || loader.isDone()) {
+                    reload();
+                }
+            }
+        });
+        reload();
+        return panel;
+    }
+
+    private LeaderboardService.Board selectedBoard() {
+        switch (boardSelect.getSelectedIndex()) {
+            case 1: return LeaderboardService.Board.LANGUAGE;
+            case 2: return LeaderboardService.Board.SKILL;
+            case 3: return LeaderboardService.Board.WEEKLY;
+            default: return LeaderboardService.Board.GLOBAL;
+        }
+    }
+
+    private void reload() {
+        LeaderboardService.Board board = selectedBoard();
+        String username = dashboard.profile != null ? dashboard.profile.getUsername() : "";
+        String track = board == LeaderboardService.Board.LANGUAGE ? dashboard.model.getLanguage() : dashboard.model.getSkill();
+        if (loader != null) {
+            loader.cancel(true);
+        }
+        // The first read may load every user's standing; keep it off the EDT
+        loader = new SwingWorker<Object[], Void>() {
+            @Override
+            protected Object[] doInBackground() {
+                List<LeaderboardService.Standing> top = dashboard.controller.getLeaderboard(board, track, TOP);
+                LeaderboardService.Standing mine = dashboard.controller.getLeaderboardRank(board, track, username);
+                int size = dashboard.controller.getLeaderboardSize(board, track);
+                return new Object[] {top, mine, size};
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    Object[] result = get();
+                    show(board, track, (List<LeaderboardService.Standing>) result[0],
+                        (LeaderboardService.Standing) result[1], (Integer) result[2], username);
+                } catch (Exception e) {
+                    Log.error("LeaderboardView.reload", username, "Error loading leaderboard", e);
+                }
+            }
+        };
+        loader.execute();
+    }
+
+    private void show(LeaderboardService.Board board, String track, List<LeaderboardService.Standing> top,
+                      LeaderboardService.Standing mine, int size, String username) {
+        String unit = board == LeaderboardService.Board.WEEKLY ? " XP this week" : " XP";
+        String scope = board == LeaderboardService.Board.LANGUAGE || board == LeaderboardService.Board.SKILL
+            ? " in " + track : "";
+        myRank.setText(mine != null
+            ? "Your rank" + scope + ": #" + mine.getRank() + " of " + size + " (" + mine.getScore() + unit + ")"
+            : "You are not ranked" + scope + " yet");
+
+        rows.removeAll();
+        if (top.isEmpty()) {
+            JLabel empty = new JLabel("No one is on this board yet.");
+            empty.setFont(new Font("Segoe UI", Font.ITALIC, 12));
+            empty.setForeground(Dashboard.TEXT_COLOR);
+            rows.add(empty);
+        }
+        for (LeaderboardService.Standing s : top) {
+            rows.add(createRow(s, unit, s.getUsername().equals(username)));
+        }
+        rows.revalidate();
+        rows.repaint();
+    }
+
+    private JPanel createRow(LeaderboardService.Standing standing, String unit, boolean me) {
+        JPanel row = new JPanel(new BorderLayout(12, 0));
+        row.setOpaque(true);
+        row.setBackground(me ? new Color(255, 243, 205) : Dashboard.PANEL_COLOR);
+        row.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(me ? new Color(255, 193, 7) : new Color(200, 200, 200), 1),
+            new EmptyBorder(8, 12, 8, 12)
+        ));
+
+        JLabel rank = new JLabel("#" + standing.getRank());
+        rank.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        rank.setForeground(Dashboard.TEXT_COLOR);
+        rank.setPreferredSize(new Dimension(40, 20));
+
+        JLabel name = new JLabel(standing.getUsername());
+        name.setFont(new Font("Segoe UI", me ? Font.BOLD : Font.PLAIN, 13));
+        name.setForeground(Dashboard.TEXT_COLOR);
+
+        JLabel score = new JLabel(standing.getScore() + unit);
+        score.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        score.setForeground(Dashboard.TEXT_COLOR);
+
+        row.add(rank, BorderLayout.WEST);
+        row.add(name, BorderLayout.CENTER);
+        row.add(score, BorderLayout.EAST);
+        return row;
+    }
+}
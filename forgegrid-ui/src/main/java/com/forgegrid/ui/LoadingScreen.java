@@ -5,10 +5,14 @@ import java.awt.*;
 
 /**
  * Static loading screen with brand and tagline. No animations or sounds.
+ * Long operations can show their current step, a step counter and a Cancel button.
  */
 public class LoadingScreen extends JPanel {
 
     private JLabel statusLabel;
+    private JProgressBar progressBar;
+    private JButton cancelButton;
+    private Runnable cancelAction;
 
     public LoadingScreen() {
         initializeUI();
@@ -43,14 +47,68 @@ public class LoadingScreen extends JPanel {
         statusLabel.setForeground(Color.GRAY);
         statusLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
+        progressBar = new JProgressBar();
+        progressBar.setVisible(false);
+        progressBar.setAlignmentX(Component.CENTER_ALIGNMENT);
+        progressBar.setMaximumSize(new Dimension(260, 8));
+        progressBar.setPreferredSize(new Dimension(260, 8));
+
+        cancelButton = new JButton("Cancel");
+        cancelButton.setVisible(false);
+        cancelButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        cancelButton.addActionListener(e -> {
+            Runnable action = cancelAction;
+            if (action != null) {
+                action.run();
+            }
+        });
+
         card.add(brand);
         card.add(taglineLabel);
         card.add(statusLabel);
         card.add(Box.createRigidArea(new Dimension(0, 12)));
+        card.add(progressBar);
+        card.add(Box.createRigidArea(new Dimension(0, 12)));
+        card.add(cancelButton);
 
         GridBagConstraints gbc = new GridBagConstraints();
         gbc.gridx = 0; gbc.gridy = 0; gbc.anchor = GridBagConstraints.CENTER;
         add(card, gbc);
     }
+
+    /**
+     * Reset to a plain "Loading..." card (call on the EDT)
+     */
+    public void reset() {
+        statusLabel.setText("Loading...");
+        progressBar.setVisible(false);
+        setCancelAction(null);
+    }
+
+    /** Text under the tagline, e.g. the current step. */
+    public void setStatus(String text) {
+        statusLabel.setText(text);
+    }
+
+    /**
+     * Show a step counter
+     *
+     * @param done Steps finished
+     * @param total Steps in all
+     */
+    public void setProgress(int done, int total) {
+        progressBar.setMaximum(total);
+        progressBar.setValue(done);
+        progressBar.setVisible(true);
+    }
+
+    /**
+     * Show a Cancel button that runs the action; null hides it
+     */
+    public void setCancelAction(Runnable action) {
+        cancelAction = action;
+        cancelButton.setVisible(action != null);
+        revalidate();
+    }
 }
 
@@ -0,0 +1,72 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+
+/**
+ * Missed Tasks: tasks that were skipped or expired.
+ */
+final class MissedTasksView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildMissedTasksView();
+    }
+
+    private JComponent buildMissedTasksView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        
+        JLabel title = new JLabel("Missed Tasks");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Missed tasks with warning icons
+        String[] missedTasks = {
+            "No missed tasks - system not initialized"
+        };
+        
+        for (String task : missedTasks) {
+            JPanel taskPanel = new JPanel(new BorderLayout());
+            taskPanel.setOpaque(true);
+            taskPanel.setBackground(new Color(60, 40, 40)); // Dark red background
+            taskPanel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(200, 100, 100), 1),
+                new EmptyBorder(10, 15, 10, 15)
+            ));
+            
+            JLabel taskLabel = new JLabel(task);
+            taskLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            taskLabel.setForeground(new Color(255, 150, 150)); // Light red text
+            taskPanel.add(taskLabel, BorderLayout.WEST);
+            
+            JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+            buttons.setOpaque(false);
+            
+            JButton rescheduleBtn = new JButton("Reschedule");
+            dashboard.styleTaskButton(rescheduleBtn, new Color(200, 150, 100));
+            
+            JButton reasonBtn = new JButton("Mark Reason");
+            dashboard.styleTaskButton(reasonBtn, new Color(200, 100, 100));
+            
+            buttons.add(rescheduleBtn);
+            buttons.add(Box.createHorizontalStrut(5));
+            buttons.add(reasonBtn);
+            
+            taskPanel.add(buttons, BorderLayout.EAST);
+            panel.add(taskPanel);
+            panel.add(Box.createVerticalStrut(10));
+        }
+        
+        return panel;
+    }
+}
@@ -0,0 +1,14 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+
+/**
+ * Motivation: random coding and learning tips ({@link MotivationPanel}).
+ */
+final class MotivationView implements DashboardView {
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        return new MotivationPanel();
+    }
+}
@@ -0,0 +1,289 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.log.Log;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+
+/**
+ * Profile: account details, editable email and logout.
+ */
+final class ProfileView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildSimpleProfileView();
+    }
+
+    private JComponent buildSimpleProfileView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BorderLayout(0, 20));
+        
+        // Header
+        JLabel title = new JLabel("Profile");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Dashboard.ACCENT_COLOR);
+        
+        // Check if profile is null
+        if (dashboard.profile == null) {
+            JLabel errorLabel = new JLabel("Profile not loaded. Please try again.");
+            errorLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            errorLabel.setForeground(Color.RED);
+            errorLabel.setHorizontalAlignment(SwingConstants.CENTER);
+            panel.add(errorLabel, BorderLayout.CENTER);
+            return panel;
+        }
+        
+        // Get user profile details from database
+        com.forgegrid.service.UserService userService = new com.forgegrid.service.UserService();
+        String[] preferences = null;
+        try {
+            preferences = userService.getUserPreferences(dashboard.profile.getUsername());
+        } catch (Exception e) {
+            Log.error("ProfileView.buildSimpleProfileView", dashboard.profile.getUsername(), "Error loading user preferences", e);
+        }
+        
+        // Main content panel - centered using GridBagLayout
+        JPanel contentPanel = new JPanel(new GridBagLayout());
+        contentPanel.setOpaque(false);
+        contentPanel.setBorder(new EmptyBorder(40, 40, 40, 40));
+        
+        // Account Information Card - centered
+        JPanel profilePanel = new JPanel();
+        profilePanel.setOpaque(true);
+        profilePanel.setBackground(Color.WHITE); // Use white background for visibility
+        profilePanel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(60, 70, 90), 2), // Thicker border for visibility
+            new EmptyBorder(30, 30, 30, 30)
+        ));
+        profilePanel.setLayout(new BoxLayout(profilePanel, BoxLayout.Y_AXIS));
+        profilePanel.setPreferredSize(new Dimension(600, 600)); // Increased height to prevent button cutoff
+        profilePanel.setMinimumSize(new Dimension(600, 600));
+        
+        // Card title
+        JLabel cardTitle = new JLabel("Account Information");
+        cardTitle.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        cardTitle.setForeground(Color.BLACK);
+        cardTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
+        cardTitle.setBorder(new EmptyBorder(0, 0, 30, 0));
+        profilePanel.add(cardTitle);
+        
+        // Username (read-only)
+        JPanel usernamePanel = createProfileField("Username", dashboard.profile.getUsername(), false, null);
+        profilePanel.add(usernamePanel);
+        profilePanel.add(Box.createVerticalStrut(25));
+        
+        // Email (editable)
+        String email = dashboard.profile.getEmail() != null ? dashboard.profile.getEmail() : "";
+        JTextField emailField = new JTextField(email);
+        emailField.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        emailField.setBackground(Color.WHITE);
+        emailField.setForeground(Color.BLACK);
+        emailField.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200), 1));
+        JPanel emailPanel = createProfileFieldWithComponent("Email Address", emailField);
+        profilePanel.add(emailPanel);
+        profilePanel.add(Box.createVerticalStrut(25));
+        
+        // Programming Language (editable)
+        String[] languages = {"Java", "Python", "JavaScript", "C++", "C#", "Go", "Rust", "Ruby", "PHP", "Swift"};
+        JComboBox<String> languageBox = new JComboBox<>(languages);
+        String currentLanguage = dashboard.profile.getOnboardingLanguage() != null ? dashboard.profile.getOnboardingLanguage() : "Java";
+        languageBox.setSelectedItem(currentLanguage);
+        languageBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        languageBox.setBackground(Color.WHITE);
+        languageBox.setForeground(Color.BLACK);
+        JPanel languagePanel = createProfileFieldWithComponent("Preferred Programming Language", languageBox);
+        profilePanel.add(languagePanel);
+        profilePanel.add(Box.createVerticalStrut(25));
+        
+        // Skill Level (editable)
+        String[] skillLevels = {"Beginner", "Intermediate", "Advanced", "Expert"};
+        JComboBox<String> skillBox = new JComboBox<>(skillLevels);
+        String currentSkill = dashboard.profile.getOnboardingSkill() != null ? dashboard.profile.getOnboardingSkill() : "Beginner";
+        skillBox.setSelectedItem(currentSkill);
+        skillBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        skillBox.setBackground(Color.WHITE);
+        skillBox.setForeground(Color.BLACK);
+        JPanel skillPanel = createProfileFieldWithComponent("Current Skill Level", skillBox);
+        profilePanel.add(skillPanel);
+        profilePanel.add(Box.createVerticalStrut(25));
+        
+        // Preferred Time for Tasks (editable)
+        String[] times = {"Morning (6 AM - 12 PM)", "Afternoon (12 PM - 6 PM)", "Evening (6 PM - 12 AM)", "Night (12 AM - 6 AM)"};
+        JComboBox<String> timeBox = new JComboBox<>(times);
+        String currentTime = (preferences != null && preferences.length > 3) ? preferences[3] : "Morning (6 AM - 12 PM)";
+        timeBox.setSelectedItem(currentTime);
+        timeBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        timeBox.setBackground(Color.WHITE);
+        timeBox.setForeground(Color.BLACK);
+        JPanel timePanel = createProfileFieldWithComponent("Preferred Time for Tasks", timeBox);
+        profilePanel.add(timePanel);
+        profilePanel.add(Box.createVerticalStrut(40));
+        
+        // Buttons panel
+        JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0));
+        buttonsPanel.setOpaque(false);
+        
+        // Save button
+        JButton saveButton = new JButton("Save Changes");
+        saveButton.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        saveButton.setForeground(Color.WHITE);
+        saveButton.setBackground(Dashboard.ACCENT_COLOR);
+        saveButton.setFocusPainted(false);
+        saveButton.setBorderPainted(false);
+        saveButton.setPreferredSize(new Dimension(160, 45));
+        
+        // Logout button
+        JButton logoutButton = new JButton("Logout");
+        logoutButton.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        logoutButton.setForeground(Color.WHITE);
+        logoutButton.setBackground(new Color(220, 53, 69)); // Red color
+        logoutButton.setFocusPainted(false);
+        logoutButton.setBorderPainted(false);
+        logoutButton.setPreferredSize(new Dimension(120, 45));
+        
+        buttonsPanel.add(saveButton);
+        buttonsPanel.add(logoutButton);
+        profilePanel.add(buttonsPanel);
+        
+        // Center the profile panel using GridBagLayout
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        gbc.weightx = 1.0;
+        gbc.weighty = 1.0;
+        gbc.anchor = GridBagConstraints.CENTER;
+        contentPanel.add(profilePanel, gbc);
+        
+        // Action listeners
+        saveButton.addActionListener(e -> {
+            String newEmail = emailField.getText().trim();
+            String language = (String) languageBox.getSelectedItem();
+            String skill = (String) skillBox.getSelectedItem();
+            String time = (String) timeBox.getSelectedItem();
+            
+            if (newEmail.isEmpty()) {
+                JOptionPane.showMessageDialog(dashboard, "Email cannot be empty!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            
+            if (!isValidEmail(newEmail)) {
+                JOptionPane.showMessageDialog(dashboard, "Please enter a valid email address!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            
+            // Update user profile in database
+            boolean success = userService.updateUserProfileDetails(dashboard.profile.getUsername(), newEmail, language, skill, time);
+            
+            if (success) {
+                // Update local profile object
+                dashboard.profile.setEmail(newEmail);
+                dashboard.profile.setOnboardingLanguage(language);
+                dashboard.profile.setOnboardingSkill(skill);
+                
+                JOptionPane.showMessageDialog(dashboard, "Profile updated successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(dashboard, "Failed to update dashboard.profile!", "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        
+        logoutButton.addActionListener(e -> {
+            int result = JOptionPane.showConfirmDialog(
+                dashboard,
+                "Are you sure you want to logout? This will clear your 'Remember Me' settings.",
+                "Confirm Logout",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.QUESTION_MESSAGE
+            );
+            
+            if (result == JOptionPane.YES_OPTION) {
+                dashboard.handleLogout();
+            }
+        });
+        
+        // Wrap content in scroll pane
+        JScrollPane scrollPane = new JScrollPane(contentPanel);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setOpaque(false);
+        scrollPane.setOpaque(false);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        
+        panel.add(scrollPane, BorderLayout.CENTER);
+        return panel;
+    }
+
+    /**
+     * Validate email format
+     */
+    private boolean isValidEmail(String email) {
+        return email.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+    }
+
+    private JPanel createProfileField(String label, String value, boolean editable, JTextField textField) {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        JLabel labelComponent = new JLabel(label);
+        labelComponent.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        labelComponent.setForeground(Color.BLACK);
+        labelComponent.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        if (editable && textField != null) {
+            textField.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            textField.setBackground(Color.WHITE);
+            textField.setForeground(Color.BLACK);
+            textField.setCaretColor(Color.BLACK);
+            textField.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(70, 80, 95), 1),
+                new EmptyBorder(8, 10, 8, 10)
+            ));
+            textField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40));
+            textField.setAlignmentX(Component.LEFT_ALIGNMENT);
+            
+            panel.add(labelComponent);
+            panel.add(Box.createVerticalStrut(5));
+            panel.add(textField);
+        } else {
+            JLabel valueComponent = new JLabel(value);
+            valueComponent.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            valueComponent.setForeground(Color.BLACK);
+            valueComponent.setAlignmentX(Component.LEFT_ALIGNMENT);
+            
+            panel.add(labelComponent);
+            panel.add(Box.createVerticalStrut(5));
+            panel.add(valueComponent);
+        }
+        
+        return panel;
+    }
+
+    private JPanel createProfileFieldWithComponent(String label, JComponent component) {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        JLabel labelComponent = new JLabel(label);
+        labelComponent.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        labelComponent.setForeground(Color.BLACK);
+        labelComponent.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        component.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
+        component.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        panel.add(labelComponent);
+        panel.add(Box.createVerticalStrut(5));
+        panel.add(component);
+        
+        return panel;
+    }
+}
@@ -0,0 +1,435 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.config.EnvironmentConfig;
+import com.forgegrid.log.Log;
+import com.forgegrid.service.ActivityCalendar;
+import com.forgegrid.service.XpRollupService;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Progress Tracker: overall progress, daily goal, weekly productivity and XP history widgets.
+ */
+final class ProgressTrackerView implements DashboardView {
+
+    private Dashboard dashboard;
+    private SwingWorker<?, ?> xpLoader;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildProgressTrackerView();
+    }
+
+    @Override
+    public void dispose() {
+        if (xpLoader != null) {
+            xpLoader.cancel(true);
+        }
+    }
+
+    private JComponent buildProgressTrackerView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        
+        JLabel title = new JLabel("Progress Tracker");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Center the content area with dashboard components
+        JPanel centeredContent = new JPanel();
+        centeredContent.setOpaque(false);
+        centeredContent.setLayout(new BoxLayout(centeredContent, BoxLayout.Y_AXIS));
+        centeredContent.setAlignmentX(Component.CENTER_ALIGNMENT);
+        
+        // Daily activity comes from the model, refreshed off the EDT; both widgets below answer from it
+        ActivityCalendar.Days activity = dashboard.model.getActivity();
+        
+        // Add the dashboard components to progress tracker
+        centeredContent.add(buildOverallProgressWidgetZero());
+        centeredContent.add(Box.createVerticalStrut(16));
+        centeredContent.add(buildDailyGoalWidget(activity));
+        centeredContent.add(Box.createVerticalStrut(24));
+        centeredContent.add(buildWeeklyProductivityWidget(activity));
+        centeredContent.add(Box.createVerticalStrut(24));
+        centeredContent.add(buildXpHistoryWidget());
+        
+        panel.add(centeredContent);
+        return panel;
+    }
+
+    // Zero-state Dashboard Widgets
+    private JComponent buildOverallProgressWidgetZero() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setOpaque(true);
+        panel.setBackground(Dashboard.PANEL_COLOR);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1), // Subtle blue border
+            new EmptyBorder(12, 12, 12, 12) // Less padding for smaller windows
+        ));
+
+        JLabel title = new JLabel("Overall Progress");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        panel.add(title, BorderLayout.NORTH);
+
+        final int totalTasks = 0;
+        final int completedTasks = 0;
+        final int percent = 0;
+
+        JPanel donut = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                int size = Math.min(getWidth(), getHeight()) - 10;
+                int x = (getWidth() - size) / 2;
+                int y = (getHeight() - size) / 2;
+
+                // Background ring
+                g2.setColor(new Color(50, 60, 75));
+                g2.fillOval(x, y, size, size);
+
+                // Progress arc at 0%
+                g2.setColor(new Color(80, 200, 120)); // Subtle green for progress
+                g2.fillArc(x, y, size, size, 90, 0);
+
+                // Inner cutout
+                int thickness = (int)(size * 0.28);
+                g2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR));
+                g2.fillOval(x + thickness, y + thickness, size - 2*thickness, size - 2*thickness);
+                g2.dispose();
+
+                // Center labels
+                Graphics2D g3 = (Graphics2D) g.create();
+                g3.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                String text = percent + "%";
+                g3.setFont(new Font("Segoe UI", Font.BOLD, 24));
+                FontMetrics fm = g3.getFontMetrics();
+                int tx = (getWidth() - fm.stringWidth(text)) / 2;
+                int ty = (getHeight() + fm.getAscent()) / 2 - 4;
+                g3.setColor(Dashboard.TEXT_COLOR);
+                g3.drawString(text, tx, ty);
+                g3.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+                String sub = "Overall Progress";
+                int sx = (getWidth() - g3.getFontMetrics().stringWidth(sub)) / 2;
+                g3.setColor(Dashboard.TEXT_COLOR);
+                g3.drawString(sub, sx, ty + 16);
+                g3.dispose();
+            }
+        };
+        donut.setPreferredSize(new Dimension(100, 80)); // Smaller for non-maximized windows
+        donut.setMinimumSize(new Dimension(80, 60)); // Allow smaller minimum
+        donut.setMaximumSize(new Dimension(150, 120)); // Allow larger when maximized
+        donut.setOpaque(false);
+
+        JPanel info = new JPanel();
+        info.setOpaque(false);
+        info.setLayout(new BoxLayout(info, BoxLayout.Y_AXIS));
+        JLabel summary = new JLabel(completedTasks + "/" + totalTasks + " tasks completed");
+        summary.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        summary.setForeground(Dashboard.TEXT_COLOR);
+        summary.setAlignmentX(Component.LEFT_ALIGNMENT);
+        info.add(summary);
+
+        JPanel center = new JPanel();
+        center.setOpaque(false);
+        center.setLayout(new BoxLayout(center, BoxLayout.Y_AXIS));
+        // Replace donut with a simple progress summary
+        JProgressBar simple = new JProgressBar(0, Math.max(1, totalTasks));
+        simple.setValue(Math.max(0, completedTasks));
+        simple.setStringPainted(true);
+        simple.setString("Tasks: " + completedTasks + "/" + totalTasks);
+        simple.setAlignmentX(Component.CENTER_ALIGNMENT);
+        center.add(simple);
+        center.add(Box.createVerticalStrut(6));
+        center.add(info);
+        panel.add(center, BorderLayout.CENTER);
+
+        return panel;
+    }
+
+    private JComponent buildDailyGoalWidget(ActivityCalendar.Days activity) {
+        JPanel container = new JPanel(new BorderLayout());
+        container.setOpaque(true);
+        container.setBackground(Dashboard.PANEL_COLOR);
+        container.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(55, 58, 63)),
+            new EmptyBorder(20, 20, 20, 20) // 20px inside card padding
+        ));
+
+        JLabel title = new JLabel("Daily Goal Tracker");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        container.add(title, BorderLayout.NORTH);
+
+        JPanel inner = new JPanel();
+        inner.setOpaque(false);
+        inner.setLayout(new BoxLayout(inner, BoxLayout.Y_AXIS));
+        inner.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        int goal = EnvironmentConfig.getDailyGoal();
+        int todayDone = activity.tasksOn(LocalDate.now());
+        int safeMax = Math.max(goal, 1);
+        JProgressBar bar = new JProgressBar(0, safeMax);
+        bar.setValue(Math.min(todayDone, safeMax));
+        bar.setForeground(new Color(80, 200, 120)); // Subtle green to match donut
+        bar.setBackground(Dashboard.SIDEBAR_COLOR);
+        bar.setPreferredSize(new Dimension(200, 16)); // Smaller for non-maximized windows
+        bar.setMaximumSize(new Dimension(300, 20)); // Allow larger when maximized
+        bar.setBorderPainted(false);
+        bar.setStringPainted(false);
+        bar.setAlignmentX(Component.LEFT_ALIGNMENT);
+        inner.add(Box.createVerticalStrut(8)); // More space above bar
+        inner.add(bar);
+        inner.add(Box.createVerticalStrut(8)); // Space below bar
+        JLabel caption = new JLabel(todayDone + "/" + goal + " tasks done  -  streak " + activity.currentStreak(LocalDate.now())
+            + " days (best " + activity.longestStreak() + ")");
+        caption.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        caption.setForeground(Dashboard.TEXT_COLOR);
+        caption.setAlignmentX(Component.LEFT_ALIGNMENT);
+        inner.add(caption);
+
+        container.add(inner, BorderLayout.CENTER);
+        return container;
+    }
+
+    private JComponent buildWeeklyProductivityWidget(ActivityCalendar.Days activity) {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setOpaque(true);
+        panel.setBackground(Dashboard.PANEL_COLOR);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1), // Subtle blue border
+            new EmptyBorder(12, 12, 12, 12) // Less padding for smaller windows
+        ));
+
+        JLabel title = new JLabel("Weekly Productivity");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        panel.add(title, BorderLayout.NORTH);
+
+        // Last 7 days, oldest first, today last
+        LocalDate today = LocalDate.now();
+        final int[] completedPerDay = activity.lastDays(today, 7);
+
+        // Replace custom chart with a basic list summary
+        DefaultListModel<String> model = new DefaultListModel<>();
+        for (int i = 0; i < completedPerDay.length; i++) {
+            LocalDate day = today.minusDays(completedPerDay.length - 1 - i);
+            String name = i == completedPerDay.length - 1 ? "Today"
+                : day.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.getDefault());
+            model.addElement(name + ": " + completedPerDay[i] + " completed");
+        }
+        JList<String> list = new JList<>(model);
+        list.setBackground(Dashboard.PANEL_COLOR);
+        list.setForeground(Dashboard.TEXT_COLOR);
+        panel.add(new JScrollPane(list), BorderLayout.CENTER);
+        return panel;
+    }
+
+    private JComponent buildXpHistoryWidget() {
+        JPanel panel = new JPanel(new BorderLayout(0, 8));
+        panel.setOpaque(true);
+        panel.setBackground(Dashboard.PANEL_COLOR);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1), // Subtle blue border
+            new EmptyBorder(12, 12, 12, 12)
+        ));
+
+        JPanel header = new JPanel(new BorderLayout());
+        header.setOpaque(false);
+        JLabel title = new JLabel("XP History");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        header.add(title, BorderLayout.WEST);
+        JComboBox<String> range = new JComboBox<>(new String[] {"Last 48 hours", "Last 90 days", "Last 26 weeks"});
+        range.setSelectedIndex(1);
+        header.add(range, BorderLayout.EAST);
+        panel.add(header, BorderLayout.NORTH);
+
+        XpChart chart = new XpChart();
+        chart.setPreferredSize(new Dimension(400, 160));
+        panel.add(chart, BorderLayout.CENTER);
+        JLabel summary = new JLabel(" ");
+        summary.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        summary.setForeground(Dashboard.TEXT_COLOR);
+        panel.add(summary, BorderLayout.SOUTH);
+
+        String username = dashboard.profile != null ? dashboard.profile.getUsername() : "";
+        Runnable load = () -> {
+            XpRollupService.Grain grain;
+            int buckets;
+            switch (range.getSelectedIndex()) {
+                case 0: grain = XpRollupService.Grain.HOUR; buckets = 48; break;
+                case 2: grain = XpRollupService.Grain.WEEK; buckets = 26; break;
+                default: grain = XpRollupService.Grain.DAY; buckets = 90; break;
+            }
+            if (xpLoader != null) {
+                xpLoader.cancel(true);
+            }
+            // Off the EDT: the first read for a user builds the rollups from the whole history
+            xpLoader = new SwingWorker<XpRollupService.Series, Void>() {
+                @Override
+                protected XpRollupService.Series doInBackground() {
+                    return dashboard.controller.getXpSeries(username, grain, buckets);
+                }
+
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    try {
+                        XpRollupService.Series series = get();
+                        int xp = 0;
+                        int completed = 0;
+                        for (int v : series.getXp()) {
+                            xp += v;
+                        }
+                        for (int v : series.getCompleted()) {
+                            completed += v;
+                        }
+                        summary.setText(xp + " XP from " + completed + " completed tasks");
+                        chart.setSeries(series);
+                    } catch (Exception e) {
+                        Log.error("ProgressTrackerView.loadXpSeries", username, "Error loading XP history", e);
+                    }
+                }
+            };
+            xpLoader.execute();
+        };
+        range.addActionListener(e -> load.run());
+        load.run();
+        return panel;
+    }
+
+    /**
+     * Bar per bucket (net XP; penalties below the axis), labelled at the first and last bucket.
+     */
+    private static final class XpChart extends JPanel {
+        private XpRollupService.Series series;
+
+        XpChart() {
+            setOpaque(false);
+        }
+
+        void setSeries(XpRollupService.Series series) {
+            this.series = series;
+            repaint();
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (series == null || series.size() == 0) {
+                return;
+            }
+            int[] xp = series.getXp();
+            int max = 1;
+            int min = 0;
+            for (int v : xp) {
+                max = Math.max(max, v);
+                min = Math.min(min, v);
+            }
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setFont(new Font("Segoe UI", Font.PLAIN, 11));
+            int labelHeight = g2.getFontMetrics().getHeight();
+            int chartHeight = getHeight() - labelHeight - 4;
+            int zeroY = (int) Math.round(chartHeight * (double) max / (max - min));
+            double step = getWidth() / (double) xp.length;
+            for (int i = 0; i < xp.length; i++) {
+                int x = (int) Math.round(i * step);
+                int w = Math.max(1, (int) Math.round((i + 1) * step) - x - 1);
+                int h = (int) Math.round(chartHeight * Math.abs(xp[i]) / (double) (max - min));
+                g2.setColor(xp[i] >= 0 ? new Color(80, 200, 120) : Theme.BRAND_PINK);
+                g2.fillRect(x, xp[i] >= 0 ? zeroY - h : zeroY, w, h);
+            }
+            g2.setColor(new Color(160, 160, 160));
+            g2.drawLine(0, zeroY, getWidth(), zeroY);
+
+            DateTimeFormatter fmt = DateTimeFormatter.ofPattern(series.getGrain() == XpRollupService.Grain.HOUR ? "MMM d HH:mm" : "MMM d");
+            LocalDateTime first = series.getStart(0);
+            LocalDateTime last = series.getStart(series.size() - 1);
+            g2.setColor(Dashboard.TEXT_COLOR);
+            g2.drawString(first.format(fmt), 0, getHeight() - 4);
+            String end = last.format(fmt);
+            g2.drawString(end, getWidth() - g2.getFontMetrics().stringWidth(end), getHeight() - 4);
+            g2.dispose();
+        }
+    }
+
+    private JComponent buildUpcomingDeadlinesWidgetZero() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(true);
+        panel.setBackground(Dashboard.PANEL_COLOR);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1), // Subtle blue border
+            new EmptyBorder(12, 12, 12, 12) // Less padding for smaller windows
+        ));
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+
+        JLabel title = new JLabel("Upcoming Deadlines (next 2 days)");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(8));
+
+        java.util.List<com.forgegrid.service.DeadlineScheduler.Entry> upcoming = dashboard.profile != null
+            ? dashboard.controller.getUpcomingDeadlines(dashboard.profile.getUsername(), java.time.Duration.ofDays(2))
+            : java.util.Collections.emptyList();
+        if (upcoming.isEmpty()) {
+            JLabel empty = new JLabel("No upcoming deadlines");
+            empty.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            empty.setForeground(Dashboard.TEXT_COLOR);
+            empty.setAlignmentX(Component.LEFT_ALIGNMENT);
+            panel.add(empty);
+        }
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        for (com.forgegrid.service.DeadlineScheduler.Entry d : upcoming) {
+            String when = d.getDeadline().isAfter(now)
+                ? "in " + com.forgegrid.service.DeadlineScheduler.formatRemaining(java.time.Duration.between(now, d.getDeadline()))
+                : "overdue";
+            JLabel row = new JLabel(d.getTitle() + "  -  " + when);
+            row.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+            row.setForeground(d.getDeadline().isAfter(now) ? Dashboard.TEXT_COLOR : Theme.BRAND_PINK);
+            row.setAlignmentX(Component.LEFT_ALIGNMENT);
+            panel.add(row);
+        }
+
+        // Wrap in container to reduce width to 90% and center
+        JPanel wrapper = new JPanel(new BorderLayout());
+        wrapper.setOpaque(false);
+        wrapper.setBorder(new EmptyBorder(20, 0, 0, 0)); // 20px margin-top
+        
+        JPanel centeredPanel = new JPanel();
+        centeredPanel.setOpaque(false);
+        centeredPanel.setLayout(new BoxLayout(centeredPanel, BoxLayout.X_AXIS));
+        centeredPanel.add(Box.createHorizontalGlue());
+        
+        JPanel sizedPanel = new JPanel(new BorderLayout());
+        sizedPanel.setOpaque(false);
+        sizedPanel.add(panel, BorderLayout.CENTER);
+        sizedPanel.setPreferredSize(new Dimension((int)(panel.getPreferredSize().width * 0.9), panel.getPreferredSize().height));
+        
+        centeredPanel.add(sizedPanel);
+        centeredPanel.add(Box.createHorizontalGlue());
+        
+        wrapper.add(centeredPanel, BorderLayout.CENTER);
+        return wrapper;
+    }
+}
@@ -0,0 +1,68 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * Small non-blocking popup in the bottom-right corner of the main window,
+ * used for goated task deadline reminders. Hides itself after a few seconds
+ * or when clicked.
+ */
+public final class ReminderToast {
+
+    private static final int VISIBLE_MILLIS = 6000;
+
+    private ReminderToast() {}
+
+    /**
+     * Show a reminder (call on the EDT)
+     *
+     * @param owner Window to anchor to; if null or hidden, the screen corner is used
+     * @param title Bold first line
+     * @param message Second line
+     */
+    public static void show(Window owner, String title, String message) {
+        JWindow window = new JWindow(owner);
+        JPanel panel = new JPanel(new BorderLayout(0, 4));
+        panel.setBackground(new Color(45, 55, 70));
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(255, 150, 100), 2),
+            new EmptyBorder(10, 14, 10, 14)
+        ));
+
+        JLabel heading = new JLabel(title);
+        heading.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        heading.setForeground(Theme.BRAND_YELLOW);
+        JLabel body = new JLabel(message);
+        body.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        body.setForeground(Theme.TEXT_PRIMARY);
+        panel.add(heading, BorderLayout.NORTH);
+        panel.add(body, BorderLayout.CENTER);
+
+        window.setContentPane(panel);
+        window.pack();
+        window.setSize(Math.max(300, window.getWidth()), window.getHeight());
+
+        Rectangle bounds = owner != null && owner.isShowing()
+            ? owner.getBounds()
+            : GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+        window.setLocation(bounds.x + bounds.width - window.getWidth() - 20,
+                           bounds.y + bounds.height - window.getHeight() - 20);
+        window.setAlwaysOnTop(true);
+
+        Timer hide = new Timer(VISIBLE_MILLIS, e -> window.dispose());
+        hide.setRepeats(false);
+        panel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                hide.stop();
+                window.dispose();
+            }
+        });
+        window.setVisible(true);
+        hide.start();
+    }
+}
@@ -0,0 +1,242 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.log.Log;
+import com.forgegrid.service.ProgressBackupService;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.filechooser.FileNameExtensionFilter;
+
+import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Save/Load: progress backup actions and sync status. Saving and loading
+ * stream the user's whole history through a file off the EDT (see
+ * {@link ProgressBackupService}).
+ */
+final class SaveLoadView implements DashboardView {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildSaveLoadView();
+    }
+
+    private JComponent buildSaveLoadView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        
+        JLabel title = new JLabel("Save/Load Progress");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        title.setForeground(Dashboard.TEXT_COLOR);
+        title.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(title);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Save/Load buttons panel
+        JPanel buttonsPanel = new JPanel(new BorderLayout());
+        buttonsPanel.setOpaque(false);
+        
+        // Save button
+        JPanel savePanel = new JPanel();
+        savePanel.setOpaque(false);
+        savePanel.setLayout(new BoxLayout(savePanel, BoxLayout.Y_AXIS));
+        
+        JButton saveBtn = createGlowingButton("💾 Save Progress", new Color(80, 200, 120));
+        savePanel.add(saveBtn);
+        savePanel.add(Box.createVerticalStrut(10));
+        
+        JLabel lastSavedLabel = new JLabel("Never saved");
+        lastSavedLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lastSavedLabel.setForeground(Dashboard.TEXT_COLOR);
+        lastSavedLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        savePanel.add(lastSavedLabel);
+        
+        // Load button
+        JPanel loadPanel = new JPanel();
+        loadPanel.setOpaque(false);
+        loadPanel.setLayout(new BoxLayout(loadPanel, BoxLayout.Y_AXIS));
+        
+        JButton loadBtn = createGlowingButton("🔄 Load Progress", new Color(100, 180, 220));
+        loadPanel.add(loadBtn);
+        loadPanel.add(Box.createVerticalStrut(10));
+        
+        JLabel lastLoadedLabel = new JLabel("Last loaded: Never");
+        lastLoadedLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lastLoadedLabel.setForeground(Dashboard.TEXT_COLOR);
+        lastLoadedLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        loadPanel.add(lastLoadedLabel);
+        
+        saveBtn.addActionListener(e -> save(saveBtn, lastSavedLabel));
+        loadBtn.addActionListener(e -> load(loadBtn, lastLoadedLabel));
+        
+        buttonsPanel.add(savePanel, BorderLayout.WEST);
+        buttonsPanel.add(loadPanel, BorderLayout.EAST);
+        
+        panel.add(buttonsPanel);
+        panel.add(Box.createVerticalStrut(20));
+        
+        // Sync indicator
+        panel.add(buildSyncIndicator());
+        
+        return panel;
+    }
+
+    private void save(JButton button, JLabel status) {
+        String username = dashboard.profile.getUsername();
+        JFileChooser chooser = createChooser();
+        chooser.setSelectedFile(new File("forgegrid-" + username + "-" + LocalDate.now() + ".jsonl.gz"));
+        if (chooser.showSaveDialog(button) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+        if (file.toFile().exists() && JOptionPane.showConfirmDialog(button, file.getFileName() + " already exists. Replace it?",
+                "Save Progress", JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
+            return;
+        }
+        button.setEnabled(false);
+        status.setText("Saving...");
+        new SwingWorker<ProgressBackupService.Summary, Void>() {
+            @Override
+            protected ProgressBackupService.Summary doInBackground() throws Exception {
+                return dashboard.controller.exportProgress(username, file);
+            }
+
+            @Override
+            protected void done() {
+                button.setEnabled(true);
+                try {
+                    ProgressBackupService.Summary summary = get();
+                    status.setText("Last saved: " + LocalTime.now().format(TIME) + " (" + describe(summary) + ")");
+                } catch (InterruptedException | ExecutionException e) {
+                    Log.error("SaveLoadView.save", username, "Error saving progress", e);
+                    status.setText("Save failed");
+                    JOptionPane.showMessageDialog(button, "Could not save progress: " + rootMessage(e),
+                        "Save Progress", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    private void load(JButton button, JLabel status) {
+        String username = dashboard.profile.getUsername();
+        JFileChooser chooser = createChooser();
+        if (chooser.showOpenDialog(button) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+        if (JOptionPane.showConfirmDialog(button,
+                "Loading replaces your XP, task history and goated tasks with the ones in " + file.getFileName() + ". Continue?",
+                "Load Progress", JOptionPane.OK_CANCEL_OPTION, JOptionPane.WARNING_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        button.setEnabled(false);
+        status.setText("Loading...");
+        new SwingWorker<ProgressBackupService.Summary, Void>() {
+            @Override
+            protected ProgressBackupService.Summary doInBackground() throws Exception {
+                return dashboard.controller.importProgress(username, file);
+            }
+
+            @Override
+            protected void done() {
+                button.setEnabled(true);
+                try {
+                    ProgressBackupService.Summary summary = get();
+                    status.setText("Last loaded: " + LocalTime.now().format(TIME) + " (" + describe(summary) + ")");
+                    // Every other view shows the old progress; rebuild them when next opened
+                    for (String view : new ArrayList<>(dashboard.loadedViews.keySet())) {
+                        if (!Dashboard.VIEW_SAVE_LOAD.equals(view)) {
+                            dashboard.loadedViews.put(view, false);
+                        }
+                    }
+                    dashboard.refreshHeaderAfterXPChange();
+                } catch (InterruptedException | ExecutionException e) {
+                    Log.error("SaveLoadView.load", username, "Error loading progress", e);
+                    status.setText("Load failed; nothing was changed");
+                    JOptionPane.showMessageDialog(button, "Could not load progress: " + rootMessage(e),
+                        "Load Progress", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    private static JFileChooser createChooser() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("ForgeGrid progress (*.gz)", "gz"));
+        return chooser;
+    }
+
+    private static String describe(ProgressBackupService.Summary summary) {
+        return summary.getTasks() + " tasks, " + Math.max(1, summary.getBytes() / 1024) + " KB";
+    }
+
+    private static String rootMessage(Exception e) {
+        Throwable t = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        return t.getMessage() != null ? t.getMessage() : t.getClass().getSimpleName();
+    }
+
+    private JButton createGlowingButton(String text, Color glowColor) {
+        JButton button = new JButton(text);
+        button.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        button.setForeground(Color.WHITE);
+        button.setBackground(glowColor);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setPreferredSize(new Dimension(180, 50));
+        
+        
+        // Add glow effect
+        // No hover changes
+        
+        return button;
+    }
+
+    private JComponent buildSyncIndicator() {
+        JPanel syncPanel = new JPanel(new BorderLayout());
+        syncPanel.setOpaque(true);
+        syncPanel.setBackground(new Color(40, 50, 65));
+        syncPanel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(100, 180, 220), 1),
+            new EmptyBorder(15, 15, 15, 15)
+        ));
+        
+        JLabel syncIcon = new JLabel("Cloud");
+        syncIcon.setFont(new Font("SansSerif", Font.PLAIN, 20));
+        syncIcon.setForeground(new Color(100, 180, 220));
+        
+        JPanel statusPanel = new JPanel();
+        statusPanel.setOpaque(false);
+        statusPanel.setLayout(new BoxLayout(statusPanel, BoxLayout.Y_AXIS));
+        
+        JLabel statusLabel = new JLabel("Sync Status");
+        statusLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        statusLabel.setForeground(Dashboard.TEXT_COLOR);
+        statusLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        JLabel statusValue = new JLabel("Not synced");
+        statusValue.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        statusValue.setForeground(new Color(255, 150, 100));
+        statusValue.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        statusPanel.add(statusLabel);
+        statusPanel.add(Box.createVerticalStrut(5));
+        statusPanel.add(statusValue);
+        
+        syncPanel.add(syncIcon, BorderLayout.WEST);
+        syncPanel.add(statusPanel, BorderLayout.CENTER);
+        
+        return syncPanel;
+    }
+}
@@ -0,0 +1,236 @@
+package com.forgegrid.ui;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+import java.awt.*;
+
+/**
+ * Settings: preferences and account actions.
+ */
+final class SettingsView implements DashboardView {
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildSettingsView();
+    }
+
+    // Other Section Views
+    private JComponent buildSettingsView() {
+        JPanel panel = new JPanel();
+        panel.setOpaque(false);
+        panel.setLayout(new BorderLayout(0, 20));
+        
+        // Header
+        JLabel title = new JLabel("Settings");
+        title.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        title.setForeground(Color.BLACK);
+        
+        // Main content with GridLayout for two columns
+        JPanel contentPanel = new JPanel(new GridLayout(1, 2, 20, 20));
+        contentPanel.setOpaque(false);
+        
+        // Left Column - Preferences Card
+        JPanel leftColumn = new JPanel();
+        leftColumn.setOpaque(false);
+        leftColumn.setLayout(new BoxLayout(leftColumn, BoxLayout.Y_AXIS));
+        
+        JPanel preferencesCard = new JPanel();
+        preferencesCard.setOpaque(true);
+        preferencesCard.setBackground(Dashboard.PANEL_COLOR);
+        preferencesCard.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(60, 70, 90), 1),
+            new EmptyBorder(25, 25, 25, 25)
+        ));
+        preferencesCard.setLayout(new BoxLayout(preferencesCard, BoxLayout.Y_AXIS));
+        
+        JLabel preferencesTitle = new JLabel("General Preferences");
+        preferencesTitle.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        preferencesTitle.setForeground(Color.BLACK);
+        preferencesTitle.setAlignmentX(Component.LEFT_ALIGNMENT);
+        preferencesCard.add(preferencesTitle);
+        preferencesCard.add(Box.createVerticalStrut(20));
+        
+        // Sound setting
+        JPanel soundPanel = createEnhancedToggleSetting("🔊", "Sound Effects", "Enable sound effects and notifications", true);
+        preferencesCard.add(soundPanel);
+        preferencesCard.add(Box.createVerticalStrut(15));
+        
+        // Notifications setting
+        JPanel notificationsPanel = createEnhancedToggleSetting("N", "Notifications", "Show alerts and reminders", true);
+        preferencesCard.add(notificationsPanel);
+        preferencesCard.add(Box.createVerticalStrut(15));
+        
+        // Auto-save setting
+        JPanel autoSavePanel = createEnhancedToggleSetting("💾", "Auto-Save", "Automatically save dashboard.progress every 5 minutes", true);
+        preferencesCard.add(autoSavePanel);
+        
+        leftColumn.add(preferencesCard);
+        
+        // Right Column - Account & Security Card
+        JPanel rightColumn = new JPanel();
+        rightColumn.setOpaque(false);
+        rightColumn.setLayout(new BoxLayout(rightColumn, BoxLayout.Y_AXIS));
+        
+        JPanel accountCard = new JPanel();
+        accountCard.setOpaque(true);
+        accountCard.setBackground(Dashboard.PANEL_COLOR);
+        accountCard.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(new Color(60, 70, 90), 1),
+            new EmptyBorder(25, 25, 25, 25)
+        ));
+        accountCard.setLayout(new BoxLayout(accountCard, BoxLayout.Y_AXIS));
+        
+        JLabel accountLabel = new JLabel("Account");
+        accountLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        accountLabel.setForeground(Color.BLACK);
+        accountLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        accountCard.add(accountLabel);
+        accountCard.add(Box.createVerticalStrut(20));
+        
+        // Account info display
+        JPanel accountInfo = new JPanel();
+        accountInfo.setOpaque(false);
+        accountInfo.setBackground(Color.WHITE);
+        accountInfo.setBorder(new EmptyBorder(15, 15, 15, 15));
+        accountInfo.setLayout(new BoxLayout(accountInfo, BoxLayout.Y_AXIS));
+        
+        JLabel usernameInfo = new JLabel("👤 " + dashboard.profile.getUsername());
+        try {
+        usernameInfo.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        } catch (Exception ex) {
+            usernameInfo.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 14));
+        }
+        usernameInfo.setForeground(Color.BLACK);
+        usernameInfo.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        JLabel levelInfo = new JLabel("🏆 Level " + dashboard.currentLevel);
+        try {
+        levelInfo.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        } catch (Exception ex) {
+            levelInfo.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 14));
+        }
+        levelInfo.setForeground(Color.BLACK);
+        levelInfo.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        accountInfo.add(usernameInfo);
+        accountInfo.add(Box.createVerticalStrut(8));
+        accountInfo.add(levelInfo);
+        
+        accountCard.add(accountInfo);
+        accountCard.add(Box.createVerticalStrut(20));
+        
+        // Logout button
+        JButton logoutButton = new JButton("Logout");
+        logoutButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        logoutButton.setForeground(Color.WHITE);
+        logoutButton.setBackground(new Color(220, 60, 60));
+        logoutButton.setFocusPainted(false);
+        logoutButton.setBorderPainted(false);
+        
+        logoutButton.setAlignmentX(Component.LEFT_ALIGNMENT);
+        logoutButton.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40));
+        logoutButton.setPreferredSize(new Dimension(0, 40));
+        
+        // No hover changes
+        
+        logoutButton.addActionListener(e -> {
+            int result = JOptionPane.showConfirmDialog(
+                dashboard,
+                "Are you sure you want to logout?",
+                "Confirm Logout",
+                JOptionPane.YES_NO_OPTION
+            );
+            if (result == JOptionPane.YES_OPTION) {
+                dashboard.handleLogout();
+            }
+        });
+        
+        accountCard.add(logoutButton);
+        
+        rightColumn.add(accountCard);
+        
+        contentPanel.add(leftColumn);
+        contentPanel.add(rightColumn);
+        
+        // Wrap in scroll pane for scrollability
+        JScrollPane scrollPane = new JScrollPane(contentPanel);
+        scrollPane.setBorder(null);
+        scrollPane.setOpaque(false);
+        scrollPane.getViewport().setOpaque(false);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        
+        panel.add(title, BorderLayout.NORTH);
+        panel.add(scrollPane, BorderLayout.CENTER);
+        
+        // Responsive stacking on smaller widths
+        panel.addComponentListener(new java.awt.event.ComponentAdapter(){
+            private int lastWidth = -1;
+            
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e){
+                int w = panel.getWidth();
+                // Only update if width actually changed significantly
+                if (Math.abs(w - lastWidth) > 50) {
+                boolean twoCols = w >= 1050;
+                contentPanel.setLayout(new GridLayout(twoCols ? 1 : 2, twoCols ? 2 : 1, 20, 20));
+                contentPanel.revalidate();
+                    lastWidth = w;
+                }
+            }
+        });
+        
+        return panel;
+    }
+
+    /**
+     * Create an enhanced toggle setting
+     */
+    private JPanel createEnhancedToggleSetting(String icon, String title, String description, boolean enabled) {
+        JPanel panel = new JPanel(new BorderLayout(12, 0));
+        panel.setOpaque(false);
+        panel.setBackground(Color.WHITE);
+        panel.setBorder(new EmptyBorder(15, 15, 15, 15));
+        
+        // Icon
+        JLabel iconLabel = new JLabel(icon);
+        iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 20));
+        iconLabel.setForeground(Dashboard.ACCENT_COLOR);
+        
+        // Middle panel with title and description
+        JPanel middlePanel = new JPanel();
+        middlePanel.setOpaque(false);
+        middlePanel.setLayout(new BoxLayout(middlePanel, BoxLayout.Y_AXIS));
+        
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        titleLabel.setForeground(Color.BLACK);
+        titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        JLabel descLabel = new JLabel(description);
+        descLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
+        descLabel.setForeground(Color.BLACK);
+        descLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        middlePanel.add(titleLabel);
+        middlePanel.add(Box.createVerticalStrut(4));
+        middlePanel.add(descLabel);
+        
+        // Toggle switch (simple checkbox styled as toggle)
+        JCheckBox toggle = new JCheckBox();
+        toggle.setSelected(enabled);
+        toggle.setOpaque(false);
+        toggle.setFocusPainted(false);
+        
+        panel.add(iconLabel, BorderLayout.WEST);
+        panel.add(middlePanel, BorderLayout.CENTER);
+        panel.add(toggle, BorderLayout.EAST);
+        
+        return panel;
+    }
+}
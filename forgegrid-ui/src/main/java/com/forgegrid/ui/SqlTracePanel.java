@@ -0,0 +1,209 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.db.SqlActionStats;
+import com.forgegrid.db.SqlTrace;
+import com.forgegrid.db.SqlTracer;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Developer panel showing the SQL each action issued, slow statements and
+ * per-action query counts. Opened with Ctrl+Shift+D from the main window.
+ */
+public class SqlTracePanel extends JPanel {
+
+    private static JDialog dialog;
+
+    private final SqlTracer tracer = SqlTracer.getInstance();
+    private final StatementModel statementModel = new StatementModel();
+    private final ActionModel actionModel = new ActionModel();
+    private final Timer refreshTimer = new Timer(1000, e -> refresh());
+
+    public SqlTracePanel() {
+        super(new BorderLayout(0, 6));
+        setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
+
+        JCheckBox enabled = new JCheckBox("Trace SQL", tracer.isEnabled());
+        enabled.addActionListener(e -> tracer.setEnabled(enabled.isSelected()));
+        JSpinner slowMs = new JSpinner(new SpinnerNumberModel((int) tracer.getSlowQueryMillis(), 0, 60_000, 50));
+        slowMs.addChangeListener(e -> tracer.setSlowQueryMillis(((Number) slowMs.getValue()).longValue()));
+        JButton clear = new JButton("Clear");
+        clear.addActionListener(e -> {
+            tracer.clear();
+            refresh();
+        });
+        JButton dump = new JButton("Dump to file...");
+        dump.addActionListener(e -> dumpToFile());
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
+        toolbar.add(enabled);
+        toolbar.add(new JLabel("Slow after (ms):"));
+        toolbar.add(slowMs);
+        toolbar.add(clear);
+        toolbar.add(dump);
+        add(toolbar, BorderLayout.NORTH);
+
+        JTable statements = new JTable(statementModel);
+        statements.setAutoCreateRowSorter(true);
+        statements.getColumnModel().getColumn(7).setPreferredWidth(500);
+        statements.setDefaultRenderer(Object.class, new SlowRowRenderer());
+        JTable actions = new JTable(actionModel);
+        actions.setAutoCreateRowSorter(true);
+        actions.getColumnModel().getColumn(0).setPreferredWidth(220);
+        actions.getColumnModel().getColumn(7).setPreferredWidth(400);
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Statements", new JScrollPane(statements));
+        tabs.addTab("Per action", new JScrollPane(actions));
+        add(tabs, BorderLayout.CENTER);
+
+        refresh();
+    }
+
+    /**
+     * Show the shared (non-modal) trace window
+     *
+     * @param owner Window to center on
+     */
+    public static void showDialog(Window owner) {
+        if (dialog == null) {
+            dialog = new JDialog(owner, "SQL trace", Dialog.ModalityType.MODELESS);
+            SqlTracePanel panel = new SqlTracePanel();
+            dialog.setContentPane(panel);
+            dialog.setSize(1000, 550);
+            dialog.setLocationRelativeTo(owner);
+            dialog.addWindowListener(new java.awt.event.WindowAdapter() {
+                @Override
+                public void windowClosed(java.awt.event.WindowEvent e) {
+                    panel.refreshTimer.stop();
+                    dialog = null;
+                }
+            });
+            dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+            panel.refreshTimer.start();
+        }
+        dialog.setVisible(true);
+        dialog.toFront();
+    }
+
+    private void refresh() {
+        List<SqlTrace> recent = new ArrayList<>(tracer.getRecent());
+        Collections.reverse(recent);
+        statementModel.setRows(recent);
+        actionModel.setRows(tracer.getActionStats());
+    }
+
+    private void dumpToFile() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("forgegrid-sql-trace.jsonl"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            tracer.dump(chooser.getSelectedFile().toPath());
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not write trace: " + ex.getMessage(),
+                "SQL trace", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private final class SlowRowRenderer extends DefaultTableCellRenderer {
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            Component c = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            if (!isSelected) {
+                SqlTrace t = statementModel.rows.get(table.convertRowIndexToModel(row));
+                c.setForeground(t.isSlow() ? Theme.BRAND_PINK : table.getForeground());
+            }
+            return c;
+        }
+    }
+
+    private static final class StatementModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Time", "Action", "Caller", "ms", "Rows", "Binds", "Slow", "SQL"};
+        private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        private List<SqlTrace> rows = new ArrayList<>();
+
+        void setRows(List<SqlTrace> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override public int getRowCount() { return rows.size(); }
+        @Override public int getColumnCount() { return COLUMNS.length; }
+        @Override public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            switch (column) {
+                case 3: return Double.class;
+                case 4: case 5: return Integer.class;
+                default: return Object.class;
+            }
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            SqlTrace t = rows.get(row);
+            switch (column) {
+                case 0: return timeFormat.format(new Date(t.getTimestamp()));
+                case 1: return t.getAction();
+                case 2: return t.getCaller();
+                case 3: return Math.round(t.getMillis() * 100) / 100.0;
+                case 4: return t.getRows();
+                case 5: return t.getBindCount();
+                case 6: return t.isSlow() ? "SLOW" : "";
+                default: return t.getSql();
+            }
+        }
+    }
+
+    private static final class ActionModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Action", "Runs", "Avg stmts", "Max stmts", "Total ms", "Slow", "Worst repeat", "Repeated SQL"};
+        private List<SqlActionStats> rows = new ArrayList<>();
+
+        void setRows(List<SqlActionStats> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override public int getRowCount() { return rows.size(); }
+        @Override public int getColumnCount() { return COLUMNS.length; }
+        @Override public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            switch (column) {
+                case 0: case 7: return String.class;
+                case 2: case 4: return Double.class;
+                default: return Long.class;
+            }
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            SqlActionStats s = rows.get(row);
+            switch (column) {
+                case 0: return s.getAction();
+                case 1: return s.getCalls();
+                case 2: return Math.round(s.getAverageStatements() * 10) / 10.0;
+                case 3: return (long) s.getMaxStatements();
+                case 4: return Math.round(s.getTotalMillis() * 10) / 10.0;
+                case 5: return s.getSlowStatements();
+                case 6: return (long) s.getWorstRepeat();
+                default: return s.getWorstRepeatSql();
+            }
+        }
+    }
+}
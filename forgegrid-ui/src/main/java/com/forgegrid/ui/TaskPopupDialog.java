@@ -25,7 +25,7 @@ public class TaskPopupDialog extends JDialog {
     private Dashboard parent;
     
     public TaskPopupDialog(Dashboard parent, HardcodedTask task, long startTime) {
-        super(parent, true);
+        super(SwingUtilities.getWindowAncestor(parent), ModalityType.APPLICATION_MODAL);
         this.parent = parent;
         this.task = task;
         this.startTime = startTime;
@@ -244,7 +244,7 @@ public class TaskPopupDialog extends JDialog {
         
         boolean success = ctrl.saveCompletedTask(
             profile.getUsername(),
-            task.getTaskName(),
+            task,
             Math.max(1, elapsedMinutes),
             task.getXpReward()
         );
@@ -254,7 +254,7 @@ public class TaskPopupDialog extends JDialog {
             com.forgegrid.service.LevelService.LevelUpResult result = new com.forgegrid.service.LevelService().addXP(profile.getUsername(), task.getXpReward());
             
             // Refresh parent dashboard
-            parent.completedTaskNames.add(task.getTaskName());
+            markRecorded();
             parent.loadedViews.put(Dashboard.VIEW_TASKS, false);
             parent.loadedViews.put(Dashboard.VIEW_DASHBOARD, false);
             
@@ -336,7 +336,7 @@ public class TaskPopupDialog extends JDialog {
         
         boolean success = new com.forgegrid.service.HardcodedTaskService().saveSkippedTask(
             profile.getUsername(),
-            task.getTaskName(),
+            task,
             elapsedMinutes,
             xpPenalty
         );
@@ -346,7 +346,7 @@ public class TaskPopupDialog extends JDialog {
             new com.forgegrid.service.LevelService().addXP(profile.getUsername(), xpPenalty);
             
             // Mark as completed so it doesn't show again
-            parent.completedTaskNames.add(task.getTaskName());
+            markRecorded();
             parent.loadedViews.put(Dashboard.VIEW_TASKS, false);
             parent.loadedViews.put(Dashboard.VIEW_DASHBOARD, false);
             
@@ -393,6 +393,18 @@ public class TaskPopupDialog extends JDialog {
         }
     }
     
+    /** Mark the task as recorded in the parent's progress bits so it doesn't show again. */
+    private void markRecorded() {
+        if (task.getId() >= 0) {
+            parent.progress.markRecorded(task);
+        } else {
+            com.forgegrid.service.TaskCatalog.Track track = parent.progress.getTrack();
+            parent.progress = new DashboardController(new com.forgegrid.service.HardcodedTaskService(), new com.forgegrid.service.LevelService())
+                .getProgress(parent.profile.getUsername(), track.getLanguage(), track.getLevel());
+        }
+        parent.prefetchNextTasks();
+    }
+    
     @Override
     public void dispose() {
         if (uiTimer != null) uiTimer.stop();
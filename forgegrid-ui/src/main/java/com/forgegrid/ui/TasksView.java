@@ -0,0 +1,254 @@
+package com.forgegrid.ui;
+
+import com.forgegrid.model.HardcodedTask;
+import com.forgegrid.model.TaskHistoryEntry;
+import com.forgegrid.service.TaskSearchIndex;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+import java.awt.*;
+
+/**
+ * Tasks: the "Start Next Task" entry point, catalog search and recent task history.
+ */
+final class TasksView implements DashboardView {
+
+    private static final int SEARCH_RESULTS = 50;
+    private static final String[] LANGUAGES = {"Any language", "Java", "JavaScript", "C", "Python", "General"};
+    private static final String[] LEVELS = {"Any level", "Beginner", "Intermediate", "Advanced"};
+    /** Labels and inclusive XP ranges. */
+    private static final String[] XP_RANGES = {"Any XP", "Up to 20 XP", "21-35 XP", "36+ XP"};
+    private static final int[][] XP_BOUNDS = {{Integer.MIN_VALUE, Integer.MAX_VALUE}, {Integer.MIN_VALUE, 20}, {21, 35}, {36, Integer.MAX_VALUE}};
+    private static final String[] DURATIONS = {"Any length", "15 min or less", "30 min or less", "60 min or less"};
+    private static final int[] MAX_MINUTES = {Integer.MAX_VALUE, 15, 30, 60};
+
+    private Dashboard dashboard;
+
+    @Override
+    public JComponent create(Dashboard dashboard) {
+        this.dashboard = dashboard;
+        return buildSimpleTasksView();
+    }
+
+    private JComponent buildSimpleTasksView() {
+        JPanel panel = new JPanel(new BorderLayout(0, 12));
+        panel.setOpaque(false);
+        
+        // Centered header with glow effect
+        JPanel header = dashboard.createGlowingFlowPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        
+        JLabel title = new JLabel("Task Center");
+        title.setFont(new Font("SansSerif", Font.BOLD, 16));
+        title.setForeground(Color.BLACK);
+        
+        JButton startTaskBtn = new JButton("Start Next Task");
+        startTaskBtn.setFont(new Font("SansSerif", Font.BOLD, 13));
+        startTaskBtn.setForeground(Color.WHITE);
+        startTaskBtn.setBackground(Theme.BRAND_PINK);
+        startTaskBtn.setForeground(Color.WHITE);
+        startTaskBtn.setFocusPainted(false);
+        startTaskBtn.setBorderPainted(false);
+        startTaskBtn.setPreferredSize(new Dimension(150, 36));
+        startTaskBtn.addActionListener(e -> dashboard.showTaskPopup());
+        
+        header.add(title);
+        header.add(startTaskBtn);
+        
+        // Task History Card
+        JPanel historyCard = dashboard.createModernCard("Recent Task History");
+        historyCard.setPreferredSize(new Dimension(0, 0));
+        
+        // Get task history from database
+        JPanel historyList = new JPanel();
+        historyList.setLayout(new BoxLayout(historyList, BoxLayout.Y_AXIS));
+        historyList.setOpaque(false);
+        
+        java.util.List<TaskHistoryEntry> history = dashboard.controller.getTaskHistory(dashboard.profile != null ? dashboard.profile.getUsername() : "", 10);
+        
+        if (history != null && !history.isEmpty()) {
+            for (int i = 0; i < history.size(); i++) {
+                TaskHistoryEntry entry = history.get(i);
+                historyList.add(createHistoryCard(entry));
+                if (i < history.size() - 1) {
+                    historyList.add(Box.createVerticalStrut(10));
+                }
+            }
+        } else {
+            JLabel emptyLabel = new JLabel("No task history yet. Click 'Start Next Task' to begin!");
+            emptyLabel.setFont(new Font("Segoe UI", Font.ITALIC, 14));
+            emptyLabel.setForeground(Dashboard.TEXT_COLOR);
+            emptyLabel.setBorder(new EmptyBorder(20, 20, 20, 20));
+            historyList.add(emptyLabel);
+        }
+        
+        // Wrap in scroll pane
+        JScrollPane scrollPane = new JScrollPane(historyList);
+        scrollPane.setOpaque(false);
+        scrollPane.getViewport().setOpaque(false);
+        scrollPane.setBorder(null);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        
+        historyCard.add(scrollPane, BorderLayout.CENTER);
+        
+        JPanel cards = new JPanel(new GridLayout(2, 1, 0, 12));
+        cards.setOpaque(false);
+        cards.add(buildSearchCard());
+        cards.add(historyCard);
+        
+        panel.add(header, BorderLayout.NORTH);
+        panel.add(cards, BorderLayout.CENTER);
+        // No resize handling needed
+        
+        return panel;
+    }
+
+    /**
+     * Search box and filters over the whole catalog; results update on every keystroke
+     */
+    private JPanel buildSearchCard() {
+        JPanel card = dashboard.createModernCard("Find a Task");
+        
+        JTextField query = new JTextField();
+        query.setFont(new Font("SansSerif", Font.PLAIN, 13));
+        query.setToolTipText("Words from a task's name or description; typos are tolerated");
+        JComboBox<String> language = new JComboBox<>(LANGUAGES);
+        JComboBox<String> level = new JComboBox<>(LEVELS);
+        JComboBox<String> xp = new JComboBox<>(XP_RANGES);
+        JComboBox<String> duration = new JComboBox<>(DURATIONS);
+        
+        JPanel filters = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+        filters.setOpaque(false);
+        filters.add(language);
+        filters.add(level);
+        filters.add(xp);
+        filters.add(duration);
+        
+        JPanel controls = new JPanel(new BorderLayout(0, 6));
+        controls.setOpaque(false);
+        controls.add(query, BorderLayout.NORTH);
+        controls.add(filters, BorderLayout.CENTER);
+        
+        DefaultListModel<HardcodedTask> results = new DefaultListModel<>();
+        JList<HardcodedTask> list = new JList<HardcodedTask>(results) {
+            @Override
+            public String getToolTipText(java.awt.event.MouseEvent e) {
+                int i = locationToIndex(e.getPoint());
+                return i >= 0 ? getModel().getElementAt(i).getDescription() : null;
+            }
+        };
+        list.setToolTipText("");
+        list.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> l, Object value, int index, boolean selected, boolean focus) {
+                HardcodedTask t = (HardcodedTask) value;
+                String text = t.getTaskName() + "  -  " + t.getLanguage() + " " + t.getLevel()
+                    + " | " + t.getXpReward() + " XP | " + t.getEstimatedMinutes() + " min";
+                return super.getListCellRendererComponent(l, text, index, selected, focus);
+            }
+        });
+        JLabel count = new JLabel(" ");
+        count.setFont(new Font("SansSerif", Font.PLAIN, 11));
+        count.setForeground(Color.DARK_GRAY);
+        
+        // The index is in memory: searching is microseconds, so it runs on the EDT per keystroke
+        Runnable search = () -> {
+            int[] xpBounds = XP_BOUNDS[xp.getSelectedIndex()];
+            TaskSearchIndex.Filter filter = new TaskSearchIndex.Filter()
+                .language(language.getSelectedIndex() > 0 ? (String) language.getSelectedItem() : null)
+                .level(level.getSelectedIndex() > 0 ? (String) level.getSelectedItem() : null)
+                .xp(xpBounds[0], xpBounds[1])
+                .maxMinutes(MAX_MINUTES[duration.getSelectedIndex()]);
+            java.util.List<HardcodedTask> found = dashboard.controller.searchTasks(query.getText(), filter, SEARCH_RESULTS);
+            results.clear();
+            results.addAll(found);
+            count.setText(found.isEmpty() ? "No matching tasks"
+                : found.size() + (found.size() == SEARCH_RESULTS ? "+" : "") + " tasks");
+        };
+        query.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { search.run(); }
+            @Override public void removeUpdate(DocumentEvent e) { search.run(); }
+            @Override public void changedUpdate(DocumentEvent e) { search.run(); }
+        });
+        language.addActionListener(e -> search.run());
+        level.addActionListener(e -> search.run());
+        xp.addActionListener(e -> search.run());
+        duration.addActionListener(e -> search.run());
+        search.run();
+        
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setBorder(BorderFactory.createLineBorder(new Color(220, 220, 220)));
+        
+        JPanel body = new JPanel(new BorderLayout(0, 8));
+        body.setOpaque(false);
+        body.add(controls, BorderLayout.NORTH);
+        body.add(scrollPane, BorderLayout.CENTER);
+        body.add(count, BorderLayout.SOUTH);
+        card.add(body, BorderLayout.CENTER);
+        return card;
+    }
+
+    /**
+     * Create a task history card
+     */
+    private JPanel createHistoryCard(TaskHistoryEntry entry) {
+        JPanel card = new JPanel(new BorderLayout(15, 0));
+        card.setOpaque(true);
+        
+        boolean isSkipped = "skipped".equals(entry.status);
+        boolean isCompleted = "completed".equals(entry.status);
+        
+        card.setBackground(Color.WHITE);
+        card.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(
+                isSkipped ? new Color(251, 191, 36) : 
+                isCompleted ? new Color(74, 222, 128) : new Color(50, 60, 75), 
+                2
+            ),
+            new EmptyBorder(12, 15, 12, 15)
+        ));
+        
+        // Left: Task info
+        JPanel leftPanel = new JPanel();
+        leftPanel.setOpaque(false);
+        leftPanel.setLayout(new BoxLayout(leftPanel, BoxLayout.Y_AXIS));
+        
+        JLabel nameLabel = new JLabel(entry.taskName);
+        nameLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
+        nameLabel.setForeground(Color.BLACK);
+        nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        leftPanel.add(nameLabel);
+        
+        leftPanel.add(Box.createVerticalStrut(5));
+        
+        JLabel timeLabel = new JLabel(entry.timeTaken + " min | " + entry.timestamp);
+        timeLabel.setFont(new Font("SansSerif", Font.PLAIN, 11));
+        timeLabel.setForeground(Color.DARK_GRAY);
+        timeLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        leftPanel.add(timeLabel);
+        
+        // Right: XP badge
+        JPanel rightPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        rightPanel.setOpaque(false);
+        
+        String xpText = (entry.xpEarned > 0 ? "+" : "") + entry.xpEarned + " XP";
+        JLabel xpLabel = new JLabel(xpText);
+        xpLabel.setFont(new Font("SansSerif", Font.BOLD, 13));
+        xpLabel.setForeground(Color.BLACK);
+        rightPanel.add(xpLabel);
+        
+        String statusSymbol = isSkipped ? "SKIP" : isCompleted ? "DONE" : "";
+        JLabel statusLabel = new JLabel(statusSymbol);
+        statusLabel.setFont(new Font("SansSerif", Font.BOLD, 12));
+        statusLabel.setForeground(Color.BLACK);
+        rightPanel.add(statusLabel);
+        
+        card.add(leftPanel, BorderLayout.CENTER);
+        card.add(rightPanel, BorderLayout.EAST);
+        
+        return card;
+    }
+}